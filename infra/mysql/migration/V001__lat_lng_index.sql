@@ -0,0 +1,10 @@
+-- ============================================================
+-- 반경 조회용 (latitude, longitude) 복합 인덱스
+-- prod 프로파일은 ddl-auto=validate 이므로 수동 적용한다.
+-- BoundingBox 범위 조건(BETWEEN)을 인덱스 range scan으로 처리하고,
+-- Haversine 거리 계산은 범위 안의 행에만 수행한다.
+-- ============================================================
+
+CREATE INDEX idx_pins_lat_lng ON pins (latitude, longitude);
+CREATE INDEX idx_posts_lat_lng ON posts (latitude, longitude);
+CREATE INDEX idx_image_posts_lat_lng ON image_posts (latitude, longitude);
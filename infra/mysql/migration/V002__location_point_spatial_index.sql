@@ -0,0 +1,26 @@
+-- ============================================================
+-- 반경 조회용 POINT SRID 4326 컬럼 + SPATIAL INDEX (MySQL 8.0)
+-- prod 프로파일은 ddl-auto=validate 이므로 수동 적용한다.
+-- location_point는 latitude·longitude에서 생성되는 STORED 컬럼으로, 애플리케이션 쓰기 없이 항상 동기화된다.
+-- SPATIAL INDEX는 NOT NULL 컬럼만 허용하므로 좌표가 없는 행은 POINT(0 0)으로 저장하고,
+-- 조회 쿼리에서 latitude IS NOT NULL 조건으로 제외한다.
+-- 적용 후 MySqlSpatialGeoSearch가 기동 시 컬럼을 확인하고 MBRContains + ST_Distance_Sphere 조회를 사용한다.
+-- ============================================================
+
+ALTER TABLE pins
+    ADD COLUMN location_point POINT SRID 4326 GENERATED ALWAYS AS (
+        ST_PointFromText(CONCAT('POINT(', IFNULL(longitude, 0), ' ', IFNULL(latitude, 0), ')'), 4326, 'axis-order=long-lat')
+    ) STORED NOT NULL,
+    ADD SPATIAL INDEX idx_pins_location_point (location_point);
+
+ALTER TABLE posts
+    ADD COLUMN location_point POINT SRID 4326 GENERATED ALWAYS AS (
+        ST_PointFromText(CONCAT('POINT(', IFNULL(longitude, 0), ' ', IFNULL(latitude, 0), ')'), 4326, 'axis-order=long-lat')
+    ) STORED NOT NULL,
+    ADD SPATIAL INDEX idx_posts_location_point (location_point);
+
+ALTER TABLE image_posts
+    ADD COLUMN location_point POINT SRID 4326 GENERATED ALWAYS AS (
+        ST_PointFromText(CONCAT('POINT(', IFNULL(longitude, 0), ' ', IFNULL(latitude, 0), ')'), 4326, 'axis-order=long-lat')
+    ) STORED NOT NULL,
+    ADD SPATIAL INDEX idx_image_posts_location_point (location_point);
@@ -0,0 +1,9 @@
+-- ============================================================
+-- 게시글·이미지 게시글 커서 목록용 (notice, created_at, id) 복합 인덱스
+-- prod 프로파일은 ddl-auto=validate 이므로 수동 적용한다.
+-- 공지 구간(notice 고정)마다 (created_at, id) keyset 조건을 인덱스 range scan으로 처리하고,
+-- ORDER BY created_at DESC, id DESC 를 인덱스 역순 스캔으로 처리해 filesort·COUNT 없이 다음 페이지를 읽는다.
+-- ============================================================
+
+CREATE INDEX idx_posts_notice_created_id ON posts (notice, created_at, id);
+CREATE INDEX idx_image_posts_notice_created_id ON image_posts (notice, created_at, id);
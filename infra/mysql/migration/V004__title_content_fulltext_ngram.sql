@@ -0,0 +1,13 @@
+-- ============================================================
+-- 게시글·이미지 게시글 키워드 검색용 FULLTEXT INDEX (ngram parser, MySQL 8.0)
+-- prod 프로파일은 ddl-auto=validate 이므로 수동 적용한다.
+-- LIKE '%keyword%'는 선행 와일드카드라 인덱스를 쓰지 못하므로, (title, content)를 n-gram으로 색인한다.
+-- ngram_token_size(기본 2)는 애플리케이션 app.search.index.gram-size와 맞춘다.
+-- 적용 후 MySqlFulltextSearch가 기동 시 인덱스를 확인하고 MATCH ... AGAINST (BOOLEAN MODE) 조회를 사용한다.
+-- ============================================================
+
+ALTER TABLE posts
+    ADD FULLTEXT INDEX ft_posts_title_content (title, content) WITH PARSER ngram;
+
+ALTER TABLE image_posts
+    ADD FULLTEXT INDEX ft_image_posts_title_content (title, content) WITH PARSER ngram;
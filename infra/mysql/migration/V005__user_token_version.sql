@@ -0,0 +1,8 @@
+-- ============================================================
+-- 회원별 토큰 세대 (전체 세션 철회)
+-- prod 프로파일은 ddl-auto=validate 이므로 수동 적용한다.
+-- Access Token 클레임 ver·Refresh Token payload의 세대가 이 값과 다르면 거부한다.
+-- 기존 토큰은 세대 클레임이 없으므로 0으로 간주되어 배포 직후에도 그대로 유효하다.
+-- ============================================================
+
+ALTER TABLE users ADD COLUMN token_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,10 @@
+-- ============================================================
+-- 이미지 게시글 MIME 타입·내용 해시
+-- prod 프로파일은 ddl-auto=validate 이므로 수동 적용한다.
+-- 업로드 시 검증한 MIME 타입과 원본 SHA-256을 저장해 이미지 응답의 Content-Type·ETag로 쓴다.
+-- 기존 행은 NULL로 남는다 (Content-Type은 확장자로 추정, ETag는 크기·수정 시각 기반 약한 ETag).
+-- ============================================================
+
+ALTER TABLE image_posts
+    ADD COLUMN image_content_type VARCHAR(100) NULL,
+    ADD COLUMN image_sha256 VARCHAR(64) NULL;
@@ -0,0 +1,8 @@
+-- ============================================================
+-- 이미지 파일 참조 확인용 인덱스
+-- prod 프로파일은 ddl-auto=validate 이므로 수동 적용한다.
+-- 내용 주소 저장에서 여러 게시글이 같은 image_url을 공유하므로, 게시글 삭제·이미지 교체 후
+-- 같은 image_url을 참조하는 게시글이 남았는지 확인하고 없을 때만 파일을 지운다.
+-- ============================================================
+
+CREATE INDEX idx_image_posts_image_url ON image_posts (image_url);
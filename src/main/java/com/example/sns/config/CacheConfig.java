@@ -0,0 +1,80 @@
+package com.example.sns.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.sns.dto.response.ImagePostResponse;
+import com.example.sns.dto.response.PinResponse;
+import com.example.sns.dto.response.PostResponse;
+import com.example.sns.service.cache.CacheCodec;
+import com.example.sns.service.cache.CacheInvalidationBus;
+import com.example.sns.service.cache.DetailCache;
+import com.example.sns.service.cache.LocationTileCache;
+import com.example.sns.service.cache.RedisCacheL2;
+import com.example.sns.service.geo.GeoLayer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 캐시 설정.
+ *
+ * CacheProperties 활성화, 레이어별 위치 기반 타일 캐시(doc/CACHE_POLICY.md 2)·상세 캐시(3) 등록.
+ * 모든 캐시는 CacheInvalidationBus(4)에 등록되어 삭제가 다른 노드 L1로 전파된다.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public LocationTileCache<PinResponse> pinTileCache(CacheProperties cacheProperties, RedisCacheL2 redisCacheL2,
+                                                       CacheCodec cacheCodec,
+                                                       CacheInvalidationBus cacheInvalidationBus) {
+        CacheProperties.Location props = cacheProperties.location();
+        return new LocationTileCache<>(GeoLayer.PIN, "pins", PinResponse.class, PinResponse::latitude,
+                PinResponse::longitude, props, props.pinTtlSeconds(), redisCacheL2, cacheCodec,
+                cacheInvalidationBus);
+    }
+
+    @Bean
+    public LocationTileCache<PostResponse> postTileCache(CacheProperties cacheProperties, RedisCacheL2 redisCacheL2,
+                                                         CacheCodec cacheCodec,
+                                                         CacheInvalidationBus cacheInvalidationBus) {
+        CacheProperties.Location props = cacheProperties.location();
+        return new LocationTileCache<>(GeoLayer.POST, "posts", PostResponse.class, PostResponse::latitude,
+                PostResponse::longitude, props, props.postTtlSeconds(), redisCacheL2, cacheCodec,
+                cacheInvalidationBus);
+    }
+
+    @Bean
+    public LocationTileCache<ImagePostResponse> imagePostTileCache(CacheProperties cacheProperties,
+                                                                   RedisCacheL2 redisCacheL2, CacheCodec cacheCodec,
+                                                                   CacheInvalidationBus cacheInvalidationBus) {
+        CacheProperties.Location props = cacheProperties.location();
+        return new LocationTileCache<>(GeoLayer.IMAGE_POST, "image-posts", ImagePostResponse.class,
+                ImagePostResponse::latitude, ImagePostResponse::longitude, props, props.postTtlSeconds(),
+                redisCacheL2, cacheCodec, cacheInvalidationBus);
+    }
+
+    @Bean
+    public DetailCache<PostResponse> postDetailCache(CacheProperties cacheProperties, RedisCacheL2 redisCacheL2,
+                                                     CacheCodec cacheCodec,
+                                                     CacheInvalidationBus cacheInvalidationBus,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        CacheProperties.Detail props = cacheProperties.detail();
+        return new DetailCache<>("posts", PostResponse.class, props, props.postTtlSeconds(), redisCacheL2,
+                cacheCodec, cacheInvalidationBus, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    public DetailCache<ImagePostResponse> imagePostDetailCache(CacheProperties cacheProperties,
+                                                               RedisCacheL2 redisCacheL2, CacheCodec cacheCodec,
+                                                               CacheInvalidationBus cacheInvalidationBus,
+                                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        CacheProperties.Detail props = cacheProperties.detail();
+        return new DetailCache<>("image-posts", ImagePostResponse.class, props, props.postTtlSeconds(),
+                redisCacheL2, cacheCodec, cacheInvalidationBus, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.sns.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 캐시 설정 (Caffeine L1 + Redis L2).
+ *
+ * doc/CACHE_POLICY.md 2. 위치 기반 캐시, 3. 상세 캐시, 4. 노드 간 L1 무효화 전파, 5. 회원 캐시.
+ * L1은 노드 로컬(삭제는 pub/sub으로 전파), L2(Redis)는 노드 간 공유. Redis 장애 시 L1만으로 동작한다.
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public record CacheProperties(
+        /**
+         * Redis L2 설정.
+         */
+        Redis redis,
+
+        /**
+         * 위치 기반(타일) 캐시 설정.
+         */
+        Location location,
+
+        /**
+         * 게시글·이미지 게시글 상세 캐시 설정.
+         */
+        Detail detail,
+
+        /**
+         * 노드 간 L1 무효화 전파 설정.
+         */
+        Invalidation invalidation,
+
+        /**
+         * 현재 사용자(User 엔티티) 캐시 설정.
+         */
+        Member member
+) {
+    public CacheProperties {
+        if (redis == null) redis = new Redis(null, 0);
+        if (location == null) location = new Location(null, 0, 0, 0, 0, 0, 0, 0, 0);
+        if (detail == null) detail = new Detail(null, 0, 0, 0);
+        if (invalidation == null) invalidation = new Invalidation(null, null, 0, 0);
+        if (member == null) member = new Member(null, 0, 0);
+    }
+
+    /**
+     * Redis L2.
+     *
+     * @param enabled           사용 여부
+     * @param retryAfterSeconds Redis 실패 후 L2를 건너뛰는 시간(초). 경과 후 재시도
+     */
+    public record Redis(Boolean enabled, int retryAfterSeconds) {
+        public Redis {
+            if (enabled == null) enabled = true;
+            if (retryAfterSeconds <= 0) retryAfterSeconds = 30;
+        }
+    }
+
+    /**
+     * 위치 기반 캐시. 키: location:{layer}:{z}:{x}:{y}.
+     *
+     * @param enabled          사용 여부
+     * @param minZoom          최소 타일 zoom (이보다 넓은 반경은 타일 수 상한에 걸려 캐시 미사용)
+     * @param maxZoom          최대 타일 zoom
+     * @param maxTilesPerQuery 조회 1건당 최대 타일 수. 초과 시 캐시 미사용
+     * @param maxItemsPerLoad  캐시 미스 타일 적재 시 최대 건수. 초과(밀집 지역) 시 캐시 미사용
+     * @param localMaxTiles    L1(Caffeine) 레이어별 최대 타일 수
+     * @param localTtlSeconds  L1 TTL(초). 다른 노드의 쓰기가 L1에 반영되기까지의 최대 지연
+     * @param pinTtlSeconds    Pin 타일 L2 TTL(초)
+     * @param postTtlSeconds   게시글·이미지 게시글 타일 L2 TTL(초)
+     */
+    public record Location(Boolean enabled, int minZoom, int maxZoom, int maxTilesPerQuery, int maxItemsPerLoad,
+                           int localMaxTiles, int localTtlSeconds, int pinTtlSeconds, int postTtlSeconds) {
+        public Location {
+            if (enabled == null) enabled = true;
+            if (minZoom <= 0) minZoom = 10;
+            if (maxZoom <= 0) maxZoom = 16;
+            if (maxTilesPerQuery <= 0) maxTilesPerQuery = 16;
+            if (maxItemsPerLoad <= 0) maxItemsPerLoad = 2000;
+            if (localMaxTiles <= 0) localMaxTiles = 10_000;
+            if (localTtlSeconds <= 0) localTtlSeconds = 30;
+            if (pinTtlSeconds <= 0) pinTtlSeconds = 300;
+            if (postTtlSeconds <= 0) postTtlSeconds = 180;
+        }
+    }
+
+    /**
+     * 상세 캐시. 키: detail:{posts|image-posts}:{id}.
+     *
+     * @param enabled         사용 여부
+     * @param localMaxSize    L1(Caffeine) 캐시별 최대 항목 수. 초과 시 오래 안 쓴 항목부터 제거
+     * @param localTtlSeconds L1 TTL(초). 다른 노드의 쓰기가 L1에 반영되기까지의 최대 지연
+     * @param postTtlSeconds  게시글·이미지 게시글 L2 TTL(초)
+     */
+    public record Detail(Boolean enabled, int localMaxSize, int localTtlSeconds, int postTtlSeconds) {
+        public Detail {
+            if (enabled == null) enabled = true;
+            if (localMaxSize <= 0) localMaxSize = 10_000;
+            if (localTtlSeconds <= 0) localTtlSeconds = 30;
+            if (postTtlSeconds <= 0) postTtlSeconds = 300;
+        }
+    }
+
+    /**
+     * 노드 간 L1 무효화 전파 (Redis pub/sub). Redis 미설정 시 사용하지 않는다.
+     *
+     * @param enabled             사용 여부
+     * @param channel             pub/sub 채널
+     * @param flushIntervalMillis 삭제 키를 모아 발행하는 주기(ms). 주기 안의 중복 키는 한 번만 발행
+     * @param maxBatchKeys        메시지 1건당 최대 키 수
+     */
+    public record Invalidation(Boolean enabled, String channel, int flushIntervalMillis, int maxBatchKeys) {
+        public Invalidation {
+            if (enabled == null) enabled = true;
+            if (channel == null || channel.isBlank()) channel = "cache:invalidate";
+            if (flushIntervalMillis <= 0) flushIntervalMillis = 50;
+            if (maxBatchKeys <= 0) maxBatchKeys = 500;
+        }
+    }
+
+    /**
+     * 회원 캐시 (노드 로컬). 키: user:{id}.
+     *
+     * @param enabled    사용 여부
+     * @param maxSize    최대 항목 수
+     * @param ttlSeconds TTL(초). 무효화 전파 실패 시 다른 노드의 회원 수정이 반영되기까지의 최대 지연
+     */
+    public record Member(Boolean enabled, int maxSize, int ttlSeconds) {
+        public Member {
+            if (enabled == null) enabled = true;
+            if (maxSize <= 0) maxSize = 10_000;
+            if (ttlSeconds <= 0) ttlSeconds = 60;
+        }
+    }
+}
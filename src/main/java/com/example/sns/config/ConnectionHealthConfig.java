@@ -57,7 +57,7 @@ public class ConnectionHealthConfig {
                 String pong = redisTemplate.getConnectionFactory().getConnection().ping();
                 log.info("Redis 연결 성공: pong={}", pong);
             } catch (Exception e) {
-                log.error("Redis 연결 실패: {}. TokenStore NoOp fallback 적용.", e.getMessage());
+                log.error("Redis 연결 실패: {}. TokenStore 서킷 브레이커·로컬 저장소 fallback 적용.", e.getMessage());
             }
         };
     }
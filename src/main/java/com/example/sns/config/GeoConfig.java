@@ -0,0 +1,14 @@
+package com.example.sns.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 공간 인덱스 설정.
+ *
+ * GeoProperties 활성화. 반경 조회 후보 선정(GeoSearchService)에 사용.
+ */
+@Configuration
+@EnableConfigurationProperties(GeoProperties.class)
+public class GeoConfig {
+}
@@ -0,0 +1,146 @@
+package com.example.sns.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공간 인덱스(반경 조회) 설정.
+ *
+ * 인메모리 인덱스 비활성화 시 반경 조회는 Repository의 BoundingBox + Haversine SQL을 사용한다.
+ * 조회 순서: 인메모리 인덱스 → Redis GEO(redis, 노드 간 공유) → MySQL SPATIAL INDEX(spatial, prod).
+ */
+@ConfigurationProperties(prefix = "app.geo")
+public record GeoProperties(
+        /**
+         * 인메모리 격자 인덱스 설정.
+         */
+        Index index,
+        /**
+         * MySQL SPATIAL INDEX 조회 설정 (prod 전용).
+         */
+        Spatial spatial,
+        /**
+         * 지도 viewport 통합 조회(/api/map/feed) 설정.
+         */
+        Feed feed,
+        /**
+         * 서버 측 마커 클러스터링(/api/map/clusters) 설정.
+         */
+        Cluster cluster,
+        /**
+         * 최근접 k건 조회(/nearest) 설정.
+         */
+        Nearest nearest,
+        /**
+         * Redis GEO 공유 인덱스 설정.
+         */
+        Redis redis
+) {
+    public GeoProperties {
+        if (index == null) index = new Index(null, 0, 0);
+        if (spatial == null) spatial = new Spatial(false);
+        if (feed == null) feed = new Feed(0, 0, 0, 0);
+        if (cluster == null) cluster = new Cluster(null, 0, 0, 0, 0, 0);
+        if (nearest == null) nearest = new Nearest(0, 0, 0);
+        if (redis == null) redis = new Redis(null, 0, 0);
+    }
+
+    /**
+     * 인메모리 격자 인덱스.
+     *
+     * @param enabled          사용 여부
+     * @param cellSizeDegrees  격자 한 칸 크기(도). 0.01 ≈ 1.1km
+     * @param loadBatchSize    기동 시 DB 적재 배치 크기
+     */
+    public record Index(Boolean enabled, double cellSizeDegrees, int loadBatchSize) {
+        public Index {
+            if (enabled == null) enabled = true;
+            if (cellSizeDegrees <= 0) cellSizeDegrees = 0.01;
+            if (loadBatchSize <= 0) loadBatchSize = 5000;
+        }
+    }
+
+    /**
+     * MySQL SPATIAL INDEX (location_point, MBRContains + ST_Distance_Sphere).
+     *
+     * @param enabled 사용 여부. V002 마이그레이션 적용 후 활성화
+     */
+    public record Spatial(boolean enabled) {
+    }
+
+    /**
+     * 지도 viewport 통합 조회.
+     *
+     * @param defaultLimit  레이어별 기본 최대 건수
+     * @param maxLimit      레이어별 최대 건수 상한
+     * @param threads       레이어 조회 병렬 스레드 수
+     * @param queueCapacity 대기 큐 크기. 가득 차면 요청 스레드에서 직접 실행
+     */
+    public record Feed(int defaultLimit, int maxLimit, int threads, int queueCapacity) {
+        public Feed {
+            if (defaultLimit <= 0) defaultLimit = 100;
+            if (maxLimit <= 0) maxLimit = 500;
+            if (threads <= 0) threads = 8;
+            if (queueCapacity <= 0) queueCapacity = 64;
+        }
+    }
+
+    /**
+     * 서버 측 마커 클러스터링 (zoom별 계층 격자).
+     *
+     * @param enabled          사용 여부
+     * @param minZoom          최소 지도 zoom (이보다 작은 zoom은 minZoom으로 조회)
+     * @param maxZoom          최대 지도 zoom (이보다 큰 zoom은 maxZoom으로 조회)
+     * @param cellsPerTileLog2 타일 한 변의 격자 칸 수(log2). 2 → 4×4칸 (256px 타일 기준 칸당 64px)
+     * @param expandThreshold  칸 안의 점이 이 수 이하이면 클러스터 대신 개별 마커 반환
+     * @param maxCellsPerQuery 조회 1건당 최대 격자 칸 수. 초과 시 400
+     */
+    public record Cluster(Boolean enabled, int minZoom, int maxZoom, int cellsPerTileLog2, int expandThreshold,
+                          int maxCellsPerQuery) {
+        public Cluster {
+            if (enabled == null) enabled = true;
+            if (minZoom <= 0) minZoom = 3;
+            if (maxZoom <= 0) maxZoom = 14;
+            if (cellsPerTileLog2 <= 0) cellsPerTileLog2 = 2;
+            if (expandThreshold <= 0) expandThreshold = 3;
+            if (maxCellsPerQuery <= 0) maxCellsPerQuery = 4096;
+        }
+    }
+
+    /**
+     * 최근접 k건 조회.
+     *
+     * @param defaultK    k 미지정 시 기본값
+     * @param maxK        k 상한
+     * @param maxRadiusKm 탐색 최대 반경(km). 이 안에 k건이 없으면 있는 만큼만 반환
+     */
+    public record Nearest(int defaultK, int maxK, double maxRadiusKm) {
+        public Nearest {
+            if (defaultK <= 0) defaultK = 10;
+            if (maxK <= 0) maxK = 100;
+            if (maxRadiusKm <= 0) maxRadiusKm = 50;
+        }
+
+        /**
+         * 요청 k → 실제 k (미지정·0 이하면 기본값, 상한 적용).
+         */
+        public int resolveK(Integer k) {
+            return k == null || k <= 0 ? defaultK : Math.min(k, maxK);
+        }
+    }
+
+    /**
+     * Redis GEO 공유 인덱스 (geo:pins, geo:posts, geo:image-posts).
+     * 다중 노드에서 노드 간 일관된 반경 조회가 필요하면 인메모리 인덱스(index.enabled)를 끄고 사용한다.
+     *
+     * @param enabled            사용 여부. Redis 미설정(test 등) 시 무시
+     * @param retryAfterSeconds  Redis 실패 후 조회를 건너뛰는 시간(초). 경과 후 재확인
+     * @param rebuildLockSeconds DB 재구축 분산 락 TTL(초). 재구축 노드 장애 시 이 시간 후 다른 노드가 재시도
+     */
+    public record Redis(Boolean enabled, int retryAfterSeconds, int rebuildLockSeconds) {
+        public Redis {
+            if (enabled == null) enabled = true;
+            if (retryAfterSeconds <= 0) retryAfterSeconds = 30;
+            if (rebuildLockSeconds <= 0) rebuildLockSeconds = 600;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Configuration;
  * JWT 설정 활성화.
  */
 @Configuration
-@EnableConfigurationProperties({JwtProperties.class, CorsProperties.class, UploadProperties.class, RateLimitProperties.class})
+@EnableConfigurationProperties({JwtProperties.class, CorsProperties.class, UploadProperties.class, RateLimitProperties.class,
+        TokenStoreProperties.class, PasswordHashProperties.class})
 public class JwtConfig {
 }
@@ -20,4 +20,41 @@ public class JwtProperties {
     private String issuer = "https://api.example.com";
     private String audience = "spring-thymleaf-map-sns-mng";
     private String secretKey;
+
+    /**
+     * 검증된 Access Token 캐시.
+     */
+    private VerifiedCache verifiedCache = new VerifiedCache();
+
+    /**
+     * Access Token 블랙리스트 노드 로컬 필터.
+     */
+    private BlacklistFilter blacklistFilter = new BlacklistFilter();
+
+    /**
+     * 검증된 Access Token 캐시 설정. 키: 토큰 SHA-256, 만료: 토큰 exp.
+     */
+    @Getter
+    @Setter
+    public static class VerifiedCache {
+
+        private boolean enabled = true;
+        private int maxSize = 10_000;
+    }
+
+    /**
+     * 블랙리스트 블룸 필터 설정. 필터에 없는 jti는 Redis 조회 없이 통과시킨다.
+     */
+    @Getter
+    @Setter
+    public static class BlacklistFilter {
+
+        private boolean enabled = true;
+        /** 예상 블랙리스트 수 (Access Token TTL 안의 로그아웃 수). 초과 시 오탐률 상승 */
+        private int expectedInsertions = 100_000;
+        private double falsePositiveRate = 0.001;
+        /** 재구성 주기(초). 만료 jti 제거, pub/sub 유실 시 다른 노드 로그아웃 반영 최대 지연 */
+        private int rebuildIntervalSeconds = 60;
+        private String channel = "auth:blacklist";
+    }
 }
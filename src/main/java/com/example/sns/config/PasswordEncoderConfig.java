@@ -8,13 +8,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 /**
  * 비밀번호 인코더 설정.
  *
- * RULE 1.5.6: BCrypt 사용.
+ * RULE 1.5.6: BCrypt 사용. cost는 app.password-hash.strength.
  */
 @Configuration
 public class PasswordEncoderConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashProperties props) {
+        return new BCryptPasswordEncoder(props.getStrength());
     }
 }
@@ -0,0 +1,27 @@
+package com.example.sns.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기 설정.
+ *
+ * 로그인·회원가입 BCrypt를 Tomcat 요청 스레드가 아닌 제한된 풀에서 실행한다.
+ * 대기열이 가득 차면 즉시 503으로 거절한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.password-hash")
+public class PasswordHashProperties {
+
+    /** BCrypt cost(log rounds, 4~31). 기존 해시는 저장된 cost로 검증되므로 변경해도 로그인 가능. */
+    private int strength = 10;
+    /** 동시 해시 최대 수. 0 이하면 CPU 코어 수. */
+    private int concurrency = 0;
+    /** 대기열 크기. 가득 차면 신규 요청 거절. */
+    private int queueCapacity = 64;
+    /** 요청 스레드가 해시 완료를 기다리는 최대 시간(ms). 초과 시 503. */
+    private long timeoutMillis = 5_000;
+}
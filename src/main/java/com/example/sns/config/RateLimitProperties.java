@@ -1,8 +1,13 @@
 package com.example.sns.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
@@ -16,18 +21,57 @@ import lombok.Setter;
 @ConfigurationProperties(prefix = "app.rate-limit")
 public class RateLimitProperties {
 
-    /** 로그인 API: 분당 최대 요청 수 (IP 기준). */
-    private int loginCapacity = 10;
-    /** 로그인 API: 제한 주기(분). */
-    private int loginPeriodMinutes = 1;
+    /** 경로별 정책. method·path가 일치하는 정책 적용, 일치하는 정책이 없으면 제한하지 않음. */
+    private List<Policy> policies = defaultPolicies();
+
+    /** 노드 로컬 버킷 최대 수 (정책 × 클라이언트). 초과 시 오래 안 쓴 버킷부터 제거. */
+    private int maxBuckets = 100_000;
+
+    /** Redis로 버킷을 노드 간 공유 (Bucket4j Lettuce proxy). Redis 미설정·장애 시 노드 로컬 버킷 사용. */
+    private boolean distributed = false;
+
+    /** Redis 버킷 호출 서킷 브레이커. 열린 동안 Redis를 호출하지 않고 노드 로컬 버킷 사용. */
+    private Circuit circuit = new Circuit();
+
+    /**
+     * 경로별 제한 정책. period 동안 capacity건 (IP 기준).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+
+        /** 정책 이름 (버킷 키·로그용). */
+        private String name;
+        private String method = "POST";
+        private String path;
+        private int capacity;
+        private int periodMinutes = 1;
+    }
+
+    /**
+     * 서킷 브레이커 설정 (app.token-store와 같은 의미).
+     */
+    @Getter
+    @Setter
+    public static class Circuit {
 
-    /** 회원가입 API: 분당 최대 요청 수 (IP 기준). */
-    private int signupCapacity = 10;
-    /** 회원가입 API: 제한 주기(분). */
-    private int signupPeriodMinutes = 1;
+        /** 최근 호출 중 실패 비율(%)이 이 값 이상이면 서킷을 연다. */
+        private int failureRateThreshold = 50;
+        /** 실패 비율 계산에 쓰는 최근 호출 수. */
+        private int windowSize = 20;
+        /** 실패 비율을 판단하기 위한 최소 호출 수. */
+        private int minimumCalls = 5;
+        /** 서킷을 연 뒤 Redis 재시도(half-open 단일 probe)까지 대기(초). */
+        private int openSeconds = 30;
+    }
 
-    /** 토큰 갱신 API: 5분당 최대 요청 수 (IP 기준). */
-    private int refreshCapacity = 20;
-    /** 토큰 갱신 API: 제한 주기(분). */
-    private int refreshPeriodMinutes = 5;
+    private static List<Policy> defaultPolicies() {
+        return new ArrayList<>(List.of(
+                new Policy("login", "POST", "/api/auth/login", 10, 1),
+                new Policy("signup", "POST", "/api/members", 10, 1),
+                new Policy("refresh", "POST", "/api/auth/refresh", 20, 5),
+                new Policy("upload-session", "POST", "/api/image-uploads", 30, 1)));
+    }
 }
@@ -0,0 +1,14 @@
+package com.example.sns.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 키워드 검색 설정.
+ *
+ * SearchProperties 활성화. 검색 후보 선정(SearchService)에 사용.
+ */
+@Configuration
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchConfig {
+}
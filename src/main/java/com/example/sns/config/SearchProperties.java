@@ -0,0 +1,54 @@
+package com.example.sns.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글·이미지 게시글 키워드 검색 설정.
+ *
+ * 조회 순서: 인메모리 n-gram 역색인(index) → MySQL FULLTEXT ngram(fulltext, prod).
+ * 둘 다 사용할 수 없으면 Repository의 LIKE '%keyword%' 조회를 사용한다.
+ */
+@ConfigurationProperties(prefix = "app.search")
+public record SearchProperties(
+        /**
+         * 인메모리 n-gram 역색인 설정.
+         */
+        Index index,
+        /**
+         * MySQL FULLTEXT(ngram parser) 조회 설정 (prod 전용).
+         */
+        Fulltext fulltext,
+        /**
+         * 검색 결과 최대 건수. 관련도 상위 maxResults건 안에서 페이징한다.
+         */
+        int maxResults
+) {
+    public SearchProperties {
+        if (index == null) index = new Index(null, 0, 0);
+        if (fulltext == null) fulltext = new Fulltext(false);
+        if (maxResults <= 0) maxResults = 1000;
+    }
+
+    /**
+     * 인메모리 n-gram 역색인.
+     *
+     * @param enabled       사용 여부
+     * @param gramSize      n-gram 길이. 2(bigram) 권장 (한국어 2음절 단어 대응)
+     * @param loadBatchSize 기동 시 DB 적재 배치 크기
+     */
+    public record Index(Boolean enabled, int gramSize, int loadBatchSize) {
+        public Index {
+            if (enabled == null) enabled = true;
+            if (gramSize <= 0) gramSize = 2;
+            if (loadBatchSize <= 0) loadBatchSize = 2000;
+        }
+    }
+
+    /**
+     * MySQL FULLTEXT INDEX ... WITH PARSER ngram (title, content).
+     *
+     * @param enabled 사용 여부. V004 마이그레이션 적용 후 활성화
+     */
+    public record Fulltext(boolean enabled) {
+    }
+}
@@ -76,7 +76,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/login", "/api/auth/refresh", "/api/auth/logout").permitAll()
                         .requestMatchers("/api/members").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                        .requestMatchers("/api/auth/me").authenticated()
+                        .requestMatchers("/api/auth/me", "/api/auth/logout-all").authenticated()
                         .requestMatchers("/api/me", "/api/me/**").authenticated()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/sample/**").permitAll()
@@ -84,12 +84,13 @@ public class SecurityConfig {
                         .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/posts").authenticated()
                         .requestMatchers(org.springframework.http.HttpMethod.PUT, "/api/posts/*").authenticated()
                         .requestMatchers(org.springframework.http.HttpMethod.DELETE, "/api/posts/*").authenticated()
-                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/image-posts", "/api/image-posts/*").permitAll()
-                        .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/image-posts").authenticated()
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/image-posts", "/api/image-posts/*", "/api/image-posts/*/image").permitAll()
+                        .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/image-posts", "/api/image-posts/uploads/*").authenticated()
                         .requestMatchers(org.springframework.http.HttpMethod.PUT, "/api/image-posts/*").authenticated()
                         .requestMatchers(org.springframework.http.HttpMethod.DELETE, "/api/image-posts/*").authenticated()
-                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/map/directions").permitAll()
-                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/pins/nearby").permitAll()
+                        .requestMatchers("/api/image-uploads", "/api/image-uploads/*").authenticated()
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/map/directions", "/api/map/feed", "/api/map/clusters").permitAll()
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/pins/nearby", "/api/pins/nearest").permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/pins/*/posts", "/api/pins/*/image-posts").permitAll()
                         .requestMatchers("/api/pins", "/api/pins/**").authenticated()
                         .requestMatchers("/error", "/favicon.ico").permitAll()
@@ -130,9 +131,11 @@ public class SecurityConfig {
         if (origins != null && !origins.isEmpty()) {
             config.setAllowedOrigins(origins);
         }
-        config.setAllowedMethods(List.of(HttpMethod.GET.name(), HttpMethod.POST.name(),
-                HttpMethod.PUT.name(), HttpMethod.DELETE.name(), HttpMethod.OPTIONS.name()));
+        config.setAllowedMethods(List.of(HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.POST.name(),
+                HttpMethod.PUT.name(), HttpMethod.PATCH.name(), HttpMethod.DELETE.name(), HttpMethod.OPTIONS.name()));
         config.setAllowedHeaders(List.of("*"));
+        // 이어 올리기(/api/image-uploads) 응답 헤더를 브라우저 클라이언트가 읽을 수 있게
+        config.setExposedHeaders(List.of("Location", "Tus-Resumable", "Upload-Offset", "Upload-Length"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,41 @@
+package com.example.sns.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.sns.service.storage.BlobKeyLock;
+import com.example.sns.service.storage.BlobStore;
+import com.example.sns.service.storage.LocalBlobStore;
+import com.example.sns.service.storage.S3BlobStore;
+
+/**
+ * 이미지 파일 저장소 설정.
+ *
+ * StorageProperties 활성화. app.storage.type에 따라 BlobStore 구현 선택 (local: app.upload.base-path, s3: 버킷).
+ * BlobKeyLock은 lock.distributed이고 Redis가 설정돼 있으면 노드 간, 아니면 노드 내 잠금.
+ */
+@Configuration
+@EnableConfigurationProperties(StorageProperties.class)
+public class StorageConfig {
+
+    @Bean
+    public BlobStore blobStore(StorageProperties storageProperties, UploadProperties uploadProperties) {
+        if (storageProperties.isS3()) {
+            return new S3BlobStore(storageProperties.s3());
+        }
+        return new LocalBlobStore(uploadProperties.basePath());
+    }
+
+    @Bean
+    public BlobKeyLock blobKeyLock(StorageProperties storageProperties,
+                                   ObjectProvider<StringRedisTemplate> redisTemplateProvider) {
+        StorageProperties.Lock props = storageProperties.lock();
+        StringRedisTemplate redisTemplate = props.distributed() ? redisTemplateProvider.getIfAvailable() : null;
+        return new BlobKeyLock(redisTemplate, Duration.ofSeconds(props.leaseSeconds()), props.waitMillis());
+    }
+}
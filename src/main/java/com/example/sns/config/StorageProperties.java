@@ -0,0 +1,72 @@
+package com.example.sns.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 이미지 파일 저장소 설정.
+ *
+ * local: app.upload.base-path 아래 로컬 파일시스템 (단일 노드 또는 공유 볼륨).
+ * s3: S3 호환 오브젝트 스토리지 (AWS S3, MinIO 등). 여러 노드가 같은 버킷을 공유한다.
+ * 여러 노드가 같은 저장소를 쓰면 lock.distributed로 업로드 배치와 참조 없는 파일 삭제를 노드 간 직렬화한다.
+ * RULE 1.1: 접근 키는 환경 변수로 주입.
+ */
+@ConfigurationProperties(prefix = "app.storage")
+public record StorageProperties(
+        /**
+         * 저장소 종류: local(기본) 또는 s3.
+         */
+        String type,
+
+        /**
+         * S3 호환 저장소 설정 (type=s3일 때).
+         */
+        S3 s3,
+
+        /**
+         * 저장소 키 잠금 (BlobKeyLock).
+         */
+        Lock lock
+) {
+    public StorageProperties {
+        if (type == null || type.isBlank()) type = "local";
+        if (s3 == null) s3 = new S3(null, null, null, null, null, null);
+        if (lock == null) lock = new Lock(null, null, null);
+    }
+
+    public boolean isS3() {
+        return "s3".equalsIgnoreCase(type);
+    }
+
+    /**
+     * S3 호환 저장소.
+     *
+     * @param endpoint  엔드포인트 URL. 비우면 AWS 기본 (MinIO는 http://host:9000)
+     * @param region    리전
+     * @param bucket    버킷 이름
+     * @param accessKey 접근 키
+     * @param secretKey 비밀 키
+     * @param pathStyle 경로 방식 주소(http://host/bucket/key) 사용 여부. MinIO는 true
+     */
+    public record S3(String endpoint, String region, String bucket, String accessKey, String secretKey,
+                     Boolean pathStyle) {
+        public S3 {
+            if (region == null || region.isBlank()) region = "ap-northeast-2";
+            if (pathStyle == null) pathStyle = false;
+        }
+    }
+
+    /**
+     * 저장소 키 잠금.
+     *
+     * @param distributed  Redis로 노드 간 잠금 (여러 노드가 같은 버킷·볼륨을 쓸 때 필요). Redis 미설정이면 노드 내 잠금
+     * @param leaseSeconds 잠금 임대 시간(초). 지나면 자동 해제 (노드 중단 대비). 업로드 트랜잭션보다 길게
+     * @param waitMillis   잠금 대기 최대 시간(ms). 넘기면 업로드 실패·삭제 생략
+     */
+    public record Lock(Boolean distributed, Long leaseSeconds, Long waitMillis) {
+        public Lock {
+            if (distributed == null) distributed = false;
+            if (leaseSeconds == null || leaseSeconds <= 0) leaseSeconds = 60L;
+            if (waitMillis == null || waitMillis < 0) waitMillis = 10_000L;
+        }
+    }
+}
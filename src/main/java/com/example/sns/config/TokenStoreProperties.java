@@ -0,0 +1,28 @@
+package com.example.sns.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * TokenStore(Refresh Token·블랙리스트) Redis 장애 대응 설정.
+ *
+ * RULE 5.2.1(Fallback): 서킷 브레이커가 열린 동안 노드 로컬 TTL 저장소 사용.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.token-store")
+public class TokenStoreProperties {
+
+    /** 최근 호출 중 실패 비율(%)이 이 값 이상이면 서킷을 연다. */
+    private int failureRateThreshold = 50;
+    /** 실패 비율 계산에 쓰는 최근 호출 수. */
+    private int windowSize = 20;
+    /** 실패 비율을 판단하기 위한 최소 호출 수. */
+    private int minimumCalls = 5;
+    /** 서킷을 연 뒤 Redis 재시도(half-open 단일 probe)까지 대기(초). */
+    private int openSeconds = 30;
+    /** 로컬 저장소 최대 항목 수 (Refresh Token + 블랙리스트). 초과 시 오래 안 쓴 항목부터 제거. */
+    private int localMaxSize = 100_000;
+}
@@ -1,5 +1,6 @@
 package com.example.sns.config;
 
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -9,6 +10,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *
  * RULE 1.1: 저장 경로·제한 값은 설정에서 주입.
  * Step 9: 허용 MIME·최대 크기·저장 경로.
+ * variantWidths: 업로드 후 비동기로 만드는 축소본 너비(px). 비우면 축소본을 만들지 않는다.
+ * contentAddressed: 내용 해시로 파일 이름을 정해 같은 이미지를 한 번만 저장한다 (기본 true).
  */
 @ConfigurationProperties(prefix = "app.upload")
 public record UploadProperties(
@@ -25,6 +28,25 @@ public record UploadProperties(
         /**
          * 최대 파일 크기 (바이트).
          */
-        long maxFileSizeBytes
+        long maxFileSizeBytes,
+
+        /**
+         * 축소본 너비 목록 (px). 미지정 시 160, 480, 1080.
+         */
+        List<Integer> variantWidths,
+
+        /**
+         * 내용 주소 저장 여부. true면 {서브디렉터리}/{ab}/{cd}/{sha256}.{확장자}, false면 {서브디렉터리}/{UUID}.{확장자}.
+         */
+        Boolean contentAddressed
 ) {
+
+    public UploadProperties {
+        if (variantWidths == null) {
+            variantWidths = List.of(160, 480, 1080);
+        }
+        if (contentAddressed == null) {
+            contentAddressed = true;
+        }
+    }
 }
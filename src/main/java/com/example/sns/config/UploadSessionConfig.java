@@ -0,0 +1,34 @@
+package com.example.sns.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.sns.service.upload.InMemoryUploadSessionStore;
+import com.example.sns.service.upload.RedisUploadSessionStore;
+import com.example.sns.service.upload.UploadSessionStore;
+
+/**
+ * 이어 올리기 업로드 세션 설정.
+ *
+ * UploadSessionProperties 활성화. distributed이고 Redis가 설정돼 있으면 Redis, 아니면 노드 로컬 세션 저장소.
+ */
+@Configuration
+@EnableConfigurationProperties(UploadSessionProperties.class)
+public class UploadSessionConfig {
+
+    @Bean
+    public UploadSessionStore uploadSessionStore(UploadSessionProperties properties,
+                                                 ObjectProvider<StringRedisTemplate> redisTemplateProvider) {
+        Duration ttl = Duration.ofSeconds(properties.ttlSeconds());
+        StringRedisTemplate redisTemplate = properties.distributed() ? redisTemplateProvider.getIfAvailable() : null;
+        if (redisTemplate != null) {
+            return new RedisUploadSessionStore(redisTemplate, ttl);
+        }
+        return new InMemoryUploadSessionStore(properties.localMaxSize(), ttl);
+    }
+}
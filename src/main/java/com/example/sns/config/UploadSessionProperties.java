@@ -0,0 +1,45 @@
+package com.example.sns.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 이어 올리기(청크) 업로드 세션 설정.
+ *
+ * 모바일 등 끊기기 쉬운 연결에서 큰 이미지를 청크로 나눠 올리고, 끊기면 서버에 저장된 위치부터 이어 보낸다.
+ * distributed: Redis로 세션을 노드 간 공유. Redis 미설정 시 노드 로컬 (같은 노드로 라우팅 필요).
+ */
+@ConfigurationProperties(prefix = "app.upload-session")
+public record UploadSessionProperties(
+        /**
+         * 마지막 청크 이후 세션 유지 시간(초). 지나면 세션과 받은 청크를 버린다.
+         */
+        Long ttlSeconds,
+
+        /**
+         * 청크 1개 최대 크기 (바이트).
+         */
+        Long maxChunkBytes,
+
+        /**
+         * 노드 로컬 세션 최대 수.
+         */
+        Integer localMaxSize,
+
+        /**
+         * 회원별 동시에 열어 둘 수 있는 세션 수. 넘으면 완료·취소·만료될 때까지 새 세션을 만들 수 없다 (429).
+         */
+        Integer maxSessionsPerUser,
+
+        /**
+         * Redis로 세션 공유 여부.
+         */
+        Boolean distributed
+) {
+    public UploadSessionProperties {
+        if (ttlSeconds == null || ttlSeconds <= 0) ttlSeconds = 86_400L;
+        if (maxChunkBytes == null || maxChunkBytes <= 0) maxChunkBytes = 2_097_152L;
+        if (localMaxSize == null || localMaxSize <= 0) localMaxSize = 10_000;
+        if (maxSessionsPerUser == null || maxSessionsPerUser <= 0) maxSessionsPerUser = 10;
+        if (distributed == null) distributed = false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.sns.controller.api;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.geo.RedisGeoIndex;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 공간 인덱스 API — ROLE_ADMIN 전용.
+ */
+@Tag(name = "관리자 - 공간 인덱스", description = "ROLE_ADMIN 전용. Redis GEO 인덱스 재구축")
+@RestController
+@RequestMapping("/api/admin/geo")
+@RequiredArgsConstructor
+public class AdminGeoController {
+
+    private final RedisGeoIndex redisGeoIndex;
+
+    @Operation(summary = "Redis GEO 재구축", description = "DB 좌표로 geo:pins·geo:posts·geo:image-posts 재구축. 비동기, 202")
+    @PostMapping("/redis/rebuild")
+    public ResponseEntity<Void> rebuildRedis() {
+        if (!redisGeoIndex.requestRebuild()) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "Redis GEO 미사용이거나 재구축이 진행 중입니다.");
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -22,6 +22,7 @@ import com.example.sns.dto.request.AdminMemberUpdateRequest;
 import com.example.sns.dto.response.MemberResponse;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.AuthService;
 import com.example.sns.service.MemberService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,7 +34,7 @@ import lombok.RequiredArgsConstructor;
 /**
  * 관리자 회원 관리 API — ROLE_ADMIN 전용.
  *
- * Step 15: 회원 목록·상세·추가·수정·삭제.
+ * Step 15: 회원 목록·상세·추가·수정·삭제, 전체 세션 철회.
  * RULE 1.2: ROLE_ADMIN만 접근. RULE 1.4.2: 민감 작업 감사 로그.
  */
 @Tag(name = "관리자 - 회원 관리", description = "ROLE_ADMIN 전용. 회원 CRUD")
@@ -43,6 +44,7 @@ import lombok.RequiredArgsConstructor;
 public class AdminMemberController {
 
     private final MemberService memberService;
+    private final AuthService authService;
 
     @Operation(summary = "회원 목록", description = "페이징·검색. ROLE_ADMIN 필수")
     @GetMapping
@@ -81,6 +83,14 @@ public class AdminMemberController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "회원 세션 철회", description = "해당 회원의 모든 Access·Refresh Token 무효화 (계정 탈취 대응)")
+    @PostMapping("/{id}/revoke-sessions")
+    @AuditLog("ADMIN_MEMBER_REVOKE_SESSIONS")
+    public ResponseEntity<Void> revokeSessions(@PathVariable Long id) {
+        authService.revokeAllSessions(id);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "회원 삭제", description = "회원 탈퇴/삭제")
     @DeleteMapping("/{id}")
     @AuditLog("ADMIN_MEMBER_DELETE")
@@ -67,6 +67,14 @@ public class AuthController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "전체 로그아웃", description = "모든 기기의 세션 철회. 이전에 발급한 Access·Refresh Token 모두 무효")
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(HttpServletResponse response) {
+        authService.logoutAll();
+        CookieUtil.deleteRefreshTokenCookie(response, cookieSecure);
+        return ResponseEntity.ok().build();
+    }
+
     @Operation(summary = "현재 사용자 조회", description = "Authorization: Bearer {accessToken}")
     @GetMapping("/me")
     public ResponseEntity<MemberResponse> me() {
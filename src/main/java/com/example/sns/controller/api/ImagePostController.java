@@ -1,10 +1,12 @@
 package com.example.sns.controller.api;
 
-import org.springframework.core.io.Resource;
+import java.io.IOException;
+import java.time.Duration;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,19 +21,24 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.sns.domain.User;
+import com.example.sns.dto.response.CursorSlice;
 import com.example.sns.dto.response.ImagePostResponse;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.example.sns.service.AuthService;
 import com.example.sns.service.ImagePostService;
+import com.example.sns.service.image.ImageFile;
+import com.example.sns.util.FileResponseUtil;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 /**
- * 이미지 게시글 API — 목록·상세·Multipart 업로드·수정·삭제.
+ * 이미지 게시글 API — 목록·상세·Multipart 업로드·이어 올리기 업로드로 작성·수정·삭제.
  *
  * Step 9: Multipart 검증·저장, Post와 동일 권한(작성자만 수정/삭제).
  */
@@ -41,6 +48,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ImagePostController {
 
+    /** v가 현재 내용 해시와 같으면 URL 내용이 바뀌지 않으므로 1년 immutable. */
+    private static final String IMMUTABLE_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    /** v 없음·불일치·축소본 생성 전: 캐시하되 매번 ETag로 재검증 (304). */
+    private static final String REVALIDATE_CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
     private final ImagePostService imagePostService;
     private final AuthService authService;
 
@@ -54,6 +67,15 @@ public class ImagePostController {
         return ResponseEntity.ok(imagePostService.getList(keyword, pageable));
     }
 
+    @Operation(summary = "이미지 게시글 목록 (커서)", description = "무한 스크롤용. 공지 우선·최신순, nextCursor로 다음 페이지 조회. 전체 건수 없음")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSlice<ImagePostResponse>> listByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "검색어") @RequestParam(required = false) String keyword) {
+        return ResponseEntity.ok(imagePostService.getSlice(keyword, cursor, size));
+    }
+
     @Operation(summary = "반경 내 이미지 게시글 조회", description = "위도·경도·반경(km)으로 주변 이미지 게시글 조회. 비로그인 가능. Step 11")
     @GetMapping("/nearby")
     public ResponseEntity<Page<ImagePostResponse>> nearby(
@@ -72,25 +94,22 @@ public class ImagePostController {
         return ResponseEntity.ok(imagePostService.getById(id));
     }
 
-    @Operation(summary = "이미지 파일 조회", description = "이미지 게시글의 이미지 바이너리 반환")
+    @Operation(summary = "이미지 파일 조회", description = "이미지 게시글의 이미지 바이너리 반환. size 지정 시 축소본(생성 전이면 원본). "
+            + "ETag·Last-Modified 조건부 요청(304), Range(206) 지원. v가 현재 버전이면 immutable 캐시")
     @GetMapping("/{id}/image")
-    public ResponseEntity<Resource> getImage(@PathVariable Long id) {
-        Resource resource = imagePostService.getImageResource(id);
-        String contentType = "image/jpeg";
-        if (resource.getFilename() != null) {
-            String fn = resource.getFilename().toLowerCase();
-            if (fn.endsWith(".png")) {
-                contentType = "image/png";
-            } else if (fn.endsWith(".gif")) {
-                contentType = "image/gif";
-            } else if (fn.endsWith(".webp")) {
-                contentType = "image/webp";
-            }
-        }
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + (resource.getFilename() != null ? resource.getFilename() : "image") + "\"")
-                .body(resource);
+    public void getImage(
+            @PathVariable Long id,
+            @Parameter(description = "표시 너비(px). 이상인 가장 작은 축소본 반환 (예: 160, 480, 1080)")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "이미지 버전 (ImagePostResponse.imageUrl의 v)")
+            @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        ImageFile file = imagePostService.getImageFile(id, size);
+        boolean immutable = !file.provisional() && file.version() != null && file.version().equals(v);
+        FileResponseUtil.write(request, response, file,
+                immutable ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL,
+                (offset, length) -> imagePostService.openImage(file, offset, length));
     }
 
     @Operation(summary = "이미지 게시글 작성", description = "Multipart 업로드. 로그인 필수")
@@ -111,6 +130,26 @@ public class ImagePostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "이어 올리기 업로드로 이미지 게시글 작성",
+            description = "POST /api/image-uploads로 다 올린 업로드 세션의 이미지로 작성. 로그인 필수, 업로드한 회원만")
+    @PostMapping("/uploads/{uploadId}")
+    public ResponseEntity<ImagePostResponse> createFromUpload(
+            @PathVariable String uploadId,
+            @Parameter(description = "제목") @RequestParam String title,
+            @Parameter(description = "내용") @RequestParam String content,
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) Long pinId) {
+        validateTitleAndContent(title, content);
+
+        User author = authService.getCurrentUserEntity()
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED));
+
+        ImagePostResponse response = imagePostService.createFromUpload(uploadId, title, content,
+                latitude, longitude, pinId, author);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Operation(summary = "이미지 게시글 수정", description = "로그인 필수, 작성자만. multipart/form-data")
     @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ImagePostResponse> update(
@@ -141,6 +180,13 @@ public class ImagePostController {
     }
 
     private void validateCreateParams(String title, String content, MultipartFile image) {
+        validateTitleAndContent(title, content);
+        if (image == null || image.isEmpty()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "이미지 파일이 필요합니다.");
+        }
+    }
+
+    private void validateTitleAndContent(String title, String content) {
         if (title == null || title.isBlank()) {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "제목은 필수입니다.");
         }
@@ -150,8 +196,5 @@ public class ImagePostController {
         if (content == null || content.isBlank()) {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "내용은 필수입니다.");
         }
-        if (image == null || image.isEmpty()) {
-            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "이미지 파일이 필요합니다.");
-        }
     }
 }
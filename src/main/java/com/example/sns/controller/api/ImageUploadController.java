@@ -0,0 +1,137 @@
+package com.example.sns.controller.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.sns.domain.User;
+import com.example.sns.dto.response.UploadSessionResponse;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.AuthService;
+import com.example.sns.service.upload.ResumableUploadService;
+import com.example.sns.service.upload.UploadSession;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이어 올리기(청크) 업로드 API — tus 1.0 core 방식의 세션 생성·위치 조회·청크 전송·취소.
+ *
+ * 다 올린 뒤 POST /api/image-posts/uploads/{uploadId}로 게시글을 작성한다.
+ * 청크 요청은 짧게 끝나므로 느린 연결에서도 요청 스레드를 업로드 전체 시간 동안 잡지 않고, 끊기면 받은 위치부터 이어 보낸다.
+ */
+@Tag(name = "이미지 업로드 (ImageUploads)", description = "이어 올리기 업로드 세션")
+@RestController
+@RequestMapping("/api/image-uploads")
+@RequiredArgsConstructor
+public class ImageUploadController {
+
+    private static final String TUS_RESUMABLE = "Tus-Resumable";
+    private static final String TUS_VERSION = "1.0.0";
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_LENGTH = "Upload-Length";
+    private static final String UPLOAD_METADATA = "Upload-Metadata";
+    private static final String OFFSET_OCTET_STREAM = "application/offset+octet-stream";
+
+    private final ResumableUploadService resumableUploadService;
+    private final AuthService authService;
+
+    @Operation(summary = "업로드 세션 생성",
+            description = "Upload-Length(전체 바이트)와 Upload-Metadata의 filetype(Base64 MIME 타입) 필수. 로그인 필수")
+    @PostMapping
+    public ResponseEntity<UploadSessionResponse> create(
+            @Parameter(description = "전체 바이트 수") @RequestHeader(UPLOAD_LENGTH) long length,
+            @Parameter(description = "tus 메타데이터 (예: filetype aW1hZ2UvanBlZw==)")
+            @RequestHeader(value = UPLOAD_METADATA, required = false) String metadata) {
+        UploadSession session = resumableUploadService.create(currentUser().getId(), length,
+                metadataValue(metadata, "filetype"));
+        return ResponseEntity.created(URI.create("/api/image-uploads/" + session.id()))
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(session.offset()))
+                .body(UploadSessionResponse.from(session));
+    }
+
+    @Operation(summary = "업로드 위치 조회", description = "Upload-Offset 헤더로 이어 보낼 위치 반환. 재연결 후 호출")
+    @RequestMapping(value = "/{uploadId}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> offset(@PathVariable String uploadId) {
+        UploadSession session = resumableUploadService.get(uploadId, currentUser().getId());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(session.offset()))
+                .header(UPLOAD_LENGTH, String.valueOf(session.length()))
+                .build();
+    }
+
+    @Operation(summary = "청크 전송",
+            description = "Content-Type: application/offset+octet-stream, Upload-Offset은 현재 위치와 같아야 함 (다르면 409)")
+    @PatchMapping(value = "/{uploadId}", consumes = OFFSET_OCTET_STREAM)
+    public ResponseEntity<Void> append(
+            @PathVariable String uploadId,
+            @Parameter(description = "청크 시작 위치") @RequestHeader(UPLOAD_OFFSET) long offset,
+            HttpServletRequest request) throws IOException {
+        long chunkLength = request.getContentLengthLong();
+        if (chunkLength < 0) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Content-Length가 필요합니다.");
+        }
+        User user = currentUser();
+        UploadSession session;
+        try (InputStream body = request.getInputStream()) {
+            session = resumableUploadService.append(uploadId, user.getId(), offset, chunkLength, body);
+        }
+        return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(session.offset()))
+                .build();
+    }
+
+    @Operation(summary = "업로드 취소", description = "세션과 받은 청크 삭제")
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> cancel(@PathVariable String uploadId) {
+        resumableUploadService.cancel(uploadId, currentUser().getId());
+        return ResponseEntity.noContent().header(TUS_RESUMABLE, TUS_VERSION).build();
+    }
+
+    private User currentUser() {
+        return authService.getCurrentUserEntity()
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED));
+    }
+
+    /**
+     * Upload-Metadata("키 Base64값" 쉼표 구분)에서 키의 값. 없거나 형식이 잘못되면 null.
+     */
+    static String metadataValue(String metadata, String key) {
+        if (metadata == null) {
+            return null;
+        }
+        for (String pair : metadata.split(",")) {
+            String[] parts = pair.trim().split(" ", 2);
+            if (parts[0].equals(key) && parts.length == 2) {
+                try {
+                    return new String(Base64.getDecoder().decode(parts[1].trim()), StandardCharsets.UTF_8);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
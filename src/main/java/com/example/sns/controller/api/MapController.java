@@ -1,6 +1,7 @@
 package com.example.sns.controller.api;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,6 +9,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.sns.dto.response.MapClusterResponse;
+import com.example.sns.dto.response.MapFeedResponse;
+import com.example.sns.service.MapClusterService;
+import com.example.sns.service.MapFeedService;
+import com.example.sns.service.geo.GeoLayer;
 import com.example.sns.service.map.KakaoMobilityDirectionsService;
 import com.example.sns.service.map.KakaoMobilityDirectionsService.DirectionsResult;
 import com.example.sns.utils.haversine.HaversineUtil;
@@ -18,18 +24,22 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
 /**
- * 지도 API — 경로·거리 조회.
+ * 지도 API — 경로·거리 조회, viewport 통합 조회, 마커 클러스터 조회.
  *
  * <p>Kakao Mobility Directions API로 실제 도로 경로 및 이동 거리 제공.
  * API 키 미설정 시 직선 거리(Haversine)만 반환.
+ * <p>viewport 통합 조회(feed)는 Pin·게시글·이미지 게시글을 한 번의 요청으로 반환.
+ * <p>마커 클러스터 조회(clusters)는 zoom별 사전 집계 격자에서 클러스터·개별 마커를 반환.
  */
-@Tag(name = "Map", description = "지도 경로·거리 조회")
+@Tag(name = "Map", description = "지도 경로·거리 조회, viewport 통합 조회, 마커 클러스터 조회")
 @RestController
 @RequestMapping("/api/map")
 @RequiredArgsConstructor
 public class MapController {
 
     private final KakaoMobilityDirectionsService directionsService;
+    private final MapFeedService mapFeedService;
+    private final MapClusterService mapClusterService;
 
     @Operation(summary = "경로·거리 조회", description = "출발지→목적지 실제 도로 경로 및 이동 거리. API 미설정 시 직선 거리만 반환")
     @GetMapping("/directions")
@@ -56,6 +66,29 @@ public class MapController {
         return ResponseEntity.ok(new DirectionsResponse(path, (int) Math.round(distanceMeters), false));
     }
 
+    @Operation(summary = "viewport 통합 조회", description = "지도 화면 범위(남서·북동) 내 Pin·게시글·이미지 게시글. 비로그인 가능")
+    @GetMapping("/feed")
+    public ResponseEntity<MapFeedResponse> getFeed(
+            @Parameter(description = "남서 위도", required = true) @RequestParam double swLat,
+            @Parameter(description = "남서 경도", required = true) @RequestParam double swLng,
+            @Parameter(description = "북동 위도", required = true) @RequestParam double neLat,
+            @Parameter(description = "북동 경도", required = true) @RequestParam double neLng,
+            @Parameter(description = "레이어별 최대 건수") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(mapFeedService.getFeed(swLat, swLng, neLat, neLng, limit));
+    }
+
+    @Operation(summary = "마커 클러스터 조회", description = "zoom·viewport 기준 밀집 지역은 클러스터(평균 좌표·개수), 나머지는 개별 마커. 비로그인 가능")
+    @GetMapping("/clusters")
+    public ResponseEntity<MapClusterResponse> getClusters(
+            @Parameter(description = "지도 zoom", required = true) @RequestParam int zoom,
+            @Parameter(description = "남서 위도", required = true) @RequestParam double swLat,
+            @Parameter(description = "남서 경도", required = true) @RequestParam double swLng,
+            @Parameter(description = "북동 위도", required = true) @RequestParam double neLat,
+            @Parameter(description = "북동 경도", required = true) @RequestParam double neLng,
+            @Parameter(description = "대상 레이어 (기본 전체)") @RequestParam(required = false) Set<GeoLayer> layers) {
+        return ResponseEntity.ok(mapClusterService.getClusters(zoom, swLat, swLng, neLat, neLng, layers));
+    }
+
     public record Coord(double lat, double lng) {
     }
 
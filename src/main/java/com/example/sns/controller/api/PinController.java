@@ -1,5 +1,7 @@
 package com.example.sns.controller.api;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +22,7 @@ import com.example.sns.domain.User;
 import com.example.sns.dto.request.PinCreateRequest;
 import com.example.sns.dto.request.PinUpdateRequest;
 import com.example.sns.dto.response.ImagePostResponse;
+import com.example.sns.dto.response.NearestResponse;
 import com.example.sns.dto.response.PinResponse;
 import com.example.sns.dto.response.PostResponse;
 import com.example.sns.exception.BusinessException;
@@ -115,6 +118,15 @@ public class PinController {
         return ResponseEntity.ok(imagePostService.getByPinId(id, pageable));
     }
 
+    @Operation(summary = "최근접 Pin 조회", description = "위도·경도에서 가장 가까운 Pin k건. 거리순, 거리(m) 포함. 비로그인 가능")
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearestResponse<PinResponse>>> nearest(
+            @Parameter(description = "위도", required = true) @RequestParam double lat,
+            @Parameter(description = "경도", required = true) @RequestParam double lng,
+            @Parameter(description = "최대 건수 (기본 10, 상한 100)") @RequestParam(required = false) Integer k) {
+        return ResponseEntity.ok(pinService.getNearest(lat, lng, k));
+    }
+
     @Operation(summary = "반경 내 Pin 조회", description = "위도·경도·반경(km)으로 주변 Pin 조회. 비로그인 가능. Step 11")
     @GetMapping("/nearby")
     public ResponseEntity<Page<PinResponse>> nearby(
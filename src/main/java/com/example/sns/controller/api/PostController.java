@@ -1,5 +1,7 @@
 package com.example.sns.controller.api;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +21,8 @@ import com.example.sns.aop.ValidCheck;
 import com.example.sns.domain.User;
 import com.example.sns.dto.request.PostCreateRequest;
 import com.example.sns.dto.request.PostUpdateRequest;
+import com.example.sns.dto.response.CursorSlice;
+import com.example.sns.dto.response.NearestResponse;
 import com.example.sns.dto.response.PostResponse;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
@@ -55,6 +59,15 @@ public class PostController {
         return ResponseEntity.ok(postService.getList(keyword, pageable));
     }
 
+    @Operation(summary = "게시글 목록 (커서)", description = "무한 스크롤용. 공지 우선·최신순, nextCursor로 다음 페이지 조회. 전체 건수 없음")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSlice<PostResponse>> listByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "검색어") @RequestParam(required = false) String keyword) {
+        return ResponseEntity.ok(postService.getSlice(keyword, cursor, size));
+    }
+
     @Operation(summary = "게시글 상세", description = "게시글 ID로 상세 조회")
     @GetMapping("/{id}")
     public ResponseEntity<PostResponse> get(@PathVariable Long id) {
@@ -80,6 +93,15 @@ public class PostController {
         return ResponseEntity.ok(postService.update(id, request, currentUser));
     }
 
+    @Operation(summary = "최근접 게시글 조회", description = "위도·경도에서 가장 가까운 게시글 k건. 거리순, 거리(m) 포함. 비로그인 가능")
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearestResponse<PostResponse>>> nearest(
+            @Parameter(description = "위도", required = true) @RequestParam double lat,
+            @Parameter(description = "경도", required = true) @RequestParam double lng,
+            @Parameter(description = "최대 건수 (기본 10, 상한 100)") @RequestParam(required = false) Integer k) {
+        return ResponseEntity.ok(postService.getNearest(lat, lng, k));
+    }
+
     @Operation(summary = "반경 내 게시글 조회", description = "위도·경도·반경(km)으로 주변 게시글 조회. 비로그인 가능. Step 11")
     @GetMapping("/nearby")
     public ResponseEntity<Page<PostResponse>> nearby(
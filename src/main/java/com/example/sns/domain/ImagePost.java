@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,11 +18,16 @@ import lombok.NoArgsConstructor;
 /**
  * 이미지 게시글 엔티티.
  *
- * ERD: ImagePost (user_id FK, pin_id FK nullable, title, content, image_url, latitude, longitude, notice).
- * Step 9: 이미지+텍스트 게시글, image_url 저장 경로.
+ * ERD: ImagePost (user_id FK, pin_id FK nullable, title, content, image_url, image_content_type, image_sha256,
+ * latitude, longitude, notice).
+ * Step 9: 이미지+텍스트 게시글, image_url 저장 경로. 업로드 시 MIME 타입·내용 해시를 함께 저장한다.
  */
 @Entity
-@Table(name = "image_posts")
+@Table(name = "image_posts", indexes = {
+        @Index(name = "idx_image_posts_lat_lng", columnList = "latitude, longitude"),
+        @Index(name = "idx_image_posts_notice_created_id", columnList = "notice, created_at, id"),
+        @Index(name = "idx_image_posts_image_url", columnList = "image_url")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ImagePost extends BaseEntity {
@@ -42,11 +48,23 @@ public class ImagePost extends BaseEntity {
 
     /**
      * 저장된 이미지 파일 경로 (서버 내부 경로 또는 저장소 식별자).
-     * 클라이언트에는 /api/image-posts/{id}/image 형태 URL로 노출.
+     * 클라이언트에는 /api/image-posts/{id}/image 형태 URL로 노출. 내용 주소 저장에서는 같은 이미지를 올린 게시글끼리 같다.
      */
     @Column(nullable = false, length = 500, name = "image_url")
     private String imageStoragePath;
 
+    /**
+     * 업로드 시 검증한 MIME 타입. 컬럼 추가 전 게시글은 null (응답 시 확장자로 추정).
+     */
+    @Column(length = 100, name = "image_content_type")
+    private String imageContentType;
+
+    /**
+     * 이미지 원본 SHA-256 (16진수 소문자). ETag·이미지 URL 버전. 컬럼 추가 전 게시글은 null.
+     */
+    @Column(length = 64, name = "image_sha256")
+    private String imageSha256;
+
     @Column
     private Double latitude;
 
@@ -62,11 +80,13 @@ public class ImagePost extends BaseEntity {
 
     @Builder
     public ImagePost(User author, String title, String content, String imageStoragePath,
-                     Double latitude, Double longitude, Pin pin) {
+                     String imageContentType, String imageSha256, Double latitude, Double longitude, Pin pin) {
         this.author = author;
         this.title = title;
         this.content = content;
         this.imageStoragePath = imageStoragePath;
+        this.imageContentType = imageContentType;
+        this.imageSha256 = imageSha256;
         this.latitude = latitude;
         this.longitude = longitude;
         this.pin = pin;
@@ -74,14 +94,21 @@ public class ImagePost extends BaseEntity {
     }
 
     /**
-     * 제목·내용·이미지 경로 수정.
+     * 제목·내용 수정.
      */
-    public void update(String title, String content, String imageStoragePath) {
+    public void update(String title, String content) {
         this.title = title;
         this.content = content;
-        if (imageStoragePath != null && !imageStoragePath.isBlank()) {
-            this.imageStoragePath = imageStoragePath;
-        }
+        onUpdate();
+    }
+
+    /**
+     * 이미지 교체. 경로·MIME 타입·내용 해시를 함께 바꾼다.
+     */
+    public void replaceImage(String imageStoragePath, String imageContentType, String imageSha256) {
+        this.imageStoragePath = imageStoragePath;
+        this.imageContentType = imageContentType;
+        this.imageSha256 = imageSha256;
         onUpdate();
     }
 
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,7 @@ import lombok.NoArgsConstructor;
  * Step 10: Location VO 활용, Pin↔Post/ImagePost 연관(Post·ImagePost가 Pin 참조).
  */
 @Entity
-@Table(name = "pins")
+@Table(name = "pins", indexes = @Index(name = "idx_pins_lat_lng", columnList = "latitude, longitude"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Pin extends BaseEntity {
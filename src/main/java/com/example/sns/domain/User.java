@@ -8,6 +8,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+
+import org.hibernate.annotations.ColumnDefault;
+
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,7 +19,8 @@ import lombok.NoArgsConstructor;
 /**
  * 회원 엔티티.
  *
- * ERD: User (email UK, password_hash, nickname, role).
+ * ERD: User (email UK, password_hash, nickname, role, token_version).
+ * token_version: Access·Refresh Token에 담기는 세션 세대. 증가시키면 이전에 발급한 토큰이 모두 무효가 된다.
  */
 @Entity
 @Table(name = "users")
@@ -41,6 +45,10 @@ public class User extends BaseEntity {
     @Column(nullable = false, length = 20)
     private UserRole role;
 
+    @ColumnDefault("0")
+    @Column(nullable = false, name = "token_version")
+    private int tokenVersion;
+
     @Builder
     public User(String email, String passwordHash, String nickname, UserRole role) {
         this.email = email;
@@ -0,0 +1,64 @@
+package com.example.sns.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.example.sns.utils.cursor.NoticeCursor;
+
+/**
+ * 커서 기반 목록 응답 (전체 건수 없음, 다음 페이지만).
+ *
+ * RULE 3.3: 엔티티 직접 반환 금지.
+ *
+ * @param content    목록
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서. 마지막 페이지면 null
+ * @param hasNext    다음 페이지 존재 여부
+ * @param <T>        응답 DTO 타입
+ */
+public record CursorSlice<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    /** 페이지 크기 상한. */
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 한 공지 구간(notice 고정) 안에서 (createdAt, id) 이후 항목 조회.
+     */
+    @FunctionalInterface
+    public interface NoticeSegmentQuery<E> {
+
+        List<E> findAfter(boolean notice, NoticeCursor after, Pageable pageable);
+    }
+
+    /**
+     * 공지 우선·최신순 keyset 조회.
+     * 공지 구간(notice=true)에서 size+1건을 채우지 못하면 일반 구간(notice=false) 처음부터 이어서 조회한다.
+     * 구간마다 (notice, created_at, id) 인덱스 range scan 1회이며 COUNT 쿼리는 없다.
+     *
+     * @param after    커서 위치 (첫 페이지는 NoticeCursor.FIRST)
+     * @param size     요청 크기 (1~MAX_SIZE로 보정)
+     * @param query    구간 조회
+     * @param mapper   엔티티 → 응답 DTO
+     * @param cursorOf 엔티티 → 해당 위치 커서
+     */
+    public static <E, T> CursorSlice<T> fetch(NoticeCursor after, int size, NoticeSegmentQuery<E> query,
+                                              Function<E, T> mapper, Function<E, NoticeCursor> cursorOf) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        List<E> rows = new ArrayList<>(query.findAfter(after.notice(), after, PageRequest.of(0, limit + 1)));
+        if (after.notice() && rows.size() <= limit) {
+            NoticeCursor regularStart = new NoticeCursor(false, NoticeCursor.FIRST.createdAt(), NoticeCursor.FIRST.id());
+            rows.addAll(query.findAfter(false, regularStart, PageRequest.of(0, limit + 1 - rows.size())));
+        }
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorSlice<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
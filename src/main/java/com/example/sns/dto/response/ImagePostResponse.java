@@ -8,7 +8,8 @@ import com.example.sns.domain.ImagePost;
  * 이미지 게시글 응답 DTO.
  *
  * RULE 3.3: 엔티티 직접 반환 금지.
- * API 명세 ImagePostResponse. imageUrl은 클라이언트용 URL (/api/image-posts/{id}/image).
+ * API 명세 ImagePostResponse. imageUrl은 클라이언트용 URL (/api/image-posts/{id}/image?v={내용 해시 앞 16자}).
+ * 이미지 교체 시 v가 바뀌므로 v가 붙은 URL은 브라우저·CDN에 오래 캐시해도 된다. 해시가 없는 이전 게시글은 v 없음.
  */
 public record ImagePostResponse(
         Long id,
@@ -25,18 +26,29 @@ public record ImagePostResponse(
         LocalDateTime updatedAt
 ) {
 
+    private static final int VERSION_LENGTH = 16;
+
+    /**
+     * JPQL 생성자 projection용 (ImagePostRepository.RESPONSE_SELECT). imageUrl은 id·내용 해시로 생성.
+     */
+    public ImagePostResponse(Long id, Long authorId, String authorNickname, String title, String content,
+                             String imageSha256, Double latitude, Double longitude, Long pinId, boolean notice,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, authorId, authorNickname, title, content, imageUrlOf(id, imageSha256), latitude, longitude, pinId,
+                notice, createdAt, updatedAt);
+    }
+
     /**
-     * 엔티티에서 응답 DTO 생성. imageUrl은 /api/image-posts/{id}/image 형태.
+     * 엔티티에서 응답 DTO 생성. imageUrl은 /api/image-posts/{id}/image?v={버전} 형태.
      */
     public static ImagePostResponse from(ImagePost post) {
-        String imageUrl = "/api/image-posts/" + post.getId() + "/image";
         return new ImagePostResponse(
                 post.getId(),
                 post.getAuthor().getId(),
                 post.getAuthor().getNickname(),
                 post.getTitle(),
                 post.getContent(),
-                imageUrl,
+                imageUrlOf(post.getId(), post.getImageSha256()),
                 post.getLatitude(),
                 post.getLongitude(),
                 post.getPin() != null ? post.getPin().getId() : null,
@@ -45,4 +57,18 @@ public record ImagePostResponse(
                 post.getUpdatedAt()
         );
     }
+
+    /**
+     * 이미지 URL 버전 값 (내용 해시 앞 16자). 해시가 없으면 null.
+     */
+    public static String imageVersionOf(String imageSha256) {
+        return imageSha256 != null && imageSha256.length() >= VERSION_LENGTH
+                ? imageSha256.substring(0, VERSION_LENGTH) : null;
+    }
+
+    private static String imageUrlOf(Long id, String imageSha256) {
+        String url = "/api/image-posts/" + id + "/image";
+        String version = imageVersionOf(imageSha256);
+        return version != null ? url + "?v=" + version : url;
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.sns.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import com.example.sns.service.geo.ClusterIndex;
+import com.example.sns.service.geo.GeoLayer;
+
+/**
+ * 지도 마커 클러스터 조회 응답 DTO.
+ *
+ * RULE 3.3: 엔티티 직접 반환 금지. 좌표·개수·id만 반환하고 상세는 마커 클릭 시 개별 조회.
+ *
+ * @param zoom     실제 적용된 zoom (지원 범위로 보정된 값)
+ * @param clusters 밀집 칸의 클러스터
+ * @param markers  밀도가 낮은 칸의 개별 마커
+ */
+public record MapClusterResponse(
+        int zoom,
+        List<Cluster> clusters,
+        List<Marker> markers
+) {
+
+    /**
+     * @param latitude     칸 안 점들의 평균 위도
+     * @param longitude    칸 안 점들의 평균 경도
+     * @param count        점 개수
+     * @param countByLayer 레이어별 점 개수
+     */
+    public record Cluster(double latitude, double longitude, int count, Map<GeoLayer, Integer> countByLayer) {
+    }
+
+    public record Marker(GeoLayer layer, long id, double latitude, double longitude) {
+    }
+
+    public static MapClusterResponse from(ClusterIndex.ClusterResult result) {
+        List<Cluster> clusters = result.clusters().stream()
+                .map(c -> new Cluster(c.latitude(), c.longitude(), c.count(), c.countByLayer()))
+                .toList();
+        List<Marker> markers = result.points().stream()
+                .map(p -> new Marker(p.layer(), p.id(), p.latitude(), p.longitude()))
+                .toList();
+        return new MapClusterResponse(result.zoom(), clusters, markers);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.sns.dto.response;
+
+import java.util.List;
+
+/**
+ * 지도 viewport 통합 조회 응답 DTO.
+ *
+ * RULE 3.3: 엔티티 직접 반환 금지.
+ * 레이어별 목록은 viewport 중심에서 가까운 순 (공간 인덱스 사용 불가 시 최신순).
+ *
+ * @param truncated 한 레이어라도 limit을 넘어 잘린 경우 true (확대 후 재조회 권장)
+ */
+public record MapFeedResponse(
+        List<PinResponse> pins,
+        List<PostResponse> posts,
+        List<ImagePostResponse> imagePosts,
+        boolean truncated
+) {
+}
@@ -0,0 +1,20 @@
+package com.example.sns.dto.response;
+
+/**
+ * 최근접 조회 응답 항목 DTO.
+ *
+ * RULE 3.3: 엔티티 직접 반환 금지.
+ *
+ * @param item           Pin·게시글 응답
+ * @param distanceMeters 조회 중심에서의 거리(m)
+ * @param <T>            응답 DTO 타입
+ */
+public record NearestResponse<T>(
+        T item,
+        long distanceMeters
+) {
+
+    public static <T> NearestResponse<T> of(T item, double distanceMeters) {
+        return new NearestResponse<>(item, Math.round(distanceMeters));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.sns.dto.response;
+
+import com.example.sns.service.upload.UploadSession;
+
+/**
+ * 이어 올리기 업로드 세션 응답 DTO.
+ *
+ * offset: 서버가 받은 바이트 수 (다음 청크 시작 위치). offset == length면 게시글 작성(POST /api/image-posts/uploads/{uploadId}) 가능.
+ */
+public record UploadSessionResponse(
+        String uploadId,
+        long offset,
+        long length
+) {
+
+    public static UploadSessionResponse from(UploadSession session) {
+        return new UploadSessionResponse(session.id(), session.offset(), session.length());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.sns.repository;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.example.sns.service.search.SearchLayer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * MySQL FULLTEXT INDEX(ngram parser) 기반 키워드 검색 (prod 전용).
+ *
+ * infra/mysql/migration/V004__title_content_fulltext_ngram.sql 적용 필요.
+ * posts·image_posts의 (title, content)를 BOOLEAN MODE로 조회하고 MATCH 점수 내림차순으로 정렬한다.
+ * H2(dev·test)에는 MATCH ... AGAINST가 없으므로 인메모리 인덱스 또는 LIKE를 사용한다.
+ */
+@Repository
+@Profile("prod")
+public class FulltextSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * FULLTEXT 인덱스가 두 테이블 모두에 존재하는지 여부 (마이그레이션 적용 확인).
+     */
+    public boolean isSchemaReady() {
+        Number count = (Number) entityManager.createNativeQuery("""
+                        SELECT COUNT(DISTINCT TABLE_NAME) FROM information_schema.STATISTICS
+                        WHERE TABLE_SCHEMA = DATABASE()
+                        AND TABLE_NAME IN ('posts', 'image_posts')
+                        AND INDEX_TYPE = 'FULLTEXT'
+                        """)
+                .getSingleResult();
+        return count.intValue() == 2;
+    }
+
+    /**
+     * 모든 단어를 포함하는 문서 id. MATCH 점수 내림차순, 동점은 id 내림차순.
+     * 단어마다 +"단어"(ngram 구문 검색)로 묶어 LIKE와 같은 AND 의미를 유지한다.
+     *
+     * @param words 정규화한 검색 단어 (글자·숫자만 포함)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> search(SearchLayer layer, List<String> words, int limit) {
+        String table = switch (layer) {
+            case POST -> "posts";
+            case IMAGE_POST -> "image_posts";
+        };
+        String against = String.join(" ", words.stream().map(word -> "+\"" + word + "\"").toList());
+        List<Number> ids = entityManager.createNativeQuery("SELECT t.id FROM " + table + " t"
+                        + " WHERE MATCH(t.title, t.content) AGAINST (:query IN BOOLEAN MODE)"
+                        + " ORDER BY MATCH(t.title, t.content) AGAINST (:query IN BOOLEAN MODE) DESC, t.id DESC")
+                .setParameter("query", against)
+                .setMaxResults(limit)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+}
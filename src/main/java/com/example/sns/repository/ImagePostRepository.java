@@ -1,7 +1,9 @@
 package com.example.sns.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,7 +12,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.example.sns.domain.ImagePost;
-import com.example.sns.domain.User;
+import com.example.sns.dto.response.ImagePostResponse;
+import com.example.sns.service.image.StoredImage;
+import com.example.sns.utils.haversine.BoundingBox;
 
 /**
  * 이미지 게시글 Repository.
@@ -22,50 +26,129 @@ import com.example.sns.domain.User;
 public interface ImagePostRepository extends JpaRepository<ImagePost, Long> {
 
     /**
-     * Pin에 연결된 이미지 게시글 목록. Step 12: 지도 Pin 클릭 시.
+     * 응답 DTO 생성자 projection. 작성자는 inner join, Pin은 id만 필요하므로 left join.
+     * 엔티티·연관 프록시를 거치지 않으므로 목록 1건당 추가 쿼리(N+1)가 없다.
      */
-    Page<ImagePost> findByPin_Id(Long pinId, Pageable pageable);
+    String RESPONSE_SELECT = """
+            SELECT new com.example.sns.dto.response.ImagePostResponse(
+                e.id, a.id, a.nickname, e.title, e.content, e.imageSha256, e.latitude, e.longitude,
+                p.id, e.notice, e.createdAt, e.updatedAt)
+            FROM ImagePost e JOIN e.author a LEFT JOIN e.pin p
+            """;
 
     /**
-     * 제목 또는 내용에 키워드 포함 검색. 키워드 없으면 전체 조회.
+     * Haversine 거리(km) JPQL 식. 라디안 변환은 상수 곱, cos(중심 위도)는 호출 측에서 계산해 :cosLat으로 전달.
      */
-    Page<ImagePost> findByTitleContainingOrContentContaining(String titleKeyword, String contentKeyword, Pageable pageable);
+    String HAVERSINE_KM = """
+            6371 * 2 * asin(sqrt(
+                power(sin((:lat - e.latitude) * 0.017453292519943295 / 2), 2) +
+                cos(e.latitude * 0.017453292519943295) * :cosLat *
+                power(sin((:lng - e.longitude) * 0.017453292519943295 / 2), 2)
+            ))
+            """;
 
-    Page<ImagePost> findByAuthor(User author, Pageable pageable);
+    /**
+     * 목록 조회 (페이징·검색). 키워드 없으면 null → 전체. 정렬은 Pageable.
+     * 응답 DTO projection 1회 + COUNT 1회.
+     */
+    @Query(value = RESPONSE_SELECT + """
+            WHERE :keyword IS NULL
+                OR e.title LIKE CONCAT('%', :keyword, '%')
+                OR e.content LIKE CONCAT('%', :keyword, '%')
+            """,
+            countQuery = """
+            SELECT COUNT(e) FROM ImagePost e
+            WHERE :keyword IS NULL
+                OR e.title LIKE CONCAT('%', :keyword, '%')
+                OR e.content LIKE CONCAT('%', :keyword, '%')
+            """)
+    Page<ImagePostResponse> findResponses(@Param("keyword") String keyword, Pageable pageable);
 
-    default Page<ImagePost> findAllByKeyword(String keyword, Pageable pageable) {
-        if (keyword == null || keyword.isBlank()) {
-            return findAll(pageable);
-        }
-        String trimmed = keyword.trim();
-        return findByTitleContainingOrContentContaining(trimmed, trimmed, pageable);
-    }
+    /**
+     * 작성자별 목록. 마이페이지용. 응답 DTO projection 1회 + COUNT 1회.
+     */
+    @Query(value = RESPONSE_SELECT + "WHERE a.id = :authorId",
+            countQuery = "SELECT COUNT(e) FROM ImagePost e WHERE e.author.id = :authorId")
+    Page<ImagePostResponse> findResponsesByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    /**
+     * Pin에 연결된 목록. Step 12: 지도 Pin 클릭 시. 응답 DTO projection 1회 + COUNT 1회.
+     */
+    @Query(value = RESPONSE_SELECT + "WHERE p.id = :pinId",
+            countQuery = "SELECT COUNT(e) FROM ImagePost e WHERE e.pin.id = :pinId")
+    Page<ImagePostResponse> findResponsesByPinId(@Param("pinId") Long pinId, Pageable pageable);
+
+    /**
+     * id 목록으로 응답 DTO 조회 (1회 쿼리). 공간 인덱스 후보 id 적재용. 순서는 호출 측에서 맞춘다.
+     */
+    @Query(RESPONSE_SELECT + "WHERE e.id IN :ids")
+    List<ImagePostResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 이미지 응답용 저장 정보만 조회 (작성자·Pin join 없음). ImageFileCache 미스 시 사용.
+     */
+    @Query("""
+            SELECT new com.example.sns.service.image.StoredImage(e.imageStoragePath, e.imageContentType, e.imageSha256)
+            FROM ImagePost e WHERE e.id = :id
+            """)
+    Optional<StoredImage> findStoredImageById(@Param("id") Long id);
+
+    /**
+     * 저장 파일 참조 여부 (idx_image_posts_image_url). 내용 주소 저장에서 파일 삭제 전 확인.
+     */
+    boolean existsByImageStoragePath(String imageStoragePath);
+
+    /**
+     * 공지 구간(notice 고정) keyset 조회: (createdAt, id)가 커서보다 작은 항목을 최신순으로. 응답 DTO projection.
+     * (notice, created_at, id) 인덱스 range scan, COUNT 없음. 키워드 없으면 null.
+     */
+    @Query(RESPONSE_SELECT + """
+            WHERE e.notice = :notice
+            AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id))
+            AND (:keyword IS NULL
+                OR e.title LIKE CONCAT('%', :keyword, '%')
+                OR e.content LIKE CONCAT('%', :keyword, '%'))
+            ORDER BY e.createdAt DESC, e.id DESC
+            """)
+    List<ImagePostResponse> findResponsesNoticeSegmentAfter(@Param("notice") boolean notice, @Param("keyword") String keyword,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") long id, Pageable pageable);
 
     /**
-     * 반경(km) 내 이미지 게시글 조회. latitude·longitude가 있는 글만.
+     * 반경(km) 내 이미지 게시글 응답 DTO 조회. latitude·longitude가 있는 글만. 공간 인덱스 사용 불가 시 fallback.
      * Haversine 공식 사용. H2·MySQL 호환.
+     *
+     * 중심·반경을 감싸는 BoundingBox로 (latitude, longitude) 인덱스 범위 조회 후
+     * 범위 안의 행에만 Haversine 거리를 계산한다. 응답 DTO projection 1회 + COUNT 1회.
+     *
+     * @param radiusKm 반경(km)
+     * @param lat      중심 위도
+     * @param lng      중심 경도
+     * @param pageable 페이징
+     * @return 반경 내 이미지 게시글 목록
      */
-    @Query(value = """
-            SELECT * FROM image_posts ip
-            WHERE ip.latitude IS NOT NULL AND ip.longitude IS NOT NULL
-            AND 6371 * 2 * ASIN(SQRT(
-                POWER(SIN(RADIANS(:lat - ip.latitude) / 2), 2) +
-                COS(RADIANS(ip.latitude)) * COS(RADIANS(:lat)) *
-                POWER(SIN(RADIANS(:lng - ip.longitude) / 2), 2)
-            )) <= :radiusKm
-            """,
+    default Page<ImagePostResponse> findResponsesWithinRadius(double radiusKm, double lat, double lng, Pageable pageable) {
+        BoundingBox box = BoundingBox.around(lat, lng, radiusKm);
+        return findResponsesWithinBoundingBoxAndRadius(radiusKm, lat, lng, Math.cos(Math.toRadians(lat)),
+                box.minLat(), box.maxLat(), box.minLng(), box.maxLng(), pageable);
+    }
+
+    /**
+     * 사각 범위(인덱스 조회) + Haversine 반경 필터. latitude·longitude가 NULL인 행은 BETWEEN에서 제외된다.
+     */
+    @Query(value = RESPONSE_SELECT + """
+            WHERE e.latitude BETWEEN :minLat AND :maxLat
+            AND e.longitude BETWEEN :minLng AND :maxLng
+            """ + "AND " + HAVERSINE_KM + " <= :radiusKm",
             countQuery = """
-            SELECT COUNT(*) FROM image_posts ip
-            WHERE ip.latitude IS NOT NULL AND ip.longitude IS NOT NULL
-            AND 6371 * 2 * ASIN(SQRT(
-                POWER(SIN(RADIANS(:lat - ip.latitude) / 2), 2) +
-                COS(RADIANS(ip.latitude)) * COS(RADIANS(:lat)) *
-                POWER(SIN(RADIANS(:lng - ip.longitude) / 2), 2)
-            )) <= :radiusKm
-            """,
-            nativeQuery = true)
-    Page<ImagePost> findWithinRadius(@Param("radiusKm") double radiusKm, @Param("lat") double lat,
-                                     @Param("lng") double lng, Pageable pageable);
+            SELECT COUNT(e) FROM ImagePost e
+            WHERE e.latitude BETWEEN :minLat AND :maxLat
+            AND e.longitude BETWEEN :minLng AND :maxLng
+            """ + "AND " + HAVERSINE_KM + " <= :radiusKm")
+    Page<ImagePostResponse> findResponsesWithinBoundingBoxAndRadius(@Param("radiusKm") double radiusKm,
+            @Param("lat") double lat, @Param("lng") double lng, @Param("cosLat") double cosLat,
+            @Param("minLat") double minLat, @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng, @Param("maxLng") double maxLng,
+            Pageable pageable);
 
     /**
      * 기간 내 이미지 게시글 수를 일별로 집계. Step 17.
@@ -73,4 +156,48 @@ public interface ImagePostRepository extends JpaRepository<ImagePost, Long> {
     @Query(value = "SELECT DATE(created_at), COUNT(*) FROM image_posts WHERE created_at BETWEEN :start AND :end GROUP BY DATE(created_at)",
             nativeQuery = true)
     List<Object[]> countByCreatedAtBetweenGroupByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * id 기준 keyset 배치로 검색 문서(id, title, content) 조회. 검색 인덱스 적재용.
+     */
+    @Query("SELECT e.id, e.title, e.content FROM ImagePost e WHERE e.id > :afterId ORDER BY e.id")
+    List<Object[]> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * id 기준 keyset 배치로 좌표(id, latitude, longitude) 조회. GeoIndex 적재용. 위치 있는 글만.
+     */
+    @Query("SELECT e.id, e.latitude, e.longitude FROM ImagePost e WHERE e.id > :afterId AND e.latitude IS NOT NULL AND e.longitude IS NOT NULL ORDER BY e.id")
+    List<Object[]> findCoordinatesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * id 목록으로 이미지 게시글 조회 (author fetch join, 1회 쿼리). 지도 viewport 조회용.
+     */
+    @Query("SELECT e FROM ImagePost e JOIN FETCH e.author WHERE e.id IN :ids")
+    List<ImagePost> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 사각 범위 내 이미지 게시글 조회 (author fetch join), 중심(lat, lng)에서 가까운 순.
+     * 공간 인덱스 사용 불가 시 지도 viewport 조회 fallback. 인덱스 조회(searchBox)와 같은 거리순이라
+     * 건수 상한에 걸려도 중심 가까운 글이 빠지지 않는다.
+     */
+    @Query("""
+            SELECT e FROM ImagePost e JOIN FETCH e.author
+            WHERE e.latitude BETWEEN :minLat AND :maxLat
+            AND e.longitude BETWEEN :minLng AND :maxLng
+            """ + "ORDER BY " + HAVERSINE_KM + ", e.id")
+    List<ImagePost> findNearestWithinBoundingBox(@Param("lat") double lat, @Param("lng") double lng,
+            @Param("cosLat") double cosLat,
+            @Param("minLat") double minLat, @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng, @Param("maxLng") double maxLng, Pageable pageable);
+
+    /**
+     * 사각 범위 내 응답 DTO 조회 (최신순). 위치 타일 캐시 적재용.
+     */
+    @Query(RESPONSE_SELECT + """
+            WHERE e.latitude BETWEEN :minLat AND :maxLat
+            AND e.longitude BETWEEN :minLng AND :maxLng
+            ORDER BY e.id DESC
+            """)
+    List<ImagePostResponse> findResponsesWithinBoundingBox(@Param("minLat") double minLat, @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng, @Param("maxLng") double maxLng, Pageable pageable);
 }
@@ -1,5 +1,8 @@
 package com.example.sns.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 
 import com.example.sns.domain.Pin;
 import com.example.sns.domain.User;
+import com.example.sns.utils.haversine.BoundingBox;
 
 /**
  * Pin Repository.
@@ -23,15 +27,29 @@ public interface PinRepository extends JpaRepository<Pin, Long> {
      * 반경(km) 내 Pin 조회. Haversine 공식 사용.
      * H2·MySQL 호환.
      *
+     * 중심·반경을 감싸는 BoundingBox로 (latitude, longitude) 인덱스 범위 조회 후
+     * 범위 안의 행에만 Haversine 거리를 계산한다.
+     *
      * @param radiusKm 반경(km)
      * @param lat      중심 위도
      * @param lng      중심 경도
      * @param pageable 페이징
      * @return 반경 내 Pin 목록
      */
+    default Page<Pin> findWithinRadius(double radiusKm, double lat, double lng, Pageable pageable) {
+        BoundingBox box = BoundingBox.around(lat, lng, radiusKm);
+        return findWithinBoundingBoxAndRadius(radiusKm, lat, lng,
+                box.minLat(), box.maxLat(), box.minLng(), box.maxLng(), pageable);
+    }
+
+    /**
+     * 사각 범위(인덱스 조회) + Haversine 반경 필터. latitude·longitude가 NULL인 행은 BETWEEN에서 제외된다.
+     */
     @Query(value = """
             SELECT * FROM pins p
-            WHERE 6371 * 2 * ASIN(SQRT(
+            WHERE p.latitude BETWEEN :minLat AND :maxLat
+            AND p.longitude BETWEEN :minLng AND :maxLng
+            AND 6371 * 2 * ASIN(SQRT(
                 POWER(SIN(RADIANS(:lat - p.latitude) / 2), 2) +
                 COS(RADIANS(p.latitude)) * COS(RADIANS(:lat)) *
                 POWER(SIN(RADIANS(:lng - p.longitude) / 2), 2)
@@ -39,13 +57,93 @@ public interface PinRepository extends JpaRepository<Pin, Long> {
             """,
             countQuery = """
             SELECT COUNT(*) FROM pins p
-            WHERE 6371 * 2 * ASIN(SQRT(
+            WHERE p.latitude BETWEEN :minLat AND :maxLat
+            AND p.longitude BETWEEN :minLng AND :maxLng
+            AND 6371 * 2 * ASIN(SQRT(
+                POWER(SIN(RADIANS(:lat - p.latitude) / 2), 2) +
+                COS(RADIANS(p.latitude)) * COS(RADIANS(:lat)) *
+                POWER(SIN(RADIANS(:lng - p.longitude) / 2), 2)
+            )) <= :radiusKm
+            """,
+            nativeQuery = true)
+    Page<Pin> findWithinBoundingBoxAndRadius(@Param("radiusKm") double radiusKm,
+                                             @Param("lat") double lat, @Param("lng") double lng,
+                                             @Param("minLat") double minLat, @Param("maxLat") double maxLat,
+                                             @Param("minLng") double minLng, @Param("maxLng") double maxLng,
+                                             Pageable pageable);
+
+    /**
+     * 반경(km) 내 Pin 거리 오름차순 조회 (pageable 크기만큼). 공간 인덱스 사용 불가 시 최근접 조회 fallback.
+     * BoundingBox 범위 안의 행만 정렬하므로 반경을 작게 시작해 넓혀 가며 호출한다.
+     */
+    default List<Pin> findNearestWithinRadius(double radiusKm, double lat, double lng, Pageable pageable) {
+        BoundingBox box = BoundingBox.around(lat, lng, radiusKm);
+        return findNearestWithinBoundingBoxAndRadius(radiusKm, lat, lng,
+                box.minLat(), box.maxLat(), box.minLng(), box.maxLng(), pageable);
+    }
+
+    @Query(value = """
+            SELECT * FROM pins p
+            WHERE p.latitude BETWEEN :minLat AND :maxLat
+            AND p.longitude BETWEEN :minLng AND :maxLng
+            AND 6371 * 2 * ASIN(SQRT(
                 POWER(SIN(RADIANS(:lat - p.latitude) / 2), 2) +
                 COS(RADIANS(p.latitude)) * COS(RADIANS(:lat)) *
                 POWER(SIN(RADIANS(:lng - p.longitude) / 2), 2)
             )) <= :radiusKm
+            ORDER BY 6371 * 2 * ASIN(SQRT(
+                POWER(SIN(RADIANS(:lat - p.latitude) / 2), 2) +
+                COS(RADIANS(p.latitude)) * COS(RADIANS(:lat)) *
+                POWER(SIN(RADIANS(:lng - p.longitude) / 2), 2)
+            )), p.id
             """,
             nativeQuery = true)
-    Page<Pin> findWithinRadius(@Param("radiusKm") double radiusKm, @Param("lat") double lat, @Param("lng") double lng,
-                               Pageable pageable);
+    List<Pin> findNearestWithinBoundingBoxAndRadius(@Param("radiusKm") double radiusKm,
+            @Param("lat") double lat, @Param("lng") double lng,
+            @Param("minLat") double minLat, @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng, @Param("maxLng") double maxLng,
+            Pageable pageable);
+
+    /**
+     * id 기준 keyset 배치로 좌표(id, latitude, longitude) 조회. GeoIndex 적재용.
+     */
+    @Query("SELECT e.id, e.location.latitude, e.location.longitude FROM Pin e WHERE e.id > :afterId ORDER BY e.id")
+    List<Object[]> findCoordinatesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * id 목록으로 Pin 조회 (owner fetch join, 1회 쿼리). 지도 viewport 조회용.
+     */
+    @Query("SELECT e FROM Pin e JOIN FETCH e.owner WHERE e.id IN :ids")
+    List<Pin> findAllWithOwnerByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 사각 범위 내 Pin 조회 (owner fetch join). 공간 인덱스 사용 불가 시 지도 viewport 조회 fallback.
+     */
+    @Query("""
+            SELECT e FROM Pin e JOIN FETCH e.owner
+            WHERE e.location.latitude BETWEEN :minLat AND :maxLat
+            AND e.location.longitude BETWEEN :minLng AND :maxLng
+            ORDER BY e.id DESC
+            """)
+    List<Pin> findWithinBoundingBox(@Param("minLat") double minLat, @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng, @Param("maxLng") double maxLng, Pageable pageable);
+
+    /**
+     * 사각 범위 내 Pin 조회 (owner fetch join), 중심(lat, lng)에서 가까운 순. 공간 인덱스 사용 불가 시 지도 viewport 조회 fallback.
+     * cos(중심 위도)는 호출 측에서 계산해 :cosLat으로 전달.
+     */
+    @Query("""
+            SELECT e FROM Pin e JOIN FETCH e.owner
+            WHERE e.location.latitude BETWEEN :minLat AND :maxLat
+            AND e.location.longitude BETWEEN :minLng AND :maxLng
+            ORDER BY 6371 * 2 * asin(sqrt(
+                power(sin((:lat - e.location.latitude) * 0.017453292519943295 / 2), 2) +
+                cos(e.location.latitude * 0.017453292519943295) * :cosLat *
+                power(sin((:lng - e.location.longitude) * 0.017453292519943295 / 2), 2)
+            )), e.id
+            """)
+    List<Pin> findNearestWithinBoundingBox(@Param("lat") double lat, @Param("lng") double lng,
+            @Param("cosLat") double cosLat,
+            @Param("minLat") double minLat, @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng, @Param("maxLng") double maxLng, Pageable pageable);
 }
@@ -0,0 +1,158 @@
+package com.example.sns.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.example.sns.service.geo.GeoHit;
+import com.example.sns.service.geo.GeoLayer;
+import com.example.sns.utils.haversine.BoundingBox;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * MySQL SPATIAL INDEX 기반 반경 조회 (prod 전용).
+ *
+ * infra/mysql/migration/V002__location_point_spatial_index.sql 적용 필요.
+ * pins·posts·image_posts의 location_point(POINT SRID 4326, latitude·longitude에서 생성되는 STORED 컬럼)를
+ * MBRContains로 R-tree 범위 조회 후 ST_Distance_Sphere로 정확한 거리를 계산한다.
+ * H2(dev·test)에는 해당 함수가 없으므로 Repository의 Haversine 쿼리를 사용한다.
+ */
+@Repository
+@Profile("prod")
+public class SpatialLocationRepository {
+
+    private static final String WKT_OPTIONS = "'axis-order=long-lat'";
+    private static final String DISTANCE =
+            "ST_Distance_Sphere(t.location_point, ST_GeomFromText(:center, 4326, " + WKT_OPTIONS + "))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * location_point 컬럼이 세 테이블 모두에 존재하는지 여부 (마이그레이션 적용 확인).
+     */
+    public boolean isSchemaReady() {
+        Number count = (Number) entityManager.createNativeQuery("""
+                        SELECT COUNT(*) FROM information_schema.COLUMNS
+                        WHERE TABLE_SCHEMA = DATABASE()
+                        AND TABLE_NAME IN ('pins', 'posts', 'image_posts')
+                        AND COLUMN_NAME = 'location_point'
+                        """)
+                .getSingleResult();
+        return count.intValue() == 3;
+    }
+
+    /**
+     * 반경(km) 내 (id, 거리) 조회. 거리 오름차순.
+     * 경도 범위가 전체(극점·날짜변경선)인 경우 MBR 대신 latitude 범위(B-tree)로 후보를 좁힌다.
+     *
+     * @param layer    레이어
+     * @param lat      중심 위도
+     * @param lng      중심 경도
+     * @param radiusKm 반경(km)
+     * @return 거리 오름차순 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<GeoHit> findWithinRadius(GeoLayer layer, double lat, double lng, double radiusKm) {
+        BoundingBox box = BoundingBox.around(lat, lng, radiusKm);
+        Query query = entityManager.createNativeQuery("""
+                SELECT t.id, %s AS distance
+                FROM %s t
+                WHERE %s
+                AND t.latitude IS NOT NULL
+                HAVING distance <= :radiusMeters
+                ORDER BY distance
+                """.formatted(DISTANCE, tableOf(layer), candidateFilter(box)))
+                .setParameter("radiusMeters", radiusKm * 1000);
+        bind(query, box, lat, lng);
+
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> new GeoHit(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue() / 1000))
+                .toList();
+    }
+
+    /**
+     * 사각 범위 내 전 레이어 (레이어, id, 거리)를 UNION ALL 1회로 조회. 거리 오름차순.
+     * MBR은 측지선 경계 때문에 범위보다 약간 넓을 수 있으므로 BoundingBox.contains로 한 번 더 거른다.
+     *
+     * @param box 조회 범위
+     * @param lat 거리 기준 위도
+     * @param lng 거리 기준 경도
+     * @return 레이어별 거리 오름차순 목록
+     */
+    @SuppressWarnings("unchecked")
+    public Map<GeoLayer, List<GeoHit>> findWithinBox(BoundingBox box, double lat, double lng) {
+        GeoLayer[] layers = GeoLayer.values();
+        String union = Arrays.stream(layers)
+                .map(layer -> """
+                        SELECT %d AS layer, t.id, t.latitude, t.longitude, %s AS distance
+                        FROM %s t
+                        WHERE %s
+                        AND t.latitude IS NOT NULL
+                        """.formatted(layer.ordinal(), DISTANCE, tableOf(layer), candidateFilter(box)))
+                .collect(Collectors.joining("UNION ALL\n"));
+        Query query = entityManager.createNativeQuery(union + "ORDER BY distance");
+        bind(query, box, lat, lng);
+
+        Map<GeoLayer, List<GeoHit>> hitsByLayer = new EnumMap<>(GeoLayer.class);
+        for (GeoLayer layer : layers) {
+            hitsByLayer.put(layer, new ArrayList<>());
+        }
+        List<Object[]> rows = query.getResultList();
+        for (Object[] row : rows) {
+            if (!box.contains(((Number) row[2]).doubleValue(), ((Number) row[3]).doubleValue())) {
+                continue;
+            }
+            hitsByLayer.get(layers[((Number) row[0]).intValue()])
+                    .add(new GeoHit(((Number) row[1]).longValue(), ((Number) row[4]).doubleValue() / 1000));
+        }
+        return hitsByLayer;
+    }
+
+    private static boolean spansAllLongitudes(BoundingBox box) {
+        return box.minLng() <= -180 && box.maxLng() >= 180;
+    }
+
+    private static String candidateFilter(BoundingBox box) {
+        return spansAllLongitudes(box)
+                ? "t.latitude BETWEEN :minLat AND :maxLat"
+                : "MBRContains(ST_GeomFromText(:envelope, 4326, " + WKT_OPTIONS + "), t.location_point)";
+    }
+
+    private static void bind(Query query, BoundingBox box, double lat, double lng) {
+        query.setParameter("center", point(lat, lng));
+        if (spansAllLongitudes(box)) {
+            query.setParameter("minLat", box.minLat()).setParameter("maxLat", box.maxLat());
+        } else {
+            query.setParameter("envelope", envelope(box));
+        }
+    }
+
+    private static String tableOf(GeoLayer layer) {
+        return switch (layer) {
+            case PIN -> "pins";
+            case POST -> "posts";
+            case IMAGE_POST -> "image_posts";
+        };
+    }
+
+    private static String point(double lat, double lng) {
+        return String.format(Locale.ROOT, "POINT(%s %s)", lng, lat);
+    }
+
+    private static String envelope(BoundingBox box) {
+        return String.format(Locale.ROOT, "POLYGON((%1$s %3$s, %2$s %3$s, %2$s %4$s, %1$s %4$s, %1$s %3$s))",
+                box.minLng(), box.maxLng(), box.minLat(), box.maxLat());
+    }
+}
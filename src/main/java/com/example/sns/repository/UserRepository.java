@@ -6,6 +6,9 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.sns.domain.User;
 
@@ -51,4 +54,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 기간 내 가입자 수. Step 17: 관리자 가입 통계.
      */
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 토큰 세대만 조회. 인증 필터의 세션 철회 확인(TokenVersionCache miss)용.
+     */
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * 토큰 세대 증가 (전체 세션 철회). 동시 호출에도 원자적으로 증가한다.
+     *
+     * @return 변경된 행 수 (회원이 없으면 0)
+     */
+    @Modifying
+    @Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
 }
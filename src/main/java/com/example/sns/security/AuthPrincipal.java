@@ -0,0 +1,22 @@
+package com.example.sns.security;
+
+import java.security.Principal;
+
+import com.example.sns.domain.UserRole;
+
+/**
+ * JWT 인증 주체. 검증된 Access Token 클레임(userId, role)만으로 만든다.
+ *
+ * 요청마다 회원을 조회하지 않기 위해 사용한다. 엔티티가 필요하면 AuthService.getCurrentUserEntity (UserCache 경유).
+ * getName()은 userId 문자열 (감사 로그의 remoteUser 등).
+ *
+ * @param userId 회원 ID
+ * @param role   토큰 발급 시점의 역할
+ */
+public record AuthPrincipal(Long userId, UserRole role) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
@@ -11,9 +11,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.example.sns.repository.UserRepository;
+import com.example.sns.domain.UserRole;
 import com.example.sns.service.auth.JwtService;
 import com.example.sns.service.auth.TokenStore;
+import com.example.sns.service.cache.TokenVersionCache;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
@@ -29,6 +30,8 @@ import lombok.extern.slf4j.Slf4j;
  *
  * Bearer 토큰 검증 후 SecurityContext에 인증 정보 설정.
  * RULE 6.1: 모든 JWT 검증, jti 블랙리스트 확인.
+ * 주체는 검증된 클레임(userId, role)으로 만든 AuthPrincipal이며 요청마다 회원을 조회하지 않는다.
+ * 클레임 ver(토큰 세대)가 TokenVersionCache의 현재 세대와 다르면 전체 세션 철회된 토큰으로 보고 인증하지 않는다.
  */
 @Slf4j
 @Component
@@ -40,7 +43,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final TokenVersionCache tokenVersionCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -52,17 +55,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String jti = claims.getId();
                 if (jti != null && tokenStore.isBlacklisted(jti)) {
                     log.debug("블랙리스트된 토큰: jti={}", jti);
+                } else if (!isCurrentSession(claims)) {
+                    log.debug("세션 철회된 토큰: jti={}", jti);
                 } else {
                     Long userId = extractUserId(claims);
-                    if (userId != null) {
-                        userRepository.findById(userId).ifPresent(user -> {
-                            var auth = new UsernamePasswordAuthenticationToken(
-                                    user, null,
-                                    Collections
-                                            .singletonList(new SimpleGrantedAuthority(user.getRole().toAuthority())));
-                            auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                            SecurityContextHolder.getContext().setAuthentication(auth);
-                        });
+                    UserRole role = extractRole(claims);
+                    if (userId != null && role != null) {
+                        var auth = new UsernamePasswordAuthenticationToken(
+                                new AuthPrincipal(userId, role), null,
+                                Collections.singletonList(new SimpleGrantedAuthority(role.toAuthority())));
+                        auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(auth);
                     }
                 }
             }
@@ -72,6 +75,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /** 토큰 세대(ver)가 회원의 현재 세대와 같은지. userId가 없으면 이후 단계에서 인증하지 않는다. */
+    private boolean isCurrentSession(Claims claims) {
+        Long userId = extractUserId(claims);
+        return userId == null || tokenVersionCache.isCurrent(userId, extractTokenVersion(claims));
+    }
+
     private String extractBearerToken(HttpServletRequest request) {
         String header = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(header) && header.startsWith(BEARER_PREFIX)) {
@@ -90,6 +99,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private static final String CLAIM_USER_ID = "userId";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_TOKEN_VERSION = "ver";
 
     /** JJWT는 JSON 파싱 시 숫자를 Double로 반환할 수 있으므로 Number로 추출 후 Long 변환. */
     private static Long extractUserId(Claims claims) {
@@ -99,4 +110,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
+
+    /** ver 클레임이 없는 토큰(세대 도입 전 발급)은 0세대로 본다. */
+    private static int extractTokenVersion(Claims claims) {
+        Object raw = claims.get(CLAIM_TOKEN_VERSION);
+        return raw instanceof Number num ? num.intValue() : 0;
+    }
+
+    private static UserRole extractRole(Claims claims) {
+        Object raw = claims.get(CLAIM_ROLE);
+        if (raw instanceof String name) {
+            try {
+                return UserRole.valueOf(name);
+            } catch (IllegalArgumentException e) {
+                log.debug("알 수 없는 role 클레임: {}", name);
+            }
+        }
+        return null;
+    }
 }
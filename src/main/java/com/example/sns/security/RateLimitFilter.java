@@ -1,10 +1,6 @@
 package com.example.sns.security;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,8 +15,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.example.sns.config.RateLimitProperties;
 import com.example.sns.exception.ErrorCode;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,7 +22,8 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Rate Limiting 필터 (RULE 1.9, Step 18).
  *
- * 로그인·회원가입·토큰 갱신 등 공개 API에 IP 기준 제한 적용.
+ * 로그인·회원가입·토큰 갱신 등 공개 API에 IP 기준 제한 적용. 경로별 정책은 RateLimitProperties.policies.
+ * 버킷 보관·Redis 공유는 RateLimiter.
  * 초과 시 429 Too Many Requests + Retry-After 헤더 반환.
  */
 @Slf4j
@@ -37,19 +32,12 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private static final List<String> RATE_LIMIT_PATHS = List.of(
-            "POST:/api/auth/login",
-            "POST:/api/members",
-            "POST:/api/auth/refresh"
-    );
-
     private final RateLimitProperties props;
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimiter rateLimiter;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String key = request.getMethod() + ":" + request.getRequestURI();
-        return !RATE_LIMIT_PATHS.contains(key);
+        return policyFor(request) == null;
     }
 
     @Override
@@ -59,8 +47,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
         String method = request.getMethod();
         String clientKey = resolveClientKey(request);
 
-        Bucket bucket = bucketFor(path, method, clientKey);
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        ConsumptionProbe probe = rateLimiter.tryConsume(policyFor(request), clientKey);
 
         if (!probe.isConsumed()) {
             long retryAfterSeconds = probe.getNanosToWaitForRefill() / 1_000_000_000;
@@ -82,36 +69,14 @@ public class RateLimitFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private Bucket bucketFor(String path, String method, String clientKey) {
-        String bucketKey = bucketKey(path, method, clientKey);
-        return buckets.computeIfAbsent(bucketKey, k -> buildBucket(path, method));
-    }
-
-    private String bucketKey(String path, String method, String clientKey) {
-        if ("/api/auth/login".equals(path) && "POST".equals(method)) {
-            return "login:" + clientKey;
-        }
-        if ("/api/members".equals(path) && "POST".equals(method)) {
-            return "signup:" + clientKey;
-        }
-        if ("/api/auth/refresh".equals(path) && "POST".equals(method)) {
-            return "refresh:" + clientKey;
-        }
-        return "default:" + clientKey;
-    }
-
-    private Bucket buildBucket(String path, String method) {
-        Bandwidth bandwidth;
-        if ("/api/auth/login".equals(path) && "POST".equals(method)) {
-            bandwidth = Bandwidth.simple(props.getLoginCapacity(), Duration.ofMinutes(props.getLoginPeriodMinutes()));
-        } else if ("/api/members".equals(path) && "POST".equals(method)) {
-            bandwidth = Bandwidth.simple(props.getSignupCapacity(), Duration.ofMinutes(props.getSignupPeriodMinutes()));
-        } else if ("/api/auth/refresh".equals(path) && "POST".equals(method)) {
-            bandwidth = Bandwidth.simple(props.getRefreshCapacity(), Duration.ofMinutes(props.getRefreshPeriodMinutes()));
-        } else {
-            bandwidth = Bandwidth.simple(100, Duration.ofMinutes(1));
+    private RateLimitProperties.Policy policyFor(HttpServletRequest request) {
+        for (RateLimitProperties.Policy policy : props.getPolicies()) {
+            if (policy.getMethod().equalsIgnoreCase(request.getMethod())
+                    && policy.getPath().equals(request.getRequestURI())) {
+                return policy;
+            }
         }
-        return Bucket.builder().addLimit(bandwidth).build();
+        return null;
     }
 
     private String resolveClientKey(HttpServletRequest request) {
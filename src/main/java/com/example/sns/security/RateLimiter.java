@@ -0,0 +1,125 @@
+package com.example.sns.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.RateLimitProperties;
+import com.example.sns.service.auth.CircuitBreaker;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rate Limit 버킷 저장소 (RULE 1.9).
+ *
+ * 노드 로컬 버킷은 Caffeine에 보관한다: 최대 maxBuckets개, 마지막 사용 후 가장 긴 정책 주기가 지나면 제거
+ * (그동안 버킷은 가득 찬 상태로 돌아오므로 제거해도 제한이 느슨해지지 않는다).
+ * distributed=true이고 Lettuce Redis가 있으면 Bucket4j proxy로 Redis에 버킷 상태를 두어 노드 간 공유한다.
+ * Redis 호출은 서킷 브레이커(CircuitBreaker, app.rate-limit.circuit)를 거친다. 호출이 실패하거나 서킷이 열린 동안은
+ * 노드 로컬 버킷으로 판정해, Redis 장애 시 요청마다 Lettuce 타임아웃을 기다리지 않는다.
+ * 지표: rate.limit.circuit.state, rate.limit.circuit.transitions{to}.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+    private static final String METRIC_PREFIX = "rate.limit.circuit";
+    /** Redis 버킷이 가득 찬 뒤 보관할 시간. 이후 키 만료 (다음 요청 시 가득 찬 버킷으로 재생성). */
+    private static final Duration REDIS_KEEP_AFTER_REFILL = Duration.ofSeconds(10);
+
+    private final Cache<String, Bucket> localBuckets;
+    private final ProxyManager<byte[]> proxyManager;
+    private final CircuitBreaker circuitBreaker;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties props, ObjectProvider<RedisConnectionFactory> connectionFactory,
+                       ObjectProvider<MeterRegistry> meterRegistry) {
+        this(props, props.isDistributed() ? createProxyManager(connectionFactory.getIfAvailable()) : null,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new), Ticker.systemTicker());
+    }
+
+    /**
+     * @param proxyManager Redis 버킷. null이면 노드 로컬 버킷만 사용
+     * @param ticker       버킷 유휴 만료·서킷 대기 시각 (ns)
+     */
+    RateLimiter(RateLimitProperties props, ProxyManager<byte[]> proxyManager, MeterRegistry meterRegistry,
+                Ticker ticker) {
+        Duration idle = props.getPolicies().stream()
+                .map(policy -> Duration.ofMinutes(policy.getPeriodMinutes()))
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(props.getMaxBuckets())
+                .expireAfterAccess(idle)
+                .ticker(ticker)
+                .build();
+        this.proxyManager = proxyManager;
+        RateLimitProperties.Circuit circuit = props.getCircuit();
+        this.circuitBreaker = new CircuitBreaker("redis-rate-limit", circuit.getFailureRateThreshold(),
+                circuit.getWindowSize(), circuit.getMinimumCalls(), circuit.getOpenSeconds() * 1000L,
+                () -> TimeUnit.NANOSECONDS.toMillis(ticker.read()), meterRegistry, METRIC_PREFIX);
+    }
+
+    /**
+     * 정책·클라이언트 버킷에서 1건 소비 시도.
+     */
+    public ConsumptionProbe tryConsume(RateLimitProperties.Policy policy, String clientKey) {
+        String key = KEY_PREFIX + policy.getName() + ":" + clientKey;
+        if (proxyManager != null && circuitBreaker.tryAcquire()) {
+            try {
+                ConsumptionProbe probe = proxyManager.builder()
+                        .build(key.getBytes(StandardCharsets.UTF_8), () -> configurationOf(policy))
+                        .tryConsumeAndReturnRemaining(1);
+                circuitBreaker.onSuccess();
+                return probe;
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure();
+                log.warn("Redis rate limit 실패, 노드 로컬 버킷 사용: policy={}, error={}",
+                        policy.getName(), e.getMessage());
+            }
+        }
+        return localBuckets.get(key, k -> Bucket.builder().addLimit(bandwidthOf(policy)).build())
+                .tryConsumeAndReturnRemaining(1);
+    }
+
+    private static ProxyManager<byte[]> createProxyManager(RedisConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof LettuceConnectionFactory lettuce
+                && lettuce.getNativeClient() instanceof RedisClient redisClient) {
+            log.info("Rate limit 버킷 Redis 공유 사용");
+            return LettuceBasedProxyManager.builderFor(redisClient)
+                    .withExpirationStrategy(ExpirationAfterWriteStrategy
+                            .basedOnTimeForRefillingBucketUpToMax(REDIS_KEEP_AFTER_REFILL))
+                    .build();
+        }
+        log.warn("Rate limit Redis 공유 불가 (Lettuce 단일 노드 Redis 미설정): 노드 로컬 버킷 사용");
+        return null;
+    }
+
+    private static BucketConfiguration configurationOf(RateLimitProperties.Policy policy) {
+        return BucketConfiguration.builder().addLimit(bandwidthOf(policy)).build();
+    }
+
+    private static Bandwidth bandwidthOf(RateLimitProperties.Policy policy) {
+        return Bandwidth.simple(policy.getCapacity(), Duration.ofMinutes(policy.getPeriodMinutes()));
+    }
+}
@@ -4,8 +4,8 @@ import java.util.Optional;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.sns.config.JwtProperties;
 import com.example.sns.domain.User;
@@ -17,8 +17,12 @@ import com.example.sns.exception.ErrorCode;
 import com.example.sns.domain.LoginLog;
 import com.example.sns.repository.LoginLogRepository;
 import com.example.sns.repository.UserRepository;
+import com.example.sns.security.AuthPrincipal;
 import com.example.sns.service.auth.JwtService;
+import com.example.sns.service.auth.PasswordHasher;
 import com.example.sns.service.auth.TokenStore;
+import com.example.sns.service.cache.TokenVersionCache;
+import com.example.sns.service.cache.UserCache;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
@@ -29,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
  * 인증 서비스 — 로그인·토큰 갱신·로그아웃.
  *
  * RULE 6.1~6.5: JWT, Refresh Token Redis, 블랙리스트.
+ * 전체 세션 철회: 회원 토큰 세대(token_version) 증가로 이전 Access·Refresh Token을 한 번에 무효화.
  */
 @Slf4j
 @Service
@@ -37,17 +42,19 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final LoginLogRepository loginLogRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
     private final JwtProperties jwtProperties;
     private final TokenStore tokenStore;
+    private final UserCache userCache;
+    private final TokenVersionCache tokenVersionCache;
 
     /**
      * 로그인: 이메일·비밀번호 검증 후 Access Token + Refresh Token 발급.
      *
      * @param request 로그인 요청
      * @return LoginResponse (accessToken, expiresIn) + Refresh Token은 쿠키로 설정
-     * @throws BusinessException 인증 실패 시 INVALID_CREDENTIALS (401)
+     * @throws BusinessException 인증 실패 시 INVALID_CREDENTIALS (401), 해시 대기열 초과 시 SERVICE_UNAVAILABLE (503)
      */
     public LoginResult login(LoginRequest request) {
         User user = userRepository.findByEmail(request.email())
@@ -56,7 +63,7 @@ public class AuthService {
                     return new BusinessException(ErrorCode.INVALID_CREDENTIALS);
                 });
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(request.password(), user.getPasswordHash())) {
             log.warn("로그인 실패: 비밀번호 불일치, email={}", request.email());
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
@@ -64,8 +71,8 @@ public class AuthService {
         var accessResult = jwtService.createAccessToken(user);
         String refreshJti = jwtService.createRefreshTokenJti();
         long refreshTtlSeconds = (long) jwtProperties.getRefreshTtlDays() * 24 * 60 * 60;
-        String refreshPayload = user.getId() + ":" + user.getRole().name();
-        tokenStore.saveRefreshToken(refreshJti, refreshPayload, refreshTtlSeconds);
+        String refreshPayload = user.getId() + ":" + user.getRole().name() + ":" + user.getTokenVersion();
+        tokenStore.saveRefreshToken(refreshJti, user.getId(), refreshPayload, refreshTtlSeconds);
 
         loginLogRepository.save(LoginLog.of(user));
 
@@ -97,7 +104,7 @@ public class AuthService {
 
         String payload = payloadOpt.get();
         String[] parts = payload.split(":");
-        if (parts.length != 2) {
+        if (parts.length != 2 && parts.length != 3) {
             log.warn("토큰 갱신 실패: payload 형식 오류");
             throw new BusinessException(ErrorCode.UNAUTHORIZED, "유효하지 않은 Refresh Token입니다.");
         }
@@ -106,6 +113,14 @@ public class AuthService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED, "회원을 찾을 수 없습니다."));
 
+        // 토큰 세대 도입 전 payload(userId:role)는 0세대
+        int tokenVersion = parts.length == 3 ? Integer.parseInt(parts[2]) : 0;
+        if (tokenVersion != user.getTokenVersion()) {
+            log.warn("토큰 갱신 실패: 철회된 세션, userId={}", userId);
+            tokenStore.deleteRefreshToken(refreshToken);
+            throw new BusinessException(ErrorCode.UNAUTHORIZED, "유효하지 않은 Refresh Token입니다.");
+        }
+
         var accessResult = jwtService.createAccessToken(user);
         log.info("토큰 갱신 성공: userId={}", userId);
         return LoginResponse.of(accessResult.token(), accessResult.expiresInSeconds());
@@ -136,6 +151,36 @@ public class AuthService {
         log.info("로그아웃 완료");
     }
 
+    /**
+     * 전체 세션 철회: 토큰 세대 증가, 세대 캐시 무효화, 회원의 Refresh Token 일괄 삭제.
+     * 이미 발급된 Access Token은 다음 요청부터 인증되지 않는다 (다른 노드는 무효화 버스 전파 후).
+     *
+     * @param userId 회원 ID
+     * @throws BusinessException 회원이 없으면 NOT_FOUND
+     */
+    @Transactional
+    public void revokeAllSessions(Long userId) {
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "회원을 찾을 수 없습니다.");
+        }
+        tokenVersionCache.evict(userId);
+        userCache.evict(userId);
+        tokenStore.revokeAllRefreshTokens(userId);
+        log.info("전체 세션 철회: userId={}", userId);
+    }
+
+    /**
+     * 현재 사용자의 전체 세션 철회 (모든 기기 로그아웃).
+     *
+     * @throws BusinessException 비로그인 시 UNAUTHORIZED
+     */
+    @Transactional
+    public void logoutAll() {
+        User user = getCurrentUserEntity()
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED));
+        revokeAllSessions(user.getId());
+    }
+
     /**
      * 현재 인증된 사용자 조회.
      */
@@ -145,6 +190,7 @@ public class AuthService {
 
     /**
      * 현재 인증된 User 엔티티 조회. (게시글 작성·수정·삭제 등에서 사용)
+     * UserCache 경유. 탈퇴·삭제된 회원이면 empty.
      */
     public Optional<User> getCurrentUserEntity() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -152,8 +198,11 @@ public class AuthService {
             return Optional.empty();
         }
         Object principal = auth.getPrincipal();
+        if (principal instanceof AuthPrincipal authPrincipal) {
+            return userCache.get(authPrincipal.userId());
+        }
         if (principal instanceof User user) {
-            return userRepository.findById(user.getId());
+            return userCache.get(user.getId());
         }
         return Optional.empty();
     }
@@ -1,17 +1,27 @@
 package com.example.sns.service;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.sns.config.UploadProperties;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.image.StoredImage;
+import com.example.sns.service.storage.BlobKeyLock;
+import com.example.sns.service.storage.BlobStore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,85 +30,127 @@ import lombok.extern.slf4j.Slf4j;
  * 파일 저장 서비스.
  *
  * RULE 1.3: 파일 타입·크기 검증, 경로 traversal 방지.
- * Step 9: Multipart 검증·저장.
+ * Step 9: Multipart 검증·저장. 저장 위치는 BlobStore (app.storage.type: local·s3).
+ * 내용 주소 저장(app.upload.content-addressed): 같은 이미지는 한 파일을 여러 게시글이 공유한다.
+ * 삭제는 참조하는 게시글이 없을 때만 ImageBlobCollector가 한다 (doc/ERD.md 컬럼/정책 메모). 롤백 시 정리도 마찬가지.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileStorageService {
 
+    /** 업로드 임시 키 접두어 (로컬이면 basePath 아래라 최종 위치와 같은 파일시스템, 원자적 이동 가능). */
+    private static final String TEMP_DIR = ".upload-tmp";
+
     private final UploadProperties uploadProperties;
+    private final BlobStore blobStore;
+    private final BlobKeyLock blobKeyLock;
 
     /**
-     * 이미지 파일 검증 후 저장하고, 저장 경로(상대) 반환.
+     * 이미지 파일 검증 후 저장하고, 저장 정보 반환.
+     * 업로드 스트림을 저장소의 임시 키로 바로 보내면서 SHA-256을 함께 계산하고(메모리에 모으거나 다시 읽지 않음),
+     * 커밋 전에 최종 키로 옮긴다. 옮기지 못하면 예외로 트랜잭션을 롤백시켜, 없는 파일을 가리키는 게시글이 커밋되지 않는다.
+     * 내용 주소 모드면 같은 내용은 같은 키가 되어, 이미 있으면 임시 객체를 버린다 (중복 제거, 같은 키 쓰기는 멱등).
+     * 롤백되면 호출 측이 발행한 ImageStoredEvent로 ImageBlobCollector가 참조 없는 파일을 지운다.
      *
      * @param file 업로드된 파일
      * @param subDir 저장 서브디렉터리 (예: image-posts)
-     * @return DB에 저장할 경로 문자열 (basePath 내 상대 경로)
+     * @return DB에 저장할 경로(저장소 키)·MIME 타입·내용 해시
      */
-    public String storeImage(MultipartFile file, String subDir) {
+    public StoredImage storeImage(MultipartFile file, String subDir) {
         validateImageFile(file);
-
-        Path basePath = Paths.get(uploadProperties.basePath()).toAbsolutePath().normalize();
-        Path subPath = sanitizePathSegment(subDir);
-        Path targetDir = basePath.resolve(subPath);
-
-        try {
-            Files.createDirectories(targetDir);
+        try (InputStream in = file.getInputStream()) {
+            return store(in, file.getSize(), file.getContentType(), file.getOriginalFilename(), subDir);
         } catch (IOException e) {
-            log.error("업로드 디렉터리 생성 실패: basePath={}", basePath);
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 디렉터리를 생성할 수 없습니다.");
+            log.error("업로드 파일 읽기 실패: subDir={}", subDir);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장에 실패했습니다.");
         }
+    }
 
-        String safeFilename = generateSafeFilename(file.getOriginalFilename());
-        Path targetFile = targetDir.resolve(safeFilename);
+    /**
+     * 스트림으로 받은 이미지 저장 (이어 올리기 완료 시 청크를 이어 붙인 스트림). storeImage(MultipartFile)과 같은 검증·저장 규칙.
+     * UUID 모드 확장자는 MIME 타입에서 정한다.
+     *
+     * @param in          이미지 내용 (다 읽은 뒤 닫는다)
+     * @param size        바이트 수
+     * @param contentType MIME 타입
+     * @param subDir      저장 서브디렉터리 (예: image-posts)
+     */
+    public StoredImage storeImage(InputStream in, long size, String contentType, String subDir) {
+        if (size <= 0) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "이미지 파일이 필요합니다.");
+        }
+        validateImage(contentType, size);
+        return store(in, size, contentType, null, subDir);
+    }
 
-        // 경로 traversal 방지: targetFile이 targetDir 내에 있는지 검증
-        if (!targetFile.normalize().startsWith(targetDir.normalize())) {
-            log.warn("경로 traversal 시도 차단: originalFilename={}", sanitizeForLog(file.getOriginalFilename()));
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "잘못된 파일 경로입니다.");
+    /**
+     * MIME 타입·크기 검증 (app.upload.allowed-mime-types, max-file-size-bytes). 이어 올리기는 세션 생성 시 미리 검증한다.
+     */
+    public void validateImage(String contentType, long size) {
+        if (contentType == null || !uploadProperties.allowedMimeTypes().contains(contentType)) {
+            log.warn("허용되지 않는 MIME 타입: contentType={}", contentType);
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
         }
 
-        try {
-            file.transferTo(targetFile.toFile());
-        } catch (IOException e) {
-            log.error("파일 저장 실패: subDir={}, filename={}", subDir, sanitizeForLog(safeFilename));
+        if (size > uploadProperties.maxFileSizeBytes()) {
+            log.warn("파일 크기 초과: size={}, max={}", size, uploadProperties.maxFileSizeBytes());
+            throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+        }
+    }
+
+    private StoredImage store(InputStream source, long size, String contentType, String originalFilename,
+                              String subDir) {
+        Path subPath = sanitizePathSegment(subDir);
+        String tempKey = TEMP_DIR + "/" + UUID.randomUUID() + ".part";
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(source, digest)) {
+            blobStore.write(tempKey, in, size, contentType);
+        } catch (IOException | UncheckedIOException e) {
+            deleteQuietly(tempKey);
+            log.error("파일 저장 실패: subDir={}", subDir);
             throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장에 실패했습니다.");
         }
+        String sha256 = HexFormat.of().formatHex(digest.digest());
 
-        // DB에는 basePath 기준 상대 경로 저장 (이식성)
-        String relativePath = subPath.resolve(safeFilename).toString().replace('\\', '/');
+        // DB에는 저장소 기준 상대 경로(키) 저장 (이식성). LocalBlobStore가 traversal을 한 번 더 막는다.
+        String relativePath = subPath.resolve(storedFilename(originalFilename, contentType, sha256)).toString()
+                .replace('\\', '/');
+        BlobKeyLock.Lease lease;
+        try {
+            lease = blobKeyLock.acquireForWrite(relativePath);
+        } catch (BusinessException e) {
+            deleteQuietly(tempKey);
+            throw e;
+        }
+        try {
+            place(tempKey, relativePath);
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
+        releaseAfterCompletion(lease);
         log.info("이미지 저장 완료: subDir={}, storedPath={}", subDir, relativePath);
-        return relativePath;
+        return new StoredImage(relativePath, contentType, sha256);
     }
 
     /**
-     * 저장된 파일의 전체 경로 반환.
+     * 같은 저장 경로에 대한 작업을 직렬화한다 (BlobKeyLock, app.storage.lock.distributed면 노드 간).
+     * 업로드는 배치부터 트랜잭션 종료까지 잠금을 잡으므로, ImageBlobCollector가 참조 확인 후 삭제할 때
+     * 다른 노드에서 커밋 중인 새 참조를 놓쳐 방금 배치한 파일을 지우지 않는다.
+     * 잠금을 얻지 못하면 FILE_UPLOAD_FAILED.
      */
-    public Path resolveStoredPath(String relativePath) {
-        if (relativePath == null || relativePath.contains("..")) {
-            log.warn("저장 경로 traversal 시도 차단: relativePath={}", sanitizeForLog(relativePath));
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "잘못된 파일 경로입니다.");
-        }
-        Path base = Paths.get(uploadProperties.basePath()).toAbsolutePath().normalize();
-        Path resolved = base.resolve(relativePath.replace('\\', '/')).normalize();
-        if (!resolved.startsWith(base)) {
-            log.warn("저장 경로 traversal 시도 차단: relativePath={}", sanitizeForLog(relativePath));
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "잘못된 파일 경로입니다.");
-        }
-        return resolved;
+    public void withPathLock(String relativePath, Runnable action) {
+        blobKeyLock.withLock(relativePath, action);
     }
 
     /**
      * 파일이 존재하면 삭제.
      */
     public void deleteIfExists(String relativePath) {
-        Path path = resolveStoredPath(relativePath);
         try {
-            if (Files.exists(path)) {
-                Files.delete(path);
-                log.info("저장 파일 삭제: path={}", sanitizeForLog(relativePath));
-            }
+            blobStore.delete(relativePath);
+            log.info("저장 파일 삭제: path={}", sanitizeForLog(relativePath));
         } catch (IOException e) {
             log.warn("파일 삭제 실패(무시): path={}", sanitizeForLog(relativePath), e);
         }
@@ -108,16 +160,80 @@ public class FileStorageService {
         if (file == null || file.isEmpty()) {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "이미지 파일이 필요합니다.");
         }
+        validateImage(file.getContentType(), file.getSize());
+    }
 
-        String contentType = file.getContentType();
-        if (contentType == null || !uploadProperties.allowedMimeTypes().contains(contentType)) {
-            log.warn("허용되지 않는 MIME 타입: contentType={}", contentType);
-            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+    /**
+     * 내용 주소 모드: {ab}/{cd}/{sha256}{확장자} (디렉터리당 파일 수 분산). 확장자는 검증한 MIME 타입에서 정해
+     * 원본 파일명과 관계없이 같은 내용이면 같은 이름이 된다. 아니면 UUID (원본 파일명이 없으면 MIME 타입 확장자).
+     */
+    private String storedFilename(String originalFilename, String contentType, String sha256) {
+        if (!uploadProperties.contentAddressed()) {
+            return originalFilename != null
+                    ? generateSafeFilename(originalFilename)
+                    : UUID.randomUUID() + extensionOf(contentType);
         }
+        return sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256 + extensionOf(contentType);
+    }
 
-        if (file.getSize() > uploadProperties.maxFileSizeBytes()) {
-            log.warn("파일 크기 초과: size={}, max={}", file.getSize(), uploadProperties.maxFileSizeBytes());
-            throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+    private static String extensionOf(String contentType) {
+        return switch (contentType) {
+            case "image/jpeg" -> ".jpg";
+            case "image/png" -> ".png";
+            case "image/gif" -> ".gif";
+            case "image/webp" -> ".webp";
+            default -> "";
+        };
+    }
+
+    /**
+     * 임시 객체를 최종 키로 옮긴다. 최종 객체가 이미 있으면(같은 내용) 임시 객체를 지운다.
+     * 실패하면 FILE_UPLOAD_FAILED로 요청(트랜잭션)을 실패시킨다. 참조가 커밋되지 않으므로 임시 객체는 지워도 된다.
+     */
+    private void place(String tempKey, String relativePath) {
+        try {
+            if (blobStore.exists(relativePath)) {
+                deleteQuietly(tempKey);
+                log.info("같은 내용의 이미지가 있어 기존 파일 사용: storedPath={}", relativePath);
+                return;
+            }
+            blobStore.move(tempKey, relativePath);
+        } catch (IOException | BusinessException e) {
+            log.error("업로드 파일 이동 실패: storedPath={}", relativePath, e);
+            deleteQuietly(tempKey);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 트랜잭션이 끝날 때(커밋·롤백) 경로 잠금 해제. 트랜잭션 밖이면 바로 해제한다.
+     */
+    private void releaseAfterCompletion(BlobKeyLock.Lease lease) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lease.close();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lease.close();
+            }
+        });
+    }
+
+    private void deleteQuietly(String tempKey) {
+        try {
+            blobStore.delete(tempKey);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패(무시): key={}", tempKey);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 JVM", e);
         }
     }
 
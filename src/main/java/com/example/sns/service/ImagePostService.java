@@ -1,10 +1,11 @@
 package com.example.sns.service;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Function;
 
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,11 +16,29 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.example.sns.domain.ImagePost;
 import com.example.sns.domain.User;
+import com.example.sns.dto.response.CursorSlice;
 import com.example.sns.dto.response.ImagePostResponse;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.example.sns.repository.ImagePostRepository;
 import com.example.sns.repository.PinRepository;
+import com.example.sns.service.cache.DetailCache;
+import com.example.sns.service.cache.ImageFileCache;
+import com.example.sns.service.cache.LocationTileCache;
+import com.example.sns.service.geo.GeoLayer;
+import com.example.sns.service.geo.GeoPointEvent;
+import com.example.sns.service.geo.GeoSearchService;
+import com.example.sns.service.image.ImageFile;
+import com.example.sns.service.image.ImageReleasedEvent;
+import com.example.sns.service.image.ImageStoredEvent;
+import com.example.sns.service.image.ImageVariantService;
+import com.example.sns.service.image.StoredImage;
+import com.example.sns.service.search.SearchDocumentEvent;
+import com.example.sns.service.search.SearchLayer;
+import com.example.sns.service.search.SearchService;
+import com.example.sns.service.upload.ResumableUploadService;
+import com.example.sns.utils.cursor.NoticeCursor;
+import com.example.sns.utils.haversine.BoundingBox;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +49,11 @@ import lombok.extern.slf4j.Slf4j;
  * RULE 2.3: 트랜잭션 경계 Service 계층.
  * RULE 3.5.7: @Transactional Service 계층에만.
  * RULE 1.2: IDOR 방지 - 수정·삭제 시 소유권 검증.
- * Step 9: Multipart 업로드·파일 저장·ImagePost CRUD.
+ * 작성·수정·삭제 시 GeoPointEvent 발행 → 커밋 후 공간 인덱스·타일 캐시 갱신 (수정은 위치 변경 없음).
+ * Step 9: Multipart 업로드·파일 저장·ImagePost CRUD. 큰 이미지는 이어 올리기(ResumableUploadService) 후 uploadId로 작성.
+ * 이미지 저장 시 ImageStoredEvent 발행 → 커밋 후 축소본 생성, 롤백 시 참조 없는 파일 삭제. 조회 시 size로 축소본 선택.
+ * 삭제·이미지 교체 시 ImageReleasedEvent 발행 → 커밋 후 참조하는 게시글이 없으면 파일 삭제 (내용 주소 저장은 파일 공유).
+ * 이미지 파일 조회는 ImageFileCache(저장 경로·MIME 타입·내용 해시)로 엔티티를 읽지 않는다.
  */
 @Slf4j
 @Service
@@ -41,7 +64,15 @@ public class ImagePostService {
 
     private final ImagePostRepository imagePostRepository;
     private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final ResumableUploadService resumableUploadService;
     private final PinRepository pinRepository;
+    private final GeoSearchService geoSearchService;
+    private final SearchService searchService;
+    private final DetailCache<ImagePostResponse> imagePostDetailCache;
+    private final ImageFileCache imageFileCache;
+    private final LocationTileCache<ImagePostResponse> imagePostTileCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String STORAGE_SUB_DIR = "image-posts";
 
@@ -53,12 +84,37 @@ public class ImagePostService {
     /**
      * 이미지 게시글 목록 조회 (페이징·검색). 비로그인 허용.
      * Step 16: 공지 상단 노출.
+     * 키워드가 있으면 검색 인덱스(n-gram·FULLTEXT)로 관련도순 조회, 인덱스로 처리할 수 없으면 LIKE (공지 우선, 최신순).
      */
     @Transactional(readOnly = true)
     public Page<ImagePostResponse> getList(String keyword, Pageable pageable) {
         Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), NOTICE_FIRST_SORT);
-        return imagePostRepository.findAllByKeyword(keyword, sorted)
-                .map(ImagePostResponse::from);
+        if (keyword == null || keyword.isBlank()) {
+            return imagePostRepository.findResponses(null, sorted);
+        }
+        String trimmed = keyword.trim();
+        return searchService.findPage(SearchLayer.IMAGE_POST, trimmed, pageable,
+                        imagePostRepository::findResponsesByIdIn, ImagePostResponse::id)
+                .orElseGet(() -> imagePostRepository.findResponses(trimmed, sorted));
+    }
+
+    /**
+     * 이미지 게시글 목록 커서 조회 (무한 스크롤). 비로그인 허용.
+     * getList와 동일한 정렬(공지 우선, 최신순)이며 (notice, createdAt, id) keyset으로 다음 페이지만 조회한다.
+     * 깊은 페이지에서도 비용이 일정하고 COUNT 쿼리가 없다.
+     *
+     * @param keyword 검색어 (선택)
+     * @param cursor  이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size    페이지 크기 (최대 CursorSlice.MAX_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ImagePostResponse> getSlice(String keyword, String cursor, int size) {
+        String trimmed = keyword == null || keyword.isBlank() ? null : keyword.trim();
+        return CursorSlice.fetch(NoticeCursor.decode(cursor), size,
+                (notice, after, pageable) -> imagePostRepository.findResponsesNoticeSegmentAfter(notice, trimmed,
+                        after.createdAt(), after.id(), pageable),
+                Function.identity(),
+                imagePost -> new NoticeCursor(imagePost.notice(), imagePost.createdAt(), imagePost.id()));
     }
 
     /**
@@ -72,11 +128,13 @@ public class ImagePostService {
 
     /**
      * 이미지 게시글 상세 조회. 비로그인 허용.
+     * 상세 캐시(L1 Caffeine → L2 Redis) 우선, miss 시 응답 DTO projection 1회 조회. 수정·삭제·공지 설정 시 무효화.
      */
     @Transactional(readOnly = true)
     public ImagePostResponse getById(Long id) {
-        ImagePost post = findById(id);
-        return ImagePostResponse.from(post);
+        return imagePostDetailCache.get(id, () -> imagePostRepository.findResponsesByIdIn(List.of(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, MSG_IMAGE_POST_NOT_FOUND)));
     }
 
     /**
@@ -85,19 +143,45 @@ public class ImagePostService {
     @Transactional
     public ImagePostResponse create(String title, String content, MultipartFile image,
                                     Double latitude, Double longitude, Long pinId, User author) {
-        String storedPath = fileStorageService.storeImage(image, STORAGE_SUB_DIR);
+        StoredImage stored = fileStorageService.storeImage(image, STORAGE_SUB_DIR);
+        return save(stored, title, content, latitude, longitude, pinId, author);
+    }
+
+    /**
+     * 이어 올리기 업로드로 이미지 게시글 작성. 로그인 필수, 업로드 세션을 만든 회원만.
+     * 롤백되면 업로드 세션이 되살아나 같은 uploadId로 다시 작성할 수 있다.
+     *
+     * @param uploadId 완료된 업로드 세션 ID (POST /api/image-uploads)
+     */
+    @Transactional
+    public ImagePostResponse createFromUpload(String uploadId, String title, String content,
+                                              Double latitude, Double longitude, Long pinId, User author) {
+        StoredImage stored = resumableUploadService.finish(uploadId, author.getId(), STORAGE_SUB_DIR);
+        return save(stored, title, content, latitude, longitude, pinId, author);
+    }
+
+    private ImagePostResponse save(StoredImage stored, String title, String content,
+                                   Double latitude, Double longitude, Long pinId, User author) {
+        // 파일은 이미 배치됨: 이후 실패로 롤백되면 ImageBlobCollector가 참조 없는 파일을 지우도록 먼저 발행
+        eventPublisher.publishEvent(new ImageStoredEvent(stored.path()));
         var pin = pinId != null ? pinRepository.findById(pinId).orElse(null) : null;
 
         ImagePost post = ImagePost.builder()
                 .author(author)
                 .title(title)
                 .content(content)
-                .imageStoragePath(storedPath)
+                .imageStoragePath(stored.path())
+                .imageContentType(stored.contentType())
+                .imageSha256(stored.sha256())
                 .latitude(latitude)
                 .longitude(longitude)
                 .pin(pin)
                 .build();
         ImagePost saved = imagePostRepository.save(post);
+        eventPublisher.publishEvent(
+                GeoPointEvent.saved(GeoLayer.IMAGE_POST, saved.getId(), saved.getLatitude(), saved.getLongitude()));
+        eventPublisher.publishEvent(
+                SearchDocumentEvent.saved(SearchLayer.IMAGE_POST, saved.getId(), saved.getTitle(), saved.getContent()));
         log.info("이미지 게시글 작성: imagePostId={}, authorId={}", saved.getId(), author.getId());
         return ImagePostResponse.from(saved);
     }
@@ -114,17 +198,16 @@ public class ImagePostService {
             throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 게시글만 수정할 수 있습니다.");
         }
 
-        String newPath = post.getImageStoragePath();
-        if (image != null && !image.isEmpty()) {
-            fileStorageService.deleteIfExists(post.getImageStoragePath());
-            newPath = fileStorageService.storeImage(image, STORAGE_SUB_DIR);
-        }
-        post.update(title, content, newPath);
+        replaceImageIfPresent(post, image);
+        post.update(title, content);
+        eventPublisher.publishEvent(GeoPointEvent.updated(GeoLayer.IMAGE_POST, id, post.getLatitude(), post.getLongitude()));
+        imagePostDetailCache.evict(id);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(SearchLayer.IMAGE_POST, id, post.getTitle(), post.getContent()));
         return ImagePostResponse.from(post);
     }
 
     /**
-     * 이미지 게시글 삭제. 작성자만. 저장된 파일도 삭제.
+     * 이미지 게시글 삭제. 작성자만. 저장된 파일은 커밋 후 다른 게시글이 참조하지 않으면 삭제.
      */
     @Transactional
     public void delete(Long id, User currentUser) {
@@ -133,32 +216,33 @@ public class ImagePostService {
             log.warn("이미지 게시글 삭제 IDOR 시도: imagePostId={}, userId={}", id, currentUser.getId());
             throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 게시글만 삭제할 수 있습니다.");
         }
-        fileStorageService.deleteIfExists(post.getImageStoragePath());
         imagePostRepository.delete(post);
+        eventPublisher.publishEvent(new ImageReleasedEvent(post.getImageStoragePath()));
+        eventPublisher.publishEvent(GeoPointEvent.deleted(GeoLayer.IMAGE_POST, id, post.getLatitude(), post.getLongitude()));
+        imagePostDetailCache.evict(id);
+        imageFileCache.evict(id);
+        eventPublisher.publishEvent(SearchDocumentEvent.deleted(SearchLayer.IMAGE_POST, id));
         log.info("이미지 게시글 삭제: imagePostId={}, authorId={}", id, currentUser.getId());
     }
 
     /**
-     * 이미지 파일 리소스 반환. 상세 조회용.
+     * 응답할 이미지 파일. 저장 정보는 ImageFileCache에서 읽고, 파일 속성은 한 번만 읽는다.
+     * 캐시 hit 시 DB 커넥션을 잡지 않도록 트랜잭션을 열지 않는다.
+     *
+     * @param id    이미지 게시글 ID
+     * @param width 요청 너비(px). 이상인 가장 작은 축소본, 없거나 아직 생성 전이면 원본. null이면 원본
      */
-    @Transactional(readOnly = true)
-    public Resource getImageResource(Long id) {
-        ImagePost post = findById(id);
-        Path path = fileStorageService.resolveStoredPath(post.getImageStoragePath());
-        if (!Files.exists(path)) {
-            log.warn("저장된 이미지 파일 없음: imagePostId={}", id);
-            throw new BusinessException(ErrorCode.NOT_FOUND, "이미지 파일을 찾을 수 없습니다.");
-        }
-        try {
-            Resource resource = new UrlResource(path.toUri());
-            if (!resource.isReadable()) {
-                throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "이미지를 읽을 수 없습니다.");
-            }
-            return resource;
-        } catch (Exception e) {
-            log.error("이미지 리소스 로드 실패: imagePostId={}", id, e);
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "이미지를 불러올 수 없습니다.");
-        }
+    public ImageFile getImageFile(Long id, Integer width) {
+        StoredImage image = imageFileCache.get(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, MSG_IMAGE_POST_NOT_FOUND));
+        return imageVariantService.resolve(image, width);
+    }
+
+    /**
+     * getImageFile로 얻은 파일의 본문 구간. 원격 저장소(S3 등)에서 응답으로 스트리밍할 때 쓴다.
+     */
+    public InputStream openImage(ImageFile file, long offset, long length) throws IOException {
+        return imageVariantService.open(file, offset, length);
     }
 
     /**
@@ -166,13 +250,13 @@ public class ImagePostService {
      */
     @Transactional(readOnly = true)
     public Page<ImagePostResponse> getByPinId(Long pinId, Pageable pageable) {
-        return imagePostRepository.findByPin_Id(pinId, pageable)
-                .map(ImagePostResponse::from);
+        return imagePostRepository.findResponsesByPinId(pinId, pageable);
     }
 
     /**
      * 반경(km) 내 이미지 게시글 조회. 비로그인 가능.
      * Step 11: 위도·경도가 있는 이미지 게시글만 반환.
+     * 위치 타일 캐시(L1 Caffeine → L2 Redis) 우선. 캐시 미적용 시 공간 인덱스 후보 id로 거리순 조회, 아니면 SQL fallback.
      *
      * @param lat      중심 위도
      * @param lng      중심 경도
@@ -183,8 +267,25 @@ public class ImagePostService {
     @Transactional(readOnly = true)
     public Page<ImagePostResponse> getNearby(double lat, double lng, double radiusKm, Pageable pageable) {
         log.debug("반경 내 이미지 게시글 조회: lat={}, lng={}, radiusKm={}", lat, lng, radiusKm);
-        return imagePostRepository.findWithinRadius(radiusKm, lat, lng, pageable)
-                .map(ImagePostResponse::from);
+        return imagePostTileCache.findWithinRadius(lat, lng, radiusKm, pageable, this::loadTile)
+                .orElseGet(() -> findNearbyUncached(lat, lng, radiusKm, pageable));
+    }
+
+    /**
+     * 타일 캐시 미스 시 사각 범위 내 이미지 게시글 적재 (응답 DTO projection).
+     */
+    private List<ImagePostResponse> loadTile(BoundingBox box, int limit) {
+        return imagePostRepository.findResponsesWithinBoundingBox(box.minLat(), box.maxLat(), box.minLng(),
+                box.maxLng(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 캐시 미적용 반경 조회: 공간 인덱스 후보 id → 응답 DTO projection 조회, 인덱스 사용 불가 시 Haversine JPQL projection.
+     */
+    private Page<ImagePostResponse> findNearbyUncached(double lat, double lng, double radiusKm, Pageable pageable) {
+        return geoSearchService.findWithinRadius(GeoLayer.IMAGE_POST, lat, lng, radiusKm, pageable,
+                        imagePostRepository::findResponsesByIdIn, ImagePostResponse::id)
+                .orElseGet(() -> imagePostRepository.findResponsesWithinRadius(radiusKm, lat, lng, pageable));
     }
 
     /**
@@ -192,8 +293,21 @@ public class ImagePostService {
      */
     @Transactional(readOnly = true)
     public Page<ImagePostResponse> getListByAuthor(User author, Pageable pageable) {
-        return imagePostRepository.findByAuthor(author, pageable)
-                .map(ImagePostResponse::from);
+        return imagePostRepository.findResponsesByAuthorId(author.getId(), pageable);
+    }
+
+    /**
+     * image가 있으면 새 이미지로 교체. 커밋 후 축소본 생성, 기존 이미지는 다른 게시글이 참조하지 않으면 삭제.
+     */
+    private void replaceImageIfPresent(ImagePost post, MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new ImageReleasedEvent(post.getImageStoragePath()));
+        StoredImage stored = fileStorageService.storeImage(image, STORAGE_SUB_DIR);
+        eventPublisher.publishEvent(new ImageStoredEvent(stored.path()));
+        post.replaceImage(stored.path(), stored.contentType(), stored.sha256());
+        imageFileCache.evict(post.getId());
     }
 
     private ImagePost findById(Long id) {
@@ -207,12 +321,11 @@ public class ImagePostService {
     @Transactional
     public ImagePostResponse updateByAdmin(Long id, String title, String content, MultipartFile image) {
         ImagePost post = findById(id);
-        String newPath = post.getImageStoragePath();
-        if (image != null && !image.isEmpty()) {
-            fileStorageService.deleteIfExists(post.getImageStoragePath());
-            newPath = fileStorageService.storeImage(image, STORAGE_SUB_DIR);
-        }
-        post.update(title, content, newPath);
+        replaceImageIfPresent(post, image);
+        post.update(title, content);
+        eventPublisher.publishEvent(GeoPointEvent.updated(GeoLayer.IMAGE_POST, id, post.getLatitude(), post.getLongitude()));
+        imagePostDetailCache.evict(id);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(SearchLayer.IMAGE_POST, id, post.getTitle(), post.getContent()));
         log.info("관리자 이미지 게시글 수정: imagePostId={}", id);
         return ImagePostResponse.from(post);
     }
@@ -223,8 +336,12 @@ public class ImagePostService {
     @Transactional
     public void deleteByAdmin(Long id) {
         ImagePost post = findById(id);
-        fileStorageService.deleteIfExists(post.getImageStoragePath());
         imagePostRepository.delete(post);
+        eventPublisher.publishEvent(new ImageReleasedEvent(post.getImageStoragePath()));
+        eventPublisher.publishEvent(GeoPointEvent.deleted(GeoLayer.IMAGE_POST, id, post.getLatitude(), post.getLongitude()));
+        imagePostDetailCache.evict(id);
+        imageFileCache.evict(id);
+        eventPublisher.publishEvent(SearchDocumentEvent.deleted(SearchLayer.IMAGE_POST, id));
         log.info("관리자 이미지 게시글 삭제: imagePostId={}", id);
     }
 
@@ -235,6 +352,8 @@ public class ImagePostService {
     public ImagePostResponse setNotice(Long id, boolean notice) {
         ImagePost post = findById(id);
         post.setNotice(notice);
+        eventPublisher.publishEvent(GeoPointEvent.updated(GeoLayer.IMAGE_POST, id, post.getLatitude(), post.getLongitude()));
+        imagePostDetailCache.evict(id);
         log.info("관리자 공지 설정: imagePostId={}, notice={}", id, notice);
         return ImagePostResponse.from(post);
     }
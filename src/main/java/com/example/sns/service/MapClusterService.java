@@ -0,0 +1,57 @@
+package com.example.sns.service;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.example.sns.dto.response.MapClusterResponse;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.geo.ClusterIndex;
+import com.example.sns.service.geo.GeoLayer;
+import com.example.sns.utils.haversine.BoundingBox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지도 마커 클러스터 조회 서비스.
+ *
+ * 사전 집계된 계층 격자(ClusterIndex)만 읽으므로 DB를 조회하지 않는다.
+ * 인덱스 비활성화·적재 전이면 503 (클라이언트는 /api/map/feed로 대체).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MapClusterService {
+
+    private final ClusterIndex clusterIndex;
+
+    /**
+     * viewport 내 클러스터·개별 마커 조회. 비로그인 가능.
+     *
+     * @param zoom   지도 zoom
+     * @param swLat  남서 위도
+     * @param swLng  남서 경도
+     * @param neLat  북동 위도
+     * @param neLng  북동 경도
+     * @param layers 대상 레이어 (null·빈 값이면 전체)
+     */
+    public MapClusterResponse getClusters(int zoom, double swLat, double swLng, double neLat, double neLng,
+                                          Set<GeoLayer> layers) {
+        if (swLat > neLat || swLng > neLng) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "viewport 남서 좌표는 북동 좌표보다 작아야 합니다.");
+        }
+        if (!clusterIndex.isAvailable()) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "클러스터 인덱스를 준비 중입니다.");
+        }
+        BoundingBox box = new BoundingBox(swLat, neLat, swLng, neLng);
+        if (!clusterIndex.isWithinQueryLimit(zoom, box)) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "zoom에 비해 viewport가 너무 넓습니다.");
+        }
+        Set<GeoLayer> targets = layers == null || layers.isEmpty() ? EnumSet.allOf(GeoLayer.class) : layers;
+        log.debug("지도 클러스터 조회: zoom={}, box={}, layers={}", zoom, box, targets);
+        return MapClusterResponse.from(clusterIndex.query(zoom, box, targets));
+    }
+}
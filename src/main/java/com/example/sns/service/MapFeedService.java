@@ -0,0 +1,192 @@
+package com.example.sns.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.sns.config.GeoProperties;
+import com.example.sns.domain.ImagePost;
+import com.example.sns.domain.Pin;
+import com.example.sns.domain.Post;
+import com.example.sns.dto.response.ImagePostResponse;
+import com.example.sns.dto.response.MapFeedResponse;
+import com.example.sns.dto.response.PinResponse;
+import com.example.sns.dto.response.PostResponse;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.repository.PinRepository;
+import com.example.sns.repository.PostRepository;
+import com.example.sns.service.geo.GeoHit;
+import com.example.sns.service.geo.GeoLayer;
+import com.example.sns.service.geo.GeoSearchService;
+import com.example.sns.utils.haversine.BoundingBox;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지도 viewport 통합 조회 서비스.
+ *
+ * Pin·게시글·이미지 게시글을 한 번의 요청으로 반환한다.
+ * 공간 인덱스 1회 조회(searchBox)로 전 레이어 후보 id를 얻고,
+ * 레이어별 엔티티 조회(id IN, 작성자 fetch join)는 제한된 스레드 풀에서 병렬 실행한다.
+ * 레이어마다 읽기 전용 트랜잭션 1개. 스레드 풀·큐가 가득 차면 요청 스레드에서 직접 실행한다.
+ * 공간 인덱스 사용 불가 시 레이어별 사각 범위 쿼리(latitude·longitude BETWEEN)로 fallback.
+ * 두 경로 모두 viewport 중심에서 가까운 순으로 레이어별 상한만큼 자른다.
+ */
+@Slf4j
+@Service
+public class MapFeedService {
+
+    private final GeoSearchService geoSearchService;
+    private final PinRepository pinRepository;
+    private final PostRepository postRepository;
+    private final ImagePostRepository imagePostRepository;
+    private final GeoProperties.Feed feedProperties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+
+    public MapFeedService(GeoSearchService geoSearchService, PinRepository pinRepository,
+                          PostRepository postRepository, ImagePostRepository imagePostRepository,
+                          GeoProperties geoProperties, PlatformTransactionManager transactionManager) {
+        this.geoSearchService = geoSearchService;
+        this.pinRepository = pinRepository;
+        this.postRepository = postRepository;
+        this.imagePostRepository = imagePostRepository;
+        this.feedProperties = geoProperties.feed();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(feedProperties.threads(), feedProperties.threads(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(feedProperties.queueCapacity()),
+                r -> {
+                    Thread thread = new Thread(r, "map-feed-" + threadSeq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * viewport(남서·북동 좌표) 내 전 레이어 조회. 비로그인 가능.
+     *
+     * @param swLat 남서 위도
+     * @param swLng 남서 경도
+     * @param neLat 북동 위도
+     * @param neLng 북동 경도
+     * @param limit 레이어별 최대 건수 (null이면 기본값, 상한 적용)
+     * @return 레이어별 목록
+     */
+    public MapFeedResponse getFeed(double swLat, double swLng, double neLat, double neLng, Integer limit) {
+        if (swLat > neLat || swLng > neLng) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "viewport 남서 좌표는 북동 좌표보다 작아야 합니다.");
+        }
+        int perLayer = limit == null || limit <= 0
+                ? feedProperties.defaultLimit()
+                : Math.min(limit, feedProperties.maxLimit());
+        BoundingBox box = new BoundingBox(swLat, neLat, swLng, neLng);
+        double centerLat = (swLat + neLat) / 2;
+        double centerLng = (swLng + neLng) / 2;
+        log.debug("지도 viewport 조회: box={}, limit={}", box, perLayer);
+
+        return geoSearchService.searchBox(box, centerLat, centerLng)
+                .map(hits -> fromIndex(hits, perLayer))
+                .orElseGet(() -> fromBoundingBox(box, centerLat, centerLng, perLayer));
+    }
+
+    private MapFeedResponse fromIndex(Map<GeoLayer, List<GeoHit>> hitsByLayer, int perLayer) {
+        List<Long> pinIds = topIds(hitsByLayer.get(GeoLayer.PIN), perLayer);
+        List<Long> postIds = topIds(hitsByLayer.get(GeoLayer.POST), perLayer);
+        List<Long> imagePostIds = topIds(hitsByLayer.get(GeoLayer.IMAGE_POST), perLayer);
+        boolean truncated = hitsByLayer.values().stream().anyMatch(hits -> hits.size() > perLayer);
+
+        CompletableFuture<List<PinResponse>> pins = inReadOnlyTransaction(() ->
+                load(pinIds, pinRepository::findAllWithOwnerByIdIn, Pin::getId, PinResponse::from));
+        CompletableFuture<List<PostResponse>> posts = inReadOnlyTransaction(() ->
+                load(postIds, postRepository::findAllWithAuthorByIdIn, Post::getId, PostResponse::from));
+        CompletableFuture<List<ImagePostResponse>> imagePosts = inReadOnlyTransaction(() ->
+                load(imagePostIds, imagePostRepository::findAllWithAuthorByIdIn, ImagePost::getId,
+                        ImagePostResponse::from));
+        return new MapFeedResponse(join(pins), join(posts), join(imagePosts), truncated);
+    }
+
+    private MapFeedResponse fromBoundingBox(BoundingBox box, double centerLat, double centerLng, int perLayer) {
+        PageRequest limitPlusOne = PageRequest.of(0, perLayer + 1);
+        double cosLat = Math.cos(Math.toRadians(centerLat));
+        CompletableFuture<List<PinResponse>> pins = inReadOnlyTransaction(() ->
+                pinRepository.findNearestWithinBoundingBox(centerLat, centerLng, cosLat,
+                        box.minLat(), box.maxLat(), box.minLng(), box.maxLng(), limitPlusOne).stream()
+                        .map(PinResponse::from).toList());
+        CompletableFuture<List<PostResponse>> posts = inReadOnlyTransaction(() ->
+                postRepository.findNearestWithinBoundingBox(centerLat, centerLng, cosLat,
+                        box.minLat(), box.maxLat(), box.minLng(), box.maxLng(), limitPlusOne).stream()
+                        .map(PostResponse::from).toList());
+        CompletableFuture<List<ImagePostResponse>> imagePosts = inReadOnlyTransaction(() ->
+                imagePostRepository.findNearestWithinBoundingBox(centerLat, centerLng, cosLat,
+                        box.minLat(), box.maxLat(), box.minLng(), box.maxLng(), limitPlusOne).stream()
+                        .map(ImagePostResponse::from).toList());
+
+        List<PinResponse> pinList = join(pins);
+        List<PostResponse> postList = join(posts);
+        List<ImagePostResponse> imagePostList = join(imagePosts);
+        boolean truncated = pinList.size() > perLayer || postList.size() > perLayer
+                || imagePostList.size() > perLayer;
+        return new MapFeedResponse(head(pinList, perLayer), head(postList, perLayer),
+                head(imagePostList, perLayer), truncated);
+    }
+
+    private <T> CompletableFuture<T> inReadOnlyTransaction(Supplier<T> work) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> work.get()), executor);
+    }
+
+    private static <E, R> List<R> load(List<Long> ids, Function<List<Long>, List<E>> loader,
+                                       Function<E, Long> idExtractor, Function<E, R> mapper) {
+        return GeoSearchService.loadInOrder(ids, loader, idExtractor).stream()
+                .map(mapper)
+                .toList();
+    }
+
+    private static List<Long> topIds(List<GeoHit> hits, int limit) {
+        if (hits == null) {
+            return List.of();
+        }
+        return hits.stream()
+                .limit(limit)
+                .map(GeoHit::id)
+                .toList();
+    }
+
+    private static <T> List<T> head(List<T> list, int limit) {
+        return list.size() > limit ? list.subList(0, limit) : list;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.example.sns.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +15,8 @@ import com.example.sns.dto.response.MemberResponse;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.example.sns.repository.UserRepository;
+import com.example.sns.service.auth.PasswordHasher;
+import com.example.sns.service.cache.UserCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,14 +33,16 @@ import lombok.extern.slf4j.Slf4j;
 public class MemberService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserCache userCache;
+    private final AuthService authService;
 
     /**
      * 회원가입.
      *
      * @param request 가입 요청
      * @return 생성된 회원 응답
-     * @throws BusinessException 중복 이메일 시 DUPLICATE_EMAIL
+     * @throws BusinessException 중복 이메일 시 DUPLICATE_EMAIL, 해시 대기열 초과 시 SERVICE_UNAVAILABLE
      */
     @Transactional
     public MemberResponse join(MemberJoinRequest request) {
@@ -48,7 +51,7 @@ public class MemberService {
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
 
-        String passwordHash = passwordEncoder.encode(request.password());
+        String passwordHash = passwordHasher.encode(request.password());
         User user = User.builder()
                 .email(request.email())
                 .passwordHash(passwordHash)
@@ -74,6 +77,7 @@ public class MemberService {
         User user = userRepository.findById(currentUser.getId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "회원을 찾을 수 없습니다."));
         user.updateNickname(request.nickname());
+        userCache.evict(user.getId());
         log.info("개인정보 수정: userId={}, nickname={}", user.getId(), request.nickname());
         return MemberResponse.from(user);
     }
@@ -110,7 +114,7 @@ public class MemberService {
             log.warn("관리자 회원 추가 실패: 중복 이메일, email={}", request.email());
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
-        String passwordHash = passwordEncoder.encode(request.password());
+        String passwordHash = passwordHasher.encode(request.password());
         User user = User.builder()
                 .email(request.email())
                 .passwordHash(passwordHash)
@@ -124,24 +128,32 @@ public class MemberService {
 
     /**
      * 관리자에 의한 회원 수정. 프로필·역할.
+     * 권한은 Access Token의 role 클레임을 따르므로, 역할이 바뀌면 전체 세션을 철회해 이전 역할의 토큰을 무효화한다.
      */
     @Transactional
     public MemberResponse updateByAdmin(Long id, AdminMemberUpdateRequest request) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "회원을 찾을 수 없습니다."));
+        UserRole previousRole = user.getRole();
         user.updateByAdmin(request.nickname(), request.role());
+        userCache.evict(user.getId());
+        if (request.role() != null && request.role() != previousRole) {
+            authService.revokeAllSessions(id);
+        }
         log.info("관리자 회원 수정: userId={}, nickname={}, role={}", user.getId(), request.nickname(), request.role());
         return MemberResponse.from(user);
     }
 
     /**
-     * 관리자에 의한 회원 삭제.
+     * 관리자에 의한 회원 삭제. 삭제 전 전체 세션을 철회한다.
      */
     @Transactional
     public void deleteByAdmin(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "회원을 찾을 수 없습니다."));
+        authService.revokeAllSessions(id);
         userRepository.delete(user);
+        userCache.evict(id);
         log.info("관리자 회원 삭제: userId={}", id);
     }
 }
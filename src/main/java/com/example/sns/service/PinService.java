@@ -1,18 +1,31 @@
 package com.example.sns.service;
 
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.sns.config.GeoProperties;
 import com.example.sns.domain.Pin;
 import com.example.sns.domain.User;
 import com.example.sns.dto.request.PinCreateRequest;
 import com.example.sns.dto.request.PinUpdateRequest;
+import com.example.sns.dto.response.NearestResponse;
 import com.example.sns.dto.response.PinResponse;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.example.sns.repository.PinRepository;
+import com.example.sns.service.cache.LocationTileCache;
+import com.example.sns.service.geo.GeoHit;
+import com.example.sns.service.geo.GeoLayer;
+import com.example.sns.service.geo.GeoPointEvent;
+import com.example.sns.service.geo.GeoSearchService;
+import com.example.sns.utils.haversine.BoundingBox;
+import com.example.sns.utils.haversine.HaversineUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +37,7 @@ import lombok.extern.slf4j.Slf4j;
  * RULE 3.5.7: @Transactional Service 계층에만.
  * RULE 1.2: IDOR 방지 - 수정·삭제 시 소유권 검증.
  * Step 10: Pin CRUD, 사용자별 목록.
+ * 생성·수정·삭제 시 GeoPointEvent 발행 → 커밋 후 공간 인덱스·타일 캐시 갱신.
  */
 @Slf4j
 @Service
@@ -33,6 +47,10 @@ public class PinService {
     private static final String MSG_PIN_NOT_FOUND = "Pin을 찾을 수 없습니다.";
 
     private final PinRepository pinRepository;
+    private final GeoSearchService geoSearchService;
+    private final LocationTileCache<PinResponse> pinTileCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GeoProperties geoProperties;
 
     /**
      * 사용자별 Pin 목록. 로그인 필수.
@@ -68,6 +86,8 @@ public class PinService {
                 .longitude(request.longitude())
                 .build();
         Pin saved = pinRepository.save(pin);
+        eventPublisher.publishEvent(
+                GeoPointEvent.saved(GeoLayer.PIN, saved.getId(), saved.getLatitude(), saved.getLongitude()));
         log.info("Pin 생성: pinId={}, ownerId={}", saved.getId(), owner.getId());
         return PinResponse.from(saved);
     }
@@ -82,11 +102,15 @@ public class PinService {
             log.warn("Pin 수정 IDOR 시도: pinId={}, userId={}", id, currentUser.getId());
             throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 Pin만 수정할 수 있습니다.");
         }
+        Double previousLatitude = pin.getLatitude();
+        Double previousLongitude = pin.getLongitude();
         pin.update(
                 request.description(),
                 request.latitude(),
                 request.longitude()
         );
+        eventPublisher.publishEvent(GeoPointEvent.moved(GeoLayer.PIN, pin.getId(),
+                previousLatitude, previousLongitude, pin.getLatitude(), pin.getLongitude()));
         return PinResponse.from(pin);
     }
 
@@ -101,12 +125,14 @@ public class PinService {
             throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 Pin만 삭제할 수 있습니다.");
         }
         pinRepository.delete(pin);
+        eventPublisher.publishEvent(GeoPointEvent.deleted(GeoLayer.PIN, id, pin.getLatitude(), pin.getLongitude()));
         log.info("Pin 삭제: pinId={}, ownerId={}", id, currentUser.getId());
     }
 
     /**
      * 반경(km) 내 Pin 조회. 비로그인 가능.
      * Step 11: Haversine 공식으로 반경 내 Pin 목록 반환.
+     * 위치 타일 캐시(L1 Caffeine → L2 Redis) 우선. 캐시 미적용 시 공간 인덱스 후보 id로 거리순 조회, 아니면 SQL fallback.
      *
      * @param lat      중심 위도
      * @param lng      중심 경도
@@ -117,7 +143,52 @@ public class PinService {
     @Transactional(readOnly = true)
     public Page<PinResponse> getNearby(double lat, double lng, double radiusKm, Pageable pageable) {
         log.debug("반경 내 Pin 조회: lat={}, lng={}, radiusKm={}", lat, lng, radiusKm);
-        return pinRepository.findWithinRadius(radiusKm, lat, lng, pageable)
+        return pinTileCache.findWithinRadius(lat, lng, radiusKm, pageable, this::loadTile)
+                .orElseGet(() -> findNearbyUncached(lat, lng, radiusKm, pageable));
+    }
+
+    /**
+     * 타일 캐시 미스 시 사각 범위 내 Pin 적재 (소유자 fetch join).
+     */
+    private List<PinResponse> loadTile(BoundingBox box, int limit) {
+        return pinRepository.findWithinBoundingBox(box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                        PageRequest.of(0, limit)).stream()
+                .map(PinResponse::from)
+                .toList();
+    }
+
+    /**
+     * 최근접 Pin k건. 비로그인 가능. 거리 오름차순, 거리(m) 포함.
+     * 공간 인덱스의 고리(ring) 확장 탐색, 사용 불가 시 반경을 두 배씩 넓히는 Haversine SQL (최대 maxRadiusKm).
+     *
+     * @param lat 중심 위도
+     * @param lng 중심 경도
+     * @param k   최대 건수 (null이면 기본값, 상한 적용)
+     */
+    @Transactional(readOnly = true)
+    public List<NearestResponse<PinResponse>> getNearest(double lat, double lng, Integer k) {
+        GeoProperties.Nearest props = geoProperties.nearest();
+        int limit = props.resolveK(k);
+        log.debug("최근접 Pin 조회: lat={}, lng={}, k={}", lat, lng, limit);
+        List<Pin> pins = geoSearchService.nearest(GeoLayer.PIN, lat, lng, limit, props.maxRadiusKm())
+                .map(hits -> GeoSearchService.loadInOrder(hits.stream().map(GeoHit::id).toList(),
+                        pinRepository::findAllWithOwnerByIdIn, Pin::getId))
+                .orElseGet(() -> GeoSearchService.searchExpanding(limit, props.maxRadiusKm(),
+                        radiusKm -> pinRepository.findNearestWithinRadius(radiusKm, lat, lng,
+                                PageRequest.of(0, limit))));
+        return pins.stream()
+                .map(pin -> NearestResponse.of(PinResponse.from(pin),
+                        HaversineUtil.distanceMeters(lat, lng, pin.getLatitude(), pin.getLongitude())))
+                .toList();
+    }
+
+    /**
+     * 캐시 미적용 반경 조회: 공간 인덱스 후보 id → 소유자 fetch join 조회, 인덱스 사용 불가 시 Haversine SQL.
+     */
+    private Page<PinResponse> findNearbyUncached(double lat, double lng, double radiusKm, Pageable pageable) {
+        return geoSearchService.findWithinRadius(GeoLayer.PIN, lat, lng, radiusKm, pageable,
+                        pinRepository::findAllWithOwnerByIdIn, Pin::getId)
+                .orElseGet(() -> pinRepository.findWithinRadius(radiusKm, lat, lng, pageable))
                 .map(PinResponse::from);
     }
 
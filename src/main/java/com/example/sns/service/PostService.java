@@ -1,5 +1,9 @@
 package com.example.sns.service;
 
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -7,15 +11,30 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.sns.config.GeoProperties;
 import com.example.sns.domain.Post;
 import com.example.sns.domain.User;
 import com.example.sns.dto.request.PostCreateRequest;
 import com.example.sns.dto.request.PostUpdateRequest;
+import com.example.sns.dto.response.CursorSlice;
+import com.example.sns.dto.response.NearestResponse;
 import com.example.sns.dto.response.PostResponse;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.example.sns.repository.PinRepository;
 import com.example.sns.repository.PostRepository;
+import com.example.sns.service.cache.DetailCache;
+import com.example.sns.service.cache.LocationTileCache;
+import com.example.sns.service.geo.GeoHit;
+import com.example.sns.service.geo.GeoLayer;
+import com.example.sns.service.geo.GeoPointEvent;
+import com.example.sns.service.geo.GeoSearchService;
+import com.example.sns.service.search.SearchDocumentEvent;
+import com.example.sns.service.search.SearchLayer;
+import com.example.sns.service.search.SearchService;
+import com.example.sns.utils.cursor.NoticeCursor;
+import com.example.sns.utils.haversine.BoundingBox;
+import com.example.sns.utils.haversine.HaversineUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +45,7 @@ import lombok.extern.slf4j.Slf4j;
  * RULE 2.3: 트랜잭션 경계 Service 계층.
  * RULE 3.5.7: @Transactional Service 계층에만.
  * RULE 1.2: IDOR 방지 - 수정·삭제 시 소유권 검증.
+ * 작성·수정·삭제 시 GeoPointEvent 발행 → 커밋 후 공간 인덱스·타일 캐시 갱신 (수정은 위치 변경 없음).
  */
 @Slf4j
 @Service
@@ -36,6 +56,12 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final PinRepository pinRepository;
+    private final GeoSearchService geoSearchService;
+    private final SearchService searchService;
+    private final DetailCache<PostResponse> postDetailCache;
+    private final LocationTileCache<PostResponse> postTileCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GeoProperties geoProperties;
 
     /** 공지 상단 노출용 정렬 (순서: 공지 우선, 최신순). */
     private static final Sort NOTICE_FIRST_SORT = Sort.by(
@@ -45,12 +71,37 @@ public class PostService {
     /**
      * 게시글 목록 조회 (페이징·검색). 비로그인 허용.
      * Step 16: 공지 상단 노출.
+     * 키워드가 있으면 검색 인덱스(n-gram·FULLTEXT)로 관련도순 조회, 인덱스로 처리할 수 없으면 LIKE (공지 우선, 최신순).
      */
     @Transactional(readOnly = true)
     public Page<PostResponse> getList(String keyword, Pageable pageable) {
         Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), NOTICE_FIRST_SORT);
-        return postRepository.findAllByKeyword(keyword, sorted)
-                .map(PostResponse::from);
+        if (keyword == null || keyword.isBlank()) {
+            return postRepository.findResponses(null, sorted);
+        }
+        String trimmed = keyword.trim();
+        return searchService.findPage(SearchLayer.POST, trimmed, pageable,
+                        postRepository::findResponsesByIdIn, PostResponse::id)
+                .orElseGet(() -> postRepository.findResponses(trimmed, sorted));
+    }
+
+    /**
+     * 게시글 목록 커서 조회 (무한 스크롤). 비로그인 허용.
+     * getList와 동일한 정렬(공지 우선, 최신순)이며 (notice, createdAt, id) keyset으로 다음 페이지만 조회한다.
+     * 깊은 페이지에서도 비용이 일정하고 COUNT 쿼리가 없다.
+     *
+     * @param keyword 검색어 (선택)
+     * @param cursor  이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size    페이지 크기 (최대 CursorSlice.MAX_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<PostResponse> getSlice(String keyword, String cursor, int size) {
+        String trimmed = keyword == null || keyword.isBlank() ? null : keyword.trim();
+        return CursorSlice.fetch(NoticeCursor.decode(cursor), size,
+                (notice, after, pageable) -> postRepository.findResponsesNoticeSegmentAfter(notice, trimmed,
+                        after.createdAt(), after.id(), pageable),
+                Function.identity(),
+                post -> new NoticeCursor(post.notice(), post.createdAt(), post.id()));
     }
 
     /**
@@ -64,12 +115,13 @@ public class PostService {
 
     /**
      * 게시글 상세 조회. 비로그인 허용.
+     * 상세 캐시(L1 Caffeine → L2 Redis) 우선, miss 시 응답 DTO projection 1회 조회. 수정·삭제·공지 설정 시 무효화.
      */
     @Transactional(readOnly = true)
     public PostResponse getById(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, MSG_POST_NOT_FOUND));
-        return PostResponse.from(post);
+        return postDetailCache.get(id, () -> postRepository.findResponsesByIdIn(List.of(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, MSG_POST_NOT_FOUND)));
     }
 
     /**
@@ -89,6 +141,10 @@ public class PostService {
                 .pin(pin)
                 .build();
         Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(
+                GeoPointEvent.saved(GeoLayer.POST, saved.getId(), saved.getLatitude(), saved.getLongitude()));
+        eventPublisher.publishEvent(
+                SearchDocumentEvent.saved(SearchLayer.POST, saved.getId(), saved.getTitle(), saved.getContent()));
         log.info("게시글 작성: postId={}, authorId={}", saved.getId(), author.getId());
         return PostResponse.from(saved);
     }
@@ -105,6 +161,9 @@ public class PostService {
             throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 게시글만 수정할 수 있습니다.");
         }
         post.update(request.title(), request.content());
+        eventPublisher.publishEvent(GeoPointEvent.updated(GeoLayer.POST, id, post.getLatitude(), post.getLongitude()));
+        postDetailCache.evict(id);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(SearchLayer.POST, id, post.getTitle(), post.getContent()));
         return PostResponse.from(post);
     }
 
@@ -113,8 +172,7 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public Page<PostResponse> getListByAuthor(User author, Pageable pageable) {
-        return postRepository.findByAuthor(author, pageable)
-                .map(PostResponse::from);
+        return postRepository.findResponsesByAuthorId(author.getId(), pageable);
     }
 
     /**
@@ -122,13 +180,13 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public Page<PostResponse> getByPinId(Long pinId, Pageable pageable) {
-        return postRepository.findByPin_Id(pinId, pageable)
-                .map(PostResponse::from);
+        return postRepository.findResponsesByPinId(pinId, pageable);
     }
 
     /**
      * 반경(km) 내 게시글 조회. 비로그인 가능.
      * Step 11: 위도·경도가 있는 게시글만 반환.
+     * 위치 타일 캐시(L1 Caffeine → L2 Redis) 우선. 캐시 미적용 시 공간 인덱스 후보 id로 거리순 조회, 아니면 SQL fallback.
      *
      * @param lat      중심 위도
      * @param lng      중심 경도
@@ -139,8 +197,50 @@ public class PostService {
     @Transactional(readOnly = true)
     public Page<PostResponse> getNearby(double lat, double lng, double radiusKm, Pageable pageable) {
         log.debug("반경 내 게시글 조회: lat={}, lng={}, radiusKm={}", lat, lng, radiusKm);
-        return postRepository.findWithinRadius(radiusKm, lat, lng, pageable)
-                .map(PostResponse::from);
+        return postTileCache.findWithinRadius(lat, lng, radiusKm, pageable, this::loadTile)
+                .orElseGet(() -> findNearbyUncached(lat, lng, radiusKm, pageable));
+    }
+
+    /**
+     * 타일 캐시 미스 시 사각 범위 내 게시글 적재 (응답 DTO projection).
+     */
+    private List<PostResponse> loadTile(BoundingBox box, int limit) {
+        return postRepository.findResponsesWithinBoundingBox(box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                PageRequest.of(0, limit));
+    }
+
+    /**
+     * 최근접 게시글 k건. 비로그인 가능. 거리 오름차순, 거리(m) 포함.
+     * 공간 인덱스의 고리(ring) 확장 탐색, 사용 불가 시 반경을 두 배씩 넓히는 Haversine SQL (최대 maxRadiusKm).
+     *
+     * @param lat 중심 위도
+     * @param lng 중심 경도
+     * @param k   최대 건수 (null이면 기본값, 상한 적용)
+     */
+    @Transactional(readOnly = true)
+    public List<NearestResponse<PostResponse>> getNearest(double lat, double lng, Integer k) {
+        GeoProperties.Nearest props = geoProperties.nearest();
+        int limit = props.resolveK(k);
+        log.debug("최근접 게시글 조회: lat={}, lng={}, k={}", lat, lng, limit);
+        List<PostResponse> posts = geoSearchService.nearest(GeoLayer.POST, lat, lng, limit, props.maxRadiusKm())
+                .map(hits -> GeoSearchService.loadInOrder(hits.stream().map(GeoHit::id).toList(),
+                        postRepository::findResponsesByIdIn, PostResponse::id))
+                .orElseGet(() -> GeoSearchService.searchExpanding(limit, props.maxRadiusKm(),
+                        radiusKm -> postRepository.findNearestResponsesWithinRadius(radiusKm, lat, lng,
+                                PageRequest.of(0, limit))));
+        return posts.stream()
+                .map(post -> NearestResponse.of(post,
+                        HaversineUtil.distanceMeters(lat, lng, post.latitude(), post.longitude())))
+                .toList();
+    }
+
+    /**
+     * 캐시 미적용 반경 조회: 공간 인덱스 후보 id → 응답 DTO projection 조회, 인덱스 사용 불가 시 Haversine JPQL projection.
+     */
+    private Page<PostResponse> findNearbyUncached(double lat, double lng, double radiusKm, Pageable pageable) {
+        return geoSearchService.findWithinRadius(GeoLayer.POST, lat, lng, radiusKm, pageable,
+                        postRepository::findResponsesByIdIn, PostResponse::id)
+                .orElseGet(() -> postRepository.findResponsesWithinRadius(radiusKm, lat, lng, pageable));
     }
 
     /**
@@ -155,6 +255,9 @@ public class PostService {
             throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 게시글만 삭제할 수 있습니다.");
         }
         postRepository.delete(post);
+        eventPublisher.publishEvent(GeoPointEvent.deleted(GeoLayer.POST, id, post.getLatitude(), post.getLongitude()));
+        postDetailCache.evict(id);
+        eventPublisher.publishEvent(SearchDocumentEvent.deleted(SearchLayer.POST, id));
         log.info("게시글 삭제: postId={}, authorId={}", id, currentUser.getId());
     }
 
@@ -166,6 +269,9 @@ public class PostService {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, MSG_POST_NOT_FOUND));
         post.update(request.title(), request.content());
+        eventPublisher.publishEvent(GeoPointEvent.updated(GeoLayer.POST, id, post.getLatitude(), post.getLongitude()));
+        postDetailCache.evict(id);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(SearchLayer.POST, id, post.getTitle(), post.getContent()));
         log.info("관리자 게시글 수정: postId={}", id);
         return PostResponse.from(post);
     }
@@ -178,6 +284,9 @@ public class PostService {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, MSG_POST_NOT_FOUND));
         postRepository.delete(post);
+        eventPublisher.publishEvent(GeoPointEvent.deleted(GeoLayer.POST, id, post.getLatitude(), post.getLongitude()));
+        postDetailCache.evict(id);
+        eventPublisher.publishEvent(SearchDocumentEvent.deleted(SearchLayer.POST, id));
         log.info("관리자 게시글 삭제: postId={}", id);
     }
 
@@ -189,6 +298,8 @@ public class PostService {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, MSG_POST_NOT_FOUND));
         post.setNotice(notice);
+        eventPublisher.publishEvent(GeoPointEvent.updated(GeoLayer.POST, id, post.getLatitude(), post.getLongitude()));
+        postDetailCache.evict(id);
         log.info("관리자 공지 설정: postId={}, notice={}", id, notice);
         return PostResponse.from(post);
     }
@@ -0,0 +1,152 @@
+package com.example.sns.service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.JwtProperties;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access Token 블랙리스트 노드 로컬 블룸 필터 (RULE 6.1.7).
+ *
+ * 필터에 없는 jti는 블랙리스트가 아니므로 Redis EXISTS 없이 통과시키고, 필터 hit(실제 등록 또는 오탐)일 때만 Redis를 조회한다.
+ * 로그아웃 노드는 즉시 추가 후 pub/sub(channel)으로 jti를 전파하고, 다른 노드는 수신 시 추가한다.
+ * 블룸 필터는 삭제가 없으므로 rebuildIntervalSeconds마다 Redis blacklist-index(만료 전 jti)로 새로 만들어 교체한다.
+ * 재구성 중 추가된 jti는 새 필터에도 넣는다. 첫 적재 전·비활성화 시 mightBeBlacklisted는 항상 true (매번 Redis 조회).
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class BlacklistBloomFilter {
+
+    private final RedisTokenStore redisTokenStore;
+    private final StringRedisTemplate redisTemplate;
+    private final JwtProperties.BlacklistFilter props;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+    private ScheduledExecutorService rebuilder;
+    private RedisMessageListenerContainer listenerContainer;
+
+    public BlacklistBloomFilter(RedisTokenStore redisTokenStore, StringRedisTemplate redisTemplate,
+                                JwtProperties jwtProperties) {
+        this.redisTokenStore = redisTokenStore;
+        this.redisTemplate = redisTemplate;
+        this.props = jwtProperties.getBlacklistFilter();
+    }
+
+    /**
+     * 구독 후 첫 적재. 구독을 먼저 해 적재 중 다른 노드의 로그아웃을 놓치지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!props.isEnabled()) {
+            log.info("블랙리스트 블룸 필터 비활성화: 모든 요청에서 Redis 조회");
+            return;
+        }
+        try {
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> addLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(props.getChannel()));
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        } catch (Exception e) {
+            log.warn("블랙리스트 구독 실패: {}. 다른 노드 로그아웃은 재구성 주기 후 반영.", e.getMessage());
+        }
+        rebuilder = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "blacklist-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuilder.scheduleWithFixedDelay(this::rebuild, 0, props.getRebuildIntervalSeconds(), TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+        if (listenerContainer != null) {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                log.debug("블랙리스트 구독 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 블랙리스트일 수 있는지. false면 확실히 블랙리스트가 아니다.
+     */
+    public boolean mightBeBlacklisted(String jti) {
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(jti);
+    }
+
+    /**
+     * 로그아웃 시 추가. 로컬 필터에 넣고 다른 노드에 전파한다.
+     */
+    public void add(String jti) {
+        addLocal(jti);
+        if (!props.isEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(props.getChannel(), jti);
+        } catch (Exception e) {
+            log.warn("블랙리스트 전파 실패: error={}. 다른 노드는 재구성 주기 후 반영.", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis blacklist-index로 필터 재구성. 실패 시 기존 필터 유지.
+     */
+    void rebuild() {
+        BloomFilter next = new BloomFilter(props.getExpectedInsertions(), props.getFalsePositiveRate());
+        building = next;
+        try {
+            List<String> jtis = redisTokenStore.findBlacklistedJtis();
+            jtis.forEach(next::add);
+            current = next;
+            if (jtis.size() > props.getExpectedInsertions()) {
+                log.warn("블랙리스트 수가 예상치 초과, 오탐률 상승: count={}, expected={}",
+                        jtis.size(), props.getExpectedInsertions());
+            }
+            log.debug("블랙리스트 블룸 필터 재구성: count={}", jtis.size());
+        } catch (Exception e) {
+            log.warn("블랙리스트 블룸 필터 재구성 실패, 기존 필터 유지: error={}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * building을 current보다 먼저 읽는다. rebuild는 current 교체 후 building을 비우므로
+     * building이 비어 있으면 current는 이미 새 필터이거나, 재구성 전이라 Redis 조회에 이 jti가 포함된다.
+     */
+    private void addLocal(String jti) {
+        BloomFilter next = building;
+        if (next != null) {
+            next.add(jti);
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.add(jti);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.sns.service.auth;
+
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실패 비율 기반 서킷 브레이커 (CLOSED → OPEN → HALF_OPEN).
+ *
+ * CLOSED: 최근 windowSize건 중 실패 비율이 failureRateThreshold% 이상(최소 minimumCalls건)이면 OPEN.
+ * OPEN: openMillis 동안 호출 거부. 경과 후 첫 호출을 probe로 허용하며 HALF_OPEN.
+ * HALF_OPEN: probe 하나만 진행. 성공 시 CLOSED(기록 초기화), 실패 시 다시 OPEN.
+ * 지표: {metricPrefix}.state (0=CLOSED, 1=OPEN, 2=HALF_OPEN), {metricPrefix}.transitions{to}.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openMillis;
+    private final LongSupplier clock;
+    private final MeterRegistry meterRegistry;
+    private final String metricPrefix;
+
+    private final boolean[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * @param name                 로그·지표 태그용 이름
+     * @param failureRateThreshold 실패 비율 임계치(%)
+     * @param windowSize           최근 호출 수
+     * @param minimumCalls         판단 최소 호출 수
+     * @param openMillis           OPEN 유지 시간(ms)
+     * @param clock                현재 시각(ms)
+     */
+    public CircuitBreaker(String name, int failureRateThreshold, int windowSize, int minimumCalls, long openMillis,
+                          LongSupplier clock, MeterRegistry meterRegistry, String metricPrefix) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.outcomes = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+        this.openMillis = openMillis;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.metricPrefix = metricPrefix;
+        Gauge.builder(metricPrefix + ".state", this, breaker -> breaker.getState().ordinal())
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허용 여부. 허용된 호출은 반드시 onSuccess 또는 onFailure로 결과를 알린다.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.getAsLong() - openedAt < openMillis) {
+                    return false;
+                }
+                transition(State.HALF_OPEN);
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            resetWindow();
+            transition(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            open();
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        openedAt = clock.getAsLong();
+        resetWindow();
+        transition(State.OPEN);
+    }
+
+    private void resetWindow() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+
+    private void transition(State to) {
+        State from = state;
+        state = to;
+        Counter.builder(metricPrefix + ".transitions")
+                .tag("name", name)
+                .tag("to", to.name())
+                .register(meterRegistry)
+                .increment();
+        if (to == State.OPEN) {
+            log.warn("서킷 OPEN: name={}, from={}, {}ms 후 재시도", name, from, openMillis);
+        } else {
+            log.info("서킷 상태 전환: name={}, {} → {}", name, from, to);
+        }
+    }
+}
@@ -1,99 +1,137 @@
 package com.example.sns.service.auth;
 
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
+import com.example.sns.config.TokenStoreProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Redis TokenStore Fallback 래퍼.
  *
- * Redis 연동 실패 시 NoOp 동작으로 전환 (Step 5.1).
+ * Redis 호출은 서킷 브레이커(CircuitBreaker)를 거친다. 실패 비율이 임계치를 넘으면 서킷을 열고
+ * openSeconds 동안 Redis를 호출하지 않으며, 경과 후 probe 1건으로 복구 여부를 확인한다 (Step 5.1).
+ * 서킷이 열렸거나 호출이 실패하면 노드 로컬 TTL 저장소(InMemoryTokenStore)에 쓰고 읽는다.
+ * 블랙리스트는 로컬에도 항상 기록하고, 조회는 노드 로컬 블룸 필터 hit일 때만 Redis를 조회한다.
  * RULE 5.2.1(Fallback), 5.3(기능 비활성화).
+ * 지표: token.store.circuit.state, token.store.circuit.transitions{to}.
  */
 @Slf4j
 @Component
 @Primary
 @Profile("!test")
-@RequiredArgsConstructor
 public class FallbackTokenStore implements TokenStore {
 
+    private static final String METRIC_PREFIX = "token.store.circuit";
+
     private final RedisTokenStore redisTokenStore;
-    private final AtomicBoolean redisUnavailable = new AtomicBoolean(false);
+    private final BlacklistBloomFilter blacklistBloomFilter;
+    private final InMemoryTokenStore localStore;
+    private final CircuitBreaker circuitBreaker;
+
+    public FallbackTokenStore(RedisTokenStore redisTokenStore, BlacklistBloomFilter blacklistBloomFilter,
+                              TokenStoreProperties props, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.redisTokenStore = redisTokenStore;
+        this.blacklistBloomFilter = blacklistBloomFilter;
+        this.localStore = new InMemoryTokenStore(props.getLocalMaxSize());
+        this.circuitBreaker = new CircuitBreaker("redis-token-store", props.getFailureRateThreshold(),
+                props.getWindowSize(), props.getMinimumCalls(), props.getOpenSeconds() * 1000L,
+                System::currentTimeMillis, meterRegistry.getIfAvailable(SimpleMeterRegistry::new), METRIC_PREFIX);
+    }
 
     @Override
-    public void saveRefreshToken(String jti, String payload, long ttlSeconds) {
-        if (redisUnavailable.get()) {
-            return;
-        }
-        try {
-            redisTokenStore.saveRefreshToken(jti, payload, ttlSeconds);
-        } catch (Exception e) {
-            logRedisFailure("saveRefreshToken", e);
-            redisUnavailable.set(true);
+    public void saveRefreshToken(String jti, Long userId, String payload, long ttlSeconds) {
+        boolean saved = callRedis("saveRefreshToken", () -> {
+            redisTokenStore.saveRefreshToken(jti, userId, payload, ttlSeconds);
+            return true;
+        }, false);
+        if (!saved) {
+            localStore.saveRefreshToken(jti, userId, payload, ttlSeconds);
         }
     }
 
     @Override
     public Optional<String> getRefreshToken(String jti) {
-        if (redisUnavailable.get()) {
-            return Optional.empty();
-        }
-        try {
-            return redisTokenStore.getRefreshToken(jti);
-        } catch (Exception e) {
-            logRedisFailure("getRefreshToken", e);
-            redisUnavailable.set(true);
-            return Optional.empty();
+        Optional<String> local = localStore.getRefreshToken(jti);
+        if (local.isPresent()) {
+            return local;
         }
+        return callRedis("getRefreshToken", () -> redisTokenStore.getRefreshToken(jti), Optional.empty());
     }
 
     @Override
     public void deleteRefreshToken(String jti) {
-        if (redisUnavailable.get()) {
-            return;
-        }
-        try {
+        localStore.deleteRefreshToken(jti);
+        callRedis("deleteRefreshToken", () -> {
             redisTokenStore.deleteRefreshToken(jti);
-        } catch (Exception e) {
-            logRedisFailure("deleteRefreshToken", e);
-            redisUnavailable.set(true);
-        }
+            return true;
+        }, false);
+    }
+
+    /**
+     * 로컬·Redis 모두 삭제. Redis 실패로 남은 Refresh Token은 갱신 시 토큰 세대 비교로 거부된다.
+     */
+    @Override
+    public void revokeAllRefreshTokens(Long userId) {
+        localStore.revokeAllRefreshTokens(userId);
+        callRedis("revokeAllRefreshTokens", () -> {
+            redisTokenStore.revokeAllRefreshTokens(userId);
+            return true;
+        }, false);
     }
 
     @Override
     public void addToBlacklist(String jti, long ttlSeconds) {
-        if (redisUnavailable.get()) {
-            return;
-        }
-        try {
+        localStore.addToBlacklist(jti, ttlSeconds);
+        boolean saved = callRedis("addToBlacklist", () -> {
             redisTokenStore.addToBlacklist(jti, ttlSeconds);
-        } catch (Exception e) {
-            logRedisFailure("addToBlacklist", e);
-            redisUnavailable.set(true);
+            return true;
+        }, false);
+        if (saved) {
+            blacklistBloomFilter.add(jti);
         }
     }
 
     @Override
     public boolean isBlacklisted(String jti) {
-        if (redisUnavailable.get()) {
-            return false;
+        if (localStore.isBlacklisted(jti)) {
+            return true;
         }
-        try {
-            return redisTokenStore.isBlacklisted(jti);
-        } catch (Exception e) {
-            logRedisFailure("isBlacklisted", e);
-            redisUnavailable.set(true);
+        if (!blacklistBloomFilter.mightBeBlacklisted(jti)) {
             return false;
         }
+        return callRedis("isBlacklisted", () -> redisTokenStore.isBlacklisted(jti), false);
+    }
+
+    CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
     }
 
-    private void logRedisFailure(String operation, Exception e) {
-        log.warn("Redis TokenStore 실패, NoOp fallback 적용: operation={}, error={}", operation, e.getMessage());
+    /**
+     * 서킷이 허용하면 Redis 호출, 거부·실패 시 fallback 반환.
+     */
+    private <T> T callRedis(String operation, Supplier<T> call, T fallback) {
+        if (!circuitBreaker.tryAcquire()) {
+            return fallback;
+        }
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            log.warn("Redis TokenStore 실패, 로컬 저장소 fallback 적용: operation={}, error={}",
+                    operation, e.getMessage());
+            return fallback;
+        }
     }
 }
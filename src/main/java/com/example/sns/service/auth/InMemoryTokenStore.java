@@ -0,0 +1,79 @@
+package com.example.sns.service.auth;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 노드 로컬 TTL TokenStore. Redis 서킷이 열린 동안 FallbackTokenStore가 사용한다.
+ *
+ * 항목마다 저장 시 TTL로 만료되고 maxSize를 넘으면 오래 안 쓴 항목부터 제거된다.
+ * 노드 간 공유되지 않으므로 다른 노드에서 저장한 Refresh Token은 조회되지 않는다.
+ * 회원별 전체 삭제는 별도 색인 없이 전체 항목을 훑는다 (장애 중 fallback 용도라 항목 수가 적다).
+ */
+class InMemoryTokenStore implements TokenStore {
+
+    private static final String REFRESH_KEY_PREFIX = "refresh:";
+    private static final String BLACKLIST_KEY_PREFIX = "blacklist:";
+
+    private final Cache<String, Entry> entries;
+
+    InMemoryTokenStore(long maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public void saveRefreshToken(String jti, Long userId, String payload, long ttlSeconds) {
+        entries.put(REFRESH_KEY_PREFIX + jti, new Entry(payload, userId, TimeUnit.SECONDS.toNanos(ttlSeconds)));
+    }
+
+    @Override
+    public Optional<String> getRefreshToken(String jti) {
+        return Optional.ofNullable(entries.getIfPresent(REFRESH_KEY_PREFIX + jti)).map(Entry::value);
+    }
+
+    @Override
+    public void deleteRefreshToken(String jti) {
+        entries.invalidate(REFRESH_KEY_PREFIX + jti);
+    }
+
+    @Override
+    public void revokeAllRefreshTokens(Long userId) {
+        entries.asMap().entrySet().removeIf(e -> e.getKey().startsWith(REFRESH_KEY_PREFIX)
+                && userId.equals(e.getValue().userId()));
+    }
+
+    @Override
+    public void addToBlacklist(String jti, long ttlSeconds) {
+        entries.put(BLACKLIST_KEY_PREFIX + jti, new Entry("1", null, TimeUnit.SECONDS.toNanos(ttlSeconds)));
+    }
+
+    @Override
+    public boolean isBlacklisted(String jti) {
+        return entries.getIfPresent(BLACKLIST_KEY_PREFIX + jti) != null;
+    }
+
+    private record Entry(String value, Long userId, long ttlNanos) {
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.sns.service.auth;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
@@ -11,30 +15,57 @@ import org.springframework.stereotype.Service;
 import com.example.sns.config.JwtProperties;
 import com.example.sns.domain.User;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * JWT 생성·검증 서비스.
  *
  * RULE 6.1: iss/aud/jti/exp 검증, alg allow-list(HS256), 민감정보 Payload 금지.
+ * 서명 키·파서는 기동 시 한 번 만든다 (불변, 스레드 안전).
+ * 검증 통과한 Access Token은 토큰 전체의 SHA-256을 키로 exp까지 캐시해, 같은 토큰의 반복 요청은
+ * 서명 검증·Base64/JSON 디코딩을 건너뛴다. 블랙리스트 확인은 호출 측(JwtAuthenticationFilter)에서 매번 한다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class JwtService {
 
     private static final String CLAIM_ROLE = "role";
     private static final String CLAIM_USER_ID = "userId";
+    private static final String CLAIM_TOKEN_VERSION = "ver";
 
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser accessTokenParser;
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtService(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        this.accessTokenParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .requireIssuer(jwtProperties.getIssuer())
+                .requireAudience(jwtProperties.getAudience())
+                .build();
+        JwtProperties.VerifiedCache cacheProps = jwtProperties.getVerifiedCache();
+        this.verifiedTokens = cacheProps.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheProps.getMaxSize())
+                        .expireAfter(new ExpireAtTokenExpiry())
+                        .build()
+                : null;
+    }
 
     /**
-     * Access Token 생성 (15분 이하).
+     * Access Token 생성 (15분 이하). ver 클레임에 회원 토큰 세대를 담는다.
      *
      * @param user 회원
      * @return accessToken, jti, expiresInSeconds
@@ -48,12 +79,13 @@ public class JwtService {
                 .subject(String.valueOf(user.getId()))
                 .claim(CLAIM_USER_ID, user.getId())
                 .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
                 .id(jti)
                 .issuer(jwtProperties.getIssuer())
                 .audience().add(jwtProperties.getAudience()).and()
                 .issuedAt(new Date())
                 .expiration(expiry)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
 
         return new TokenResult(token, jti, expiresInSeconds);
@@ -67,20 +99,26 @@ public class JwtService {
     }
 
     /**
-     * Access Token 검증 및 Claims 추출.
+     * Access Token 검증 및 Claims 추출. 최근 검증한 토큰은 exp까지 캐시 결과를 반환한다.
      *
      * @param token Bearer 토큰
      * @return Claims (sub=userId, role 등)
      * @throws JwtException 검증 실패 시
      */
     public Claims parseAccessToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .requireIssuer(jwtProperties.getIssuer())
-                .requireAudience(jwtProperties.getAudience())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        if (verifiedTokens == null) {
+            return accessTokenParser.parseSignedClaims(token).getPayload();
+        }
+        String cacheKey = sha256(token);
+        Claims cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null && cached.getExpiration().getTime() > System.currentTimeMillis()) {
+            return cached;
+        }
+        Claims claims = accessTokenParser.parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(cacheKey, claims);
+        }
+        return claims;
     }
 
     /**
@@ -94,9 +132,35 @@ public class JwtService {
         return Math.max(0, remaining);
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
+    /**
+     * 검증 캐시 항목을 토큰 exp에 만료시킨다.
+     */
+    private static final class ExpireAtTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 
     public record TokenResult(String token, String jti, long expiresInSeconds) {
@@ -0,0 +1,143 @@
+package com.example.sns.service.auth;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.PasswordHashProperties;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 전용 실행기 (BCrypt encode·matches).
+ *
+ * BCrypt는 CPU를 오래 점유하므로 요청 스레드에서 직접 돌리면 로그인 폭주 시 Tomcat 스레드가 모두 묶인다.
+ * 동시 해시는 concurrency개로 제한하고, 대기열(queueCapacity)이 가득 차거나 timeoutMillis 안에 끝나지 않으면
+ * 503(SERVICE_UNAVAILABLE)으로 즉시 거절한다.
+ * 지표: password.hash.queue.wait, password.hash.duration{operation}, password.hash.rejected{reason},
+ * password.hash.queue.size, password.hash.active.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final String METRIC_PREFIX = "password.hash";
+    private static final String BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer queueWait;
+    private final Timer encodeTime;
+    private final Timer matchesTime;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashProperties props,
+                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = props.getTimeoutMillis();
+        int concurrency = props.getConcurrency() > 0
+                ? props.getConcurrency() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity())),
+                r -> {
+                    Thread thread = new Thread(r, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.queueWait = Timer.builder(METRIC_PREFIX + ".queue.wait").register(registry);
+        this.encodeTime = Timer.builder(METRIC_PREFIX + ".duration").tag("operation", "encode").register(registry);
+        this.matchesTime = Timer.builder(METRIC_PREFIX + ".duration").tag("operation", "matches").register(registry);
+        this.rejectedQueueFull = Counter.builder(METRIC_PREFIX + ".rejected").tag("reason", "queue_full")
+                .register(registry);
+        this.rejectedTimeout = Counter.builder(METRIC_PREFIX + ".rejected").tag("reason", "timeout")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 비밀번호 해시 생성 (회원가입·관리자 회원 생성).
+     *
+     * @throws BusinessException 대기열 초과·시간 초과 시 SERVICE_UNAVAILABLE (503)
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTime, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 일치 여부 (로그인).
+     *
+     * @throws BusinessException 대기열 초과·시간 초과 시 SERVICE_UNAVAILABLE (503)
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTime, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T execute(Timer hashTime, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    hashTime.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            log.warn("비밀번호 해시 대기열 초과, 요청 거절: queueSize={}", executor.getQueue().size());
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, BUSY_MESSAGE);
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedTimeout.increment();
+            log.warn("비밀번호 해시 시간 초과, 요청 거절: timeoutMillis={}", timeoutMillis);
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.sns.service.auth;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -15,6 +18,9 @@ import lombok.extern.slf4j.Slf4j;
  *
  * RULE 6.1.7(Revocation), 6.5(Refresh Token Redis) 준수.
  * 키 패턴: refresh:{jti}, blacklist:{jti}
+ * refresh-user:{userId}: 회원별 Refresh Token jti 집합 (SET, TTL=마지막 발급 Refresh Token TTL). 전체 세션 철회용.
+ * 개별 로그아웃은 집합에서 빼지 않는다. 남은 jti는 이미 삭제된 키를 가리킬 뿐이며 집합 TTL로 정리된다.
+ * blacklist-index: 블랙리스트 jti 목록 (ZSET, score=만료 시각 ms). 노드 로컬 블룸 필터 재구성용.
  */
 @Slf4j
 @Component
@@ -23,16 +29,21 @@ import lombok.extern.slf4j.Slf4j;
 public class RedisTokenStore implements TokenStore {
 
     private static final String REFRESH_KEY_PREFIX = "refresh:";
+    private static final String REFRESH_USER_KEY_PREFIX = "refresh-user:";
     private static final String BLACKLIST_KEY_PREFIX = "blacklist:";
+    private static final String BLACKLIST_INDEX_KEY = "blacklist-index";
 
     private final StringRedisTemplate redisTemplate;
 
     @Override
-    public void saveRefreshToken(String jti, String payload, long ttlSeconds) {
+    public void saveRefreshToken(String jti, Long userId, String payload, long ttlSeconds) {
         String key = REFRESH_KEY_PREFIX + jti;
         try {
             Duration ttl = Duration.ofSeconds(ttlSeconds);
             redisTemplate.opsForValue().set(key, payload, ttl);
+            String userKey = REFRESH_USER_KEY_PREFIX + userId;
+            redisTemplate.opsForSet().add(userKey, jti);
+            redisTemplate.expire(userKey, ttl);
             log.debug("Refresh Token 저장 성공: jti={}, ttlSeconds={}", jti, ttlSeconds);
         } catch (Exception e) {
             log.error("Refresh Token 저장 실패: jti={}, error={}", jti, e.getMessage());
@@ -64,12 +75,36 @@ public class RedisTokenStore implements TokenStore {
         }
     }
 
+    /**
+     * 회원별 집합의 Refresh Token과 집합 자체를 DEL 한 번으로 삭제한다.
+     */
+    @Override
+    public void revokeAllRefreshTokens(Long userId) {
+        String userKey = REFRESH_USER_KEY_PREFIX + userId;
+        try {
+            Set<String> jtis = redisTemplate.opsForSet().members(userKey);
+            List<String> keys = new ArrayList<>();
+            if (jtis != null) {
+                jtis.forEach(jti -> keys.add(REFRESH_KEY_PREFIX + jti));
+            }
+            keys.add(userKey);
+            Long deleted = redisTemplate.delete(keys);
+            log.debug("Refresh Token 전체 삭제: userId={}, deleted={}", userId, deleted);
+        } catch (Exception e) {
+            log.error("Refresh Token 전체 삭제 실패: userId={}, error={}", userId, e.getMessage());
+            throw e;
+        }
+    }
+
     @Override
     public void addToBlacklist(String jti, long ttlSeconds) {
         String key = BLACKLIST_KEY_PREFIX + jti;
         try {
             Duration ttl = Duration.ofSeconds(ttlSeconds);
             redisTemplate.opsForValue().set(key, "1", ttl);
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(BLACKLIST_INDEX_KEY, jti, now + ttl.toMillis());
+            redisTemplate.opsForZSet().removeRangeByScore(BLACKLIST_INDEX_KEY, 0, now);
             log.debug("블랙리스트 등록: jti={}, ttlSeconds={}", jti, ttlSeconds);
         } catch (Exception e) {
             log.error("블랙리스트 등록 실패: jti={}, error={}", jti, e.getMessage());
@@ -88,4 +123,18 @@ public class RedisTokenStore implements TokenStore {
             throw e;
         }
     }
+
+    /**
+     * 만료되지 않은 블랙리스트 jti 목록 (블룸 필터 재구성용).
+     */
+    public List<String> findBlacklistedJtis() {
+        try {
+            Set<String> jtis = redisTemplate.opsForZSet()
+                    .rangeByScore(BLACKLIST_INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            return jtis != null ? List.copyOf(jtis) : List.of();
+        } catch (Exception e) {
+            log.error("블랙리스트 목록 조회 실패: error={}", e.getMessage());
+            throw e;
+        }
+    }
 }
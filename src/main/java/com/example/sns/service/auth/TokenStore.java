@@ -6,18 +6,19 @@ import java.util.Optional;
  * Refresh Token 및 JWT 블랙리스트 저장소 인터페이스.
  *
  * RULE 6.1.7(Revocation), 6.5(Refresh Token Redis) 준수.
- * Redis 키: refresh:{jti}, blacklist:{jti}
+ * Redis 키: refresh:{jti}, refresh-user:{userId}(회원별 Refresh Token jti 집합), blacklist:{jti}
  */
 public interface TokenStore {
 
     /**
-     * Refresh Token을 Redis에 저장한다.
+     * Refresh Token을 Redis에 저장하고 회원별 목록에 추가한다.
      *
      * @param jti        JWT ID (고유 식별자)
+     * @param userId     회원 ID (전체 세션 철회용 색인)
      * @param payload    저장할 값 (userId, role 등)
      * @param ttlSeconds TTL (초). 7~30일 권장 (RULE 6.5)
      */
-    void saveRefreshToken(String jti, String payload, long ttlSeconds);
+    void saveRefreshToken(String jti, Long userId, String payload, long ttlSeconds);
 
     /**
      * Refresh Token을 조회한다.
@@ -34,6 +35,13 @@ public interface TokenStore {
      */
     void deleteRefreshToken(String jti);
 
+    /**
+     * 회원의 Refresh Token을 모두 삭제한다. (전체 세션 철회 시)
+     *
+     * @param userId 회원 ID
+     */
+    void revokeAllRefreshTokens(Long userId);
+
     /**
      * Access Token jti를 블랙리스트에 등록한다.
      *
@@ -0,0 +1,52 @@
+package com.example.sns.service.cache;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * 캐시 값 직렬화 (Redis L2 저장용 JSON).
+ *
+ * 프로젝트 JSON 라이브러리(Gson) 사용. 응답 DTO(record)의 LocalDateTime은 ISO-8601 문자열로 저장.
+ */
+@Component
+public class CacheCodec {
+
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter().nullSafe())
+            .create();
+
+    public String encode(Object value) {
+        return gson.toJson(value);
+    }
+
+    public <T> T decode(String json, Type type) {
+        return gson.fromJson(json, type);
+    }
+
+    private static final class LocalDateTimeAdapter extends TypeAdapter<LocalDateTime> {
+
+        @Override
+        public void write(JsonWriter out, LocalDateTime value) throws IOException {
+            out.value(value.toString());
+        }
+
+        @Override
+        public LocalDateTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return LocalDateTime.parse(in.nextString());
+        }
+    }
+}
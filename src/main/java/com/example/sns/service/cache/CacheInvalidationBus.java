@@ -0,0 +1,193 @@
+package com.example.sns.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.sns.config.CacheProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 간 로컬 캐시(L1) 무효화 버스 (Redis pub/sub, doc/CACHE_POLICY.md 4).
+ *
+ * TwoLevelCache 삭제 시 CacheInvalidationEvent를 발행하고, 트랜잭션 커밋 후 키를 대기 집합에 모은다.
+ * flushIntervalMillis마다 대기 키를 중복 제거된 상태로 꺼내 maxBatchKeys개씩 한 메시지로 발행하므로
+ * 쓰기가 몰려도 메시지 수는 주기당 (키 수 / maxBatchKeys)로 제한된다.
+ * 메시지: 첫 줄 발행 노드 id, 이후 줄마다 캐시 키. 수신 노드는 키 접두사로 캐시를 찾아 L1만 삭제한다 (L2는 발행 노드가 삭제).
+ * 등록 대상: TwoLevelCache(타일·상세), LocalIdCache(회원·토큰 세대·이미지 저장 정보).
+ * Redis 미설정(test 등)·비활성화 시 발행·구독하지 않는다. 발행 실패 시 해당 키는 L1 TTL 후 반영된다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final char SEPARATOR = '\n';
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheProperties.Invalidation props;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<List<String>>> evictorsByPrefix = new ConcurrentHashMap<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService flusher;
+    private RedisMessageListenerContainer listenerContainer;
+
+    public CacheInvalidationBus(ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                                ApplicationEventPublisher eventPublisher, CacheProperties cacheProperties) {
+        this.props = cacheProperties.invalidation();
+        this.redisTemplate = props.enabled() && cacheProperties.redis().enabled()
+                ? redisTemplateProvider.getIfAvailable() : null;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (redisTemplate == null) {
+            log.info("캐시 무효화 버스 미사용 (비활성화 또는 Redis 미설정): 로컬 캐시는 TTL로만 동기화");
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cache-invalidation-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, props.flushIntervalMillis(), props.flushIntervalMillis(),
+                TimeUnit.MILLISECONDS);
+        try {
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(props.channel()));
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+            log.info("캐시 무효화 버스 구독: channel={}, nodeId={}", props.channel(), nodeId);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 버스 구독 실패: {}. 다른 노드의 쓰기는 L1 TTL 후 반영.", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdownNow();
+        flush();
+        if (listenerContainer != null) {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                log.debug("캐시 무효화 버스 구독 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 캐시 등록. 수신 키 중 접두사가 일치하는 키를 localEvictor로 넘긴다 (L1 삭제).
+     */
+    void register(String keyPrefix, Consumer<List<String>> localEvictor) {
+        evictorsByPrefix.put(keyPrefix, localEvictor);
+    }
+
+    /**
+     * 다른 노드에 삭제 전파. 트랜잭션 안이면 커밋 후, 밖이면 즉시 대기 집합에 넣는다.
+     */
+    void publish(Collection<String> keys) {
+        if (redisTemplate == null || keys.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new CacheInvalidationEvent(List.copyOf(keys)));
+    }
+
+    /**
+     * 무효화 이벤트 수집. 트랜잭션 커밋 후 실행 (롤백 시 전파하지 않음).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCacheInvalidationEvent(CacheInvalidationEvent event) {
+        if (redisTemplate == null) {
+            return;
+        }
+        pending.addAll(event.keys());
+    }
+
+    /**
+     * 대기 키를 maxBatchKeys개씩 발행. 같은 주기 안의 중복 키는 한 번만 보낸다.
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<String> batch = new ArrayList<>();
+        Iterator<String> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+            if (batch.size() == props.maxBatchKeys()) {
+                send(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    /**
+     * 수신 메시지 처리. 자기 노드가 보낸 메시지는 무시한다.
+     */
+    void onMessage(String payload) {
+        int firstLine = payload.indexOf(SEPARATOR);
+        if (firstLine < 0 || payload.substring(0, firstLine).equals(nodeId)) {
+            return;
+        }
+        Map<Consumer<List<String>>, List<String>> keysByCache = new HashMap<>();
+        for (String key : Arrays.asList(payload.substring(firstLine + 1).split(String.valueOf(SEPARATOR)))) {
+            for (Map.Entry<String, Consumer<List<String>>> entry : evictorsByPrefix.entrySet()) {
+                if (key.startsWith(entry.getKey())) {
+                    keysByCache.computeIfAbsent(entry.getValue(), cache -> new ArrayList<>()).add(key);
+                    break;
+                }
+            }
+        }
+        keysByCache.forEach(Consumer::accept);
+        log.debug("원격 캐시 무효화 수신: keys={}", keysByCache.values().stream().mapToInt(List::size).sum());
+    }
+
+    private void send(List<String> keys) {
+        StringBuilder payload = new StringBuilder(nodeId);
+        for (String key : keys) {
+            payload.append(SEPARATOR).append(key);
+        }
+        try {
+            redisTemplate.convertAndSend(props.channel(), payload.toString());
+        } catch (Exception e) {
+            log.warn("캐시 무효화 발행 실패: keys={}, error={}. L1 TTL 후 반영.", keys.size(), e.getMessage());
+        }
+    }
+}
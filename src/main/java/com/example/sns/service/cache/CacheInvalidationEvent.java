@@ -0,0 +1,12 @@
+package com.example.sns.service.cache;
+
+import java.util.List;
+
+/**
+ * 로컬 캐시(L1) 무효화 이벤트. TwoLevelCache 삭제 시 발행하고 커밋 이후 다른 노드로 전파한다.
+ *
+ * keys는 캐시 전체 키 (예: detail:posts:12, location:pins:15:27941:12689).
+ * 구독: CacheInvalidationBus.
+ */
+public record CacheInvalidationEvent(List<String> keys) {
+}
@@ -0,0 +1,100 @@
+package com.example.sns.service.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sns.config.CacheProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단건 상세 조회 read-through 캐시 (doc/CACHE_POLICY.md 3).
+ *
+ * 키: detail:{name}:{id}, 값: 응답 DTO. Caffeine L1(크기·TTL 제한) → Redis L2 → loader(DB) 순으로 조회한다.
+ * 쓰기 시 Service가 evict를 명시적으로 호출한다. 트랜잭션 안이면 즉시 삭제하고 커밋 후 한 번 더 삭제해,
+ * 커밋 전 다른 요청이 읽어 채운 이전 값을 지운다.
+ * 조회 결과는 cache.detail.gets{cache, result=hit|miss} 카운터로 기록한다.
+ *
+ * @param <V> 응답 DTO 타입
+ */
+@Slf4j
+public class DetailCache<V> {
+
+    private static final String KEY_PREFIX = "detail:";
+    private static final String METRIC_NAME = "cache.detail.gets";
+
+    private final String keyPrefix;
+    private final boolean enabled;
+    private final TwoLevelCache<V> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * @param name       캐시 이름·키 구간 (posts, image-posts)
+     * @param valueType  응답 DTO 클래스
+     * @param props      상세 캐시 설정
+     * @param ttlSeconds L2 TTL(초)
+     */
+    public DetailCache(String name, Class<V> valueType, CacheProperties.Detail props, int ttlSeconds,
+                       RedisCacheL2 redis, CacheCodec codec, CacheInvalidationBus invalidationBus,
+                       MeterRegistry meterRegistry) {
+        this.keyPrefix = KEY_PREFIX + name + ":";
+        this.enabled = props.enabled();
+        this.cache = new TwoLevelCache<>(keyPrefix, valueType, props.localMaxSize(),
+                Duration.ofSeconds(props.localTtlSeconds()), Duration.ofSeconds(ttlSeconds), redis, codec,
+                invalidationBus);
+        this.hits = Counter.builder(METRIC_NAME).tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag("cache", name).tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, miss 시 loader 결과를 저장 후 반환. loader 예외(404 등)는 캐시하지 않고 그대로 전파한다.
+     */
+    public V get(Long id, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = key(id);
+        V cached = cache.getAll(List.of(key)).get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        V loaded = loader.get();
+        cache.putAll(Map.of(key, loaded));
+        return loaded;
+    }
+
+    /**
+     * 캐시 삭제 (L1·L2). 트랜잭션 안이면 커밋 후 한 번 더 삭제한다.
+     */
+    public void evict(Long id) {
+        if (!enabled) {
+            return;
+        }
+        List<String> keys = List.of(key(id));
+        cache.evictAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evictAll(keys);
+                }
+            });
+        }
+        log.debug("상세 캐시 무효화: key={}", keys.get(0));
+    }
+
+    private String key(Long id) {
+        return keyPrefix + id;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.sns.service.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.CacheProperties;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.service.image.StoredImage;
+
+/**
+ * 이미지 게시글별 저장 정보 캐시 (doc/CACHE_POLICY.md 3.1).
+ *
+ * 키: image-file:{id}, 값: 저장 경로·MIME 타입·내용 해시. 이미지 파일 조회마다 엔티티를 읽지 않도록 한다.
+ * 크기·TTL은 상세 캐시(app.cache.detail)의 L1 설정을 따른다. 없는 게시글은 캐시하지 않는다.
+ * 이미지 교체·게시글 삭제 시 ImagePostService가 evict를 호출한다 (커밋 후 재삭제·노드 간 전파는 LocalIdCache).
+ */
+@Component
+public class ImageFileCache {
+
+    private static final String KEY_PREFIX = "image-file:";
+
+    private final ImagePostRepository imagePostRepository;
+    private final boolean enabled;
+    private final LocalIdCache<StoredImage> local;
+
+    public ImageFileCache(ImagePostRepository imagePostRepository, CacheProperties cacheProperties,
+                          CacheInvalidationBus invalidationBus) {
+        CacheProperties.Detail props = cacheProperties.detail();
+        this.imagePostRepository = imagePostRepository;
+        this.enabled = props.enabled();
+        this.local = new LocalIdCache<>(KEY_PREFIX, props.localMaxSize(),
+                Duration.ofSeconds(props.localTtlSeconds()), invalidationBus);
+    }
+
+    /**
+     * 이미지 게시글의 저장 정보. 게시글이 없으면 empty.
+     */
+    public Optional<StoredImage> get(Long id) {
+        if (!enabled) {
+            return load(id);
+        }
+        return Optional.ofNullable(local.get(id, key -> load(key).orElse(null)));
+    }
+
+    /**
+     * 캐시 삭제. 트랜잭션 안이면 커밋 후 한 번 더 삭제하고, 다른 노드에 전파한다.
+     */
+    public void evict(Long id) {
+        if (enabled) {
+            local.evict(id);
+        }
+    }
+
+    private Optional<StoredImage> load(Long id) {
+        return imagePostRepository.findStoredImageById(id);
+    }
+}
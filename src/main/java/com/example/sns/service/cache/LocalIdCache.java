@@ -0,0 +1,78 @@
+package com.example.sns.service.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ID 키 노드 로컬 캐시 (Caffeine만, L2 없음). UserCache·TokenVersionCache·ImageFileCache가 쓴다.
+ *
+ * 삭제는 즉시 한 번, 트랜잭션 안이면 커밋 후 한 번 더 (커밋 전 다른 요청이 옛 값을 다시 채운 경우) 하고,
+ * CacheInvalidationBus로 {keyPrefix}{id}를 발행해 다른 노드의 같은 캐시에서도 지운다.
+ *
+ * @param <V> 캐시 값 타입
+ */
+@Slf4j
+public class LocalIdCache<V> {
+
+    private final String keyPrefix;
+    private final Cache<Long, V> local;
+    private final CacheInvalidationBus invalidationBus;
+
+    /**
+     * @param keyPrefix 무효화 전파 키 접두사 (예: user:)
+     * @param maxSize   최대 항목 수
+     * @param ttl       쓰기 후 TTL
+     */
+    public LocalIdCache(String keyPrefix, long maxSize, Duration ttl, CacheInvalidationBus invalidationBus) {
+        this.keyPrefix = keyPrefix;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(keyPrefix, this::evictLocal);
+    }
+
+    /**
+     * 조회. miss 시 loader 결과를 저장한다 (null이면 저장하지 않고 null 반환).
+     */
+    public V get(Long id, Function<Long, V> loader) {
+        return local.get(id, loader);
+    }
+
+    /**
+     * 캐시 삭제. 트랜잭션 안이면 커밋 후 한 번 더 삭제하고, 다른 노드에 전파한다.
+     */
+    public void evict(Long id) {
+        local.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    local.invalidate(id);
+                }
+            });
+        }
+        invalidationBus.publish(List.of(keyPrefix + id));
+        log.debug("로컬 캐시 무효화: key={}{}", keyPrefix, id);
+    }
+
+    private void evictLocal(List<String> keys) {
+        for (String key : keys) {
+            try {
+                local.invalidate(Long.valueOf(key.substring(keyPrefix.length())));
+            } catch (NumberFormatException e) {
+                log.debug("로컬 캐시 무효화 키 형식 오류: key={}", key);
+            }
+        }
+    }
+}
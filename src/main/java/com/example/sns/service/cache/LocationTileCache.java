@@ -0,0 +1,212 @@
+package com.example.sns.service.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.sns.config.CacheProperties;
+import com.example.sns.service.geo.GeoLayer;
+import com.example.sns.service.geo.GeoPointEvent;
+import com.example.sns.service.geo.MapTile;
+import com.example.sns.utils.haversine.BoundingBox;
+import com.example.sns.utils.haversine.HaversineUtil;
+import com.google.gson.reflect.TypeToken;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 위치 기반 타일 캐시 (doc/CACHE_POLICY.md 2).
+ *
+ * 키: location:{layer}:{z}:{x}:{y}, 값: 타일 안의 응답 DTO 목록.
+ * 반경 조회는 반경에 맞는 zoom의 타일들을 모아 Haversine으로 거르고 거리순 페이징한다.
+ * 고정 타일 키이므로 조금씩 이동하는 클라이언트끼리 같은 타일을 공유한다.
+ * 쓰기(GeoPointEvent, 커밋 후) 시 해당 좌표(이동 시 이전 좌표 포함)의 모든 zoom 타일을 삭제한다.
+ *
+ * 넓은 반경(타일 수 상한 초과)·밀집 지역(적재 건수 상한 초과)은 캐시하지 않고 empty → 호출 측 기존 조회.
+ *
+ * @param <T> 응답 DTO 타입
+ */
+@Slf4j
+public class LocationTileCache<T> {
+
+    /**
+     * 캐시 미스 타일 적재. 사각 범위 내 항목을 최대 limit건 조회.
+     */
+    @FunctionalInterface
+    public interface TileLoader<T> {
+
+        List<T> load(BoundingBox box, int limit);
+    }
+
+    private static final String KEY_PREFIX = "location:";
+    /** 타일 경계 부동소수 오차 보정(도). */
+    private static final double EDGE_PADDING = 1e-9;
+
+    private final GeoLayer layer;
+    private final String keyPrefix;
+    private final Function<T, Double> latitudeOf;
+    private final Function<T, Double> longitudeOf;
+    private final CacheProperties.Location props;
+    private final TwoLevelCache<List<T>> cache;
+
+    /**
+     * @param layer       무효화 대상 레이어
+     * @param keySegment  키 구간 (pins, posts, image-posts)
+     * @param elementType 응답 DTO 클래스
+     * @param ttlSeconds  L2 TTL(초)
+     */
+    public LocationTileCache(GeoLayer layer, String keySegment, Class<T> elementType,
+                             Function<T, Double> latitudeOf, Function<T, Double> longitudeOf,
+                             CacheProperties.Location props, int ttlSeconds,
+                             RedisCacheL2 redis, CacheCodec codec, CacheInvalidationBus invalidationBus) {
+        this.layer = layer;
+        this.keyPrefix = KEY_PREFIX + keySegment + ":";
+        this.latitudeOf = latitudeOf;
+        this.longitudeOf = longitudeOf;
+        this.props = props;
+        this.cache = new TwoLevelCache<>(keyPrefix, TypeToken.getParameterized(List.class, elementType).getType(),
+                props.localMaxTiles(), Duration.ofSeconds(props.localTtlSeconds()), Duration.ofSeconds(ttlSeconds),
+                redis, codec, invalidationBus);
+    }
+
+    /**
+     * 반경(km) 내 항목 페이지. 거리 오름차순.
+     *
+     * @return 캐시 비활성화·넓은 반경·밀집 지역이면 empty
+     */
+    public Optional<Page<T>> findWithinRadius(double lat, double lng, double radiusKm, Pageable pageable,
+                                              TileLoader<T> loader) {
+        if (!props.enabled()) {
+            return Optional.empty();
+        }
+        BoundingBox box = BoundingBox.around(lat, lng, radiusKm);
+        if (box.minLng() <= -180 && box.maxLng() >= 180) {
+            return Optional.empty();
+        }
+        int z = MapTile.zoomFor(lat, radiusKm, props.minZoom(), props.maxZoom());
+        List<MapTile> tiles = MapTile.covering(box, z);
+        if (tiles.size() > props.maxTilesPerQuery()) {
+            return Optional.empty();
+        }
+
+        List<String> keys = tiles.stream().map(this::key).toList();
+        Map<String, List<T>> tileItems = new HashMap<>(cache.getAll(keys));
+        List<MapTile> missing = tiles.stream()
+                .filter(tile -> !tileItems.containsKey(key(tile)))
+                .toList();
+        if (!missing.isEmpty()) {
+            Optional<Map<String, List<T>>> loaded = loadTiles(missing, z, loader);
+            if (loaded.isEmpty()) {
+                return Optional.empty();
+            }
+            cache.putAll(loaded.get());
+            tileItems.putAll(loaded.get());
+        }
+        return Optional.of(toPage(tileItems.values(), lat, lng, radiusKm, pageable));
+    }
+
+    /**
+     * 위치 변경 이벤트 → 해당 좌표 타일 무효화. 트랜잭션 커밋 후 실행.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGeoPointEvent(GeoPointEvent event) {
+        if (event.layer() != layer || !props.enabled()) {
+            return;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        addTileKeys(keys, event.latitude(), event.longitude());
+        addTileKeys(keys, event.previousLatitude(), event.previousLongitude());
+        if (!keys.isEmpty()) {
+            cache.evictAll(keys);
+            log.debug("위치 캐시 무효화: layer={}, id={}, keys={}", layer, event.id(), keys.size());
+        }
+    }
+
+    private Optional<Map<String, List<T>>> loadTiles(List<MapTile> missing, int z, TileLoader<T> loader) {
+        double minLat = 90;
+        double maxLat = -90;
+        double minLng = 180;
+        double maxLng = -180;
+        int lastRow = (1 << z) - 1;
+        for (MapTile tile : missing) {
+            BoundingBox bounds = tile.bounds();
+            minLat = Math.min(minLat, tile.y() == lastRow ? -90 : bounds.minLat());
+            maxLat = Math.max(maxLat, tile.y() == 0 ? 90 : bounds.maxLat());
+            minLng = Math.min(minLng, bounds.minLng());
+            maxLng = Math.max(maxLng, bounds.maxLng());
+        }
+        BoundingBox loadBox = new BoundingBox(minLat - EDGE_PADDING, maxLat + EDGE_PADDING,
+                minLng - EDGE_PADDING, maxLng + EDGE_PADDING);
+
+        List<T> items = loader.load(loadBox, props.maxItemsPerLoad() + 1);
+        if (items.size() > props.maxItemsPerLoad()) {
+            log.debug("위치 캐시 미적용(밀집 지역): layer={}, box={}", layer, loadBox);
+            return Optional.empty();
+        }
+
+        Map<String, List<T>> loaded = new HashMap<>();
+        for (MapTile tile : missing) {
+            loaded.put(key(tile), new ArrayList<>());
+        }
+        for (T item : items) {
+            Double lat = latitudeOf.apply(item);
+            Double lng = longitudeOf.apply(item);
+            if (lat == null || lng == null) {
+                continue;
+            }
+            List<T> bucket = loaded.get(key(MapTile.of(lat, lng, z)));
+            if (bucket != null) {
+                bucket.add(item);
+            }
+        }
+        return Optional.of(loaded);
+    }
+
+    private Page<T> toPage(Iterable<List<T>> tileItems, double lat, double lng, double radiusKm,
+                           Pageable pageable) {
+        double radiusMeters = radiusKm * 1000;
+        List<Map.Entry<T, Double>> within = new ArrayList<>();
+        for (List<T> items : tileItems) {
+            for (T item : items) {
+                double distance = HaversineUtil.distanceMeters(lat, lng, latitudeOf.apply(item),
+                        longitudeOf.apply(item));
+                if (distance <= radiusMeters) {
+                    within.add(Map.entry(item, distance));
+                }
+            }
+        }
+        within.sort(Comparator.comparingDouble(Map.Entry::getValue));
+
+        int from = (int) Math.min(pageable.getOffset(), within.size());
+        int to = Math.min(from + pageable.getPageSize(), within.size());
+        List<T> content = within.subList(from, to).stream()
+                .map(Map.Entry::getKey)
+                .toList();
+        return new PageImpl<>(content, pageable, within.size());
+    }
+
+    private void addTileKeys(Set<String> keys, Double lat, Double lng) {
+        if (lat == null || lng == null) {
+            return;
+        }
+        for (int z = props.minZoom(); z <= props.maxZoom(); z++) {
+            keys.add(key(MapTile.of(lat, lng, z)));
+        }
+    }
+
+    private String key(MapTile tile) {
+        return keyPrefix + tile.key();
+    }
+}
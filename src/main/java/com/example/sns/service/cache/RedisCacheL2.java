@@ -0,0 +1,107 @@
+package com.example.sns.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.CacheProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 L2 (Redis). 노드 간 공유.
+ *
+ * Redis 미설정(test 등)·비활성화 시 항상 miss. Redis 실패 시 retryAfterSeconds 동안 L2를 건너뛰고
+ * L1(Caffeine)만으로 동작한 뒤 재시도한다 (Step 5.1, RULE 5.2.1 Fallback — FallbackTokenStore와 동일 원칙).
+ */
+@Slf4j
+@Component
+public class RedisCacheL2 {
+
+    private final StringRedisTemplate redisTemplate;
+    private final long retryAfterMillis;
+    private volatile long unavailableUntil;
+
+    public RedisCacheL2(ObjectProvider<StringRedisTemplate> redisTemplateProvider, CacheProperties cacheProperties) {
+        this.redisTemplate = cacheProperties.redis().enabled() ? redisTemplateProvider.getIfAvailable() : null;
+        this.retryAfterMillis = cacheProperties.redis().retryAfterSeconds() * 1000L;
+    }
+
+    /**
+     * 현재 L2 사용 가능 여부.
+     */
+    public boolean isAvailable() {
+        return redisTemplate != null && System.currentTimeMillis() >= unavailableUntil;
+    }
+
+    /**
+     * 다건 조회. 결과는 keys 순서와 같고 miss는 null.
+     */
+    public List<String> multiGet(List<String> keys) {
+        if (keys.isEmpty() || !isAvailable()) {
+            return nulls(keys.size());
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            return values != null ? values : nulls(keys.size());
+        } catch (Exception e) {
+            markUnavailable("multiGet", e);
+            return nulls(keys.size());
+        }
+    }
+
+    /**
+     * 다건 저장 (동일 TTL).
+     */
+    public void multiSet(Map<String, String> entries, Duration ttl) {
+        if (entries.isEmpty() || !isAvailable()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((key, value) -> connection.stringCommands()
+                        .setEx(key.getBytes(StandardCharsets.UTF_8), ttl.toSeconds(),
+                                value.getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        } catch (Exception e) {
+            markUnavailable("multiSet", e);
+        }
+    }
+
+    /**
+     * 다건 삭제.
+     */
+    public void delete(Collection<String> keys) {
+        if (keys.isEmpty() || !isAvailable()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            markUnavailable("delete", e);
+        }
+    }
+
+    private void markUnavailable(String operation, Exception e) {
+        unavailableUntil = System.currentTimeMillis() + retryAfterMillis;
+        log.warn("Redis 캐시 L2 실패, {}ms 동안 L1만 사용: operation={}, error={}",
+                retryAfterMillis, operation, e.getMessage());
+    }
+
+    private static List<String> nulls(int size) {
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(null);
+        }
+        return list;
+    }
+}
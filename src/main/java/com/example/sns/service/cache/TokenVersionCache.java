@@ -0,0 +1,57 @@
+package com.example.sns.service.cache;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.CacheProperties;
+import com.example.sns.repository.UserRepository;
+
+/**
+ * 회원별 토큰 세대 캐시 (doc/CACHE_POLICY.md 5).
+ *
+ * 키: token-version:{id}, 값: users.token_version. 인증 필터가 요청마다 토큰 클레임 ver와 비교한다.
+ * 크기·TTL은 회원 캐시(app.cache.member) 설정을 따른다. 없는 회원은 DELETED(-1)로 캐시해 반복 조회를 막는다.
+ * 전체 세션 철회 시 AuthService가 evict를 호출한다 (커밋 후 재삭제·노드 간 전파는 LocalIdCache).
+ * 전파가 꺼져 있으면 다른 노드는 TTL 안에 반영된다.
+ */
+@Component
+public class TokenVersionCache {
+
+    private static final String KEY_PREFIX = "token-version:";
+    private static final int DELETED = -1;
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final LocalIdCache<Integer> local;
+
+    public TokenVersionCache(UserRepository userRepository, CacheProperties cacheProperties,
+                             CacheInvalidationBus invalidationBus) {
+        CacheProperties.Member props = cacheProperties.member();
+        this.userRepository = userRepository;
+        this.enabled = props.enabled();
+        this.local = new LocalIdCache<>(KEY_PREFIX, props.maxSize(), Duration.ofSeconds(props.ttlSeconds()),
+                invalidationBus);
+    }
+
+    /**
+     * 토큰 세대가 현재 값과 같은지. 회원이 없으면 false.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        int current = enabled ? local.get(userId, this::load) : load(userId);
+        return current != DELETED && current == tokenVersion;
+    }
+
+    /**
+     * 캐시 삭제. 트랜잭션 안이면 커밋 후 한 번 더 삭제하고, 다른 노드에 전파한다.
+     */
+    public void evict(Long userId) {
+        if (enabled) {
+            local.evict(userId);
+        }
+    }
+
+    private int load(Long userId) {
+        return userRepository.findTokenVersionById(userId).orElse(DELETED);
+    }
+}
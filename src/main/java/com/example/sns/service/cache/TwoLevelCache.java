@@ -0,0 +1,125 @@
+package com.example.sns.service.cache;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단 캐시: Caffeine L1(노드 로컬) → Redis L2(공유).
+ *
+ * 조회: L1 hit → 반환, miss → L2 다건 조회 후 L1 채움. 저장·삭제는 L1·L2 모두 반영.
+ * L2 장애 시 RedisCacheL2가 miss로 처리하므로 L1만으로 동작한다.
+ * L1 TTL은 L2보다 짧게 두어 다른 노드의 쓰기로 인한 지연을 제한한다.
+ * 삭제는 CacheInvalidationBus로 다른 노드 L1에도 전파한다 (커밋 후, Redis pub/sub).
+ *
+ * @param <V> 캐시 값 타입 (Gson 직렬화 가능)
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private final String name;
+    private final Cache<String, V> local;
+    private final RedisCacheL2 redis;
+    private final CacheCodec codec;
+    private final Type valueType;
+    private final Duration ttl;
+    private final CacheInvalidationBus invalidationBus;
+
+    /**
+     * @param name          캐시 이름·키 접두사 (로그, 무효화 전파 대상 식별)
+     * @param valueType     값 타입 (제네릭 포함, 역직렬화용)
+     * @param localMaxSize  L1 최대 항목 수
+     * @param localTtl      L1 TTL
+     * @param ttl           L2 TTL
+     */
+    public TwoLevelCache(String name, Type valueType, long localMaxSize, Duration localTtl, Duration ttl,
+                         RedisCacheL2 redis, CacheCodec codec, CacheInvalidationBus invalidationBus) {
+        this.name = name;
+        this.valueType = valueType;
+        this.ttl = ttl;
+        this.redis = redis;
+        this.codec = codec;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl.compareTo(ttl) < 0 ? localTtl : ttl)
+                .build();
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(name, this::evictLocal);
+    }
+
+    /**
+     * 다건 조회. hit만 담긴 Map 반환 (keys 순서 유지).
+     */
+    public Map<String, V> getAll(List<String> keys) {
+        Map<String, V> hits = new LinkedHashMap<>(local.getAllPresent(keys));
+        if (hits.size() == keys.size()) {
+            return hits;
+        }
+        List<String> misses = new ArrayList<>(keys.size() - hits.size());
+        for (String key : keys) {
+            if (!hits.containsKey(key)) {
+                misses.add(key);
+            }
+        }
+        List<String> values = redis.multiGet(misses);
+        for (int i = 0; i < misses.size(); i++) {
+            String json = values.get(i);
+            if (json == null) {
+                continue;
+            }
+            try {
+                V value = codec.decode(json, valueType);
+                local.put(misses.get(i), value);
+                hits.put(misses.get(i), value);
+            } catch (RuntimeException e) {
+                log.warn("캐시 L2 값 역직렬화 실패, miss 처리: cache={}, key={}, error={}",
+                        name, misses.get(i), e.getMessage());
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * 다건 저장 (L1·L2).
+     */
+    public void putAll(Map<String, V> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        local.putAll(entries);
+        if (redis.isAvailable()) {
+            Map<String, String> encoded = new HashMap<>(entries.size());
+            entries.forEach((key, value) -> encoded.put(key, codec.encode(value)));
+            redis.multiSet(encoded, ttl);
+        }
+    }
+
+    /**
+     * 다건 삭제 (L1·L2). 다른 노드 L1 삭제는 커밋 후 버스로 전파한다.
+     */
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        local.invalidateAll(keys);
+        redis.delete(keys);
+        invalidationBus.publish(keys);
+    }
+
+    /**
+     * L1만 삭제. 다른 노드의 무효화 메시지 수신 시 사용한다.
+     */
+    void evictLocal(Collection<String> keys) {
+        local.invalidateAll(keys);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.sns.service.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.CacheProperties;
+import com.example.sns.domain.User;
+import com.example.sns.repository.UserRepository;
+
+/**
+ * 현재 사용자 엔티티 캐시 (doc/CACHE_POLICY.md 5).
+ *
+ * 키: user:{id}, 값: User 엔티티(detached). Caffeine 노드 로컬만 사용하고 짧은 TTL로 둔다.
+ * 인증 필터는 토큰 클레임만 쓰고, 엔티티가 필요한 곳(AuthService.getCurrentUserEntity)만 이 캐시를 거친다.
+ * 회원 수정·삭제 시 MemberService가 evict를 호출한다 (커밋 후 재삭제·노드 간 전파는 LocalIdCache).
+ * 반환 엔티티는 공유되므로 수정하지 말고 다시 조회해 수정한다.
+ */
+@Component
+public class UserCache {
+
+    private static final String KEY_PREFIX = "user:";
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final LocalIdCache<User> local;
+
+    public UserCache(UserRepository userRepository, CacheProperties cacheProperties,
+                     CacheInvalidationBus invalidationBus) {
+        CacheProperties.Member props = cacheProperties.member();
+        this.userRepository = userRepository;
+        this.enabled = props.enabled();
+        this.local = new LocalIdCache<>(KEY_PREFIX, props.maxSize(), Duration.ofSeconds(props.ttlSeconds()),
+                invalidationBus);
+    }
+
+    /**
+     * 회원 조회. miss 시 DB 조회 후 저장 (없는 회원은 캐시하지 않음).
+     */
+    public Optional<User> get(Long id) {
+        if (!enabled) {
+            return userRepository.findById(id);
+        }
+        return Optional.ofNullable(local.get(id, key -> userRepository.findById(key).orElse(null)));
+    }
+
+    /**
+     * 캐시 삭제. 트랜잭션 안이면 커밋 후 한 번 더 삭제하고, 다른 노드에 전파한다.
+     */
+    public void evict(Long id) {
+        if (enabled) {
+            local.evict(id);
+        }
+    }
+}
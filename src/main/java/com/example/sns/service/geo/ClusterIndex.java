@@ -0,0 +1,393 @@
+package com.example.sns.service.geo;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.sns.config.GeoProperties;
+import com.example.sns.utils.haversine.BoundingBox;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 측 마커 클러스터링용 계층 격자 (supercluster 방식의 zoom별 사전 집계).
+ *
+ * zoom z의 격자 칸 = zoom (z + cellsPerTileLog2)의 Web Mercator 타일. 상위 칸 1개 = 하위 칸 2×2.
+ * 각 칸은 레이어별 점 개수·위도 합·경도 합을 보관하고, 최하위 칸만 개별 점 목록을 보관한다.
+ * 쓰기(GeoPointEvent, 커밋 후)마다 모든 zoom의 해당 칸을 증감하므로 재계산 없이 갱신된다.
+ * 조회 비용·응답 크기는 viewport의 칸 수(maxCellsPerQuery) × expandThreshold로 제한된다.
+ */
+@Slf4j
+@Component
+public class ClusterIndex {
+
+    private static final int LAYER_COUNT = GeoLayer.values().length;
+
+    private final boolean enabled;
+    private final int minZoom;
+    private final int maxZoom;
+    private final int shift;
+    private final int expandThreshold;
+    private final int maxCellsPerQuery;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** levels[z - minZoom]: 칸 키 → 집계. 마지막 level이 최하위. */
+    private final List<Map<Long, Cell>> levels = new ArrayList<>();
+    private final Map<GeoLayer, Map<Long, double[]>> coordinatesById = new EnumMap<>(GeoLayer.class);
+    private final List<GeoPointEvent> pendingEvents = new ArrayList<>();
+
+    private boolean loading;
+    private volatile boolean ready;
+
+    public ClusterIndex(GeoProperties geoProperties) {
+        GeoProperties.Cluster props = geoProperties.cluster();
+        this.enabled = props.enabled();
+        this.minZoom = props.minZoom();
+        this.maxZoom = Math.max(props.minZoom(), props.maxZoom());
+        this.shift = props.cellsPerTileLog2();
+        this.expandThreshold = props.expandThreshold();
+        this.maxCellsPerQuery = props.maxCellsPerQuery();
+        for (int z = minZoom; z <= maxZoom; z++) {
+            levels.add(new HashMap<>());
+        }
+        for (GeoLayer layer : GeoLayer.values()) {
+            coordinatesById.put(layer, new HashMap<>());
+        }
+    }
+
+    /**
+     * 클러스터 한 건 (칸 안의 점 평균 좌표).
+     */
+    public record ClusterCell(double latitude, double longitude, int count, Map<GeoLayer, Integer> countByLayer) {
+    }
+
+    /**
+     * 개별 마커 (밀도가 낮은 칸의 점).
+     */
+    public record ClusterPoint(GeoLayer layer, long id, double latitude, double longitude) {
+    }
+
+    /**
+     * 조회 결과.
+     */
+    public record ClusterResult(int zoom, List<ClusterCell> clusters, List<ClusterPoint> points) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    /**
+     * 조회 zoom을 지원 범위로 보정.
+     */
+    public int clampZoom(int zoom) {
+        return Math.max(minZoom, Math.min(maxZoom, zoom));
+    }
+
+    /**
+     * viewport가 걸치는 격자 칸 수가 상한 이하인지 여부.
+     */
+    public boolean isWithinQueryLimit(int zoom, BoundingBox box) {
+        int level = clampZoom(zoom) + shift;
+        MapTile northWest = MapTile.of(box.maxLat(), box.minLng(), level);
+        MapTile southEast = MapTile.of(box.minLat(), box.maxLng(), level);
+        long cells = (long) (southEast.x() - northWest.x() + 1) * (southEast.y() - northWest.y() + 1);
+        return cells <= maxCellsPerQuery;
+    }
+
+    /**
+     * viewport 내 클러스터·개별 마커 조회.
+     *
+     * @param zoom   지도 zoom (지원 범위로 보정)
+     * @param box    viewport
+     * @param layers 대상 레이어
+     */
+    public ClusterResult query(int zoom, BoundingBox box, Set<GeoLayer> layers) {
+        int z = clampZoom(zoom);
+        int levelIndex = z - minZoom;
+        int level = z + shift;
+        MapTile northWest = MapTile.of(box.maxLat(), box.minLng(), level);
+        MapTile southEast = MapTile.of(box.minLat(), box.maxLng(), level);
+        boolean[] selected = new boolean[LAYER_COUNT];
+        layers.forEach(layer -> selected[layer.ordinal()] = true);
+
+        List<ClusterCell> clusters = new ArrayList<>();
+        List<ClusterPoint> points = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Cell> cells = levels.get(levelIndex);
+            for (int y = northWest.y(); y <= southEast.y(); y++) {
+                for (int x = northWest.x(); x <= southEast.x(); x++) {
+                    Cell cell = cells.get(key(x, y));
+                    if (cell == null) {
+                        continue;
+                    }
+                    int count = cell.count(selected);
+                    if (count == 0) {
+                        continue;
+                    }
+                    if (count <= expandThreshold) {
+                        collectPoints(levelIndex, x, y, selected, points);
+                    } else {
+                        clusters.add(cell.toCluster(selected, count));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new ClusterResult(z, clusters, points);
+    }
+
+    /**
+     * 점 등록·이동. 이미 있으면 기존 위치에서 제거 후 등록.
+     */
+    public void put(GeoLayer layer, long id, double lat, double lng) {
+        lock.writeLock().lock();
+        try {
+            putInternal(layer, id, lat, lng);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 레이어별 등록 건수.
+     */
+    public int size(GeoLayer layer) {
+        lock.readLock().lock();
+        try {
+            return coordinatesById.get(layer).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 일괄 적재 시작. 이후 도착하는 이벤트는 적재 완료 시 순서대로 재적용한다.
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            loading = true;
+            pendingEvents.clear();
+            levels.forEach(Map::clear);
+            coordinatesById.values().forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 일괄 적재 완료. 적재 중 쌓인 이벤트를 재적용하고 조회를 허용한다.
+     */
+    public void completeLoad() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents.forEach(this::apply);
+            pendingEvents.clear();
+            loading = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 일괄 적재 실패. 클러스터 조회는 503.
+     */
+    public void abortLoad() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents.clear();
+            loading = false;
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 위치 변경 이벤트 반영. 트랜잭션 커밋 후 실행.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGeoPointEvent(GeoPointEvent event) {
+        if (!enabled || event.id() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                pendingEvents.add(event);
+            } else {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(GeoPointEvent event) {
+        if (event.hasLocation()) {
+            putInternal(event.layer(), event.id(), event.latitude(), event.longitude());
+        } else {
+            removeInternal(event.layer(), event.id());
+        }
+    }
+
+    private void putInternal(GeoLayer layer, long id, double lat, double lng) {
+        double[] previous = coordinatesById.get(layer).get(id);
+        if (previous != null && previous[0] == lat && previous[1] == lng) {
+            return;
+        }
+        removeInternal(layer, id);
+        coordinatesById.get(layer).put(id, new double[] {lat, lng});
+        int ordinal = layer.ordinal();
+        int finest = levels.size() - 1;
+        for (int i = 0; i <= finest; i++) {
+            MapTile tile = MapTile.of(lat, lng, minZoom + i + shift);
+            Cell cell = levels.get(i).computeIfAbsent(key(tile.x(), tile.y()), k -> new Cell());
+            cell.add(ordinal, lat, lng);
+            if (i == finest) {
+                cell.addPoint(new ClusterPoint(layer, id, lat, lng));
+            }
+        }
+    }
+
+    private void removeInternal(GeoLayer layer, long id) {
+        double[] coordinates = coordinatesById.get(layer).remove(id);
+        if (coordinates == null) {
+            return;
+        }
+        int ordinal = layer.ordinal();
+        int finest = levels.size() - 1;
+        for (int i = 0; i <= finest; i++) {
+            MapTile tile = MapTile.of(coordinates[0], coordinates[1], minZoom + i + shift);
+            long key = key(tile.x(), tile.y());
+            Cell cell = levels.get(i).get(key);
+            if (cell == null) {
+                continue;
+            }
+            cell.remove(ordinal, coordinates[0], coordinates[1]);
+            if (i == finest) {
+                cell.removePoint(layer, id);
+            }
+            if (cell.isEmpty()) {
+                levels.get(i).remove(key);
+            }
+        }
+    }
+
+    /**
+     * 밀도가 낮은 칸의 개별 점 수집. 하위 2×2 칸 중 비어 있지 않은 칸만 따라 최하위까지 내려간다.
+     */
+    private void collectPoints(int levelIndex, int x, int y, boolean[] selected, List<ClusterPoint> out) {
+        Cell cell = levels.get(levelIndex).get(key(x, y));
+        if (cell == null || cell.count(selected) == 0) {
+            return;
+        }
+        if (levelIndex == levels.size() - 1) {
+            for (ClusterPoint point : cell.points) {
+                if (selected[point.layer().ordinal()]) {
+                    out.add(point);
+                }
+            }
+            return;
+        }
+        for (int dy = 0; dy <= 1; dy++) {
+            for (int dx = 0; dx <= 1; dx++) {
+                collectPoints(levelIndex + 1, 2 * x + dx, 2 * y + dy, selected, out);
+            }
+        }
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    /**
+     * 격자 한 칸의 레이어별 집계. 최하위 칸만 points 보관.
+     */
+    private static final class Cell {
+
+        private final int[] counts = new int[LAYER_COUNT];
+        private final double[] latSums = new double[LAYER_COUNT];
+        private final double[] lngSums = new double[LAYER_COUNT];
+        private List<ClusterPoint> points;
+
+        void add(int layer, double lat, double lng) {
+            counts[layer]++;
+            latSums[layer] += lat;
+            lngSums[layer] += lng;
+        }
+
+        void remove(int layer, double lat, double lng) {
+            counts[layer]--;
+            latSums[layer] -= lat;
+            lngSums[layer] -= lng;
+            if (counts[layer] == 0) {
+                latSums[layer] = 0;
+                lngSums[layer] = 0;
+            }
+        }
+
+        void addPoint(ClusterPoint point) {
+            if (points == null) {
+                points = new ArrayList<>(2);
+            }
+            points.add(point);
+        }
+
+        void removePoint(GeoLayer layer, long id) {
+            if (points != null) {
+                points.removeIf(p -> p.layer() == layer && p.id() == id);
+            }
+        }
+
+        int count(boolean[] selected) {
+            int total = 0;
+            for (int i = 0; i < LAYER_COUNT; i++) {
+                if (selected[i]) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+
+        boolean isEmpty() {
+            for (int count : counts) {
+                if (count > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        ClusterCell toCluster(boolean[] selected, int count) {
+            double latSum = 0;
+            double lngSum = 0;
+            Map<GeoLayer, Integer> countByLayer = new EnumMap<>(GeoLayer.class);
+            for (GeoLayer layer : GeoLayer.values()) {
+                int i = layer.ordinal();
+                if (selected[i] && counts[i] > 0) {
+                    latSum += latSums[i];
+                    lngSum += lngSums[i];
+                    countByLayer.put(layer, counts[i]);
+                }
+            }
+            return new ClusterCell(latSum / count, lngSum / count, count, countByLayer);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.sns.service.geo;
+
+/**
+ * 반경 조회 후보. 엔티티 id와 중심점으로부터의 거리(km).
+ */
+public record GeoHit(long id, double distanceKm) {
+}
@@ -0,0 +1,480 @@
+package com.example.sns.service.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.sns.config.GeoProperties;
+import com.example.sns.utils.haversine.BoundingBox;
+import com.example.sns.utils.haversine.HaversineUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 격자(grid) 공간 인덱스.
+ *
+ * Pin·Post·ImagePost의 id·좌표를 위도·경도 격자 칸별 primitive 배열에 보관한다.
+ * 반경 조회 시 BoundingBox가 걸치는 칸만 훑고 Haversine으로 정확히 거른다.
+ * viewport 조회(searchBox)는 한 번의 칸 순회로 전 레이어 후보를 함께 모은다.
+ * 최근접 k건 조회(nearest)는 중심 칸에서 고리(ring) 단위로 넓혀 가며, 남은 고리 밖의 최소 거리가
+ * 현재 k번째 거리 이상이 되면 멈춘다.
+ * 경도 칸 번호는 ±180°에서 순환한다 (179.99°와 -179.99°는 이웃 칸). 경도 칸 크기는 360°를 나누어떨어지게 맞춘다.
+ * 기동 시 GeoIndexLoader가 DB에서 적재하고, 이후 GeoPointEvent(커밋 후)로 갱신한다.
+ * 적재 완료 전에는 isAvailable()=false → 반경 조회는 SQL fallback.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+public class GeoIndex implements GeoSearchBackend {
+
+    private final boolean enabled;
+    private final double cellSize;
+    private final double lngCellSize;
+    private final long lngCells;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<GeoLayer, Map<Long, Long>> cellKeyById = new EnumMap<>(GeoLayer.class);
+    private final List<GeoPointEvent> pendingEvents = new ArrayList<>();
+
+    private boolean loading;
+    private volatile boolean ready;
+
+    public GeoIndex(GeoProperties geoProperties) {
+        GeoProperties.Index props = geoProperties.index();
+        this.enabled = props.enabled();
+        this.cellSize = props.cellSizeDegrees();
+        this.lngCells = Math.max(1, Math.round(360.0 / cellSize));
+        this.lngCellSize = 360.0 / lngCells;
+        for (GeoLayer layer : GeoLayer.values()) {
+            cellKeyById.put(layer, new HashMap<>());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    @Override
+    public List<GeoHit> searchRadius(GeoLayer layer, double lat, double lng, double radiusKm) {
+        BoundingBox box = BoundingBox.around(lat, lng, radiusKm);
+        double radiusMeters = radiusKm * 1000;
+        int layerOrdinal = layer.ordinal();
+        List<GeoHit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Cell cell : cellsCovering(box)) {
+                for (int i = 0; i < cell.size; i++) {
+                    if (cell.layers[i] != layerOrdinal || !box.contains(cell.lats[i], cell.lngs[i])) {
+                        continue;
+                    }
+                    double distance = HaversineUtil.distanceMeters(lat, lng, cell.lats[i], cell.lngs[i]);
+                    if (distance <= radiusMeters) {
+                        hits.add(new GeoHit(cell.ids[i], distance / 1000));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble(GeoHit::distanceKm));
+        return hits;
+    }
+
+    @Override
+    public Map<GeoLayer, List<GeoHit>> searchBox(BoundingBox box, double lat, double lng) {
+        Map<GeoLayer, List<GeoHit>> hitsByLayer = new EnumMap<>(GeoLayer.class);
+        GeoLayer[] layers = GeoLayer.values();
+        for (GeoLayer layer : layers) {
+            hitsByLayer.put(layer, new ArrayList<>());
+        }
+
+        lock.readLock().lock();
+        try {
+            for (Cell cell : cellsCovering(box)) {
+                for (int i = 0; i < cell.size; i++) {
+                    if (!box.contains(cell.lats[i], cell.lngs[i])) {
+                        continue;
+                    }
+                    double distance = HaversineUtil.distanceMeters(lat, lng, cell.lats[i], cell.lngs[i]);
+                    hitsByLayer.get(layers[cell.layers[i]]).add(new GeoHit(cell.ids[i], distance / 1000));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hitsByLayer.values().forEach(hits -> hits.sort(Comparator.comparingDouble(GeoHit::distanceKm)));
+        return hitsByLayer;
+    }
+
+    @Override
+    public List<GeoHit> nearest(GeoLayer layer, double lat, double lng, int k, double maxRadiusKm) {
+        if (k <= 0) {
+            return List.of();
+        }
+        NearestCollector collector = new NearestCollector(layer, lat, lng, k, maxRadiusKm);
+        long centerLatIdx = latIndex(lat);
+        long centerLngIdx = lngIndex(lng);
+
+        lock.readLock().lock();
+        try {
+            for (long ring = 0; ; ring++) {
+                visitRing(centerLatIdx, centerLngIdx, ring, collector);
+                if (distanceOutsideKm(lat, lng, centerLatIdx, centerLngIdx, ring) >= collector.limitKm()) {
+                    break;
+                }
+                long nextRingCells = (2 * ring + 3) * (2 * ring + 3);
+                if (nextRingCells >= cells.size()) {
+                    // 남은 고리 칸 수가 실제 칸 수보다 많으면 비어 있는 칸을 훑는 대신 나머지 칸을 한 번에 확인
+                    visitOutside(centerLatIdx, centerLngIdx, ring, collector);
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return collector.sorted();
+    }
+
+    /**
+     * 좌표 등록·이동. 이미 있으면 기존 칸에서 제거 후 등록.
+     */
+    public void put(GeoLayer layer, long id, double lat, double lng) {
+        lock.writeLock().lock();
+        try {
+            putInternal(layer, id, lat, lng);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 좌표 제거.
+     */
+    public void remove(GeoLayer layer, long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(layer, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 레이어별 등록 건수.
+     */
+    public int size(GeoLayer layer) {
+        lock.readLock().lock();
+        try {
+            return cellKeyById.get(layer).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 일괄 적재 시작. 이후 도착하는 이벤트는 적재 완료 시 순서대로 재적용한다.
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            loading = true;
+            pendingEvents.clear();
+            cells.clear();
+            cellKeyById.values().forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 일괄 적재 완료. 적재 중 쌓인 이벤트를 재적용하고 조회를 허용한다.
+     */
+    public void completeLoad() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents.forEach(this::apply);
+            pendingEvents.clear();
+            loading = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 일괄 적재 실패. 조회는 SQL fallback 유지.
+     */
+    public void abortLoad() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents.clear();
+            loading = false;
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 위치 변경 이벤트 반영. 트랜잭션 커밋 후 실행 (롤백된 변경은 반영하지 않음).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGeoPointEvent(GeoPointEvent event) {
+        if (!enabled || event.id() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                pendingEvents.add(event);
+            } else {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(GeoPointEvent event) {
+        if (event.hasLocation()) {
+            putInternal(event.layer(), event.id(), event.latitude(), event.longitude());
+        } else {
+            removeInternal(event.layer(), event.id());
+        }
+    }
+
+    private void putInternal(GeoLayer layer, long id, double lat, double lng) {
+        removeInternal(layer, id);
+        long key = cellKey(lat, lng);
+        cells.computeIfAbsent(key, k -> new Cell()).add(id, lat, lng, (byte) layer.ordinal());
+        cellKeyById.get(layer).put(id, key);
+    }
+
+    private void removeInternal(GeoLayer layer, long id) {
+        Long key = cellKeyById.get(layer).remove(id);
+        if (key == null) {
+            return;
+        }
+        Cell cell = cells.get(key);
+        if (cell != null && cell.remove(id, (byte) layer.ordinal()) && cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    private Collection<Cell> cellsCovering(BoundingBox box) {
+        long minLatIdx = latIndex(box.minLat());
+        long maxLatIdx = latIndex(box.maxLat());
+        long minLngIdx = lngIndex(box.minLng());
+        long maxLngIdx = box.maxLng() >= 180 ? lngCells - 1 : lngIndex(box.maxLng());
+        long covered = (maxLatIdx - minLatIdx + 1) * (maxLngIdx - minLngIdx + 1);
+        if (covered >= cells.size()) {
+            return cells.values();
+        }
+        List<Cell> result = new ArrayList<>();
+        for (long latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+            for (long lngIdx = minLngIdx; lngIdx <= maxLngIdx; lngIdx++) {
+                Cell cell = cells.get(latIdx * lngCells + lngIdx);
+                if (cell != null) {
+                    result.add(cell);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 중심 칸에서 체비셰프 거리가 정확히 ring인 칸들 방문.
+     */
+    private void visitRing(long centerLatIdx, long centerLngIdx, long ring, NearestCollector collector) {
+        for (long latIdx = centerLatIdx - ring; latIdx <= centerLatIdx + ring; latIdx++) {
+            boolean edgeRow = Math.abs(latIdx - centerLatIdx) == ring;
+            long step = edgeRow ? 1 : Math.max(1, 2 * ring);
+            for (long lngIdx = centerLngIdx - ring; lngIdx <= centerLngIdx + ring; lngIdx += step) {
+                visitCell(latIdx, lngIdx, collector);
+            }
+        }
+    }
+
+    /**
+     * ring 바깥의 모든 칸 방문 (칸이 적을 때).
+     */
+    private void visitOutside(long centerLatIdx, long centerLngIdx, long ring, NearestCollector collector) {
+        for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+            long latIdx = entry.getKey() / lngCells;
+            long lngIdx = entry.getKey() % lngCells;
+            if (Math.max(Math.abs(latIdx - centerLatIdx), lngIndexDistance(lngIdx, centerLngIdx)) > ring) {
+                collector.offer(entry.getValue());
+            }
+        }
+    }
+
+    private void visitCell(long latIdx, long lngIdx, NearestCollector collector) {
+        if (latIdx < 0) {
+            return;
+        }
+        Cell cell = cells.get(latIdx * lngCells + Math.floorMod(lngIdx, lngCells));
+        if (cell != null) {
+            collector.offer(cell);
+        }
+    }
+
+    /**
+     * 중심에서 ring까지의 칸 묶음 바깥에 있는 점까지의 최소 거리(km). 격자 전체를 덮었으면 무한대.
+     * 위도 방향은 위도 차 × R, 경도 방향은 경선까지의 대원 거리 R·asin(cos φ·sin Δλ) 이하가 될 수 없다.
+     * 경도는 순환하므로 묶음의 동·서 경계는 ±180°를 넘어도 그대로 쓰고, 한 바퀴를 다 덮었을 때만 무한대로 본다.
+     */
+    private double distanceOutsideKm(double lat, double lng, long centerLatIdx, long centerLngIdx, long ring) {
+        double minLat = (centerLatIdx - ring) * cellSize - 90;
+        double maxLat = (centerLatIdx + ring + 1) * cellSize - 90;
+        double wrappedLng = lng - 360 * Math.floor((lng + 180) / 360);
+        double minLng = (centerLngIdx - ring) * lngCellSize - 180;
+        double maxLng = (centerLngIdx + ring + 1) * lngCellSize - 180;
+        double latGap = Math.min(minLat <= -90 ? Double.MAX_VALUE : lat - minLat,
+                maxLat > 90 ? Double.MAX_VALUE : maxLat - lat);
+        double lngGap = 2 * ring + 1 >= lngCells
+                ? Double.MAX_VALUE
+                : Math.min(wrappedLng - minLng, maxLng - wrappedLng);
+        if (latGap == Double.MAX_VALUE && lngGap == Double.MAX_VALUE) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double latGapKm = Math.toRadians(latGap) * BoundingBox.EARTH_RADIUS_KM;
+        double lngGapKm = BoundingBox.EARTH_RADIUS_KM * Math.asin(Math.cos(Math.toRadians(lat))
+                * Math.sin(Math.toRadians(Math.min(lngGap, 90))));
+        return Math.min(latGapKm, lngGapKm);
+    }
+
+    private long cellKey(double lat, double lng) {
+        return latIndex(lat) * lngCells + lngIndex(lng);
+    }
+
+    private long latIndex(double lat) {
+        return (long) Math.floor((Math.max(-90, Math.min(90, lat)) + 90) / cellSize);
+    }
+
+    /** ±180°에서 순환. 180°는 -180°와 같은 칸. */
+    private long lngIndex(double lng) {
+        return Math.floorMod((long) Math.floor((lng + 180) / lngCellSize), lngCells);
+    }
+
+    /** 순환을 고려한 경도 칸 번호 차. */
+    private long lngIndexDistance(long a, long b) {
+        long diff = Math.abs(a - b);
+        return Math.min(diff, lngCells - diff);
+    }
+
+    /**
+     * 최근접 k건 수집. 최대 힙으로 현재 k건 중 가장 먼 후보를 유지한다.
+     */
+    private static final class NearestCollector {
+
+        private final int layerOrdinal;
+        private final double lat;
+        private final double lng;
+        private final int k;
+        private final double maxRadiusKm;
+        private final PriorityQueue<GeoHit> best;
+
+        NearestCollector(GeoLayer layer, double lat, double lng, int k, double maxRadiusKm) {
+            this.layerOrdinal = layer.ordinal();
+            this.lat = lat;
+            this.lng = lng;
+            this.k = k;
+            this.maxRadiusKm = maxRadiusKm;
+            this.best = new PriorityQueue<>(k, Comparator.comparingDouble(GeoHit::distanceKm).reversed());
+        }
+
+        void offer(Cell cell) {
+            for (int i = 0; i < cell.size; i++) {
+                if (cell.layers[i] != layerOrdinal) {
+                    continue;
+                }
+                double distanceKm = HaversineUtil.distanceMeters(lat, lng, cell.lats[i], cell.lngs[i]) / 1000;
+                if (distanceKm > maxRadiusKm) {
+                    continue;
+                }
+                if (best.size() < k) {
+                    best.add(new GeoHit(cell.ids[i], distanceKm));
+                } else if (distanceKm < best.peek().distanceKm()) {
+                    best.poll();
+                    best.add(new GeoHit(cell.ids[i], distanceKm));
+                }
+            }
+        }
+
+        /** 이 거리 이상인 후보는 결과를 바꿀 수 없다. */
+        double limitKm() {
+            return best.size() < k ? maxRadiusKm : best.peek().distanceKm();
+        }
+
+        List<GeoHit> sorted() {
+            List<GeoHit> hits = new ArrayList<>(best);
+            hits.sort(Comparator.comparingDouble(GeoHit::distanceKm));
+            return hits;
+        }
+    }
+
+    /**
+     * 격자 한 칸. 병렬 primitive 배열 (id·위도·경도·레이어).
+     */
+    private static final class Cell {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private double[] lats = new double[INITIAL_CAPACITY];
+        private double[] lngs = new double[INITIAL_CAPACITY];
+        private byte[] layers = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        void add(long id, double lat, double lng, byte layer) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                lats = Arrays.copyOf(lats, capacity);
+                lngs = Arrays.copyOf(lngs, capacity);
+                layers = Arrays.copyOf(layers, capacity);
+            }
+            ids[size] = id;
+            lats[size] = lat;
+            lngs[size] = lng;
+            layers[size] = layer;
+            size++;
+        }
+
+        /** 마지막 원소를 빈 자리로 옮겨 제거 (순서 무관). */
+        boolean remove(long id, byte layer) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id && layers[i] == layer) {
+                    int last = size - 1;
+                    ids[i] = ids[last];
+                    lats[i] = lats[last];
+                    lngs[i] = lngs[last];
+                    layers[i] = layers[last];
+                    size = last;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.sns.service.geo;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.GeoProperties;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.repository.PinRepository;
+import com.example.sns.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 DB 좌표를 GeoIndex·ClusterIndex에 적재.
+ *
+ * id 기준 keyset 배치(loadBatchSize)로 읽어 메모리 사용을 제한한다.
+ * DB 미연결 등 실패 시 인덱스는 비활성 상태로 두고 반경 조회는 SQL fallback (Step 5.1 Fallback).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeoIndexLoader {
+
+    private final GeoIndex geoIndex;
+    private final ClusterIndex clusterIndex;
+    private final GeoProperties geoProperties;
+    private final PinRepository pinRepository;
+    private final PostRepository postRepository;
+    private final ImagePostRepository imagePostRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        boolean loadIndex = geoIndex.isEnabled();
+        boolean loadClusters = clusterIndex.isEnabled();
+        if (!loadIndex) {
+            log.info("GeoIndex 비활성화: 반경 조회는 SQL(BoundingBox + Haversine) 사용");
+        }
+        if (!loadIndex && !loadClusters) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        if (loadIndex) {
+            geoIndex.beginLoad();
+        }
+        if (loadClusters) {
+            clusterIndex.beginLoad();
+        }
+        try {
+            for (GeoLayer layer : GeoLayer.values()) {
+                forEachPoint(layer, (id, lat, lng) -> {
+                    if (loadIndex) {
+                        geoIndex.put(layer, id, lat, lng);
+                    }
+                    if (loadClusters) {
+                        clusterIndex.put(layer, id, lat, lng);
+                    }
+                });
+            }
+            if (loadIndex) {
+                geoIndex.completeLoad();
+                log.info("GeoIndex 적재 완료: pins={}, posts={}, imagePosts={}, elapsedMs={}",
+                        geoIndex.size(GeoLayer.PIN), geoIndex.size(GeoLayer.POST),
+                        geoIndex.size(GeoLayer.IMAGE_POST), System.currentTimeMillis() - start);
+            }
+            if (loadClusters) {
+                clusterIndex.completeLoad();
+                log.info("ClusterIndex 적재 완료: pins={}, posts={}, imagePosts={}, elapsedMs={}",
+                        clusterIndex.size(GeoLayer.PIN), clusterIndex.size(GeoLayer.POST),
+                        clusterIndex.size(GeoLayer.IMAGE_POST), System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            if (loadIndex) {
+                geoIndex.abortLoad();
+            }
+            if (loadClusters) {
+                clusterIndex.abortLoad();
+            }
+            log.error("GeoIndex·ClusterIndex 적재 실패: {}. 반경 조회는 SQL fallback, 클러스터 조회는 503.", e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    interface PointConsumer {
+
+        void accept(long id, double lat, double lng);
+    }
+
+    /**
+     * 레이어의 좌표 있는 전 행을 id 순 keyset 배치로 순회. RedisGeoIndex 재구축에서도 사용.
+     */
+    void forEachPoint(GeoLayer layer, PointConsumer consumer) {
+        BiFunction<Long, Pageable, List<Object[]>> batchQuery = switch (layer) {
+            case PIN -> pinRepository::findCoordinatesAfter;
+            case POST -> postRepository::findCoordinatesAfter;
+            case IMAGE_POST -> imagePostRepository::findCoordinatesAfter;
+        };
+        Pageable batch = PageRequest.of(0, geoProperties.index().loadBatchSize());
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = batchQuery.apply(afterId, batch);
+            for (Object[] row : rows) {
+                long id = ((Number) row[0]).longValue();
+                consumer.accept(id, ((Number) row[1]).doubleValue(), ((Number) row[2]).doubleValue());
+                afterId = id;
+            }
+            if (rows.size() < batch.getPageSize()) {
+                return;
+            }
+        }
+    }
+}
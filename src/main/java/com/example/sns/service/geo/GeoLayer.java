@@ -0,0 +1,11 @@
+package com.example.sns.service.geo;
+
+/**
+ * 공간 인덱스 레이어 (지도에 표시되는 위치 데이터 종류).
+ */
+public enum GeoLayer {
+
+    PIN,
+    POST,
+    IMAGE_POST
+}
@@ -0,0 +1,55 @@
+package com.example.sns.service.geo;
+
+/**
+ * 위치 데이터 변경 이벤트. Service 계층에서 발행하고 커밋 이후 공간 인덱스에 반영한다.
+ *
+ * latitude·longitude가 null이면 위치 없는 데이터로 보고 인덱스에서 제거한다.
+ * previousLatitude·previousLongitude는 위치 이동(Pin 수정) 시 이전 좌표.
+ * 구독: GeoIndex(공간 인덱스), LocationTileCache(타일 캐시 무효화).
+ */
+public record GeoPointEvent(
+        GeoLayer layer,
+        Long id,
+        Double latitude,
+        Double longitude,
+        Double previousLatitude,
+        Double previousLongitude,
+        boolean deleted
+) {
+
+    /**
+     * 생성 이벤트.
+     */
+    public static GeoPointEvent saved(GeoLayer layer, Long id, Double latitude, Double longitude) {
+        return new GeoPointEvent(layer, id, latitude, longitude, null, null, false);
+    }
+
+    /**
+     * 내용 변경 이벤트 (위치 동일). 인덱스에는 영향 없고 위치 기반 캐시 무효화에 사용.
+     */
+    public static GeoPointEvent updated(GeoLayer layer, Long id, Double latitude, Double longitude) {
+        return new GeoPointEvent(layer, id, latitude, longitude, null, null, false);
+    }
+
+    /**
+     * 위치 이동 이벤트. 이전 좌표 포함.
+     */
+    public static GeoPointEvent moved(GeoLayer layer, Long id, Double previousLatitude, Double previousLongitude,
+                                      Double latitude, Double longitude) {
+        return new GeoPointEvent(layer, id, latitude, longitude, previousLatitude, previousLongitude, false);
+    }
+
+    /**
+     * 삭제 이벤트. 삭제 직전 좌표 포함.
+     */
+    public static GeoPointEvent deleted(GeoLayer layer, Long id, Double latitude, Double longitude) {
+        return new GeoPointEvent(layer, id, latitude, longitude, null, null, true);
+    }
+
+    /**
+     * 인덱스에 남아야 하는 위치 데이터인지 여부.
+     */
+    public boolean hasLocation() {
+        return !deleted && latitude != null && longitude != null;
+    }
+}
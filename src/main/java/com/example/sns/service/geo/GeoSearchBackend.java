@@ -0,0 +1,56 @@
+package com.example.sns.service.geo;
+
+import java.util.List;
+import java.util.Map;
+
+import com.example.sns.utils.haversine.BoundingBox;
+
+/**
+ * 반경 조회 후보(id)를 제공하는 공간 인덱스 백엔드.
+ *
+ * GeoSearchService가 @Order 순서대로 사용 가능한 첫 백엔드를 사용하고,
+ * 모두 사용할 수 없으면 Repository의 Haversine SQL로 fallback 한다.
+ */
+public interface GeoSearchBackend {
+
+    /**
+     * 현재 조회에 사용할 수 있는지 여부 (설정 활성화·적재 완료·외부 저장소 연결 등).
+     */
+    boolean isAvailable();
+
+    /**
+     * 반경(km) 내 후보 조회.
+     *
+     * @param layer    레이어
+     * @param lat      중심 위도
+     * @param lng      중심 경도
+     * @param radiusKm 반경(km)
+     * @return 거리 오름차순 후보 목록
+     */
+    List<GeoHit> searchRadius(GeoLayer layer, double lat, double lng, double radiusKm);
+
+    /**
+     * 사각 범위(지도 viewport) 내 전 레이어 후보를 한 번에 조회.
+     *
+     * @param box 조회 범위
+     * @param lat 거리 기준 위도 (viewport 중심)
+     * @param lng 거리 기준 경도 (viewport 중심)
+     * @return 레이어별 거리 오름차순 후보 목록 (후보 없는 레이어는 빈 목록)
+     */
+    Map<GeoLayer, List<GeoHit>> searchBox(BoundingBox box, double lat, double lng);
+
+    /**
+     * 최근접 k건 조회. 기본 구현은 반경을 두 배씩 넓혀 가며 searchRadius를 반복한다.
+     *
+     * @param layer       레이어
+     * @param lat         중심 위도
+     * @param lng         중심 경도
+     * @param k           최대 건수
+     * @param maxRadiusKm 탐색 최대 반경(km)
+     * @return 거리 오름차순 최대 k건
+     */
+    default List<GeoHit> nearest(GeoLayer layer, double lat, double lng, int k, double maxRadiusKm) {
+        return GeoSearchService.searchExpanding(k, maxRadiusKm,
+                radiusKm -> searchRadius(layer, lat, lng, radiusKm));
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.sns.service.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.example.sns.utils.haversine.BoundingBox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 반경 조회 후보 선정 서비스.
+ *
+ * 사용 가능한 GeoSearchBackend(@Order 순)에서 후보 id를 얻고, 해당 페이지의 id만 한 번에 조회한다.
+ * 사용 가능한 백엔드가 없으면 empty → 호출 측은 Repository의 Haversine SQL로 fallback.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeoSearchService {
+
+    /** 확장 탐색 시작 반경(km). */
+    public static final double EXPANDING_INITIAL_RADIUS_KM = 1.0;
+
+    private final List<GeoSearchBackend> backends;
+
+    /**
+     * 반경(km) 내 항목 페이지 조회. 거리 오름차순.
+     *
+     * @param layer       레이어
+     * @param lat         중심 위도
+     * @param lng         중심 경도
+     * @param radiusKm    반경(km)
+     * @param pageable    페이징
+     * @param loader      id 목록 → 항목 목록 (예: repository::findResponsesByIdIn, 1회 쿼리)
+     * @param idExtractor 항목 → id
+     * @return 백엔드 사용 불가 시 empty
+     */
+    public <T> Optional<Page<T>> findWithinRadius(GeoLayer layer, double lat, double lng, double radiusKm,
+                                                  Pageable pageable, Function<List<Long>, List<T>> loader,
+                                                  Function<T, Long> idExtractor) {
+        return searchRadius(layer, lat, lng, radiusKm)
+                .map(hits -> toPage(hits, pageable, loader, idExtractor));
+    }
+
+    /**
+     * 반경(km) 내 후보 목록. 거리 오름차순.
+     *
+     * @return 백엔드 사용 불가 시 empty
+     */
+    public Optional<List<GeoHit>> searchRadius(GeoLayer layer, double lat, double lng, double radiusKm) {
+        for (GeoSearchBackend backend : backends) {
+            if (!backend.isAvailable()) {
+                continue;
+            }
+            try {
+                return Optional.of(backend.searchRadius(layer, lat, lng, radiusKm));
+            } catch (Exception e) {
+                log.warn("공간 인덱스 조회 실패, 다음 백엔드로 fallback: backend={}, error={}",
+                        backend.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 사각 범위(viewport) 내 전 레이어 후보. 백엔드 1회 조회로 레이어별 거리 오름차순 목록을 얻는다.
+     *
+     * @return 백엔드 사용 불가 시 empty
+     */
+    public Optional<Map<GeoLayer, List<GeoHit>>> searchBox(BoundingBox box, double lat, double lng) {
+        for (GeoSearchBackend backend : backends) {
+            if (!backend.isAvailable()) {
+                continue;
+            }
+            try {
+                return Optional.of(backend.searchBox(box, lat, lng));
+            } catch (Exception e) {
+                log.warn("공간 인덱스 viewport 조회 실패, 다음 백엔드로 fallback: backend={}, error={}",
+                        backend.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 최근접 k건 후보. 거리 오름차순.
+     *
+     * @return 백엔드 사용 불가 시 empty
+     */
+    public Optional<List<GeoHit>> nearest(GeoLayer layer, double lat, double lng, int k, double maxRadiusKm) {
+        for (GeoSearchBackend backend : backends) {
+            if (!backend.isAvailable()) {
+                continue;
+            }
+            try {
+                return Optional.of(backend.nearest(layer, lat, lng, k, maxRadiusKm));
+            } catch (Exception e) {
+                log.warn("공간 인덱스 최근접 조회 실패, 다음 백엔드로 fallback: backend={}, error={}",
+                        backend.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 반경을 두 배씩 넓혀 가며 k건 이상 찾거나 최대 반경에 도달할 때까지 조회. 앞에서 k건 반환.
+     *
+     * @param searchWithin 반경(km) → 반경 내 거리 오름차순 목록
+     */
+    public static <T> List<T> searchExpanding(int k, double maxRadiusKm, DoubleFunction<List<T>> searchWithin) {
+        if (k <= 0) {
+            return List.of();
+        }
+        double radiusKm = Math.min(EXPANDING_INITIAL_RADIUS_KM, maxRadiusKm);
+        while (true) {
+            List<T> found = searchWithin.apply(radiusKm);
+            if (found.size() >= k || radiusKm >= maxRadiusKm) {
+                return found.size() > k ? found.subList(0, k) : found;
+            }
+            radiusKm = Math.min(radiusKm * 2, maxRadiusKm);
+        }
+    }
+
+    /**
+     * 후보 id 순서대로 엔티티 정렬. loader는 id 목록으로 1회 조회, 조회되지 않은 id(삭제 직후 등)는 제외.
+     */
+    public static <T> List<T> loadInOrder(List<Long> ids, Function<List<Long>, List<T>> loader,
+                                          Function<T, Long> idExtractor) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, T> byId = loader.apply(ids).stream()
+                .collect(Collectors.toMap(idExtractor, Function.identity(), (a, b) -> a));
+        List<T> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                content.add(entity);
+            }
+        }
+        return content;
+    }
+
+    private static <T> Page<T> toPage(List<GeoHit> hits, Pageable pageable,
+                                      Function<List<Long>, List<T>> loader, Function<T, Long> idExtractor) {
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> ids = hits.subList(from, to).stream()
+                .map(GeoHit::id)
+                .toList();
+        return new PageImpl<>(loadInOrder(ids, loader, idExtractor), pageable, hits.size());
+    }
+}
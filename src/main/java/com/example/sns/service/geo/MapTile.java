@@ -0,0 +1,93 @@
+package com.example.sns.service.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.sns.utils.haversine.BoundingBox;
+
+/**
+ * 지도 타일 좌표 (Web Mercator z/x/y, Kakao·Google 지도 타일과 동일 체계).
+ *
+ * 부동소수 좌표 대신 고정 타일로 캐시 키를 만들어, 지도를 조금 이동한 클라이언트끼리도 같은 키를 공유한다.
+ */
+public record MapTile(int z, int x, int y) {
+
+    /** Web Mercator 표현 가능 최대 위도. */
+    public static final double MAX_LAT = 85.05112878;
+
+    private static final double EARTH_CIRCUMFERENCE_KM = 2 * Math.PI * BoundingBox.EARTH_RADIUS_KM;
+
+    /**
+     * 좌표가 속한 타일.
+     */
+    public static MapTile of(double lat, double lng, int z) {
+        return new MapTile(z, tileX(lng, z), tileY(lat, z));
+    }
+
+    /**
+     * 사각 범위에 걸치는 타일 목록 (서→동, 북→남 순).
+     */
+    public static List<MapTile> covering(BoundingBox box, int z) {
+        int minX = tileX(box.minLng(), z);
+        int maxX = tileX(box.maxLng(), z);
+        int minY = tileY(box.maxLat(), z);
+        int maxY = tileY(box.minLat(), z);
+        List<MapTile> tiles = new ArrayList<>((maxX - minX + 1) * (maxY - minY + 1));
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                tiles.add(new MapTile(z, x, y));
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * 타일 폭이 반경 이상이 되는 가장 큰 zoom. 반경 조회가 3×3 안팎의 타일로 덮이도록 한다.
+     *
+     * @param lat      중심 위도 (위도에 따라 타일 실제 폭이 달라짐)
+     * @param radiusKm 반경(km)
+     * @param minZoom  최소 zoom
+     * @param maxZoom  최대 zoom
+     */
+    public static int zoomFor(double lat, double radiusKm, int minZoom, int maxZoom) {
+        double widthAtZoom0 = EARTH_CIRCUMFERENCE_KM * Math.cos(Math.toRadians(clampLat(lat)));
+        int z = (int) Math.floor(Math.log(widthAtZoom0 / Math.max(radiusKm, 1e-3)) / Math.log(2));
+        return Math.max(minZoom, Math.min(maxZoom, z));
+    }
+
+    /**
+     * 타일의 위도·경도 범위.
+     */
+    public BoundingBox bounds() {
+        double n = 1 << z;
+        double minLng = x / n * 360.0 - 180.0;
+        double maxLng = (x + 1) / n * 360.0 - 180.0;
+        double maxLat = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / n))));
+        double minLat = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * (y + 1) / n))));
+        return new BoundingBox(minLat, maxLat, minLng, maxLng);
+    }
+
+    /**
+     * 캐시 키 접미사 "{z}:{x}:{y}".
+     */
+    public String key() {
+        return z + ":" + x + ":" + y;
+    }
+
+    private static int tileX(double lng, int z) {
+        int n = 1 << z;
+        int x = (int) Math.floor((lng + 180.0) / 360.0 * n);
+        return Math.max(0, Math.min(n - 1, x));
+    }
+
+    private static int tileY(double lat, int z) {
+        int n = 1 << z;
+        double latRad = Math.toRadians(clampLat(lat));
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+        return Math.max(0, Math.min(n - 1, y));
+    }
+
+    private static double clampLat(double lat) {
+        return Math.max(-MAX_LAT, Math.min(MAX_LAT, lat));
+    }
+}
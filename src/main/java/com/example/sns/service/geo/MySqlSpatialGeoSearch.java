@@ -0,0 +1,67 @@
+package com.example.sns.service.geo;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.GeoProperties;
+import com.example.sns.repository.SpatialLocationRepository;
+import com.example.sns.utils.haversine.BoundingBox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MySQL SPATIAL INDEX 반경 조회 백엔드 (prod 전용).
+ *
+ * 인메모리 GeoIndex 다음 순서. GeoIndex 적재 중·비활성 시 R-tree(MBRContains) + ST_Distance_Sphere로 후보를 얻는다.
+ * 기동 시 location_point 컬럼 존재를 확인하며, 마이그레이션 미적용 시 사용하지 않는다 (Haversine SQL fallback).
+ */
+@Slf4j
+@Component
+@Profile("prod")
+@Order(Ordered.LOWEST_PRECEDENCE - 50)
+@RequiredArgsConstructor
+public class MySqlSpatialGeoSearch implements GeoSearchBackend {
+
+    private final SpatialLocationRepository spatialLocationRepository;
+    private final GeoProperties geoProperties;
+
+    private volatile boolean schemaReady;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifySchema() {
+        if (!geoProperties.spatial().enabled()) {
+            return;
+        }
+        try {
+            schemaReady = spatialLocationRepository.isSchemaReady();
+            if (!schemaReady) {
+                log.warn("location_point 컬럼 없음(V002 마이그레이션 미적용): MySQL 공간 인덱스 조회 비활성화");
+            }
+        } catch (Exception e) {
+            log.warn("MySQL 공간 인덱스 스키마 확인 실패: {}. Haversine SQL fallback 적용.", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return schemaReady && geoProperties.spatial().enabled();
+    }
+
+    @Override
+    public List<GeoHit> searchRadius(GeoLayer layer, double lat, double lng, double radiusKm) {
+        return spatialLocationRepository.findWithinRadius(layer, lat, lng, radiusKm);
+    }
+
+    @Override
+    public Map<GeoLayer, List<GeoHit>> searchBox(BoundingBox box, double lat, double lng) {
+        return spatialLocationRepository.findWithinBox(box, lat, lng);
+    }
+}
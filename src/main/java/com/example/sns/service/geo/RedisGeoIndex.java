@@ -0,0 +1,422 @@
+package com.example.sns.service.geo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoSearchCommandArgs;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.data.redis.domain.geo.GeoShape;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.sns.config.GeoProperties;
+import com.example.sns.utils.haversine.BoundingBox;
+import com.example.sns.utils.haversine.HaversineUtil;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis GEO 공유 공간 인덱스 (geo:pins, geo:posts, geo:image-posts).
+ *
+ * 모든 노드가 같은 sorted set을 GEOSEARCH로 조회하므로 다중 노드에서도 반경 조회가 MySQL을 거치지 않는다.
+ * 쓰기는 GeoPointEvent(커밋 후)로 GEOADD·ZREM. 인메모리 GeoIndex 다음, MySQL SPATIAL INDEX 이전 순서.
+ *
+ * 재구축: DB → geo:{layer}:rebuild 적재 후 RENAME (조회 중단 없음). 분산 락(geo:rebuild:lock)으로 1노드만 수행한다.
+ * 재구축 중 쓰기는 라이브 키에 반영하고 id를 geo:{layer}:rebuild:dirty에 기록한다. 적재 중 이미 읽어 둔 옛 좌표가
+ * 나중에 임시 키에 쓰일 수 있으므로, RENAME 직전 기록된 id를 라이브 키의 현재 값으로 덮어쓴다 (Lua, RENAME과 원자적).
+ * 인메모리 GeoIndex의 beginLoad·completeLoad(적재 중 이벤트 재적용)와 같은 역할. 완료 시 geo:ready 표시 → 전 노드가 사용 시작.
+ * 기동 시·관리자 요청 시·Redis 장애로 쓰기가 유실된 뒤 복구 시 재구축한다.
+ *
+ * Redis 미설정·장애·재구축 전이면 isAvailable()=false → 다음 백엔드 또는 SQL fallback (Step 5.1 Fallback).
+ * Redis GEO는 위도 ±85.05°만 표현하므로 극지방 좌표는 색인하지 않는다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 75)
+public class RedisGeoIndex implements GeoSearchBackend {
+
+    private static final String KEY_PREFIX = "geo:";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String DIRTY_SUFFIX = ":rebuild:dirty";
+    private static final String READY_KEY = "geo:ready";
+    private static final String REBUILD_LOCK_KEY = "geo:rebuild:lock";
+    /** BYBOX 조회 범위 여유 (Redis와 거리 계산 반지름 차이 보정). */
+    private static final double BOX_PADDING = 1.01;
+    /**
+     * KEYS[1]=임시 키, KEYS[2]=라이브 키, KEYS[3]=재구축 중 변경된 id 집합.
+     * 변경된 id는 라이브 키의 점수(geohash)를 그대로 복사하거나 없으면 제거한 뒤 RENAME. 반환값은 재적용한 id 수.
+     */
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            local members = redis.call('SMEMBERS', KEYS[3])
+            for _, member in ipairs(members) do
+              local score = redis.call('ZSCORE', KEYS[2], member)
+              if score then
+                redis.call('ZADD', KEYS[1], score, member)
+              else
+                redis.call('ZREM', KEYS[1], member)
+              end
+            end
+            redis.call('DEL', KEYS[3])
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('RENAME', KEYS[1], KEYS[2])
+            else
+              redis.call('DEL', KEYS[2])
+            end
+            return #members
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final GeoIndexLoader geoIndexLoader;
+    private final long retryAfterMillis;
+    private final Duration rebuildLockTtl;
+    private final int batchSize;
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile boolean ready;
+    private volatile boolean writeLost;
+    private volatile long unavailableUntil;
+    private volatile long nextReadyCheck;
+
+    public RedisGeoIndex(ObjectProvider<StringRedisTemplate> redisTemplateProvider, GeoIndexLoader geoIndexLoader,
+                         GeoProperties geoProperties) {
+        GeoProperties.Redis props = geoProperties.redis();
+        this.redisTemplate = props.enabled() ? redisTemplateProvider.getIfAvailable() : null;
+        this.geoIndexLoader = geoIndexLoader;
+        this.retryAfterMillis = props.retryAfterSeconds() * 1000L;
+        this.rebuildLockTtl = Duration.ofSeconds(props.rebuildLockSeconds());
+        this.batchSize = geoProperties.index().loadBatchSize();
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "redis-geo-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 기동 시 geo:ready 확인. 없으면 재구축 요청.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        if (redisTemplate == null) {
+            log.info("Redis GEO 인덱스 미사용 (비활성화 또는 Redis 미설정)");
+            return;
+        }
+        checkReady();
+    }
+
+    public boolean isEnabled() {
+        return redisTemplate != null;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        if (redisTemplate == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (now < unavailableUntil) {
+            return false;
+        }
+        if (!ready && now >= nextReadyCheck) {
+            nextReadyCheck = now + retryAfterMillis;
+            checkReady();
+        }
+        return ready;
+    }
+
+    @Override
+    public List<GeoHit> searchRadius(GeoLayer layer, double lat, double lng, double radiusKm) {
+        return searchByRadius(layer, lat, lng, radiusKm, 0);
+    }
+
+    /**
+     * GEOSEARCH BYRADIUS ASC COUNT k. Redis가 거리순 상위 k건만 반환한다.
+     */
+    @Override
+    public List<GeoHit> nearest(GeoLayer layer, double lat, double lng, int k, double maxRadiusKm) {
+        if (k <= 0) {
+            return List.of();
+        }
+        return searchByRadius(layer, lat, lng, maxRadiusKm, k);
+    }
+
+    /**
+     * GEOSEARCH BYBOX로 viewport를 덮는 사각형 조회 후 위도·경도 범위로 거른다.
+     * 가로 폭은 적도에 가장 가까운 위도 기준(가장 넓은 폭)으로 잡아 viewport 전체를 포함시킨다.
+     */
+    @Override
+    public Map<GeoLayer, List<GeoHit>> searchBox(BoundingBox box, double lat, double lng) {
+        double centerLat = (box.minLat() + box.maxLat()) / 2;
+        double centerLng = (box.minLng() + box.maxLng()) / 2;
+        double widestLat = box.minLat() <= 0 && box.maxLat() >= 0
+                ? 0
+                : Math.min(Math.abs(box.minLat()), Math.abs(box.maxLat()));
+        double widthKm = Math.toRadians(box.maxLng() - box.minLng()) * BoundingBox.EARTH_RADIUS_KM
+                * Math.cos(Math.toRadians(widestLat));
+        double heightKm = Math.toRadians(box.maxLat() - box.minLat()) * BoundingBox.EARTH_RADIUS_KM;
+        GeoShape shape = GeoShape.byBox(widthKm * BOX_PADDING, heightKm * BOX_PADDING, Metrics.KILOMETERS);
+        GeoSearchCommandArgs args = GeoSearchCommandArgs.newGeoSearchArgs().includeCoordinates();
+
+        Map<GeoLayer, List<GeoHit>> hitsByLayer = new EnumMap<>(GeoLayer.class);
+        for (GeoLayer layer : GeoLayer.values()) {
+            GeoResults<GeoLocation<String>> results = redis("searchBox", () -> redisTemplate.opsForGeo()
+                    .search(key(layer), GeoReference.fromCoordinate(centerLng, centerLat), shape, args));
+            List<GeoHit> hits = new ArrayList<>();
+            if (results != null) {
+                for (GeoResult<GeoLocation<String>> result : results) {
+                    Point point = result.getContent().getPoint();
+                    if (point == null || !box.contains(point.getY(), point.getX())) {
+                        continue;
+                    }
+                    double distance = HaversineUtil.distanceMeters(lat, lng, point.getY(), point.getX());
+                    hits.add(new GeoHit(Long.parseLong(result.getContent().getName()), distance / 1000));
+                }
+            }
+            hits.sort(Comparator.comparingDouble(GeoHit::distanceKm));
+            hitsByLayer.put(layer, hits);
+        }
+        return hitsByLayer;
+    }
+
+    /**
+     * 위치 변경 이벤트 반영. 트랜잭션 커밋 후 실행. Redis 장애로 반영하지 못하면 복구 후 재구축.
+     * 재구축 중이면 라이브 키 반영 전에 id를 먼저 기록한다. 순서가 반대면 그 사이 RENAME이 끝났을 때 옛 좌표가 남는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGeoPointEvent(GeoPointEvent event) {
+        if (redisTemplate == null || event.id() == null) {
+            return;
+        }
+        if (System.currentTimeMillis() < unavailableUntil) {
+            writeLost = true;
+            return;
+        }
+        String liveKey = key(event.layer());
+        String member = event.id().toString();
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(REBUILD_LOCK_KEY))) {
+                String dirtyKey = liveKey + DIRTY_SUFFIX;
+                redisTemplate.opsForSet().add(dirtyKey, member);
+                redisTemplate.expire(dirtyKey, rebuildLockTtl);
+            }
+            apply(liveKey, member, event);
+        } catch (Exception e) {
+            writeLost = true;
+            markUnavailable("write", e);
+        }
+    }
+
+    /**
+     * DB → Redis GEO 재구축 요청 (비동기).
+     *
+     * @return Redis GEO 미사용이거나 이 노드에서 이미 진행 중이면 false
+     */
+    public boolean requestRebuild() {
+        if (redisTemplate == null || !rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rebuilding.set(false);
+            return false;
+        }
+    }
+
+    private void rebuild() {
+        String owner = UUID.randomUUID().toString();
+        Boolean locked;
+        try {
+            locked = redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, owner, rebuildLockTtl);
+        } catch (Exception e) {
+            markUnavailable("rebuildLock", e);
+            return;
+        }
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("Redis GEO 재구축 생략: 다른 노드에서 진행 중");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Map<GeoLayer, Integer> counts = new EnumMap<>(GeoLayer.class);
+            for (GeoLayer layer : GeoLayer.values()) {
+                counts.put(layer, rebuildLayer(layer));
+            }
+            redisTemplate.opsForValue().set(READY_KEY, Long.toString(System.currentTimeMillis()));
+            ready = true;
+            log.info("Redis GEO 재구축 완료: counts={}, elapsedMs={}", counts, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Redis GEO 재구축 실패: {}. 반경 조회는 다음 백엔드 또는 SQL fallback.", e.getMessage());
+        } finally {
+            releaseLock(owner);
+        }
+    }
+
+    private int rebuildLayer(GeoLayer layer) {
+        String liveKey = key(layer);
+        String tempKey = liveKey + REBUILD_SUFFIX;
+        String dirtyKey = liveKey + DIRTY_SUFFIX;
+        redisTemplate.delete(List.of(tempKey, dirtyKey));
+        Map<String, Point> batch = new HashMap<>();
+        int[] count = {0};
+        geoIndexLoader.forEachPoint(layer, (id, lat, lng) -> {
+            if (!isIndexable(lat)) {
+                return;
+            }
+            batch.put(Long.toString(id), new Point(lng, lat));
+            if (batch.size() >= batchSize) {
+                count[0] += flush(tempKey, batch);
+            }
+        });
+        count[0] += flush(tempKey, batch);
+
+        Long replayed = redisTemplate.execute(SWAP_SCRIPT, List.of(tempKey, liveKey, dirtyKey));
+        if (replayed != null && replayed > 0) {
+            log.info("Redis GEO 재구축 중 변경 재적용: layer={}, count={}", layer, replayed);
+        }
+        return count[0];
+    }
+
+    private int flush(String key, Map<String, Point> batch) {
+        int size = batch.size();
+        if (size > 0) {
+            redisTemplate.opsForGeo().add(key, batch);
+            batch.clear();
+        }
+        return size;
+    }
+
+    /**
+     * 본인 락만 해제. GET·DEL 사이 만료·재획득은 TTL(분 단위) 대비 무시할 수준.
+     */
+    private void releaseLock(String owner) {
+        try {
+            if (owner.equals(redisTemplate.opsForValue().get(REBUILD_LOCK_KEY))) {
+                redisTemplate.delete(REBUILD_LOCK_KEY);
+            }
+        } catch (Exception e) {
+            log.warn("Redis GEO 재구축 락 해제 실패 (TTL 만료 후 해제): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * geo:ready 확인. 쓰기 유실이 있었으면 표시를 지우고 재구축한다.
+     */
+    private void checkReady() {
+        try {
+            if (writeLost) {
+                redisTemplate.delete(READY_KEY);
+                writeLost = false;
+                log.warn("Redis GEO 장애 중 쓰기 유실: 재구축 전까지 다음 백엔드 사용");
+            }
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                ready = true;
+                return;
+            }
+            ready = false;
+            requestRebuild();
+        } catch (Exception e) {
+            markUnavailable("checkReady", e);
+        }
+    }
+
+    private void apply(String key, String member, GeoPointEvent event) {
+        if (event.hasLocation() && isIndexable(event.latitude())) {
+            redisTemplate.opsForGeo().add(key, new Point(event.longitude(), event.latitude()), member);
+        } else {
+            redisTemplate.opsForGeo().remove(key, member);
+        }
+    }
+
+    private List<GeoHit> searchByRadius(GeoLayer layer, double lat, double lng, double radiusKm, int limit) {
+        GeoSearchCommandArgs args = GeoSearchCommandArgs.newGeoSearchArgs().includeDistance().sortAscending();
+        if (limit > 0) {
+            args = args.limit(limit);
+        }
+        GeoSearchCommandArgs searchArgs = args;
+        GeoResults<GeoLocation<String>> results = redis("searchRadius", () -> redisTemplate.opsForGeo()
+                .search(key(layer), GeoReference.fromCoordinate(lng, lat),
+                        new Distance(radiusKm, Metrics.KILOMETERS), searchArgs));
+        if (results == null) {
+            return List.of();
+        }
+        List<GeoHit> hits = new ArrayList<>(results.getContent().size());
+        for (GeoResult<GeoLocation<String>> result : results) {
+            hits.add(new GeoHit(Long.parseLong(result.getContent().getName()), result.getDistance().getValue()));
+        }
+        return hits;
+    }
+
+    /**
+     * Redis 조회 실패 시 retryAfterSeconds 동안 건너뛰도록 표시 후 예외 전파 (GeoSearchService가 다음 백엔드 사용).
+     */
+    private <T> T redis(String operation, Supplier<T> command) {
+        try {
+            return command.get();
+        } catch (RuntimeException e) {
+            markUnavailable(operation, e);
+            throw e;
+        }
+    }
+
+    private void markUnavailable(String operation, Exception e) {
+        long now = System.currentTimeMillis();
+        unavailableUntil = now + retryAfterMillis;
+        nextReadyCheck = unavailableUntil;
+        ready = false;
+        log.warn("Redis GEO 실패, {}ms 동안 사용 안 함: operation={}, error={}",
+                retryAfterMillis, operation, e.getMessage());
+    }
+
+    private static boolean isIndexable(double lat) {
+        return Math.abs(lat) <= MapTile.MAX_LAT;
+    }
+
+    private static String key(GeoLayer layer) {
+        return KEY_PREFIX + switch (layer) {
+            case PIN -> "pins";
+            case POST -> "posts";
+            case IMAGE_POST -> "image-posts";
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.sns.service.image;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.sns.exception.BusinessException;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.service.FileStorageService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 참조가 끝난 이미지 파일 삭제.
+ *
+ * 내용 주소 저장에서는 여러 게시글이 한 파일을 공유하므로, 참조 해제(ImageReleasedEvent) 커밋 후
+ * 같은 image_url을 가진 게시글 수(참조 수)가 0일 때만 원본·축소본을 지운다. 롤백 시 지우지 않는다.
+ * 업로드는 커밋 전에 파일을 배치하므로, 저장(ImageStoredEvent) 트랜잭션이 롤백되면 같은 방식으로 참조 없는 파일을 지운다.
+ * 참조 확인과 삭제는 FileStorageService 경로 잠금(BlobKeyLock, 분산 설정이면 노드 간) 안에서 하므로,
+ * 어느 노드든 같은 내용을 올린 업로드가 배치부터 커밋까지 잠금을 잡는 동안에는 기다린다.
+ * 잠금을 얻지 못하면(대기 초과·Redis 장애) 삭제하지 않는다 (파일이 남을 뿐 참조 중인 파일을 잃지 않음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageBlobCollector {
+
+    private final ImagePostRepository imagePostRepository;
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageReleased(ImageReleasedEvent event) {
+        collect(event.storedPath());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onImageStoreRolledBack(ImageStoredEvent event) {
+        collect(event.storedPath());
+    }
+
+    private void collect(String storedPath) {
+        if (storedPath == null) {
+            return;
+        }
+        try {
+            fileStorageService.withPathLock(storedPath, () -> {
+                if (imagePostRepository.existsByImageStoragePath(storedPath)) {
+                    log.debug("다른 게시글이 참조 중이라 이미지 유지: path={}", storedPath);
+                    return;
+                }
+                fileStorageService.deleteIfExists(storedPath);
+                imageVariantService.deleteVariants(storedPath);
+            });
+        } catch (BusinessException e) {
+            log.warn("저장소 잠금을 얻지 못해 이미지 삭제 생략: path={}", storedPath);
+        }
+    }
+}
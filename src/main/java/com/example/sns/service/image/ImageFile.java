@@ -0,0 +1,23 @@
+package com.example.sns.service.image;
+
+import java.nio.file.Path;
+
+/**
+ * 응답할 이미지 파일 (원본 또는 축소본). ImageVariantService.resolve가 만든다.
+ *
+ * key: 저장소 키. localPath: 로컬 저장소면 실제 파일 경로(zero-copy 전송), 원격 저장소면 null.
+ * etag: 내용 기반 강한 ETag. 내용 해시가 없는 이전 게시글은 크기·수정 시각 기반 약한 ETag(W/).
+ * version: 이미지 URL의 v 값 (ImagePostResponse.imageVersionOf). 내용 해시가 없으면 null.
+ * provisional: 요청한 축소본이 아직 생성 전이라 원본으로 대신한 경우. 같은 URL의 내용이 곧 바뀌므로 오래 캐시하면 안 된다.
+ */
+public record ImageFile(
+        String key,
+        Path localPath,
+        String contentType,
+        String etag,
+        String version,
+        long lastModified,
+        long length,
+        boolean provisional
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.sns.service.image;
+
+/**
+ * 이미지 참조 해제 이벤트. 게시글 삭제·이미지 교체 시 Service 계층에서 발행하고, 커밋 이후 참조가 없으면 파일을 지운다.
+ *
+ * storedPath: 더 이상 이 게시글이 참조하지 않는 원본 상대 경로.
+ * 구독: ImageBlobCollector.
+ */
+public record ImageReleasedEvent(String storedPath) {
+}
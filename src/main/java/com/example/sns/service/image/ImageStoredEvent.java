@@ -0,0 +1,10 @@
+package com.example.sns.service.image;
+
+/**
+ * 이미지 원본 저장 이벤트. Service 계층에서 발행하고 커밋 이후 축소본을 만든다. 롤백되면 참조 없는 원본을 지운다.
+ *
+ * storedPath: FileStorageService가 반환한 basePath 기준 상대 경로.
+ * 구독: ImageVariantService(커밋 후), ImageBlobCollector(롤백 후).
+ */
+public record ImageStoredEvent(String storedPath) {
+}
@@ -0,0 +1,494 @@
+package com.example.sns.service.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.w3c.dom.NodeList;
+
+import com.example.sns.config.UploadProperties;
+import com.example.sns.dto.response.ImagePostResponse;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.storage.BlobInfo;
+import com.example.sns.service.storage.BlobStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 축소본 생성·선택.
+ *
+ * 원본 저장 커밋 후(ImageStoredEvent) 전용 스레드 1개에서 app.upload.variant-widths 너비의 축소본을 만들어
+ * 원본 옆(같은 BlobStore)에 {이름}_w{너비}.{확장자}로 저장한다. 원본보다 넓은 너비는 만들지 않는다.
+ * JPEG·PNG만 처리한다 (GIF는 애니메이션 유지, WebP는 JDK 디코더 없음). JPEG EXIF 방향은 축소본에 반영한다.
+ * 생성이 끝나면(원본이 좁거나 디코딩할 수 없어 만들지 않은 경우 포함) 만든 너비 목록을 {원본}.variants에 기록한다.
+ * 조회는 요청 너비 이상인 가장 작은 축소본을 쓰고, 없으면 원본을 돌려준다. 기록이 없을 때(생성 전)만 provisional(짧게 캐시)이며,
+ * 기록은 노드 로컬 캐시에 두어 평소 요청은 저장소 메타데이터 조회 1회로 끝난다 (내용 주소 저장이라 기록은 바뀌지 않음).
+ * 기록이 없는 이미지(생성 전·이전 업로드)는 조회 시 생성을 예약한다. 대기열이 가득 차거나 생성에 실패해도 원본으로 제공된다.
+ */
+@Slf4j
+@Component
+public class ImageVariantService {
+
+    /** 디코딩 허용 최대 픽셀 수 (압축 폭탄 방지). */
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+    private static final int QUEUE_CAPACITY = 1_000;
+    private static final int MANIFEST_CACHE_SIZE = 10_000;
+    private static final String MANIFEST_SUFFIX = ".variants";
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String EXIF_MARKER_TAG = "225";
+
+    private final BlobStore blobStore;
+    /** 오름차순, 중복 없음. */
+    private final List<Integer> widths;
+    private final ThreadPoolExecutor executor;
+    /** 생성이 끝난 원본별 축소본 너비 (오름차순). */
+    private final Cache<String, List<Integer>> manifests = Caffeine.newBuilder()
+            .maximumSize(MANIFEST_CACHE_SIZE)
+            .build();
+    /** 생성 대기·진행 중인 원본 (중복 예약 방지). */
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantService(BlobStore blobStore, UploadProperties uploadProperties) {
+        this.blobStore = blobStore;
+        this.widths = uploadProperties.variantWidths().stream()
+                .filter(width -> width != null && width > 0)
+                .distinct()
+                .sorted()
+                .toList();
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                r -> {
+                    Thread thread = new Thread(r, "image-variant");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 원본 저장 커밋 후 축소본 생성 예약. 롤백 시 생성하지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageStored(ImageStoredEvent event) {
+        schedule(event.storedPath());
+    }
+
+    /**
+     * 요청 너비에 맞는 응답 파일. 요청 너비 이상인 가장 작은 축소본, 없으면 원본.
+     * 생성 기록이 있으면 만들어진 축소본만 보고 고르며(원본이 더 좁으면 원본, provisional 아님), 파일 메타데이터는 한 번만 읽는다.
+     * 기록이 없으면(생성 전) 해당 너비 축소본이 있는지 보고, 없으면 원본을 provisional로 돌려주고 생성을 예약한다.
+     * 원본도 없으면 NOT_FOUND.
+     *
+     * @param image          원본 저장 정보
+     * @param requestedWidth 요청 너비(px). null이면 원본
+     */
+    public ImageFile resolve(StoredImage image, Integer requestedWidth) {
+        Integer width = variantWidthFor(image.path(), requestedWidth);
+        boolean pending = false;
+        if (width != null) {
+            Optional<List<Integer>> created = manifest(image.path());
+            if (created.isPresent()) {
+                width = created.get().stream().filter(w -> w >= requestedWidth).findFirst().orElse(null);
+            } else {
+                pending = true;
+            }
+        }
+        Optional<BlobInfo> variantInfo = width != null ? stat(variantPath(image.path(), width)) : Optional.empty();
+        if (pending) {
+            // 기록을 남기지 않은 이전 업로드도 여기서 예약된다 (이미 있는 축소본은 다시 만들지 않음)
+            schedule(image.path());
+        }
+        if (variantInfo.isPresent()) {
+            return toImageFile(image, variantPath(image.path(), width), "-w" + width, variantInfo.get(), false);
+        }
+        // 생성 전이거나, 기록에 있는데 없으면 삭제 중 (게시글 삭제·이미지 교체)
+        boolean provisional = width != null;
+        BlobInfo info = stat(image.path()).orElseThrow(() -> {
+            log.warn("저장된 이미지 파일 없음: path={}", image.path());
+            return new BusinessException(ErrorCode.NOT_FOUND, "이미지 파일을 찾을 수 없습니다.");
+        });
+        return toImageFile(image, image.path(), "", info, provisional);
+    }
+
+    /**
+     * resolve가 고른 파일의 구간 읽기 (로컬 경로가 없는 원격 저장소 응답용).
+     */
+    public InputStream open(ImageFile file, long offset, long length) throws IOException {
+        return blobStore.open(file.key(), offset, length);
+    }
+
+    /**
+     * 축소본·생성 기록 삭제 (원본 교체·게시글 삭제 시). 원본은 호출 측에서 삭제한다.
+     */
+    public void deleteVariants(String storedPath) {
+        if (storedPath == null) {
+            return;
+        }
+        manifests.invalidate(storedPath);
+        try {
+            blobStore.delete(storedPath + MANIFEST_SUFFIX);
+        } catch (IOException e) {
+            log.warn("축소본 생성 기록 삭제 실패(무시): path={}", storedPath, e);
+        }
+        for (int width : widths) {
+            String variant = variantPath(storedPath, width);
+            try {
+                blobStore.delete(variant);
+            } catch (IOException e) {
+                log.warn("축소본 삭제 실패(무시): path={}", variant, e);
+            }
+        }
+    }
+
+    /**
+     * 축소본 생성. 넓은 너비부터 만들고 다음 너비는 직전 결과에서 줄인다. 이미 있는 축소본은 다시 만들지 않는다.
+     * 끝나면 만든 너비를 기록한다. 원본보다 넓은 너비와 디코딩할 수 없는 이미지는 만들지 않은 채로 기록한다.
+     * 저장소 오류로 실패하면 기록하지 않아 다음 조회 때 다시 예약된다.
+     */
+    void generate(String storedPath) {
+        String format = formatOf(storedPath);
+        try {
+            if (widths.isEmpty() || manifest(storedPath).isPresent()) {
+                // 이전 생성이 끝남 (같은 내용 재업로드)
+                return;
+            }
+            List<Integer> created = new ArrayList<>();
+            Decoded decoded = decode(storedPath);
+            if (decoded != null) {
+                BufferedImage image = decoded.image();
+                int orientation = decoded.orientation();
+                boolean swap = orientation >= 5;
+                int displayWidth = swap ? image.getHeight() : image.getWidth();
+                int imageType = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+                BufferedImage current = image;
+                for (int width : widths.stream().sorted(Comparator.reverseOrder()).toList()) {
+                    if (width >= displayWidth) {
+                        continue;
+                    }
+                    String target = variantPath(storedPath, width);
+                    if (!blobStore.exists(target)) {
+                        // 없을 때만 생성 (같은 내용의 이전 업로드로 이미 만들어졌을 수 있음, 내용 주소 저장)
+                        double factor = (double) width / displayWidth;
+                        current = scale(current, Math.max(1, (int) Math.round(image.getWidth() * factor)),
+                                Math.max(1, (int) Math.round(image.getHeight() * factor)), imageType);
+                        write(orient(current, orientation, imageType), format, target);
+                    }
+                    created.add(0, width);
+                }
+            }
+            if (!blobStore.exists(storedPath)) {
+                // 생성 중 원본이 삭제됨 (게시글 삭제·이미지 교체)
+                deleteVariants(storedPath);
+                return;
+            }
+            writeManifest(storedPath, created);
+            log.debug("축소본 생성 완료: path={}, widths={}", storedPath, created);
+        } catch (IOException | RuntimeException e) {
+            log.warn("축소본 생성 실패, 원본으로 제공: path={}, error={}", storedPath, e.getMessage());
+        }
+    }
+
+    /**
+     * 생성 예약. 이미 대기·진행 중이면 다시 넣지 않는다. 대기열이 가득 차면 원본으로 제공하고 다음 조회 때 다시 예약된다.
+     */
+    private void schedule(String storedPath) {
+        if (widths.isEmpty() || storedPath == null || formatOf(storedPath) == null || !scheduled.add(storedPath)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(storedPath);
+                } finally {
+                    scheduled.remove(storedPath);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            scheduled.remove(storedPath);
+            log.warn("축소본 생성 대기열 초과, 원본으로 제공: queueSize={}", executor.getQueue().size());
+        }
+    }
+
+    /**
+     * 생성이 끝난 원본의 축소본 너비 (오름차순). 기록이 없으면(생성 전) empty. 기록은 바뀌지 않으므로 있으면 캐시한다.
+     */
+    private Optional<List<Integer>> manifest(String storedPath) {
+        List<Integer> cached = manifests.getIfPresent(storedPath);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        String value;
+        try (InputStream in = blobStore.open(storedPath + MANIFEST_SUFFIX)) {
+            value = new String(in.readAllBytes(), StandardCharsets.US_ASCII).trim();
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("축소본 생성 기록 읽기 실패, 생성 전으로 처리: path={}, error={}", storedPath, e.getMessage());
+            return Optional.empty();
+        }
+        List<Integer> created = value.isEmpty()
+                ? List.of()
+                : Arrays.stream(value.split(",")).map(Integer::valueOf).sorted().toList();
+        manifests.put(storedPath, created);
+        return Optional.of(created);
+    }
+
+    private void writeManifest(String storedPath, List<Integer> created) throws IOException {
+        byte[] value = String.join(",", created.stream().map(String::valueOf).toList())
+                .getBytes(StandardCharsets.US_ASCII);
+        blobStore.write(storedPath + MANIFEST_SUFFIX, new ByteArrayInputStream(value), value.length,
+                MediaType.TEXT_PLAIN_VALUE);
+        manifests.put(storedPath, List.copyOf(created));
+    }
+
+    /**
+     * 원본 디코딩. 형식 오류·해상도 초과 등 디코딩할 수 없으면 null (저장소 읽기 오류는 예외).
+     */
+    private Decoded decode(String storedPath) throws IOException {
+        try {
+            return read(storedPath);
+        } catch (IIOException | RuntimeException e) {
+            log.warn("축소본 생성 생략, 디코딩 실패: path={}, error={}", storedPath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 요청 너비 이상인 가장 작은 축소본 너비. 축소본을 만들지 않는 형식이거나 해당 너비가 없으면 null.
+     */
+    private Integer variantWidthFor(String storedPath, Integer requestedWidth) {
+        if (requestedWidth == null || requestedWidth <= 0 || formatOf(storedPath) == null) {
+            return null;
+        }
+        for (int width : widths) {
+            if (width >= requestedWidth) {
+                return width;
+            }
+        }
+        return null;
+    }
+
+    private Optional<BlobInfo> stat(String storedPath) {
+        try {
+            return blobStore.stat(storedPath);
+        } catch (IOException e) {
+            log.error("이미지 파일 속성 읽기 실패: path={}", storedPath, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "이미지를 불러올 수 없습니다.");
+        }
+    }
+
+    /**
+     * 내용 해시가 있으면 강한 ETag "{해시}{접미사}" (축소본은 원본 해시 + -w{너비}, 한 번 만든 뒤 다시 쓰지 않음).
+     * 해시가 없는 이전 게시글은 크기·수정 시각 기반 약한 ETag.
+     */
+    private ImageFile toImageFile(StoredImage image, String storedPath, String etagSuffix,
+                                  BlobInfo info, boolean provisional) {
+        long lastModified = info.lastModified();
+        String etag = image.sha256() != null
+                ? "\"" + image.sha256() + etagSuffix + "\""
+                : "W/\"" + Long.toHexString(info.length()) + "-" + Long.toHexString(lastModified) + "\"";
+        String contentType = image.contentType() != null
+                ? image.contentType()
+                : MediaTypeFactory.getMediaType(storedPath).map(MediaType::toString)
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        return new ImageFile(storedPath, info.localPath(), contentType, etag,
+                ImagePostResponse.imageVersionOf(image.sha256()), lastModified, info.length(), provisional);
+    }
+
+    static String variantPath(String storedPath, int width) {
+        int dot = storedPath.lastIndexOf('.');
+        if (dot <= storedPath.lastIndexOf('/')) {
+            return storedPath + "_w" + width;
+        }
+        return storedPath.substring(0, dot) + "_w" + width + storedPath.substring(dot);
+    }
+
+    private static String formatOf(String storedPath) {
+        String lower = storedPath.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) {
+            return "jpg";
+        }
+        if (lower.endsWith(".png")) {
+            return "png";
+        }
+        return null;
+    }
+
+    private Decoded read(String storedPath) throws IOException {
+        try (InputStream source = blobStore.open(storedPath);
+             ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_SOURCE_PIXELS) {
+                    log.warn("축소본 생성 생략, 해상도 초과: pixels={}", pixels);
+                    return null;
+                }
+                int orientation = exifOrientation(reader.getImageMetadata(0));
+                return new Decoded(reader.read(0), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG APP1(Exif) IFD0의 Orientation(0x0112). 없거나 읽을 수 없으면 1(정방향).
+     */
+    private static int exifOrientation(IIOMetadata metadata) {
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+            return 1;
+        }
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+        NodeList markers = root.getElementsByTagName("unknown");
+        for (int i = 0; i < markers.getLength(); i++) {
+            IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+            if (EXIF_MARKER_TAG.equals(marker.getAttribute("MarkerTag"))
+                    && marker.getUserObject() instanceof byte[] data) {
+                return parseOrientation(data);
+            }
+        }
+        return 1;
+    }
+
+    static int parseOrientation(byte[] exif) {
+        if (exif.length < 14 || exif[0] != 'E' || exif[1] != 'x' || exif[2] != 'i' || exif[3] != 'f') {
+            return 1;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(exif, 6, exif.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return 1;
+        }
+        int count = tiff.getShort(ifd) & 0xffff;
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xffff) == 0x0112) {
+                int value = tiff.getShort(entry + 8) & 0xffff;
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 절반씩 줄여 목표 크기까지 축소 (한 번에 크게 줄일 때 bilinear의 계단 현상 완화).
+     */
+    private static BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight, int imageType) {
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            BufferedImage next = new BufferedImage(w, h, imageType);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != targetWidth || h != targetHeight);
+        return current;
+    }
+
+    /**
+     * EXIF Orientation 2~8을 픽셀에 반영. 5~8은 가로·세로가 바뀐다.
+     */
+    private static BufferedImage orient(BufferedImage image, int orientation, int imageType) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);
+        };
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, imageType);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    /**
+     * 메모리에서 인코딩한 뒤 한 번에 저장 (축소본은 작음). 저장소 쓰기가 원자적이라 조회 중인 요청이 쓰다 만 파일을 읽지 않는다.
+     */
+    private void write(BufferedImage image, String format, String target) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, encoded)) {
+            throw new IOException("이미지 인코더 없음: " + format);
+        }
+        blobStore.write(target, new ByteArrayInputStream(encoded.toByteArray()), encoded.size(),
+                "png".equals(format) ? MediaType.IMAGE_PNG_VALUE : MediaType.IMAGE_JPEG_VALUE);
+    }
+
+    private record Decoded(BufferedImage image, int orientation) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.sns.service.image;
+
+/**
+ * 저장된 이미지 원본 정보. 업로드 시 FileStorageService가 만들고 ImagePost에 그대로 저장한다.
+ *
+ * path: basePath 기준 상대 경로.
+ * contentType: 업로드 시 검증한 MIME 타입. 이 컬럼이 생기기 전 게시글은 null (확장자로 추정).
+ * sha256: 원본 내용의 SHA-256 (16진수 소문자). ETag·이미지 URL 버전에 쓴다. 이전 게시글은 null.
+ */
+public record StoredImage(String path, String contentType, String sha256) {
+}
@@ -0,0 +1,60 @@
+package com.example.sns.service.search;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.SearchProperties;
+import com.example.sns.repository.FulltextSearchRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 검색 백엔드 (prod 전용).
+ *
+ * 인메모리 NgramSearchIndex 다음 순서. 인덱스 적재 중·비활성(다중 노드 등) 시 사용한다.
+ * 기동 시 FULLTEXT 인덱스 존재를 확인하며, 마이그레이션 미적용 시 사용하지 않는다 (LIKE fallback).
+ */
+@Slf4j
+@Component
+@Profile("prod")
+@Order(Ordered.LOWEST_PRECEDENCE - 50)
+@RequiredArgsConstructor
+public class MySqlFulltextSearch implements SearchBackend {
+
+    private final FulltextSearchRepository fulltextSearchRepository;
+    private final SearchProperties searchProperties;
+
+    private volatile boolean schemaReady;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifySchema() {
+        if (!searchProperties.fulltext().enabled()) {
+            return;
+        }
+        try {
+            schemaReady = fulltextSearchRepository.isSchemaReady();
+            if (!schemaReady) {
+                log.warn("FULLTEXT 인덱스 없음(V004 마이그레이션 미적용): MySQL 전문 검색 비활성화");
+            }
+        } catch (Exception e) {
+            log.warn("MySQL FULLTEXT 스키마 확인 실패: {}. LIKE fallback 적용.", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return schemaReady && searchProperties.fulltext().enabled();
+    }
+
+    @Override
+    public List<Long> search(SearchLayer layer, List<String> words, int limit) {
+        return fulltextSearchRepository.search(layer, words, limit);
+    }
+}
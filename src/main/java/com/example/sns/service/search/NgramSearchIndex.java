@@ -0,0 +1,276 @@
+package com.example.sns.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.sns.config.SearchProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 n-gram 역색인 (게시글·이미지 게시글 제목·내용).
+ *
+ * gram → (문서 id → 가중 빈도) posting을 레이어별로 보관한다. 제목 gram은 TITLE_WEIGHT배로 센다.
+ * 조회 시 검색어 gram의 posting 중 가장 짧은 것부터 교집합을 구해 모든 gram을 포함하는 문서만 남기고
+ * BM25로 점수를 매긴다. gram 단위 매칭이므로 LIKE와 달리 gram 순서·인접 여부는 보지 않는다.
+ * 기동 시 SearchIndexLoader가 DB에서 적재하고, 이후 SearchDocumentEvent(커밋 후)로 갱신한다.
+ * 적재 완료 전에는 isAvailable()=false → 검색은 다음 백엔드 또는 LIKE fallback.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+public class NgramSearchIndex implements SearchBackend {
+
+    /** 제목 gram 가중치. */
+    private static final int TITLE_WEIGHT = 2;
+    /** BM25 빈도 포화 계수. */
+    private static final double K1 = 1.2;
+    /** BM25 문서 길이 정규화 계수. */
+    private static final double B = 0.75;
+
+    private final boolean enabled;
+    private final int gramSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<SearchLayer, LayerIndex> layers = new EnumMap<>(SearchLayer.class);
+    private final List<SearchDocumentEvent> pendingEvents = new ArrayList<>();
+
+    private boolean loading;
+    private volatile boolean ready;
+
+    public NgramSearchIndex(SearchProperties searchProperties) {
+        SearchProperties.Index props = searchProperties.index();
+        this.enabled = props.enabled();
+        this.gramSize = props.gramSize();
+        for (SearchLayer layer : SearchLayer.values()) {
+            layers.put(layer, new LayerIndex());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    @Override
+    public List<Long> search(SearchLayer layer, List<String> words, int limit) {
+        List<String> queryGrams = new ArrayList<>(new LinkedHashSet<>(NgramTokenizer.grams(words, gramSize)));
+        if (queryGrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Map.Entry<Long, Double>> scored = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            LayerIndex index = layers.get(layer);
+            List<Map<Long, Integer>> postings = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                Map<Long, Integer> posting = index.postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                postings.add(posting);
+            }
+            postings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = index.lengths.size();
+            double averageLength = (double) index.totalLength / documentCount;
+            double[] idf = new double[postings.size()];
+            for (int i = 0; i < postings.size(); i++) {
+                int df = postings.get(i).size();
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            candidates:
+            for (Long id : postings.get(0).keySet()) {
+                double lengthNorm = K1 * (1 - B + B * index.lengths.get(id) / averageLength);
+                double score = 0;
+                for (int i = 0; i < postings.size(); i++) {
+                    Integer tf = postings.get(i).get(id);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * tf * (K1 + 1) / (tf + lengthNorm);
+                }
+                scored.add(Map.entry(id, score));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        scored.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()));
+        return scored.stream()
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 적재 시작. 기존 데이터를 비우고, 적재 중 들어온 이벤트는 completeLoad에서 반영한다.
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            loading = true;
+            pendingEvents.clear();
+            layers.values().forEach(LayerIndex::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 완료. 보류 이벤트를 반영하고 조회를 허용한다.
+     */
+    public void completeLoad() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents.forEach(this::apply);
+            pendingEvents.clear();
+            loading = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 실패. 인덱스를 비활성 상태로 둔다 (LIKE fallback).
+     */
+    public void abortLoad() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents.clear();
+            layers.values().forEach(LayerIndex::clear);
+            loading = false;
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 추가·교체 (적재용).
+     */
+    public void put(SearchLayer layer, long id, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            layers.get(layer).put(id, termFrequencies(title, content));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 문서 변경 이벤트 반영. 트랜잭션 커밋 후 실행.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchDocumentEvent(SearchDocumentEvent event) {
+        if (!enabled || event.id() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                pendingEvents.add(event);
+            } else {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size(SearchLayer layer) {
+        lock.readLock().lock();
+        try {
+            return layers.get(layer).lengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(SearchDocumentEvent event) {
+        LayerIndex index = layers.get(event.layer());
+        if (event.deleted()) {
+            index.remove(event.id());
+        } else {
+            index.put(event.id(), termFrequencies(event.title(), event.content()));
+        }
+    }
+
+    private Map<String, Integer> termFrequencies(String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String gram : NgramTokenizer.grams(title, gramSize)) {
+            frequencies.merge(gram, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String gram : NgramTokenizer.grams(content, gramSize)) {
+            frequencies.merge(gram, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    /**
+     * 레이어 하나의 역색인. 호출 측에서 잠금.
+     */
+    private static final class LayerIndex {
+
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, String[]> termsById = new HashMap<>();
+        private final Map<Long, Integer> lengths = new HashMap<>();
+        private long totalLength;
+
+        void put(long id, Map<String, Integer> frequencies) {
+            remove(id);
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), gram -> new HashMap<>()).put(id, entry.getValue());
+                length += entry.getValue();
+            }
+            termsById.put(id, frequencies.keySet().toArray(String[]::new));
+            lengths.put(id, length);
+            totalLength += length;
+        }
+
+        void remove(long id) {
+            String[] terms = termsById.remove(id);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            totalLength -= lengths.remove(id);
+        }
+
+        void clear() {
+            postings.clear();
+            termsById.clear();
+            lengths.clear();
+            totalLength = 0;
+        }
+    }
+}
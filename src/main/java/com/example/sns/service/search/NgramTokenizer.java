@@ -0,0 +1,65 @@
+package com.example.sns.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 단어·n-gram 분리.
+ *
+ * NFKC 정규화·소문자화 후 글자·숫자가 아닌 문자로 단어를 나누고, 단어마다 n글자 창을 한 칸씩 밀어 n-gram을 만든다.
+ * 형태소 분석 없이 한국어 조사·어미가 붙은 단어("지도에서")도 어간 n-gram("지도")으로 매칭된다.
+ * n보다 짧은 단어는 단어 전체를 하나의 gram으로 쓴다.
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 정규화한 단어 목록. 입력 순서 유지, 중복 포함.
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 단어 목록의 n-gram. 중복 포함 (빈도 계산용).
+     */
+    public static List<String> grams(List<String> words, int n) {
+        List<String> grams = new ArrayList<>();
+        for (String word : words) {
+            if (word.length() <= n) {
+                grams.add(word);
+                continue;
+            }
+            for (int i = 0; i + n <= word.length(); i++) {
+                grams.add(word.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 텍스트의 n-gram. 중복 포함.
+     */
+    public static List<String> grams(String text, int n) {
+        return grams(words(text), n);
+    }
+}
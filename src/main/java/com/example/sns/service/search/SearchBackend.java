@@ -0,0 +1,26 @@
+package com.example.sns.service.search;
+
+import java.util.List;
+
+/**
+ * 키워드 검색 후보(id)를 관련도 순으로 제공하는 검색 백엔드.
+ *
+ * SearchService가 @Order 순서대로 사용 가능한 첫 백엔드를 사용하고,
+ * 모두 사용할 수 없으면 Repository의 LIKE 조회로 fallback 한다.
+ */
+public interface SearchBackend {
+
+    /**
+     * 현재 조회에 사용할 수 있는지 여부 (설정 활성화·적재 완료·스키마 확인 등).
+     */
+    boolean isAvailable();
+
+    /**
+     * 키워드의 모든 단어를 포함하는 문서 id. 관련도 내림차순, 동점은 id 내림차순(최신 우선).
+     *
+     * @param layer 검색 대상
+     * @param words NgramTokenizer.words로 정규화한 검색 단어 (각 단어는 gram 길이 이상)
+     * @param limit 최대 건수
+     */
+    List<Long> search(SearchLayer layer, List<String> words, int limit);
+}
@@ -0,0 +1,29 @@
+package com.example.sns.service.search;
+
+/**
+ * 검색 문서(제목·내용) 변경 이벤트. Service 계층에서 발행하고 커밋 이후 검색 인덱스에 반영한다.
+ *
+ * 구독: NgramSearchIndex. MySQL FULLTEXT는 테이블과 함께 갱신되므로 구독하지 않는다.
+ */
+public record SearchDocumentEvent(
+        SearchLayer layer,
+        Long id,
+        String title,
+        String content,
+        boolean deleted
+) {
+
+    /**
+     * 생성·수정 이벤트. 기존 문서를 대체한다.
+     */
+    public static SearchDocumentEvent saved(SearchLayer layer, Long id, String title, String content) {
+        return new SearchDocumentEvent(layer, id, title, content, false);
+    }
+
+    /**
+     * 삭제 이벤트.
+     */
+    public static SearchDocumentEvent deleted(SearchLayer layer, Long id) {
+        return new SearchDocumentEvent(layer, id, null, null, true);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.sns.service.search;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.SearchProperties;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 DB 게시글 제목·내용을 NgramSearchIndex에 적재.
+ *
+ * id 기준 keyset 배치(loadBatchSize)로 읽어 메모리 사용을 제한한다.
+ * DB 미연결 등 실패 시 인덱스는 비활성 상태로 두고 검색은 LIKE fallback.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexLoader {
+
+    private final NgramSearchIndex searchIndex;
+    private final SearchProperties searchProperties;
+    private final PostRepository postRepository;
+    private final ImagePostRepository imagePostRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!searchIndex.isEnabled()) {
+            log.info("검색 인덱스 비활성화: 키워드 검색은 FULLTEXT 또는 LIKE 사용");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        searchIndex.beginLoad();
+        try {
+            for (SearchLayer layer : SearchLayer.values()) {
+                loadLayer(layer);
+            }
+            searchIndex.completeLoad();
+            log.info("검색 인덱스 적재 완료: posts={}, imagePosts={}, elapsedMs={}",
+                    searchIndex.size(SearchLayer.POST), searchIndex.size(SearchLayer.IMAGE_POST),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            searchIndex.abortLoad();
+            log.error("검색 인덱스 적재 실패: {}. 키워드 검색은 LIKE fallback.", e.getMessage());
+        }
+    }
+
+    private void loadLayer(SearchLayer layer) {
+        BiFunction<Long, Pageable, List<Object[]>> batchQuery = switch (layer) {
+            case POST -> postRepository::findSearchDocumentsAfter;
+            case IMAGE_POST -> imagePostRepository::findSearchDocumentsAfter;
+        };
+        Pageable batch = PageRequest.of(0, searchProperties.index().loadBatchSize());
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = batchQuery.apply(afterId, batch);
+            for (Object[] row : rows) {
+                long id = ((Number) row[0]).longValue();
+                searchIndex.put(layer, id, (String) row[1], (String) row[2]);
+                afterId = id;
+            }
+            if (rows.size() < batch.getPageSize()) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.sns.service.search;
+
+/**
+ * 키워드 검색 대상 (제목·내용을 가진 게시글 종류).
+ */
+public enum SearchLayer {
+
+    POST,
+    IMAGE_POST
+}
@@ -0,0 +1,77 @@
+package com.example.sns.service.search;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.example.sns.config.SearchProperties;
+import com.example.sns.service.geo.GeoSearchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키워드 검색 후보 선정.
+ *
+ * 등록된 SearchBackend를 @Order 순서로 시도한다: 인메모리 n-gram 역색인 → MySQL FULLTEXT(prod).
+ * 사용 가능한 백엔드가 없거나 gram 길이보다 짧은 단어(예: 1글자)가 있으면 empty → 호출 측 LIKE 조회.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final List<SearchBackend> backends;
+    private final SearchProperties searchProperties;
+
+    /**
+     * 키워드 검색 결과 페이지. 관련도 내림차순, 상위 maxResults건 안에서 페이징.
+     *
+     * @param layer       검색 대상
+     * @param keyword     검색어
+     * @param pageable    페이징 (정렬 무시)
+     * @param loader      id 목록 → 항목 목록 (1회 쿼리)
+     * @param idExtractor 항목 → id
+     * @return 인덱스로 처리할 수 없으면 empty
+     */
+    public <T> Optional<Page<T>> findPage(SearchLayer layer, String keyword, Pageable pageable,
+                                          Function<List<Long>, List<T>> loader, Function<T, Long> idExtractor) {
+        return search(layer, keyword)
+                .map(ids -> {
+                    int from = (int) Math.min(pageable.getOffset(), ids.size());
+                    int to = Math.min(from + pageable.getPageSize(), ids.size());
+                    List<T> content = GeoSearchService.loadInOrder(ids.subList(from, to), loader, idExtractor);
+                    return new PageImpl<>(content, pageable, ids.size());
+                });
+    }
+
+    /**
+     * 키워드 검색 후보 id. 관련도 내림차순, 최대 maxResults건.
+     *
+     * @return 인덱스로 처리할 수 없으면 empty
+     */
+    public Optional<List<Long>> search(SearchLayer layer, String keyword) {
+        List<String> words = NgramTokenizer.words(keyword);
+        int gramSize = searchProperties.index().gramSize();
+        if (words.isEmpty() || words.stream().anyMatch(word -> word.length() < gramSize)) {
+            return Optional.empty();
+        }
+        for (SearchBackend backend : backends) {
+            if (!backend.isAvailable()) {
+                continue;
+            }
+            try {
+                return Optional.of(backend.search(layer, words, searchProperties.maxResults()));
+            } catch (Exception e) {
+                log.warn("검색 인덱스 조회 실패, 다음 백엔드로 fallback: backend={}, error={}",
+                        backend.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.sns.service.storage;
+
+import java.nio.file.Path;
+
+/**
+ * 저장된 객체 메타데이터.
+ *
+ * localPath: 로컬 파일시스템 저장소면 실제 파일 경로 (sendfile 등 zero-copy 전송용), 원격 저장소면 null.
+ */
+public record BlobInfo(long length, long lastModified, Path localPath) {
+}
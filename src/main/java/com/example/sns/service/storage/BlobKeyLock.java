@@ -0,0 +1,211 @@
+package com.example.sns.service.storage;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장소 키 단위 잠금. 업로드 배치(배치 ~ 트랜잭션 종료)와 참조 확인 후 삭제(ImageBlobCollector)를 직렬화해
+ * 다른 노드에서 방금 참조한 파일을 지우지 않게 한다.
+ *
+ * Redis가 있으면(app.storage.lock.distributed) blob-lock:{key}를 SET NX PX로 잡아 같은 버킷·볼륨을 쓰는 모든 노드에 걸친다
+ * (geo:rebuild:lock과 같은 방식, 해제는 본인 토큰일 때만 Lua로 삭제). 없으면 노드 내 잠금.
+ * 임대 시간이 지나면 자동 해제되어 노드가 중단돼도 잠금이 남지 않는다.
+ * 같은 스레드는 다시 잡을 수 있다 (커밋 후 삭제 리스너가 같은 트랜잭션의 배치 잠금을 잡은 채 실행됨).
+ *
+ * acquire: 잡지 못하면(대기 초과·Redis 장애) FILE_UPLOAD_FAILED. 삭제는 건너뛰므로 파일이 남을 뿐 유실되지 않는다.
+ * acquireForWrite: Redis 장애 시에는 노드 내 잠금으로 대신한다. 같은 장애 동안 삭제는 잠금을 얻지 못해 일어나지 않으므로
+ * 업로드를 막지 않아도 안전하다.
+ */
+@Slf4j
+public class BlobKeyLock {
+
+    private static final String KEY_PREFIX = "blob-lock:";
+    private static final int LOCAL_STRIPES = 64;
+    private static final long RETRY_MILLIS = 50;
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lease;
+    private final long waitMillis;
+    private final ReentrantLock[] localLocks = new ReentrantLock[LOCAL_STRIPES];
+    private final ThreadLocal<Map<String, Held>> held = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * @param redisTemplate null이면 노드 내 잠금만 사용
+     * @param lease         Redis 잠금 임대 시간
+     * @param waitMillis    잠금 대기 최대 시간(ms)
+     */
+    public BlobKeyLock(StringRedisTemplate redisTemplate, Duration lease, long waitMillis) {
+        this.redisTemplate = redisTemplate;
+        this.lease = lease;
+        this.waitMillis = waitMillis;
+        for (int i = 0; i < localLocks.length; i++) {
+            localLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 노드 내 잠금만 쓰는 인스턴스 (단일 노드·테스트).
+     */
+    public static BlobKeyLock local() {
+        return new BlobKeyLock(null, Duration.ofMinutes(1), 10_000);
+    }
+
+    public boolean isDistributed() {
+        return redisTemplate != null;
+    }
+
+    /**
+     * key 잠금. 잡지 못하면 FILE_UPLOAD_FAILED.
+     */
+    public Lease acquire(String key) {
+        return acquire(key, false);
+    }
+
+    /**
+     * 쓰기(업로드 배치)용 key 잠금. Redis 장애 시 노드 내 잠금으로 대신한다. 다른 노드가 잡고 있어 대기를 넘기면 FILE_UPLOAD_FAILED.
+     */
+    public Lease acquireForWrite(String key) {
+        return acquire(key, true);
+    }
+
+    /**
+     * key 잠금 안에서 action 실행.
+     */
+    public void withLock(String key, Runnable action) {
+        try (Lease ignored = acquire(key)) {
+            action.run();
+        }
+    }
+
+    private Lease acquire(String key, boolean localOnRedisFailure) {
+        Map<String, Held> mine = held.get();
+        Held entry = mine.get(key);
+        if (entry == null) {
+            entry = new Held(lock(key, localOnRedisFailure));
+            mine.put(key, entry);
+        }
+        entry.count++;
+        Held acquired = entry;
+        return () -> release(key, acquired);
+    }
+
+    /**
+     * @return Redis 토큰, 노드 내 잠금이면 null
+     */
+    private String lock(String key, boolean localOnRedisFailure) {
+        if (redisTemplate == null) {
+            lockLocal(key);
+            return null;
+        }
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (true) {
+            Boolean locked;
+            try {
+                locked = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, token, lease);
+            } catch (Exception e) {
+                if (!localOnRedisFailure) {
+                    log.warn("저장소 잠금 실패(Redis): key={}, error={}", key, e.getMessage());
+                    throw notAcquired();
+                }
+                log.warn("저장소 잠금 Redis 장애, 노드 내 잠금으로 대신: key={}, error={}", key, e.getMessage());
+                lockLocal(key);
+                return null;
+            }
+            if (Boolean.TRUE.equals(locked)) {
+                return token;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("저장소 잠금 대기 초과: key={}", key);
+                throw notAcquired();
+            }
+            sleep();
+        }
+    }
+
+    private void lockLocal(String key) {
+        try {
+            if (!localLock(key).tryLock(waitMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("저장소 잠금 대기 초과(노드 내): key={}", key);
+                throw notAcquired();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw notAcquired();
+        }
+    }
+
+    private void release(String key, Held entry) {
+        if (entry.count == 0 || --entry.count > 0) {
+            return;
+        }
+        held.get().remove(key);
+        if (entry.token == null) {
+            localLock(key).unlock();
+            return;
+        }
+        try {
+            Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key), entry.token);
+            if (released == null || released == 0) {
+                log.warn("저장소 잠금이 임대 시간 안에 해제되지 않음: key={}, leaseSeconds={}", key, lease.toSeconds());
+            }
+        } catch (Exception e) {
+            log.warn("저장소 잠금 해제 실패 (임대 만료 후 해제): key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private ReentrantLock localLock(String key) {
+        return localLocks[Math.floorMod(key.hashCode(), localLocks.length)];
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(RETRY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw notAcquired();
+        }
+    }
+
+    private static BusinessException notAcquired() {
+        return new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "저장소 잠금을 얻지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    /**
+     * 잠금 해제 핸들. 잡은 횟수만큼 닫아야 해제된다.
+     */
+    @FunctionalInterface
+    public interface Lease extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class Held {
+        private final String token;
+        private int count;
+
+        private Held(String token) {
+            this.token = token;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.sns.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * 이미지 파일 저장소 (app.storage.type).
+ *
+ * 키는 basePath·버킷 기준 상대 경로 (예: image-posts/ab/cd/{sha256}.jpg). 구현: LocalBlobStore, S3BlobStore.
+ * 쓰기는 스트림을 그대로 저장소로 보내고(전체를 메모리에 올리지 않음), 같은 키 쓰기는 원자적으로 교체된다.
+ * 없는 키 읽기는 NoSuchFileException, 삭제는 없어도 성공한다.
+ */
+public interface BlobStore {
+
+    /**
+     * 스트림을 키로 저장. 완료 전에는 다른 요청에 보이지 않는다.
+     *
+     * @param length 바이트 수 (S3는 Content-Length로 사용)
+     */
+    void write(String key, InputStream in, long length, String contentType) throws IOException;
+
+    /**
+     * 객체 이동 (업로드 임시 키 → 최종 키). 대상이 있으면 덮어쓴다.
+     */
+    void move(String sourceKey, String targetKey) throws IOException;
+
+    /**
+     * 메타데이터. 없으면 empty.
+     */
+    Optional<BlobInfo> stat(String key) throws IOException;
+
+    default boolean exists(String key) throws IOException {
+        return stat(key).isPresent();
+    }
+
+    /**
+     * 전체 읽기.
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 구간 읽기 (Range 응답용).
+     */
+    InputStream open(String key, long offset, long length) throws IOException;
+
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,160 @@
+package com.example.sns.service.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 파일시스템 저장소 (app.storage.type=local).
+ *
+ * 키는 app.upload.base-path 기준 상대 경로. 경로 traversal은 resolve에서 차단한다 (RULE 1.3).
+ * 쓰기는 같은 디렉터리의 임시 파일에 받은 뒤 원자적 이동으로 교체해, 읽는 쪽이 쓰다 만 파일을 보지 않는다.
+ * stat은 실제 파일 경로를 돌려주므로 응답 시 sendfile로 보낼 수 있다.
+ */
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+    private final Path basePath;
+
+    public LocalBlobStore(String basePath) {
+        this.basePath = Paths.get(basePath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 키의 전체 경로. basePath 밖을 가리키면 FILE_UPLOAD_FAILED.
+     */
+    public Path resolve(String key) {
+        if (key == null || key.contains("..")) {
+            log.warn("저장 경로 traversal 시도 차단: key={}", key);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "잘못된 파일 경로입니다.");
+        }
+        Path resolved = basePath.resolve(key.replace('\\', '/')).normalize();
+        if (!resolved.startsWith(basePath)) {
+            log.warn("저장 경로 traversal 시도 차단: key={}", key);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "잘못된 파일 경로입니다.");
+        }
+        return resolved;
+    }
+
+    @Override
+    public void write(String key, InputStream in, long length, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.copy(in, temp);
+            moveAtomically(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        Path target = resolve(targetKey);
+        Files.createDirectories(target.getParent());
+        moveAtomically(resolve(sourceKey), target);
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        Path path = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return Optional.of(new BlobInfo(attributes.size(), attributes.lastModifiedTime().toMillis(), path));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public InputStream open(String key, long offset, long length) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+        channel.position(offset);
+        return new LimitedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 최대 remaining 바이트까지만 읽는 스트림. 닫으면 파일 채널도 닫힌다.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private LimitedInputStream(InputStream in, long remaining) {
+            super(in);
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
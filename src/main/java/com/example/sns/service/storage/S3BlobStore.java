@@ -0,0 +1,140 @@
+package com.example.sns.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.util.Optional;
+
+import com.example.sns.config.StorageProperties;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * S3 호환 오브젝트 스토리지 저장소 (app.storage.type=s3). AWS S3, MinIO 등.
+ *
+ * 쓰기는 업로드 스트림을 Content-Length와 함께 PutObject 본문으로 그대로 보낸다 (전체를 메모리·디스크에 모으지 않음).
+ * 이동은 서버 측 복사 후 원본 삭제 (복사가 끝나면 이동 성공, 원본 삭제 실패는 무시). 구간 읽기는 Range GetObject로 필요한 바이트만 받는다.
+ * SDK 예외는 IOException으로 감싸 LocalBlobStore와 같은 방식으로 처리되게 한다. 빈 종료 시 close로 클라이언트를 닫는다.
+ */
+@Slf4j
+public class S3BlobStore implements BlobStore, AutoCloseable {
+
+    private final S3Client client;
+    private final String bucket;
+
+    public S3BlobStore(StorageProperties.S3 props) {
+        if (props.bucket() == null || props.bucket().isBlank()) {
+            throw new IllegalStateException("app.storage.s3.bucket이 필요합니다.");
+        }
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(props.region()))
+                .forcePathStyle(props.pathStyle());
+        if (props.endpoint() != null && !props.endpoint().isBlank()) {
+            builder.endpointOverride(URI.create(props.endpoint()));
+        }
+        if (props.accessKey() != null && !props.accessKey().isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(props.accessKey(), props.secretKey())));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+        this.client = builder.build();
+        this.bucket = props.bucket();
+    }
+
+    @Override
+    public void write(String key, InputStream in, long length, String contentType) throws IOException {
+        try {
+            client.putObject(b -> b.bucket(bucket).key(key).contentType(contentType).contentLength(length),
+                    RequestBody.fromInputStream(in, length));
+        } catch (SdkException e) {
+            throw new IOException("S3 쓰기 실패: key=" + key, e);
+        }
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        try {
+            client.copyObject(b -> b.sourceBucket(bucket).sourceKey(sourceKey)
+                    .destinationBucket(bucket).destinationKey(targetKey));
+        } catch (SdkException e) {
+            throw new IOException("S3 이동 실패: key=" + targetKey, e);
+        }
+        try {
+            client.deleteObject(b -> b.bucket(bucket).key(sourceKey));
+        } catch (SdkException e) {
+            // 대상은 이미 완성됨. 남은 원본(.upload-tmp/)은 수명 주기 규칙으로 정리 (doc/DEPLOYMENT.md)
+            log.warn("S3 이동 후 원본 삭제 실패(무시): key={}, error={}", sourceKey, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = client.headObject(b -> b.bucket(bucket).key(key));
+            return Optional.of(new BlobInfo(head.contentLength(), head.lastModified().toEpochMilli(), null));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                // HEAD는 본문이 없어 NoSuchKey 대신 404 S3Exception으로 온다
+                return Optional.empty();
+            }
+            throw new IOException("S3 메타데이터 조회 실패: key=" + key, e);
+        } catch (SdkException e) {
+            throw new IOException("S3 메타데이터 조회 실패: key=" + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return client.getObject(b -> b.bucket(bucket).key(key));
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw new IOException("S3 읽기 실패: key=" + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long offset, long length) throws IOException {
+        if (length <= 0) {
+            return InputStream.nullInputStream();
+        }
+        try {
+            return client.getObject(b -> b.bucket(bucket).key(key)
+                    .range("bytes=" + offset + "-" + (offset + length - 1)));
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw new IOException("S3 읽기 실패: key=" + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            client.deleteObject(b -> b.bucket(bucket).key(key));
+        } catch (SdkException e) {
+            throw new IOException("S3 삭제 실패: key=" + key, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.sns.service.upload;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+/**
+ * 노드 로컬 업로드 세션 저장소 (app.upload-session.distributed=false 또는 Redis 미설정).
+ *
+ * 생성·청크 추가 후 TTL이 지나거나 maxSize를 넘으면 제거되고, onExpired 리스너로 통지한다.
+ * 노드 간 공유되지 않으므로 여러 노드면 같은 업로드의 요청이 같은 노드로 가야 한다.
+ * 회원별 제한은 생성 시 세션을 훑어 센다 (생성은 업로드당 한 번, 최대 maxSize개).
+ */
+public class InMemoryUploadSessionStore implements UploadSessionStore {
+
+    private final Cache<String, UploadSession> sessions;
+    private volatile Consumer<UploadSession> expiredListener = session -> {
+    };
+
+    public InMemoryUploadSessionStore(long maxSize, Duration ttl) {
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .scheduler(Scheduler.systemScheduler())
+                .<String, UploadSession>removalListener((id, session, cause) -> {
+                    if (cause.wasEvicted() && session != null) {
+                        expiredListener.accept(session);
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public synchronized boolean create(UploadSession session, int maxPerUser) {
+        long open = sessions.asMap().values().stream()
+                .filter(existing -> existing.userId().equals(session.userId()))
+                .count();
+        if (open >= maxPerUser) {
+            return false;
+        }
+        sessions.put(session.id(), session);
+        return true;
+    }
+
+    @Override
+    public void create(UploadSession session) {
+        sessions.put(session.id(), session);
+    }
+
+    @Override
+    public Optional<UploadSession> find(String id) {
+        return Optional.ofNullable(sessions.getIfPresent(id));
+    }
+
+    @Override
+    public Optional<UploadSession> append(String id, long expectedOffset, long newOffset, String part) {
+        return Optional.ofNullable(sessions.asMap().computeIfPresent(id, (key, session) -> {
+            if (session.offset() != expectedOffset) {
+                return session;
+            }
+            List<String> parts = new ArrayList<>(session.parts());
+            parts.add(part);
+            return new UploadSession(session.id(), session.userId(), session.length(), session.contentType(),
+                    newOffset, List.copyOf(parts));
+        })).filter(session -> session.offset() == newOffset && session.parts().contains(part));
+    }
+
+    @Override
+    public boolean remove(String id) {
+        return sessions.asMap().remove(id) != null;
+    }
+
+    @Override
+    public void onExpired(Consumer<UploadSession> listener) {
+        this.expiredListener = listener;
+    }
+}
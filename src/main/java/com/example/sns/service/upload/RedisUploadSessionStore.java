@@ -0,0 +1,148 @@
+package com.example.sns.service.upload;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 업로드 세션 저장소 (app.upload-session.distributed=true). 노드 간 공유.
+ *
+ * 키: upload-session:{id} (HASH: userId, length, contentType, offset, parts(쉼표 구분)), TTL은 생성·청크 추가 시 갱신.
+ * upload-session-user:{userId} (SET: 세션 ID)는 회원별 제한용이다. 생성 시 Lua로 이미 없는(완료·취소·만료) 세션을 빼고 센 뒤
+ * 제한 안이면 세션을 만든다. TTL은 세션과 함께 갱신한다.
+ * 청크 추가는 Lua 스크립트로 위치 비교와 갱신을 한 번에 한다. 만료 통지는 하지 않으므로
+ * 버려진 청크(.upload-sessions/)는 저장소 수명 주기 규칙으로 정리한다 (doc/DEPLOYMENT.md).
+ */
+@Slf4j
+public class RedisUploadSessionStore implements UploadSessionStore {
+
+    private static final String KEY_PREFIX = "upload-session:";
+    private static final String USER_KEY_PREFIX = "upload-session-user:";
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+            local open = 0
+            for _, id in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+              if redis.call('EXISTS', 'upload-session:' .. id) == 1 then
+                open = open + 1
+              else
+                redis.call('SREM', KEYS[2], id)
+              end
+            end
+            if open >= tonumber(ARGV[2]) then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'userId', ARGV[4], 'length', ARGV[5], 'contentType', ARGV[6],
+              'offset', ARGV[7], 'parts', ARGV[8])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'offset') ~= ARGV[1] then
+              return 0
+            end
+            local parts = redis.call('HGET', KEYS[1], 'parts')
+            if parts == false or parts == '' then
+              parts = ARGV[3]
+            else
+              parts = parts .. ',' .. ARGV[3]
+            end
+            redis.call('HSET', KEYS[1], 'offset', ARGV[2], 'parts', parts)
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', 'upload-session-user:' .. redis.call('HGET', KEYS[1], 'userId'), ARGV[4])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisUploadSessionStore(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public boolean create(UploadSession session, int maxPerUser) {
+        try {
+            Long created = redisTemplate.execute(CREATE_SCRIPT,
+                    List.of(KEY_PREFIX + session.id(), USER_KEY_PREFIX + session.userId()),
+                    session.id(), String.valueOf(maxPerUser), String.valueOf(ttl.toMillis()),
+                    String.valueOf(session.userId()), String.valueOf(session.length()), session.contentType(),
+                    String.valueOf(session.offset()), String.join(",", session.parts()));
+            return Long.valueOf(1).equals(created);
+        } catch (Exception e) {
+            log.error("업로드 세션 저장 실패: uploadId={}, error={}", session.id(), e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public void create(UploadSession session) {
+        String key = KEY_PREFIX + session.id();
+        String userKey = USER_KEY_PREFIX + session.userId();
+        try {
+            redisTemplate.opsForHash().putAll(key, Map.of(
+                    "userId", String.valueOf(session.userId()),
+                    "length", String.valueOf(session.length()),
+                    "contentType", session.contentType(),
+                    "offset", String.valueOf(session.offset()),
+                    "parts", String.join(",", session.parts())));
+            redisTemplate.expire(key, ttl);
+            redisTemplate.opsForSet().add(userKey, session.id());
+            redisTemplate.expire(userKey, ttl);
+        } catch (Exception e) {
+            log.error("업로드 세션 저장 실패: uploadId={}, error={}", session.id(), e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<UploadSession> find(String id) {
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + id);
+            if (fields.isEmpty()) {
+                return Optional.empty();
+            }
+            String parts = (String) fields.get("parts");
+            return Optional.of(new UploadSession(id,
+                    Long.valueOf((String) fields.get("userId")),
+                    Long.parseLong((String) fields.get("length")),
+                    (String) fields.get("contentType"),
+                    Long.parseLong((String) fields.get("offset")),
+                    parts == null || parts.isEmpty() ? List.of() : Arrays.asList(parts.split(","))));
+        } catch (Exception e) {
+            log.error("업로드 세션 조회 실패: uploadId={}, error={}", id, e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<UploadSession> append(String id, long expectedOffset, long newOffset, String part) {
+        try {
+            Long updated = redisTemplate.execute(APPEND_SCRIPT, List.of(KEY_PREFIX + id),
+                    String.valueOf(expectedOffset), String.valueOf(newOffset), part, String.valueOf(ttl.toMillis()));
+            return Long.valueOf(1).equals(updated) ? find(id) : Optional.empty();
+        } catch (Exception e) {
+            log.error("업로드 청크 기록 실패: uploadId={}, error={}", id, e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean remove(String id) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.delete(KEY_PREFIX + id));
+        } catch (Exception e) {
+            log.error("업로드 세션 삭제 실패: uploadId={}, error={}", id, e.getMessage());
+            throw e;
+        }
+    }
+}
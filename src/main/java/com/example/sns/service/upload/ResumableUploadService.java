@@ -0,0 +1,241 @@
+package com.example.sns.service.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sns.config.UploadSessionProperties;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.FileStorageService;
+import com.example.sns.service.image.StoredImage;
+import com.example.sns.service.storage.BlobInfo;
+import com.example.sns.service.storage.BlobStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이어 올리기(청크) 업로드 (tus 방식: 세션 생성 → 위치 지정 청크 전송 → 완료).
+ *
+ * 청크는 받는 즉시 BlobStore의 .upload-sessions/{id}/에 따로 저장하고, 다 받은 청크만 세션 위치에 반영한다.
+ * 연결이 끊겨 청크가 덜 오면 그 청크만 버리므로 클라이언트는 세션 위치부터 다시 보내면 된다.
+ * 완료 시 청크를 순서대로 이어 읽으며 FileStorageService에 넘긴다 (전체를 메모리에 올리지 않음).
+ * RULE 1.2: 세션을 만든 회원만 조회·전송·완료할 수 있다.
+ */
+@Slf4j
+@Service
+public class ResumableUploadService {
+
+    private static final String PART_PREFIX = ".upload-sessions/";
+
+    private final UploadSessionStore sessionStore;
+    private final BlobStore blobStore;
+    private final FileStorageService fileStorageService;
+    private final long maxChunkBytes;
+    private final int maxSessionsPerUser;
+
+    public ResumableUploadService(UploadSessionStore sessionStore, BlobStore blobStore,
+                                  FileStorageService fileStorageService, UploadSessionProperties properties) {
+        this.sessionStore = sessionStore;
+        this.blobStore = blobStore;
+        this.fileStorageService = fileStorageService;
+        this.maxChunkBytes = properties.maxChunkBytes();
+        this.maxSessionsPerUser = properties.maxSessionsPerUser();
+        sessionStore.onExpired(this::deleteParts);
+    }
+
+    /**
+     * 세션 생성. 전체 크기·MIME 타입을 미리 검증해 허용되지 않는 파일은 청크를 받기 전에 거절한다.
+     * 회원별 열린 세션이 app.upload-session.max-sessions-per-user개 이상이면 TOO_MANY_REQUESTS.
+     *
+     * @param length      전체 바이트 수
+     * @param contentType 이미지 MIME 타입
+     */
+    public UploadSession create(Long userId, long length, String contentType) {
+        if (length <= 0) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "업로드 크기가 필요합니다.");
+        }
+        fileStorageService.validateImage(contentType, length);
+        UploadSession session = new UploadSession(UUID.randomUUID().toString(), userId, length, contentType, 0,
+                List.of());
+        if (!sessionStore.create(session, maxSessionsPerUser)) {
+            log.warn("업로드 세션 수 초과: userId={}, max={}", userId, maxSessionsPerUser);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS,
+                    "진행 중인 업로드가 너무 많습니다. 완료하거나 취소한 뒤 다시 시도해 주세요.");
+        }
+        log.info("업로드 세션 생성: uploadId={}, userId={}, length={}", session.id(), userId, length);
+        return session;
+    }
+
+    /**
+     * 세션 조회 (이어 보낼 위치 확인).
+     */
+    public UploadSession get(String id, Long userId) {
+        UploadSession session = sessionStore.find(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "업로드 세션을 찾을 수 없습니다."));
+        if (!session.userId().equals(userId)) {
+            log.warn("업로드 세션 IDOR 시도: uploadId={}, userId={}", id, userId);
+            throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 업로드만 이어 올릴 수 있습니다.");
+        }
+        return session;
+    }
+
+    /**
+     * 청크 추가. offset이 세션 위치와 같아야 하고, chunkLength 바이트를 다 받아야 반영된다.
+     *
+     * @param offset      청크 시작 위치 (Upload-Offset)
+     * @param chunkLength 청크 바이트 수 (Content-Length)
+     * @param body        청크 내용
+     * @return 갱신된 세션
+     */
+    public UploadSession append(String id, Long userId, long offset, long chunkLength, InputStream body) {
+        UploadSession session = get(id, userId);
+        if (offset != session.offset()) {
+            throw offsetMismatch(session.offset());
+        }
+        if (chunkLength <= 0 || chunkLength > maxChunkBytes) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "청크 크기는 1~" + maxChunkBytes + "바이트여야 합니다.");
+        }
+        if (offset + chunkLength > session.length()) {
+            throw new BusinessException(ErrorCode.FILE_TOO_LARGE, "업로드 크기를 초과합니다.");
+        }
+
+        String part = offset + "-" + UUID.randomUUID() + ".part";
+        String partKey = partKey(id, part);
+        try {
+            blobStore.write(partKey, body, chunkLength, MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            long received = blobStore.stat(partKey).map(BlobInfo::length).orElse(-1L);
+            if (received != chunkLength) {
+                throw new IOException("청크 일부만 수신: expected=" + chunkLength + ", received=" + received);
+            }
+        } catch (IOException e) {
+            deleteQuietly(partKey);
+            log.warn("업로드 청크 수신 실패, 같은 위치부터 재전송 필요: uploadId={}, offset={}, error={}",
+                    id, offset, e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "청크를 받지 못했습니다. 같은 위치부터 다시 보내 주세요.");
+        }
+
+        Optional<UploadSession> updated = sessionStore.append(id, offset, offset + chunkLength, part);
+        if (updated.isEmpty()) {
+            // 같은 위치의 청크가 동시에 들어와 다른 요청이 먼저 반영했거나, 그 사이 세션이 만료·완료됨
+            deleteQuietly(partKey);
+            throw offsetMismatch(get(id, userId).offset());
+        }
+        return updated.get();
+    }
+
+    /**
+     * 업로드 완료. 다 받은 세션을 저장소에서 꺼내(한 요청만 성공) 청크를 이어 FileStorageService에 저장한다.
+     * 트랜잭션 안이면 커밋 후 청크를 지우고, 롤백되면 세션을 되돌려 다시 완료할 수 있게 한다.
+     *
+     * @param subDir 저장 서브디렉터리 (예: image-posts)
+     */
+    public StoredImage finish(String id, Long userId, String subDir) {
+        UploadSession session = get(id, userId);
+        if (!session.isComplete()) {
+            throw new BusinessException(ErrorCode.UPLOAD_OFFSET_MISMATCH,
+                    "업로드가 끝나지 않았습니다. 현재 위치: " + session.offset());
+        }
+        if (!sessionStore.remove(id)) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "업로드 세션을 찾을 수 없습니다.");
+        }
+
+        StoredImage stored;
+        try (InputStream in = openParts(session)) {
+            stored = fileStorageService.storeImage(in, session.length(), session.contentType(), subDir);
+        } catch (IOException | RuntimeException e) {
+            sessionStore.create(session);
+            if (e instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("업로드 청크 읽기 실패: uploadId={}", id, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장에 실패했습니다.");
+        }
+        cleanUpAfterCommit(session);
+        log.info("업로드 완료: uploadId={}, storedPath={}", id, stored.path());
+        return stored;
+    }
+
+    /**
+     * 업로드 취소. 세션과 받은 청크를 지운다.
+     */
+    public void cancel(String id, Long userId) {
+        UploadSession session = get(id, userId);
+        if (sessionStore.remove(id)) {
+            deleteParts(session);
+        }
+    }
+
+    private void cleanUpAfterCommit(UploadSession session) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteParts(session);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    deleteParts(session);
+                } else {
+                    sessionStore.create(session);
+                }
+            }
+        });
+    }
+
+    /**
+     * 청크를 순서대로 이어 읽는 스트림. 각 청크는 차례가 되었을 때 연다.
+     */
+    private InputStream openParts(UploadSession session) {
+        Iterator<String> parts = session.parts().iterator();
+        return new SequenceInputStream(new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return parts.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                try {
+                    return blobStore.open(partKey(session.id(), parts.next()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+    }
+
+    private void deleteParts(UploadSession session) {
+        for (String part : session.parts()) {
+            deleteQuietly(partKey(session.id(), part));
+        }
+    }
+
+    private void deleteQuietly(String partKey) {
+        try {
+            blobStore.delete(partKey);
+        } catch (IOException e) {
+            log.warn("업로드 청크 삭제 실패(무시): key={}", partKey);
+        }
+    }
+
+    private static String partKey(String id, String part) {
+        return PART_PREFIX + id + "/" + part;
+    }
+
+    private static BusinessException offsetMismatch(long currentOffset) {
+        return new BusinessException(ErrorCode.UPLOAD_OFFSET_MISMATCH,
+                "업로드 위치가 일치하지 않습니다. 현재 위치: " + currentOffset);
+    }
+}
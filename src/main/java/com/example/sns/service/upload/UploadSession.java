@@ -0,0 +1,23 @@
+package com.example.sns.service.upload;
+
+import java.util.List;
+
+/**
+ * 이어 올리기 업로드 세션.
+ *
+ * offset: 지금까지 받은 바이트 수 (다음 청크 시작 위치). length와 같으면 완료.
+ * parts: 받은 청크 이름 (순서대로). 청크는 BlobStore의 .upload-sessions/{id}/{이름}에 있다.
+ */
+public record UploadSession(
+        String id,
+        Long userId,
+        long length,
+        String contentType,
+        long offset,
+        List<String> parts
+) {
+
+    public boolean isComplete() {
+        return offset == length;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.sns.service.upload;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 업로드 세션 저장소. 구현: InMemoryUploadSessionStore(노드 로컬), RedisUploadSessionStore(노드 간 공유).
+ *
+ * 세션은 생성·청크 추가 시점부터 TTL(app.upload-session.ttl-seconds) 동안 유지된다.
+ */
+public interface UploadSessionStore {
+
+    /**
+     * 세션 생성. 같은 회원의 열린 세션이 maxPerUser개 이상이면 만들지 않는다 (확인과 생성은 원자적).
+     *
+     * @return 만들었으면 true
+     */
+    boolean create(UploadSession session, int maxPerUser);
+
+    /**
+     * 세션 저장 (완료 롤백 시 되살리기). 회원별 제한을 확인하지 않는다.
+     */
+    void create(UploadSession session);
+
+    Optional<UploadSession> find(String id);
+
+    /**
+     * 현재 위치가 expectedOffset일 때만 청크를 추가하고 위치를 newOffset으로 옮긴다 (원자적).
+     *
+     * @return 갱신된 세션. 세션이 없거나 위치가 다르면 empty
+     */
+    Optional<UploadSession> append(String id, long expectedOffset, long newOffset, String part);
+
+    /**
+     * 세션 삭제. 이 호출로 지웠으면 true (완료 처리를 한 요청만 하도록).
+     */
+    boolean remove(String id);
+
+    /**
+     * TTL 만료로 버려진 세션 통지 (받은 청크 정리용). 만료를 통지할 수 없는 구현은 무시한다.
+     */
+    default void onExpired(Consumer<UploadSession> listener) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.sns.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.sns.service.image.ImageFile;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 저장 파일 응답 유틸리티.
+ *
+ * 조건부 요청(If-None-Match·If-Modified-Since → 304), 단일 byte range(206·416, If-Range), zero-copy 전송.
+ * 로컬 파일이면 Tomcat sendfile 지원 시 컨테이너에 넘기고(커널이 파일 → 소켓 직접 복사), 아니면 FileChannel.transferTo로 쓴다.
+ * 원격 저장소(S3 등)면 필요한 구간만 열어 응답으로 스트리밍한다 (전체를 메모리에 올리지 않음).
+ * 여러 구간(multipart/byteranges) 요청은 전체(200)로 응답한다.
+ */
+public final class FileResponseUtil {
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    /** sendfile 끝 위치 (배타적). */
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    private static final String BYTES_UNIT = "bytes=";
+
+    private FileResponseUtil() {
+    }
+
+    /**
+     * 파일 응답. 304·412·416이면 본문 없이 끝낸다.
+     *
+     * @param cacheControl Cache-Control 헤더 값 (304에도 포함)
+     * @param opener       로컬 경로가 없을 때 본문 구간을 여는 함수
+     */
+    public static void write(HttpServletRequest request, HttpServletResponse response, ImageFile file,
+                             String cacheControl, RangeOpener opener) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(file.etag(), file.lastModified())) {
+            return;
+        }
+
+        long length = file.length();
+        long start = 0;
+        long end = length - 1;
+        long[] range = requestedRange(request, file);
+        if (range != null) {
+            if (range[0] >= length || length == 0) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            start = range[0];
+            end = Math.min(range[1], length - 1);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentType(file.contentType());
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (file.localPath() == null) {
+            try (InputStream in = opener.open(start, count)) {
+                in.transferTo(response.getOutputStream());
+            }
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.localPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.localPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    /**
+     * Range 헤더의 단일 구간 [시작, 끝(포함)]. Range가 없거나, 형식이 잘못됐거나, 여러 구간이거나,
+     * If-Range가 현재 파일과 맞지 않으면 null (전체 응답). 끝이 파일 길이를 넘는 값은 호출 측에서 자른다.
+     */
+    static long[] requestedRange(HttpServletRequest request, ImageFile file) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || !header.startsWith(BYTES_UNIT) || header.indexOf(',') >= 0
+                || !ifRangeMatches(request, file)) {
+            return null;
+        }
+        String spec = header.substring(BYTES_UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0) {
+                    return new long[] {file.length(), file.length()};
+                }
+                return new long[] {Math.max(0, file.length() - suffix), file.length() - 1};
+            }
+            long start = Long.parseLong(spec.substring(0, dash));
+            long end = dash == spec.length() - 1 ? Long.MAX_VALUE : Long.parseLong(spec.substring(dash + 1));
+            return start < 0 || end < start ? null : new long[] {start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * If-Range: 강한 ETag가 같거나 날짜가 Last-Modified(초 단위)와 같을 때만 구간 응답. 약한 ETag는 일치하지 않는 것으로 본다.
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, ImageFile file) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return !file.etag().startsWith("W/") && ifRange.equals(file.etag());
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == file.lastModified() / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 저장소에서 본문 구간 [offset, offset + length)를 여는 함수.
+     */
+    @FunctionalInterface
+    public interface RangeOpener {
+        InputStream open(long offset, long length) throws IOException;
+    }
+}
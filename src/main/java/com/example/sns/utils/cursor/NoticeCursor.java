@@ -0,0 +1,56 @@
+package com.example.sns.utils.cursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+
+/**
+ * 공지 우선·최신순 목록의 keyset 커서 (notice DESC, createdAt DESC, id DESC).
+ *
+ * 클라이언트에는 Base64URL 문자열로만 노출한다 (내부 구조 비공개, 형식 변경 가능).
+ *
+ * @param notice    마지막 항목의 공지 여부
+ * @param createdAt 마지막 항목의 작성 시각
+ * @param id        마지막 항목의 id (동일 시각 구분)
+ */
+public record NoticeCursor(boolean notice, LocalDateTime createdAt, long id) {
+
+    /** 첫 페이지 위치: 공지 구간의 맨 앞. */
+    public static final NoticeCursor FIRST =
+            new NoticeCursor(true, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 커서 문자열 해석. null·빈 값이면 첫 페이지.
+     *
+     * @throws BusinessException 형식이 잘못된 경우 BAD_REQUEST
+     */
+    public static NoticeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("parts=" + parts.length);
+            }
+            return new NoticeCursor("1".equals(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 이 위치 다음 항목을 가리키는 커서 문자열.
+     */
+    public String encode() {
+        String raw = (notice ? "1" : "0") + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
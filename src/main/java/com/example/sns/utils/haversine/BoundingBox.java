@@ -0,0 +1,56 @@
+package com.example.sns.utils.haversine;
+
+/**
+ * 중심 좌표·반경(km)을 감싸는 위도·경도 사각 범위.
+ *
+ * 반경 조회 시 (latitude, longitude) 복합 인덱스로 후보를 먼저 좁히고,
+ * 정확한 Haversine 거리는 범위 안의 행에만 계산하기 위해 사용한다.
+ * 경도 범위는 asin(sin(r/R) / cos(lat))로 계산해 Haversine 결과를 누락 없이 포함한다.
+ * 극점 근처이거나 날짜변경선(±180°)을 넘는 경우 경도 범위는 전체(-180~180)로 넓힌다.
+ */
+public record BoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
+
+    /** 지구 반지름(km). Repository의 Haversine 쿼리(6371)와 동일 값. */
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private static final double MAX_LAT = 90.0;
+    private static final double MAX_LNG = 180.0;
+
+    /**
+     * 중심·반경을 포함하는 최소 사각 범위.
+     *
+     * @param lat      중심 위도
+     * @param lng      중심 경도
+     * @param radiusKm 반경(km)
+     * @return 사각 범위
+     */
+    public static BoundingBox around(double lat, double lng, double radiusKm) {
+        double angular = Math.max(0, radiusKm) / EARTH_RADIUS_KM;
+        double deltaLat = Math.toDegrees(angular);
+        double minLat = lat - deltaLat;
+        double maxLat = lat + deltaLat;
+
+        if (minLat <= -MAX_LAT || maxLat >= MAX_LAT) {
+            return new BoundingBox(Math.max(minLat, -MAX_LAT), Math.min(maxLat, MAX_LAT), -MAX_LNG, MAX_LNG);
+        }
+
+        double ratio = Math.sin(angular) / Math.cos(Math.toRadians(lat));
+        if (ratio >= 1) {
+            return new BoundingBox(minLat, maxLat, -MAX_LNG, MAX_LNG);
+        }
+        double deltaLng = Math.toDegrees(Math.asin(ratio));
+        double minLng = lng - deltaLng;
+        double maxLng = lng + deltaLng;
+        if (minLng < -MAX_LNG || maxLng > MAX_LNG) {
+            return new BoundingBox(minLat, maxLat, -MAX_LNG, MAX_LNG);
+        }
+        return new BoundingBox(minLat, maxLat, minLng, maxLng);
+    }
+
+    /**
+     * 좌표가 범위 안(경계 포함)에 있는지 여부.
+     */
+    public boolean contains(double lat, double lng) {
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+}
@@ -62,7 +62,7 @@ class AuthControllerTest {
     @Test
     @DisplayName("POST /api/auth/login - Rate limit 초과 시 429 및 Retry-After 반환 (RULE 1.9)")
     void login_rateLimit초과시_429_및_RetryAfter_반환() throws Exception {
-        // given: application-test.yml rate-limit login-capacity=3
+        // given: application-test.yml rate-limit policies login capacity=3
         String requestBody = """
                 {"email":"any@example.com","password":"any"}
                 """.trim();
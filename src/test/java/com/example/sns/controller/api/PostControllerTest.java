@@ -27,6 +27,7 @@ import com.example.sns.domain.User;
 import com.example.sns.domain.UserRole;
 import com.example.sns.repository.PostRepository;
 import com.example.sns.repository.UserRepository;
+import com.jayway.jsonpath.JsonPath;
 
 /**
  * PostController 통합 테스트.
@@ -91,6 +92,46 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    @DisplayName("GET /api/posts/cursor - 공지 우선·최신순으로 nextCursor를 따라 끝까지 조회")
+    void listByCursor_공지우선_최신순_다음페이지() throws Exception {
+        // given: 일반 2건, 공지 1건 (공지를 가장 먼저 작성)
+        Post notice = postRepository.save(Post.builder().author(author).title("커서 공지").content("내용").build());
+        notice.setNotice(true);
+        Post older = postRepository.save(Post.builder().author(author).title("커서 일반1").content("내용").build());
+        Post newer = postRepository.save(Post.builder().author(author).title("커서 일반2").content("내용").build());
+        postRepository.flush();
+
+        // when
+        String firstPage = mockMvc.perform(get("/api/posts/cursor").param("keyword", "커서").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(notice.getId()))
+                .andExpect(jsonPath("$.content[1].id").value(newer.getId()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+        var result = mockMvc.perform(get("/api/posts/cursor")
+                .param("keyword", "커서").param("size", "2").param("cursor", nextCursor));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(older.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/cursor - 잘못된 커서 시 400 반환")
+    void listByCursor_잘못된커서_400() throws Exception {
+        // given
+        // when
+        var result = mockMvc.perform(get("/api/posts/cursor").param("cursor", "not-a-cursor"));
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("E001"));
+    }
+
     @Test
     @DisplayName("GET /api/posts/{id} - 비로그인 상세 조회 시 200 반환")
     void get_비로그인_200() throws Exception {
@@ -0,0 +1,72 @@
+package com.example.sns.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.sns.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RateLimitFilter 단위 테스트.
+ *
+ * RateLimitProperties 기본 정책의 method·path 일치 판정과 초과 시 429·Retry-After 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("RateLimitFilter 단위 테스트")
+class RateLimitFilterTest {
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties props = new RateLimitProperties();
+        rateLimitFilter = new RateLimitFilter(props,
+                new RateLimiter(props, null, new SimpleMeterRegistry(), Ticker.systemTicker()));
+    }
+
+    @Test
+    @DisplayName("shouldNotFilter - method와 path가 모두 일치하는 정책이 있을 때만 제한한다")
+    void shouldNotFilter_method_path_일치() {
+        // when & then
+        assertThat(rateLimitFilter.shouldNotFilter(request("POST", "/api/auth/login"))).isFalse();
+        assertThat(rateLimitFilter.shouldNotFilter(request("POST", "/api/image-uploads"))).isFalse();
+        assertThat(rateLimitFilter.shouldNotFilter(request("GET", "/api/auth/login"))).isTrue();
+        assertThat(rateLimitFilter.shouldNotFilter(request("PATCH", "/api/image-uploads/abc"))).isTrue();
+        assertThat(rateLimitFilter.shouldNotFilter(request("POST", "/api/auth/login/extra"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("doFilter - 정책 용량을 넘으면 429와 Retry-After를 반환하고 다음 필터로 넘기지 않는다")
+    void doFilter_용량초과_429() throws Exception {
+        // given: login 기본 정책 분당 10건
+        for (int i = 0; i < 10; i++) {
+            rateLimitFilter.doFilter(request("POST", "/api/auth/login"), new MockHttpServletResponse(),
+                    new MockFilterChain());
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(request("POST", "/api/auth/login"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isNotNull();
+        assertThat(response.getContentAsString()).contains("E429");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.sns.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.example.sns.config.RateLimitProperties;
+
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RateLimiter 단위 테스트.
+ *
+ * 노드 로컬 버킷 용량·유휴 만료, Redis 실패 시 로컬 버킷 판정과 서킷 열림(Redis 호출 중단)·probe 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimiter 단위 테스트")
+class RateLimiterTest {
+
+    private static final RateLimitProperties.Policy LOGIN =
+            new RateLimitProperties.Policy("login", "POST", "/api/auth/login", 2, 1);
+
+    private final AtomicLong nanos = new AtomicLong(0);
+
+    @Mock
+    private ProxyManager<byte[]> proxyManager;
+
+    @Test
+    @DisplayName("tryConsume - 정책 용량까지 허용하고, 클라이언트마다 버킷이 따로다")
+    void tryConsume_용량초과_거절_클라이언트별() {
+        // given
+        RateLimiter rateLimiter = rateLimiter(null);
+
+        // when
+        boolean first = rateLimiter.tryConsume(LOGIN, "10.0.0.1").isConsumed();
+        boolean second = rateLimiter.tryConsume(LOGIN, "10.0.0.1").isConsumed();
+        boolean third = rateLimiter.tryConsume(LOGIN, "10.0.0.1").isConsumed();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(rateLimiter.tryConsume(LOGIN, "10.0.0.2").isConsumed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("tryConsume - 가장 긴 정책 주기 동안 쓰지 않은 버킷은 제거되어 가득 찬 버킷으로 다시 만든다")
+    void tryConsume_유휴버킷_만료() {
+        // given
+        RateLimiter rateLimiter = rateLimiter(null);
+        rateLimiter.tryConsume(LOGIN, "10.0.0.1");
+        rateLimiter.tryConsume(LOGIN, "10.0.0.1");
+        advance(Duration.ofSeconds(30));
+        assertThat(rateLimiter.tryConsume(LOGIN, "10.0.0.1").isConsumed()).isFalse();
+
+        // when
+        advance(Duration.ofSeconds(61));
+
+        // then
+        assertThat(rateLimiter.tryConsume(LOGIN, "10.0.0.1").isConsumed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("tryConsume - Redis 실패 시 로컬 버킷으로 판정하고, 실패가 쌓이면 서킷을 열어 Redis를 호출하지 않는다")
+    void tryConsume_Redis실패_로컬버킷_서킷열림() {
+        // given: 최근 4건 중 50% 실패 시 OPEN
+        given(proxyManager.builder()).willThrow(new RedisConnectionFailureException("down"));
+        RateLimiter rateLimiter = rateLimiter(proxyManager);
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.tryConsume(LOGIN, "10.0.0." + i);
+        }
+
+        // when
+        boolean consumed = rateLimiter.tryConsume(LOGIN, "10.0.0.9").isConsumed();
+        rateLimiter.tryConsume(LOGIN, "10.0.0.9");
+        boolean overCapacity = rateLimiter.tryConsume(LOGIN, "10.0.0.9").isConsumed();
+
+        // then
+        assertThat(consumed).isTrue();
+        assertThat(overCapacity).isFalse();
+        then(proxyManager).should(times(4)).builder();
+
+        // 열림 유지 시간이 지나면 probe 1건으로 Redis 재시도
+        advance(Duration.ofSeconds(30));
+        rateLimiter.tryConsume(LOGIN, "10.0.0.10");
+        then(proxyManager).should(times(5)).builder();
+    }
+
+    private RateLimiter rateLimiter(ProxyManager<byte[]> redisBuckets) {
+        RateLimitProperties props = new RateLimitProperties();
+        props.setPolicies(List.of(LOGIN));
+        props.getCircuit().setWindowSize(4);
+        props.getCircuit().setMinimumCalls(4);
+        return new RateLimiter(props, redisBuckets, new SimpleMeterRegistry(), nanos::get);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
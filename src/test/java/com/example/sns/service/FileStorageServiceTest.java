@@ -0,0 +1,118 @@
+package com.example.sns.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.spy;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sns.config.UploadProperties;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.image.StoredImage;
+import com.example.sns.service.storage.BlobKeyLock;
+import com.example.sns.service.storage.LocalBlobStore;
+
+/**
+ * FileStorageService 단위 테스트.
+ *
+ * 내용 주소 저장(샤딩 경로·중복 제거), 커밋 전 배치·배치 실패 시 예외 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@DisplayName("FileStorageService 단위 테스트")
+class FileStorageServiceTest {
+
+    private static final String SHA256_OF_ABC = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @TempDir
+    Path basePath;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService(new UploadProperties(basePath.toString(),
+                Set.of("image/png"), 5_242_880L, List.of(), true), new LocalBlobStore(basePath.toString()),
+                BlobKeyLock.local());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("storeImage - 내용 해시로 샤딩한 경로에 저장하고, 같은 내용은 한 파일만 남긴다")
+    void storeImage_내용주소_중복제거() throws Exception {
+        // when
+        StoredImage first = fileStorageService.storeImage(png("a.png"), "image-posts");
+        StoredImage second = fileStorageService.storeImage(png("other-name.png"), "image-posts");
+
+        // then
+        assertThat(first.path()).isEqualTo("image-posts/ba/78/" + SHA256_OF_ABC + ".png");
+        assertThat(first.sha256()).isEqualTo(SHA256_OF_ABC);
+        assertThat(first.contentType()).isEqualTo("image/png");
+        assertThat(second.path()).isEqualTo(first.path());
+        assertThat(Files.readString(basePath.resolve(first.path()))).isEqualTo("abc");
+        try (var temps = Files.list(basePath.resolve(".upload-tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("storeImage - 트랜잭션 안이어도 커밋 전에 최종 위치에 배치하고 임시 파일을 남기지 않는다")
+    void storeImage_커밋전배치() throws Exception {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        StoredImage stored = fileStorageService.storeImage(png("a.png"), "image-posts");
+
+        // then
+        assertThat(basePath.resolve(stored.path())).hasContent("abc");
+        try (var temps = Files.list(basePath.resolve(".upload-tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    @Test
+    @DisplayName("storeImage - 최종 위치로 옮기지 못하면 FILE_UPLOAD_FAILED로 실패시킨다")
+    void storeImage_배치실패_FILE_UPLOAD_FAILED() throws Exception {
+        // given
+        LocalBlobStore blobStore = spy(new LocalBlobStore(basePath.toString()));
+        willThrow(new IOException("disk full")).given(blobStore).move(anyString(), anyString());
+        FileStorageService failing = new FileStorageService(new UploadProperties(basePath.toString(),
+                Set.of("image/png"), 5_242_880L, List.of(), true), blobStore, BlobKeyLock.local());
+
+        // when & then
+        assertThatThrownBy(() -> failing.storeImage(png("a.png"), "image-posts"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FILE_UPLOAD_FAILED);
+        assertThat(basePath.resolve("image-posts/ba/78/" + SHA256_OF_ABC + ".png")).doesNotExist();
+    }
+
+    private static MockMultipartFile png(String filename) {
+        return new MockMultipartFile("image", filename, "image/png", "abc".getBytes());
+    }
+}
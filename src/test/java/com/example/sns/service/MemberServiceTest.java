@@ -3,7 +3,12 @@ package com.example.sns.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,13 +16,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.example.sns.domain.User;
+import com.example.sns.domain.UserRole;
+import com.example.sns.dto.request.AdminMemberUpdateRequest;
 import com.example.sns.dto.request.MemberJoinRequest;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.example.sns.repository.UserRepository;
+import com.example.sns.service.auth.PasswordHasher;
+import com.example.sns.service.cache.UserCache;
 
 /**
  * MemberService 단위 테스트.
@@ -32,7 +40,13 @@ class MemberServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private AuthService authService;
 
     @InjectMocks
     private MemberService memberService;
@@ -46,7 +60,7 @@ class MemberServiceTest {
                 "password123",
                 "테스트닉네임");
         given(userRepository.existsByEmail(request.email())).willReturn(false);
-        given(passwordEncoder.encode(request.password())).willReturn("hashedPassword");
+        given(passwordHasher.encode(request.password())).willReturn("hashedPassword");
         given(userRepository.save(any(User.class))).willAnswer(inv -> {
             User user = inv.getArgument(0);
             User saved = User.builder()
@@ -92,4 +106,83 @@ class MemberServiceTest {
                 .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
                         .isEqualTo(ErrorCode.DUPLICATE_EMAIL));
     }
+
+    @Test
+    @DisplayName("updateByAdmin - 역할 변경 후 회원 캐시를 무효화한다")
+    void updateByAdmin_역할변경후_회원캐시를_무효화한다() {
+        // given
+        User user = User.builder()
+                .email("member@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("회원")
+                .role(UserRole.ADMIN)
+                .build();
+        given(userRepository.findById(7L)).willReturn(Optional.of(user));
+
+        // when
+        var result = memberService.updateByAdmin(7L, new AdminMemberUpdateRequest("회원", UserRole.USER));
+
+        // then
+        assertThat(result.role()).isEqualTo("USER");
+        verify(userCache).evict(user.getId());
+    }
+
+    @Test
+    @DisplayName("updateByAdmin - 역할이 바뀌면 이전 역할의 토큰이 쓰이지 않도록 전체 세션을 철회한다")
+    void updateByAdmin_역할변경시_전체세션을_철회한다() {
+        // given
+        User user = User.builder()
+                .email("member@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("회원")
+                .role(UserRole.ADMIN)
+                .build();
+        given(userRepository.findById(7L)).willReturn(Optional.of(user));
+
+        // when
+        memberService.updateByAdmin(7L, new AdminMemberUpdateRequest("회원", UserRole.USER));
+
+        // then
+        verify(authService).revokeAllSessions(7L);
+    }
+
+    @Test
+    @DisplayName("updateByAdmin - 역할이 같으면(닉네임만 수정) 세션을 유지한다")
+    void updateByAdmin_역할유지시_세션을_유지한다() {
+        // given
+        User user = User.builder()
+                .email("member@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("회원")
+                .role(UserRole.USER)
+                .build();
+        given(userRepository.findById(7L)).willReturn(Optional.of(user));
+
+        // when
+        memberService.updateByAdmin(7L, new AdminMemberUpdateRequest("새닉네임", UserRole.USER));
+
+        // then
+        verify(authService, never()).revokeAllSessions(anyLong());
+    }
+
+    @Test
+    @DisplayName("deleteByAdmin - 삭제 전 회원의 전체 세션을 철회한다")
+    void deleteByAdmin_삭제전_전체세션을_철회한다() {
+        // given
+        User user = User.builder()
+                .email("member@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("회원")
+                .role(UserRole.USER)
+                .build();
+        given(userRepository.findById(7L)).willReturn(Optional.of(user));
+
+        // when
+        memberService.deleteByAdmin(7L);
+
+        // then
+        verify(authService).revokeAllSessions(7L);
+        verify(userRepository).delete(user);
+        verify(userCache).evict(7L);
+    }
 }
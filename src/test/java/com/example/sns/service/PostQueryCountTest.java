@@ -0,0 +1,236 @@
+package com.example.sns.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.sns.domain.ImagePost;
+import com.example.sns.domain.Pin;
+import com.example.sns.domain.Post;
+import com.example.sns.domain.User;
+import com.example.sns.domain.UserRole;
+import com.example.sns.dto.response.CursorSlice;
+import com.example.sns.dto.response.ImagePostResponse;
+import com.example.sns.dto.response.PostResponse;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.repository.PinRepository;
+import com.example.sns.repository.PostRepository;
+import com.example.sns.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 게시글 목록 조회 쿼리 수 검증 (N+1 회귀 방지).
+ *
+ * 작성자가 서로 다른 글 여러 건을 영속성 컨텍스트 밖에서 조회해도 페이지당 SELECT 1회 + COUNT 1회인지 확인한다.
+ * 첫 페이지가 페이지 크기보다 적으면 Spring Data가 COUNT를 생략하므로 SELECT 1회.
+ * 커서 조회·최근접 fallback도 응답 DTO projection으로 구간당 SELECT 1회인지 확인한다.
+ * 지도 viewport fallback은 중심 가까운 순으로 자르고 작성자를 fetch join하는지 확인한다.
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("게시글 목록 쿼리 수 테스트")
+class PostQueryCountTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ImagePostService imagePostService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PinRepository pinRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ImagePostRepository imagePostRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User firstAuthor;
+    private Pin pin;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        firstAuthor = null;
+        for (int i = 0; i < 3; i++) {
+            User author = userRepository.save(User.builder()
+                    .email("count" + i + "@example.com")
+                    .passwordHash("hash")
+                    .nickname("작성자" + i)
+                    .role(UserRole.USER)
+                    .build());
+            if (firstAuthor == null) {
+                firstAuthor = author;
+                pin = pinRepository.save(Pin.builder()
+                        .owner(author)
+                        .description("핀")
+                        .latitude(LAT)
+                        .longitude(LNG)
+                        .build());
+            }
+            postRepository.save(Post.builder()
+                    .author(author)
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .latitude(LAT + i * 0.001)
+                    .longitude(LNG)
+                    .pin(pin)
+                    .build());
+            imagePostRepository.save(ImagePost.builder()
+                    .author(author)
+                    .title("이미지 제목" + i)
+                    .content("이미지 내용" + i)
+                    .imageStoragePath("image-posts/" + i + ".png")
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 - 작성자가 달라도 SELECT 1회 + COUNT 1회")
+    void getList_쿼리2회() {
+        // given
+        // when
+        Page<PostResponse> result = postService.getList(null, PageRequest.of(0, 2));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).hasSize(2)
+                .extracting(PostResponse::authorNickname)
+                .doesNotHaveDuplicates()
+                .allMatch(nickname -> nickname.startsWith("작성자"));
+        assertThat(result.getContent()).allMatch(post -> pin.getId().equals(post.pinId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미지 게시글 목록 - SELECT 1회 + COUNT 1회, imageUrl 생성")
+    void imagePostGetList_쿼리2회() {
+        // given
+        // when
+        Page<ImagePostResponse> result = imagePostService.getList(null, PageRequest.of(0, 2));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).hasSize(2)
+                .allMatch(post -> post.imageUrl().equals("/api/image-posts/" + post.id() + "/image"))
+                .allMatch(post -> post.pinId() == null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Pin별 목록 SELECT 1회 + COUNT 1회, 작성자별 목록(첫 페이지 미만) SELECT 1회")
+    void getByPinIdAndAuthor_쿼리수() {
+        // given
+        // when
+        Page<PostResponse> byPin = postService.getByPinId(pin.getId(), PageRequest.of(0, 2));
+        long afterByPin = statistics.getPrepareStatementCount();
+        Page<PostResponse> byAuthor = postService.getListByAuthor(firstAuthor, PageRequest.of(0, 10));
+
+        // then
+        assertThat(byPin.getTotalElements()).isEqualTo(3);
+        assertThat(afterByPin).isEqualTo(2);
+        assertThat(byAuthor.getContent()).singleElement()
+                .extracting(PostResponse::authorNickname).isEqualTo("작성자0");
+        assertThat(statistics.getPrepareStatementCount() - afterByPin).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반경 조회 SQL fallback - 반경 내만 반환, 작성자 추가 조회 없음")
+    void findResponsesWithinRadius_쿼리1회() {
+        // given: 게시글 간 위도 간격 0.001도 ≈ 111m
+        // when
+        Page<PostResponse> result = postRepository.findResponsesWithinRadius(0.15, LAT, LNG, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(PostResponse::title)
+                .containsExactlyInAnyOrder("제목0", "제목1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 공지 구간·일반 구간 SELECT 각 1회, 작성자 추가 조회 없음")
+    void getSlice_구간당_쿼리1회() {
+        // given
+        // when
+        CursorSlice<PostResponse> posts = postService.getSlice(null, null, 2);
+        long afterPosts = statistics.getPrepareStatementCount();
+        CursorSlice<ImagePostResponse> imagePosts = imagePostService.getSlice(null, null, 2);
+
+        // then
+        assertThat(posts.content()).hasSize(2)
+                .extracting(PostResponse::authorNickname)
+                .doesNotHaveDuplicates()
+                .allMatch(nickname -> nickname.startsWith("작성자"));
+        assertThat(posts.hasNext()).isTrue();
+        assertThat(afterPosts).isEqualTo(2);
+        assertThat(imagePosts.content()).hasSize(2)
+                .allMatch(post -> post.imageUrl().equals("/api/image-posts/" + post.id() + "/image"));
+        assertThat(statistics.getPrepareStatementCount() - afterPosts).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최근접 SQL fallback - 반경 내를 거리순으로 SELECT 1회")
+    void findNearestResponsesWithinRadius_거리순_쿼리1회() {
+        // given: 게시글 간 위도 간격 0.001도 ≈ 111m
+        // when
+        List<PostResponse> result = postRepository.findNearestResponsesWithinRadius(0.2, LAT + 0.0021, LNG,
+                PageRequest.of(0, 10));
+
+        // then
+        assertThat(result).extracting(PostResponse::title).containsExactly("제목2", "제목1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지도 viewport fallback - 사각 범위 안에서 최신순이 아니라 중심 가까운 순으로 자른다")
+    void findNearestWithinBoundingBox_중심거리순() {
+        // given: 중심은 제목0 바로 남쪽, 최신순이면 제목2·제목1이 먼저 온다
+        double centerLat = LAT - 0.0001;
+
+        // when
+        List<Post> result = postRepository.findNearestWithinBoundingBox(centerLat, LNG,
+                Math.cos(Math.toRadians(centerLat)), LAT - 0.1, LAT + 0.1, LNG - 0.1, LNG + 0.1,
+                PageRequest.of(0, 2));
+        List<String> nicknames = result.stream().map(post -> post.getAuthor().getNickname()).toList();
+
+        // then
+        assertThat(result).extracting(Post::getTitle).containsExactly("제목0", "제목1");
+        assertThat(nicknames).containsExactly("작성자0", "작성자1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
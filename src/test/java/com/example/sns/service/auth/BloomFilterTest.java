@@ -0,0 +1,38 @@
+package com.example.sns.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BloomFilter 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("BloomFilter 단위 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("mightContain - 추가한 값은 항상 true, 추가하지 않은 값은 대부분 false")
+    void mightContain_추가값_true_미추가값_오탐률이내() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        var added = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        added.forEach(filter::add);
+
+        // when
+        boolean allFound = added.stream().allMatch(filter::mightContain);
+        long falsePositives = IntStream.range(0, 10_000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .filter(filter::mightContain)
+                .count();
+
+        // then
+        assertThat(allFound).isTrue();
+        assertThat(falsePositives).isLessThan(100);
+    }
+}
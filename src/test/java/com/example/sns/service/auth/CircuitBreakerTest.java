@@ -0,0 +1,76 @@
+package com.example.sns.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CircuitBreaker 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("CircuitBreaker 단위 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new CircuitBreaker("test", 50, 4, 4, 1_000, now::get, meterRegistry, "test.circuit");
+    }
+
+    @Test
+    @DisplayName("실패 비율이 임계치 이상이면 OPEN, 대기 후 probe 성공 시 CLOSED로 돌아온다")
+    void 실패비율_초과시_OPEN_probe성공시_CLOSED() {
+        // given
+        for (int i = 0; i < 2; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onSuccess();
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+        boolean acquiredWhileOpen = circuitBreaker.tryAcquire();
+
+        // when
+        now.addAndGet(1_000);
+        boolean probe = circuitBreaker.tryAcquire();
+        boolean secondWhileProbing = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(acquiredWhileOpen).isFalse();
+        assertThat(probe).isTrue();
+        assertThat(secondWhileProbing).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get("test.circuit.transitions").tag("to", "OPEN").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN probe가 실패하면 다시 OPEN이 된다")
+    void probe실패시_다시_OPEN() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+        now.addAndGet(1_000);
+        circuitBreaker.tryAcquire();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+}
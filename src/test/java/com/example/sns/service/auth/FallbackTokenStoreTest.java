@@ -5,20 +5,29 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.example.sns.config.TokenStoreProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * FallbackTokenStore 단위 테스트.
  *
- * Step 5.1: Redis 실패 시 NoOp fallback 검증.
+ * Step 5.1: Redis 실패 시 서킷 브레이커·로컬 저장소 fallback 검증.
  * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
  */
 @ExtendWith(MockitoExtension.class)
@@ -28,9 +37,24 @@ class FallbackTokenStoreTest {
     @Mock
     private RedisTokenStore redisTokenStore;
 
-    @InjectMocks
+    @Mock
+    private BlacklistBloomFilter blacklistBloomFilter;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     private FallbackTokenStore fallbackTokenStore;
 
+    @BeforeEach
+    void setUp() {
+        TokenStoreProperties props = new TokenStoreProperties();
+        props.setMinimumCalls(2);
+        props.setWindowSize(4);
+        given(meterRegistryProvider.getIfAvailable(any())).willReturn(new SimpleMeterRegistry());
+        fallbackTokenStore = new FallbackTokenStore(redisTokenStore, blacklistBloomFilter, props,
+                meterRegistryProvider);
+    }
+
     @Test
     @DisplayName("getRefreshToken - Redis 실패 시 empty를 반환한다")
     void getRefreshToken_Redis실패시_empty를_반환한다() {
@@ -67,10 +91,10 @@ class FallbackTokenStoreTest {
     void saveRefreshToken_Redis실패시_예외없이_완료한다() {
         // given
         willThrow(new RuntimeException("Connection refused"))
-                .given(redisTokenStore).saveRefreshToken(any(), any(), anyLong());
+                .given(redisTokenStore).saveRefreshToken(any(), any(), any(), anyLong());
 
         // when & then
-        fallbackTokenStore.saveRefreshToken("jti-1", "payload", 60L);
+        fallbackTokenStore.saveRefreshToken("jti-1", 1L, "payload", 60L);
     }
 
     @Test
@@ -78,6 +102,7 @@ class FallbackTokenStoreTest {
     void isBlacklisted_Redis실패시_false를_반환한다() {
         // given
         String jti = "jti-456";
+        given(blacklistBloomFilter.mightBeBlacklisted(jti)).willReturn(true);
         willThrow(new RuntimeException("Connection refused"))
                 .given(redisTokenStore).isBlacklisted(jti);
 
@@ -102,4 +127,72 @@ class FallbackTokenStoreTest {
         // then
         assertThat(result).isPresent().contains(payload);
     }
+
+    @Test
+    @DisplayName("isBlacklisted - 블룸 필터에 없으면 Redis 조회 없이 false를 반환한다")
+    void isBlacklisted_블룸필터_miss시_Redis조회없이_false를_반환한다() {
+        // given
+        String jti = "jti-789";
+        given(blacklistBloomFilter.mightBeBlacklisted(jti)).willReturn(false);
+
+        // when
+        boolean result = fallbackTokenStore.isBlacklisted(jti);
+
+        // then
+        assertThat(result).isFalse();
+        verify(redisTokenStore, never()).isBlacklisted(jti);
+    }
+
+    @Test
+    @DisplayName("saveRefreshToken - Redis 실패 시 로컬 저장소에 저장해 조회할 수 있다")
+    void saveRefreshToken_Redis실패시_로컬저장소에서_조회된다() {
+        // given
+        willThrow(new RuntimeException("Connection refused"))
+                .given(redisTokenStore).saveRefreshToken(any(), any(), any(), anyLong());
+
+        // when
+        fallbackTokenStore.saveRefreshToken("jti-1", 1L, "1:USER", 60L);
+        Optional<String> result = fallbackTokenStore.getRefreshToken("jti-1");
+
+        // then
+        assertThat(result).contains("1:USER");
+    }
+
+    @Test
+    @DisplayName("revokeAllRefreshTokens - 서킷이 열린 동안에도 로컬 저장소의 해당 회원 Refresh Token만 삭제한다")
+    void revokeAllRefreshTokens_서킷OPEN시_로컬저장소_회원토큰만_삭제() {
+        // given: 저장 2회 실패로 서킷 OPEN, 두 토큰은 로컬 저장소에 있음
+        willThrow(new RuntimeException("Connection refused"))
+                .given(redisTokenStore).saveRefreshToken(any(), any(), any(), anyLong());
+        fallbackTokenStore.saveRefreshToken("jti-1", 1L, "1:USER:0", 60L);
+        fallbackTokenStore.saveRefreshToken("jti-2", 2L, "2:USER:0", 60L);
+
+        // when
+        fallbackTokenStore.revokeAllRefreshTokens(1L);
+
+        // then
+        assertThat(fallbackTokenStore.getRefreshToken("jti-1")).isEmpty();
+        assertThat(fallbackTokenStore.getRefreshToken("jti-2")).contains("2:USER:0");
+        verify(redisTokenStore, never()).revokeAllRefreshTokens(any());
+    }
+
+    @Test
+    @DisplayName("연속 실패로 서킷이 열리면 Redis를 호출하지 않고 로컬 저장소를 사용한다")
+    void 서킷_OPEN시_Redis호출없이_로컬저장소_사용() {
+        // given
+        willThrow(new RuntimeException("Connection refused"))
+                .given(redisTokenStore).getRefreshToken(any());
+        fallbackTokenStore.getRefreshToken("jti-1");
+        fallbackTokenStore.getRefreshToken("jti-2");
+
+        // when
+        fallbackTokenStore.addToBlacklist("jti-3", 60L);
+        fallbackTokenStore.getRefreshToken("jti-4");
+
+        // then
+        assertThat(fallbackTokenStore.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        verify(redisTokenStore, times(2)).getRefreshToken(any());
+        verify(redisTokenStore, never()).addToBlacklist(any(), anyLong());
+        assertThat(fallbackTokenStore.isBlacklisted("jti-3")).isTrue();
+    }
 }
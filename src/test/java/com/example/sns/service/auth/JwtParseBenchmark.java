@@ -0,0 +1,100 @@
+package com.example.sns.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.example.sns.config.JwtProperties;
+import com.example.sns.domain.User;
+import com.example.sns.domain.UserRole;
+
+/**
+ * Access Token 검증(parseAccessToken) 처리량 측정. 기본 test 태스크에서 제외, ./gradlew benchmark로 실행.
+ *
+ * cache=false는 매번 서명 검증·디코딩(cold), cache=true는 같은 토큰 집합을 미리 한 번 검증해 둔 뒤 반복 조회(warm hit)한다.
+ * 토큰 TOKENS개를 돌아가며 검증한다 (같은 토큰으로 연속 요청하는 클라이언트 여럿).
+ * 결과는 실행 장비에 따라 다르므로 검증하지 않고, 검증 결과가 올바른지만 확인한다.
+ */
+@Tag("benchmark")
+@DisplayName("JWT 검증 cold·warm 처리량")
+class JwtParseBenchmark {
+
+    private static final int TOKENS = 1_000;
+    private static final int CLIENTS = Runtime.getRuntime().availableProcessors();
+    private static final long DURATION_MILLIS = 5_000;
+
+    @ParameterizedTest(name = "cache={0}")
+    @ValueSource(booleans = {false, true})
+    void parsesPerSecond(boolean cacheEnabled) throws Exception {
+        // given
+        JwtProperties props = new JwtProperties();
+        props.setIssuer("benchmark-issuer");
+        props.setAudience("benchmark-audience");
+        props.setSecretKey("benchmark-secret-key-min-256-bits-for-hs256-encoding");
+        props.getVerifiedCache().setEnabled(cacheEnabled);
+        props.getVerifiedCache().setMaxSize(TOKENS * 2);
+        JwtService jwtService = new JwtService(props);
+        User user = user();
+        List<String> tokens = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            tokens.add(jwtService.createAccessToken(user).token());
+        }
+        tokens.forEach(jwtService::parseAccessToken);
+        AtomicLong parsed = new AtomicLong();
+        AtomicLong wrong = new AtomicLong();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+        // when
+        long deadline = System.currentTimeMillis() + DURATION_MILLIS;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            int offset = c * (TOKENS / CLIENTS);
+            futures.add(clients.submit(() -> {
+                int i = offset;
+                while (System.currentTimeMillis() < deadline) {
+                    Long userId = jwtService.parseAccessToken(tokens.get(i % TOKENS)).get("userId", Long.class);
+                    if (!Long.valueOf(1L).equals(userId)) {
+                        wrong.incrementAndGet();
+                    }
+                    parsed.incrementAndGet();
+                    i++;
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        clients.shutdown();
+
+        // then
+        double seconds = DURATION_MILLIS / 1000.0;
+        System.out.printf("cache=%s clients=%d parses/s=%.0f mean(us)=%.2f%n",
+                cacheEnabled, CLIENTS, parsed.get() / seconds,
+                DURATION_MILLIS * 1000.0 * CLIENTS / Math.max(1, parsed.get()));
+        assertThat(parsed.get()).isPositive();
+        assertThat(wrong.get()).isZero();
+    }
+
+    private static User user() throws Exception {
+        User user = User.builder()
+                .email("user@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("회원")
+                .role(UserRole.USER)
+                .build();
+        var idField = User.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(user, 1L);
+        return user;
+    }
+}
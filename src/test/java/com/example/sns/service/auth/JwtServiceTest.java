@@ -0,0 +1,89 @@
+package com.example.sns.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.sns.config.JwtProperties;
+import com.example.sns.domain.User;
+import com.example.sns.domain.UserRole;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+/**
+ * JwtService 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("JwtService 단위 테스트")
+class JwtServiceTest {
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtProperties props = new JwtProperties();
+        props.setIssuer("test-issuer");
+        props.setAudience("test-audience");
+        props.setSecretKey("test-secret-key-min-256-bits-for-hs256-encoding");
+        jwtService = new JwtService(props);
+
+        user = User.builder()
+                .email("user@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("회원")
+                .role(UserRole.USER)
+                .build();
+        var idField = User.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(user, 1L);
+    }
+
+    @Test
+    @DisplayName("parseAccessToken - 같은 토큰은 검증 캐시의 Claims를 반환한다")
+    void parseAccessToken_같은토큰_캐시반환() {
+        // given
+        String token = jwtService.createAccessToken(user).token();
+
+        // when
+        Claims first = jwtService.parseAccessToken(token);
+        Claims second = jwtService.parseAccessToken(token);
+
+        // then
+        assertThat(first.get("userId", Long.class)).isEqualTo(1L);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("createAccessToken - 회원 토큰 세대를 ver 클레임에 담는다")
+    void createAccessToken_토큰세대_ver클레임() {
+        // given
+        String token = jwtService.createAccessToken(user).token();
+
+        // when
+        Claims claims = jwtService.parseAccessToken(token);
+
+        // then
+        assertThat(claims.get("ver", Integer.class)).isEqualTo(user.getTokenVersion());
+    }
+
+    @Test
+    @DisplayName("parseAccessToken - 검증된 토큰의 서명을 다른 payload에 붙이면 거부한다")
+    void parseAccessToken_서명재사용_변조토큰_거부() {
+        // given
+        String token = jwtService.createAccessToken(user).token();
+        jwtService.parseAccessToken(token);
+        String[] parts = token.split("\\.");
+        String otherPayload = jwtService.createAccessToken(user).token().split("\\.")[1];
+        String tampered = parts[0] + "." + otherPayload + "." + parts[2];
+
+        // when & then
+        assertThatThrownBy(() -> jwtService.parseAccessToken(tampered))
+                .isInstanceOf(JwtException.class);
+    }
+}
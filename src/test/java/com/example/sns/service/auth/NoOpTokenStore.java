@@ -15,7 +15,7 @@ import org.springframework.stereotype.Component;
 public class NoOpTokenStore implements TokenStore {
 
     @Override
-    public void saveRefreshToken(String jti, String payload, long ttlSeconds) {
+    public void saveRefreshToken(String jti, Long userId, String payload, long ttlSeconds) {
     }
 
     @Override
@@ -27,6 +27,10 @@ public class NoOpTokenStore implements TokenStore {
     public void deleteRefreshToken(String jti) {
     }
 
+    @Override
+    public void revokeAllRefreshTokens(Long userId) {
+    }
+
     @Override
     public void addToBlacklist(String jti, long ttlSeconds) {
     }
@@ -0,0 +1,89 @@
+package com.example.sns.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.sns.config.PasswordHashProperties;
+import com.example.sns.exception.BusinessException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * BCrypt cost별 로그인(matches) 처리량 측정. 기본 test 태스크에서 제외, ./gradlew benchmark로 실행.
+ *
+ * 요청 스레드 수(CLIENTS)가 해시 동시 수(코어 수)보다 많은 상황에서 초당 성공 로그인 수와 503 거절 수를 출력한다.
+ * 결과는 실행 장비에 따라 다르므로 검증하지 않고, 성공이 1건 이상인지만 확인한다.
+ */
+@Tag("benchmark")
+@DisplayName("BCrypt cost별 로그인 처리량")
+class PasswordHashBenchmark {
+
+    private static final int CLIENTS = 64;
+    private static final long DURATION_MILLIS = 5_000;
+
+    @ParameterizedTest(name = "cost={0}")
+    @ValueSource(ints = {8, 10, 12})
+    void loginsPerSecond(int cost) throws Exception {
+        // given
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        String hash = encoder.encode("password");
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        given(provider.getIfAvailable(any())).willReturn(meterRegistry);
+        PasswordHasher hasher = new PasswordHasher(encoder, new PasswordHashProperties(), provider);
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+        // when
+        long deadline = System.currentTimeMillis() + DURATION_MILLIS;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            futures.add(clients.submit(() -> {
+                while (System.currentTimeMillis() < deadline) {
+                    try {
+                        if (hasher.matches("password", hash)) {
+                            succeeded.incrementAndGet();
+                        }
+                    } catch (BusinessException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        clients.shutdown();
+        hasher.shutdown();
+
+        // then
+        double seconds = DURATION_MILLIS / 1000.0;
+        System.out.printf("cost=%d logins/s=%.1f rejected/s=%.1f hash mean(ms)=%.1f queue wait mean(ms)=%.1f%n",
+                cost, succeeded.get() / seconds, rejected.get() / seconds,
+                meterRegistry.get("password.hash.duration").tag("operation", "matches").timer()
+                        .mean(TimeUnit.MILLISECONDS),
+                meterRegistry.get("password.hash.queue.wait").timer()
+                        .mean(TimeUnit.MILLISECONDS));
+        assertThat(succeeded.get()).isPositive();
+    }
+}
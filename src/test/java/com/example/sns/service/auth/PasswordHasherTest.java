@@ -0,0 +1,138 @@
+package com.example.sns.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.sns.config.PasswordHashProperties;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PasswordHasher 단위 테스트.
+ *
+ * 전용 실행기에서 BCrypt 실행, 대기열 초과·시간 초과 시 503 거절 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordHasher 단위 테스트")
+class PasswordHasherTest {
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Mock
+    private PasswordEncoder blockingEncoder;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        given(meterRegistryProvider.getIfAvailable(any())).willReturn(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("encode·matches - 전용 실행기에서 BCrypt를 실행하고 해시 시간을 기록한다")
+    void encode_matches_전용실행기에서_BCrypt를_실행한다() {
+        // given
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), props(2, 4, 5_000), meterRegistryProvider);
+
+        // when
+        String hash = passwordHasher.encode("password");
+
+        // then
+        assertThat(passwordHasher.matches("password", hash)).isTrue();
+        assertThat(passwordHasher.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("password.hash.queue.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("encode - 대기열이 가득 차면 SERVICE_UNAVAILABLE로 즉시 거절한다")
+    void encode_대기열초과시_SERVICE_UNAVAILABLE() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        given(blockingEncoder.encode(any())).willAnswer(inv -> {
+            started.countDown();
+            release.await();
+            return "hashed";
+        });
+        passwordHasher = new PasswordHasher(blockingEncoder, props(1, 1, 5_000), meterRegistryProvider);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.encode("c"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1);
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+    }
+
+    @Test
+    @DisplayName("matches - 제한 시간 안에 끝나지 않으면 SERVICE_UNAVAILABLE로 거절한다")
+    void matches_시간초과시_SERVICE_UNAVAILABLE() {
+        // given
+        given(blockingEncoder.matches(any(), any())).willAnswer(inv -> {
+            release.await();
+            return true;
+        });
+        passwordHasher = new PasswordHasher(blockingEncoder, props(1, 1, 50), meterRegistryProvider);
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.matches("password", "hash"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    private static PasswordHashProperties props(int concurrency, int queueCapacity, long timeoutMillis) {
+        PasswordHashProperties props = new PasswordHashProperties();
+        props.setConcurrency(concurrency);
+        props.setQueueCapacity(queueCapacity);
+        props.setTimeoutMillis(timeoutMillis);
+        return props;
+    }
+}
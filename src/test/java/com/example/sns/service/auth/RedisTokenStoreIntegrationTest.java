@@ -53,7 +53,7 @@ class RedisTokenStoreIntegrationTest {
         long ttlSeconds = 60L;
 
         // when
-        tokenStore.saveRefreshToken(jti, payload, ttlSeconds);
+        tokenStore.saveRefreshToken(jti, 100L, payload, ttlSeconds);
         var result = tokenStore.getRefreshToken(jti);
 
         // then
@@ -65,7 +65,7 @@ class RedisTokenStoreIntegrationTest {
     void deleteRefreshToken_삭제후_조회시_empty를_반환한다() {
         // given
         String jti = "integration-jti-002";
-        tokenStore.saveRefreshToken(jti, "1:USER", 60L);
+        tokenStore.saveRefreshToken(jti, 1L, "1:USER", 60L);
 
         // when
         tokenStore.deleteRefreshToken(jti);
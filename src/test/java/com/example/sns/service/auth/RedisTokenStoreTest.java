@@ -1,12 +1,15 @@
 package com.example.sns.service.auth;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +17,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 
 /**
  * RedisTokenStore 단위 테스트.
@@ -31,24 +36,47 @@ class RedisTokenStoreTest {
     @Mock
     private ValueOperations<String, String> valueOps;
 
+    @Mock
+    private ZSetOperations<String, String> zSetOps;
+
+    @Mock
+    private SetOperations<String, String> setOps;
+
     @InjectMocks
     private RedisTokenStore tokenStore;
 
     @Test
-    @DisplayName("saveRefreshToken - jti로 Redis에 저장한다")
+    @DisplayName("saveRefreshToken - jti로 Redis에 저장하고 회원별 집합에 추가한다")
     void saveRefreshToken_jti로_Redis에_저장한다() {
         // given
         String jti = "jti-123";
-        String payload = "1:USER";
+        String payload = "1:USER:0";
         long ttlSeconds = 604800L; // 7일
 
         given(redisTemplate.opsForValue()).willReturn(valueOps);
+        given(redisTemplate.opsForSet()).willReturn(setOps);
 
         // when
-        tokenStore.saveRefreshToken(jti, payload, ttlSeconds);
+        tokenStore.saveRefreshToken(jti, 1L, payload, ttlSeconds);
 
         // then
         verify(valueOps).set(eq("refresh:jti-123"), eq(payload), eq(Duration.ofSeconds(ttlSeconds)));
+        verify(setOps).add("refresh-user:1", jti);
+        verify(redisTemplate).expire("refresh-user:1", Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Test
+    @DisplayName("revokeAllRefreshTokens - 회원의 Refresh Token과 집합을 한 번에 삭제한다")
+    void revokeAllRefreshTokens_회원토큰과_집합을_한번에_삭제한다() {
+        // given
+        given(redisTemplate.opsForSet()).willReturn(setOps);
+        given(setOps.members("refresh-user:1")).willReturn(Set.of("jti-1"));
+
+        // when
+        tokenStore.revokeAllRefreshTokens(1L);
+
+        // then
+        verify(redisTemplate).delete(List.of("refresh:jti-1", "refresh-user:1"));
     }
 
     @Test
@@ -107,12 +135,14 @@ class RedisTokenStoreTest {
         long ttlSeconds = 900L; // 15분
 
         given(redisTemplate.opsForValue()).willReturn(valueOps);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOps);
 
         // when
         tokenStore.addToBlacklist(jti, ttlSeconds);
 
         // then
         verify(valueOps).set(eq("blacklist:jti-456"), eq("1"), eq(Duration.ofSeconds(ttlSeconds)));
+        verify(zSetOps).add(eq("blacklist-index"), eq(jti), anyDouble());
     }
 
     @Test
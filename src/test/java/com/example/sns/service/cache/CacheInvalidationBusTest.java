@@ -0,0 +1,91 @@
+package com.example.sns.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.sns.config.CacheProperties;
+
+/**
+ * CacheInvalidationBus 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationBus 단위 테스트")
+class CacheInvalidationBusTest {
+
+    private static final String CHANNEL = "cache:invalidate";
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+        CacheProperties props = new CacheProperties(null, null, null,
+                new CacheProperties.Invalidation(true, CHANNEL, 50, 2), null);
+        bus = new CacheInvalidationBus(redisTemplateProvider, eventPublisher, props);
+    }
+
+    @Test
+    @DisplayName("flush - 커밋 후 모인 키는 중복 없이 maxBatchKeys개씩 발행한다")
+    void flush_중복_제거_후_배치_발행() {
+        // given
+        bus.onCacheInvalidationEvent(new CacheInvalidationEvent(List.of("detail:posts:1", "detail:posts:2")));
+        bus.onCacheInvalidationEvent(new CacheInvalidationEvent(List.of("detail:posts:1", "detail:posts:3")));
+
+        // when
+        bus.flush();
+
+        // then
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate, times(2)).convertAndSend(eq(CHANNEL), payloads.capture());
+        List<String> sentKeys = payloads.getAllValues().stream()
+                .flatMap(payload -> ((String) payload).lines().skip(1))
+                .toList();
+        assertThat(sentKeys).containsExactlyInAnyOrder("detail:posts:1", "detail:posts:2", "detail:posts:3");
+    }
+
+    @Test
+    @DisplayName("onMessage - 다른 노드의 메시지는 접두사가 일치하는 캐시의 L1만 삭제한다")
+    void onMessage_다른_노드_메시지_L1_삭제() {
+        // given
+        RedisCacheL2 noRedis = new RedisCacheL2(redisTemplateProvider,
+                new CacheProperties(new CacheProperties.Redis(false, 0), null, null, null, null));
+        TwoLevelCache<String> cache = new TwoLevelCache<>("detail:posts:", String.class, 100,
+                Duration.ofSeconds(30), Duration.ofSeconds(300), noRedis, new CacheCodec(), bus);
+        cache.putAll(Map.of("detail:posts:1", "a", "detail:posts:2", "b"));
+
+        // when
+        bus.onMessage("other-node\ndetail:posts:1\nlocation:pins:15:27941:12689");
+
+        // then
+        assertThat(cache.getAll(List.of("detail:posts:1", "detail:posts:2"))).containsOnlyKeys("detail:posts:2");
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.sns.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * LocalIdCache 단위 테스트.
+ *
+ * 삭제 시 즉시·커밋 후 재삭제와 전파 키, 다른 노드 전파 수신 시 키 해석 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalIdCache 단위 테스트")
+class LocalIdCacheTest {
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private LocalIdCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LocalIdCache<>("user:", 100, Duration.ofMinutes(1), invalidationBus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("evict - 트랜잭션 안이면 커밋 전에 다시 채워진 값도 커밋 후 지우고, {접두사}{id}를 전파한다")
+    void evict_커밋후_재삭제_전파() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        load(1L);
+
+        // when
+        cache.evict(1L);
+        load(1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        load(1L);
+
+        // then
+        assertThat(loads).hasValue(3);
+        then(invalidationBus).should().publish(List.of("user:1"));
+    }
+
+    @Test
+    @DisplayName("전파 수신 - 접두사 뒤의 id만 지우고, 형식이 잘못된 키는 무시한다")
+    @SuppressWarnings("unchecked")
+    void evictLocal_키해석() {
+        // given
+        ArgumentCaptor<Consumer<List<String>>> evictor = ArgumentCaptor.forClass(Consumer.class);
+        then(invalidationBus).should().register(eq("user:"), evictor.capture());
+        load(1L);
+        load(2L);
+
+        // when
+        evictor.getValue().accept(List.of("user:1", "user:abc"));
+        load(1L);
+        load(2L);
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    private void load(Long id) {
+        cache.get(id, key -> "value-" + key + "-" + loads.incrementAndGet());
+    }
+}
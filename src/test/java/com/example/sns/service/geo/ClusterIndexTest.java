@@ -0,0 +1,111 @@
+package com.example.sns.service.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.sns.config.GeoProperties;
+import com.example.sns.service.geo.ClusterIndex.ClusterResult;
+import com.example.sns.utils.haversine.BoundingBox;
+
+/**
+ * ClusterIndex 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("ClusterIndex 단위 테스트")
+class ClusterIndexTest {
+
+    private static final double CITY_HALL_LAT = 37.5665;
+    private static final double CITY_HALL_LNG = 126.9780;
+    private static final BoundingBox SEOUL = new BoundingBox(37.40, 37.70, 126.80, 127.20);
+    private static final Set<GeoLayer> ALL_LAYERS = EnumSet.allOf(GeoLayer.class);
+
+    private ClusterIndex clusterIndex;
+
+    @BeforeEach
+    void setUp() {
+        GeoProperties.Cluster cluster = new GeoProperties.Cluster(true, 3, 14, 2, 3, 4096);
+        clusterIndex = new ClusterIndex(new GeoProperties(null, null, null, cluster, null, null));
+        clusterIndex.beginLoad();
+        clusterIndex.completeLoad();
+    }
+
+    @Test
+    @DisplayName("query - 밀집 칸은 개수·평균 좌표 클러스터로 반환한다")
+    void query_밀집칸은_클러스터로_반환한다() {
+        // given: 시청 주변 약 100m 안에 5개
+        for (long id = 1; id <= 5; id++) {
+            clusterIndex.put(GeoLayer.PIN, id, CITY_HALL_LAT + id * 0.0001, CITY_HALL_LNG);
+        }
+
+        // when
+        ClusterResult result = clusterIndex.query(10, SEOUL, ALL_LAYERS);
+
+        // then
+        assertThat(result.points()).isEmpty();
+        assertThat(result.clusters()).hasSize(1);
+        assertThat(result.clusters().get(0).count()).isEqualTo(5);
+        assertThat(result.clusters().get(0).latitude()).isCloseTo(CITY_HALL_LAT + 0.0003,
+                offset(1e-9));
+    }
+
+    @Test
+    @DisplayName("query - 점이 적은 칸은 개별 마커로 반환한다")
+    void query_점이_적은칸은_개별마커로_반환한다() {
+        // given: 시청 1개, 강남역 1개
+        clusterIndex.put(GeoLayer.PIN, 1L, CITY_HALL_LAT, CITY_HALL_LNG);
+        clusterIndex.put(GeoLayer.POST, 2L, 37.4979, 127.0276);
+
+        // when
+        ClusterResult result = clusterIndex.query(10, SEOUL, ALL_LAYERS);
+
+        // then
+        assertThat(result.clusters()).isEmpty();
+        assertThat(result.points()).extracting(ClusterIndex.ClusterPoint::id).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("onGeoPointEvent - 이동·삭제가 모든 zoom 집계에 반영된다")
+    void onGeoPointEvent_이동_삭제가_집계에_반영된다() {
+        // given
+        for (long id = 1; id <= 4; id++) {
+            clusterIndex.put(GeoLayer.PIN, id, CITY_HALL_LAT, CITY_HALL_LNG);
+        }
+
+        // when: 1건 강남역으로 이동, 1건 삭제
+        clusterIndex.onGeoPointEvent(GeoPointEvent.moved(GeoLayer.PIN, 1L, CITY_HALL_LAT, CITY_HALL_LNG,
+                37.4979, 127.0276));
+        clusterIndex.onGeoPointEvent(GeoPointEvent.deleted(GeoLayer.PIN, 2L, CITY_HALL_LAT, CITY_HALL_LNG));
+        ClusterResult result = clusterIndex.query(5, SEOUL, ALL_LAYERS);
+
+        // then: zoom 5에서는 서울 전체가 한 칸 → 남은 3건이 개별 마커
+        assertThat(clusterIndex.size(GeoLayer.PIN)).isEqualTo(3);
+        assertThat(result.clusters()).isEmpty();
+        assertThat(result.points()).extracting(ClusterIndex.ClusterPoint::id).containsExactlyInAnyOrder(1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("query - 선택하지 않은 레이어는 집계에서 제외한다")
+    void query_선택하지않은_레이어는_제외한다() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            clusterIndex.put(GeoLayer.POST, id, CITY_HALL_LAT, CITY_HALL_LNG);
+        }
+        clusterIndex.put(GeoLayer.PIN, 1L, CITY_HALL_LAT, CITY_HALL_LNG);
+
+        // when
+        ClusterResult result = clusterIndex.query(10, SEOUL, EnumSet.of(GeoLayer.PIN));
+
+        // then
+        assertThat(result.clusters()).isEmpty();
+        assertThat(result.points()).singleElement()
+                .satisfies(point -> assertThat(point.layer()).isEqualTo(GeoLayer.PIN));
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.sns.service.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.sns.config.GeoProperties;
+import com.example.sns.utils.haversine.BoundingBox;
+
+/**
+ * GeoIndex 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("GeoIndex 단위 테스트")
+class GeoIndexTest {
+
+    private static final double CITY_HALL_LAT = 37.5665;
+    private static final double CITY_HALL_LNG = 126.9780;
+
+    private GeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        geoIndex = new GeoIndex(new GeoProperties(new GeoProperties.Index(true, 0.01, 100), null, null, null, null, null));
+        geoIndex.beginLoad();
+        geoIndex.completeLoad();
+    }
+
+    @Test
+    @DisplayName("searchRadius - 반경 내 좌표만 거리순으로 반환한다")
+    void searchRadius_반경내_좌표만_거리순으로_반환한다() {
+        // given: 시청(0km), 광화문(약 1km), 강남역(약 9km)
+        geoIndex.put(GeoLayer.PIN, 1L, 37.5759, 126.9769);
+        geoIndex.put(GeoLayer.PIN, 2L, CITY_HALL_LAT, CITY_HALL_LNG);
+        geoIndex.put(GeoLayer.PIN, 3L, 37.4979, 127.0276);
+
+        // when
+        List<GeoHit> hits = geoIndex.searchRadius(GeoLayer.PIN, CITY_HALL_LAT, CITY_HALL_LNG, 5.0);
+
+        // then
+        assertThat(hits).extracting(GeoHit::id).containsExactly(2L, 1L);
+        assertThat(hits.get(0).distanceKm()).isLessThan(0.001);
+    }
+
+    @Test
+    @DisplayName("searchRadius - 다른 레이어 좌표는 반환하지 않는다")
+    void searchRadius_다른레이어_좌표는_반환하지_않는다() {
+        // given
+        geoIndex.put(GeoLayer.PIN, 1L, CITY_HALL_LAT, CITY_HALL_LNG);
+        geoIndex.put(GeoLayer.POST, 1L, CITY_HALL_LAT, CITY_HALL_LNG);
+
+        // when
+        geoIndex.remove(GeoLayer.PIN, 1L);
+
+        // then
+        assertThat(geoIndex.searchRadius(GeoLayer.PIN, CITY_HALL_LAT, CITY_HALL_LNG, 1.0)).isEmpty();
+        assertThat(geoIndex.searchRadius(GeoLayer.POST, CITY_HALL_LAT, CITY_HALL_LNG, 1.0))
+                .extracting(GeoHit::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("onGeoPointEvent - 이동·삭제 이벤트를 반영한다")
+    void onGeoPointEvent_이동_삭제_이벤트를_반영한다() {
+        // given
+        geoIndex.onGeoPointEvent(GeoPointEvent.saved(GeoLayer.PIN, 1L, CITY_HALL_LAT, CITY_HALL_LNG));
+
+        // when: 강남역으로 이동
+        geoIndex.onGeoPointEvent(GeoPointEvent.moved(GeoLayer.PIN, 1L,
+                CITY_HALL_LAT, CITY_HALL_LNG, 37.4979, 127.0276));
+
+        // then
+        assertThat(geoIndex.searchRadius(GeoLayer.PIN, CITY_HALL_LAT, CITY_HALL_LNG, 1.0)).isEmpty();
+        assertThat(geoIndex.searchRadius(GeoLayer.PIN, 37.4979, 127.0276, 1.0))
+                .extracting(GeoHit::id).containsExactly(1L);
+
+        // when: 삭제
+        geoIndex.onGeoPointEvent(GeoPointEvent.deleted(GeoLayer.PIN, 1L, 37.4979, 127.0276));
+
+        // then
+        assertThat(geoIndex.size(GeoLayer.PIN)).isZero();
+    }
+
+    @Test
+    @DisplayName("completeLoad - 적재 중 도착한 이벤트를 적재 완료 후 반영한다")
+    void completeLoad_적재중_도착한_이벤트를_반영한다() {
+        // given
+        geoIndex.beginLoad();
+        geoIndex.put(GeoLayer.POST, 1L, CITY_HALL_LAT, CITY_HALL_LNG);
+        geoIndex.onGeoPointEvent(GeoPointEvent.deleted(GeoLayer.POST, 1L, CITY_HALL_LAT, CITY_HALL_LNG));
+        geoIndex.onGeoPointEvent(GeoPointEvent.saved(GeoLayer.POST, 2L, CITY_HALL_LAT, CITY_HALL_LNG));
+        assertThat(geoIndex.isAvailable()).isFalse();
+
+        // when
+        geoIndex.completeLoad();
+
+        // then
+        assertThat(geoIndex.isAvailable()).isTrue();
+        assertThat(geoIndex.searchRadius(GeoLayer.POST, CITY_HALL_LAT, CITY_HALL_LNG, 1.0))
+                .extracting(GeoHit::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("searchBox - 한 번의 조회로 범위 내 전 레이어 후보를 레이어별로 반환한다")
+    void searchBox_범위내_전레이어_후보를_레이어별로_반환한다() {
+        // given
+        geoIndex.put(GeoLayer.PIN, 1L, 37.5759, 126.9769);
+        geoIndex.put(GeoLayer.POST, 10L, CITY_HALL_LAT, CITY_HALL_LNG);
+        geoIndex.put(GeoLayer.POST, 11L, 37.4979, 127.0276);
+        BoundingBox viewport = new BoundingBox(37.55, 37.60, 126.95, 127.00);
+
+        // when
+        Map<GeoLayer, List<GeoHit>> hits = geoIndex.searchBox(viewport, CITY_HALL_LAT, CITY_HALL_LNG);
+
+        // then
+        assertThat(hits.get(GeoLayer.PIN)).extracting(GeoHit::id).containsExactly(1L);
+        assertThat(hits.get(GeoLayer.POST)).extracting(GeoHit::id).containsExactly(10L);
+        assertThat(hits.get(GeoLayer.IMAGE_POST)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("nearest - 가까운 순으로 k건만 반환한다")
+    void nearest_가까운순으로_k건만_반환한다() {
+        // given: 시청(0km), 광화문(약 1km), 강남역(약 9km), 부산역(약 325km)
+        geoIndex.put(GeoLayer.PIN, 1L, 37.5759, 126.9769);
+        geoIndex.put(GeoLayer.PIN, 2L, CITY_HALL_LAT, CITY_HALL_LNG);
+        geoIndex.put(GeoLayer.PIN, 3L, 37.4979, 127.0276);
+        geoIndex.put(GeoLayer.PIN, 4L, 35.1151, 129.0415);
+        geoIndex.put(GeoLayer.POST, 5L, CITY_HALL_LAT, CITY_HALL_LNG);
+
+        // when
+        List<GeoHit> hits = geoIndex.nearest(GeoLayer.PIN, CITY_HALL_LAT, CITY_HALL_LNG, 3, 500);
+
+        // then
+        assertThat(hits).extracting(GeoHit::id).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("nearest - 최대 반경 밖의 좌표는 반환하지 않는다")
+    void nearest_최대반경_밖의_좌표는_반환하지_않는다() {
+        // given
+        geoIndex.put(GeoLayer.PIN, 1L, 37.4979, 127.0276);
+        geoIndex.put(GeoLayer.PIN, 2L, 35.1151, 129.0415);
+
+        // when
+        List<GeoHit> hits = geoIndex.nearest(GeoLayer.PIN, CITY_HALL_LAT, CITY_HALL_LNG, 5, 50);
+
+        // then
+        assertThat(hits).extracting(GeoHit::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("nearest - 밀집 격자에서도 전수 거리 정렬과 같은 결과를 반환한다")
+    void nearest_밀집격자에서도_전수정렬과_같은_결과를_반환한다() {
+        // given: 시청 주변 약 ±11km에 고정 시드 난수 좌표 2,000건
+        Random random = new Random(42);
+        for (long id = 1; id <= 2000; id++) {
+            geoIndex.put(GeoLayer.POST, id, CITY_HALL_LAT + (random.nextDouble() - 0.5) * 0.2,
+                    CITY_HALL_LNG + (random.nextDouble() - 0.5) * 0.2);
+        }
+        List<Long> expected = geoIndex.searchRadius(GeoLayer.POST, CITY_HALL_LAT + 0.003, CITY_HALL_LNG, 50).stream()
+                .limit(20)
+                .map(GeoHit::id)
+                .toList();
+
+        // when
+        List<GeoHit> hits = geoIndex.nearest(GeoLayer.POST, CITY_HALL_LAT + 0.003, CITY_HALL_LNG, 20, 50);
+
+        // then
+        assertThat(hits).extracting(GeoHit::id).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("nearest - 날짜변경선(±180°) 건너편 좌표도 SQL fallback과 같은 순서로 찾는다")
+    void nearest_날짜변경선_건너편_좌표도_찾는다() {
+        // given: 피지 부근. 중심 179.995°에서 179.99°는 약 0.5km, -179.99°는 약 1.6km, 179.95°는 약 4.8km.
+        // 다른 칸을 채워 두어 고리 탐색이 남은 칸 일괄 확인으로 끝나지 않게 한다
+        Random random = new Random(42);
+        for (long id = 1; id <= 2000; id++) {
+            geoIndex.put(GeoLayer.POST, id, CITY_HALL_LAT + (random.nextDouble() - 0.5) * 0.2,
+                    CITY_HALL_LNG + (random.nextDouble() - 0.5) * 0.2);
+        }
+        geoIndex.put(GeoLayer.PIN, 1L, -17.0, 179.99);
+        geoIndex.put(GeoLayer.PIN, 2L, -17.0, -179.99);
+        geoIndex.put(GeoLayer.PIN, 3L, -17.0, 179.95);
+
+        // when
+        List<GeoHit> fromEast = geoIndex.nearest(GeoLayer.PIN, -17.0, 179.995, 2, 50);
+        List<GeoHit> fromWest = geoIndex.nearest(GeoLayer.PIN, -17.0, -179.995, 2, 50);
+
+        // then
+        assertThat(fromEast).extracting(GeoHit::id).containsExactly(1L, 2L);
+        assertThat(fromWest).extracting(GeoHit::id).containsExactly(2L, 1L);
+        assertThat(geoIndex.searchRadius(GeoLayer.PIN, -17.0, 179.995, 50)).extracting(GeoHit::id)
+                .containsExactly(1L, 2L, 3L);
+    }
+}
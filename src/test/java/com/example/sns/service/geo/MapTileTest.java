@@ -0,0 +1,80 @@
+package com.example.sns.service.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.sns.utils.haversine.BoundingBox;
+
+/**
+ * MapTile 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("MapTile 단위 테스트")
+class MapTileTest {
+
+    @Test
+    @DisplayName("of - 좌표가 속한 타일의 범위는 해당 좌표를 포함한다")
+    void of_좌표가_속한_타일의_범위는_좌표를_포함한다() {
+        // given: 서울시청
+        double lat = 37.5665;
+        double lng = 126.9780;
+
+        // when
+        MapTile tile = MapTile.of(lat, lng, 15);
+
+        // then
+        assertThat(tile.bounds().contains(lat, lng)).isTrue();
+        assertThat(tile.key()).isEqualTo("15:" + tile.x() + ":" + tile.y());
+    }
+
+    @Test
+    @DisplayName("of - 가까운 좌표는 같은 타일 키를 공유한다")
+    void of_가까운_좌표는_같은_타일키를_공유한다() {
+        // given: 약 10m 떨어진 두 좌표
+        MapTile a = MapTile.of(37.56650, 126.97800, 15);
+        MapTile b = MapTile.of(37.56659, 126.97800, 15);
+
+        // then
+        assertThat(a).isEqualTo(b);
+    }
+
+    @Test
+    @DisplayName("zoomFor - 반경이 작을수록 큰 zoom을 선택하고 범위를 벗어나지 않는다")
+    void zoomFor_반경이_작을수록_큰_zoom을_선택한다() {
+        // when
+        int small = MapTile.zoomFor(37.5665, 0.5, 10, 16);
+        int large = MapTile.zoomFor(37.5665, 10, 10, 16);
+        int huge = MapTile.zoomFor(37.5665, 5000, 10, 16);
+
+        // then
+        assertThat(small).isEqualTo(15);
+        assertThat(large).isEqualTo(11);
+        assertThat(huge).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("covering - 반경 조회 범위를 타일들이 빠짐없이 덮는다")
+    void covering_반경_범위를_타일들이_덮는다() {
+        // given
+        double lat = 37.5665;
+        double lng = 126.9780;
+        BoundingBox box = BoundingBox.around(lat, lng, 0.5);
+        int z = MapTile.zoomFor(lat, 0.5, 10, 16);
+
+        // when
+        List<MapTile> tiles = MapTile.covering(box, z);
+
+        // then: 범위 네 모서리가 모두 반환된 타일 중 하나에 속한다
+        assertThat(tiles).hasSizeLessThanOrEqualTo(4);
+        assertThat(tiles).contains(
+                MapTile.of(box.minLat(), box.minLng(), z),
+                MapTile.of(box.minLat(), box.maxLng(), z),
+                MapTile.of(box.maxLat(), box.minLng(), z),
+                MapTile.of(box.maxLat(), box.maxLng(), z));
+    }
+}
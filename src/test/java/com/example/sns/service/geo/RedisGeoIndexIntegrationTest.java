@@ -0,0 +1,134 @@
+package com.example.sns.service.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.example.sns.config.GeoProperties;
+
+/**
+ * RedisGeoIndex 재구축 통합 테스트 (Testcontainers).
+ *
+ * 적재 배치에 이미 읽힌 행이 재구축 중 삭제·이동되어도 RENAME 후 옛 좌표가 남지 않는지 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ *
+ * 실행: ./gradlew integrationTest (Docker 필요)
+ */
+@Tag("integration")
+@Testcontainers
+@DisplayName("RedisGeoIndex 재구축 통합 테스트")
+class RedisGeoIndexIntegrationTest {
+
+    private static final String LIVE_KEY = "geo:posts";
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private GeoIndexLoader geoIndexLoader;
+    private RedisGeoIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.delete(redisTemplate.keys("geo*"));
+
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(redisTemplate);
+        geoIndexLoader = mock(GeoIndexLoader.class);
+        // 적재 배치 2건: 3번째 행은 배치에 남아 있다가 4번째 행과 함께 기록된다
+        GeoProperties geoProperties = new GeoProperties(new GeoProperties.Index(true, 0, 2),
+                null, null, null, null, new GeoProperties.Redis(true, 0, 0));
+        index = new RedisGeoIndex(provider, geoIndexLoader, geoProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("적재 중 삭제 - 배치에 읽힌 뒤 삭제된 글은 RENAME 후 라이브 키에 남지 않는다")
+    void rebuild_적재중_삭제() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            GeoIndexLoader.PointConsumer consumer = invocation.getArgument(1);
+            consumer.accept(1L, LAT, LNG);
+            consumer.accept(2L, LAT, LNG);
+            consumer.accept(3L, LAT, LNG);
+            index.onGeoPointEvent(GeoPointEvent.deleted(GeoLayer.POST, 3L, LAT, LNG));
+            consumer.accept(4L, LAT, LNG);
+            return null;
+        }).given(geoIndexLoader).forEachPoint(eq(GeoLayer.POST), any());
+
+        // when
+        rebuildAndWait();
+
+        // then
+        Set<String> members = redisTemplate.opsForZSet().range(LIVE_KEY, 0, -1);
+        assertThat(members).containsExactlyInAnyOrder("1", "2", "4");
+        assertThat(redisTemplate.hasKey(LIVE_KEY + ":rebuild")).isFalse();
+        assertThat(redisTemplate.hasKey(LIVE_KEY + ":rebuild:dirty")).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재 중 이동 - 배치에 읽힌 뒤 이동한 글은 RENAME 후 새 좌표를 가진다")
+    void rebuild_적재중_이동() throws Exception {
+        // given
+        double movedLat = LAT + 0.1;
+        willAnswer(invocation -> {
+            GeoIndexLoader.PointConsumer consumer = invocation.getArgument(1);
+            consumer.accept(1L, LAT, LNG);
+            index.onGeoPointEvent(GeoPointEvent.moved(GeoLayer.POST, 1L, LAT, LNG, movedLat, LNG));
+            consumer.accept(2L, LAT, LNG);
+            return null;
+        }).given(geoIndexLoader).forEachPoint(eq(GeoLayer.POST), any());
+
+        // when
+        rebuildAndWait();
+
+        // then
+        List<Point> positions = redisTemplate.opsForGeo().position(LIVE_KEY, "1");
+        assertThat(positions).hasSize(1);
+        assertThat(positions.get(0).getY()).isCloseTo(movedLat, offset(1e-5));
+        assertThat(redisTemplate.opsForZSet().size(LIVE_KEY)).isEqualTo(2);
+    }
+
+    private void rebuildAndWait() throws InterruptedException {
+        assertThat(index.requestRebuild()).isTrue();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!Boolean.TRUE.equals(redisTemplate.hasKey("geo:ready")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(redisTemplate.hasKey("geo:ready")).isTrue();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.sns.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.sns.config.UploadProperties;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.service.FileStorageService;
+import com.example.sns.service.storage.BlobKeyLock;
+import com.example.sns.service.storage.LocalBlobStore;
+
+/**
+ * ImageBlobCollector 단위 테스트.
+ *
+ * 참조하는 게시글이 남아 있으면 유지, 없으면 원본·축소본 삭제, 저장 롤백 시 정리 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageBlobCollector 단위 테스트")
+class ImageBlobCollectorTest {
+
+    private static final String STORED_PATH = "image-posts/ab/cd/abcd.png";
+
+    @TempDir
+    Path basePath;
+
+    @Mock
+    private ImagePostRepository imagePostRepository;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    private ImageBlobCollector imageBlobCollector;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        FileStorageService fileStorageService = new FileStorageService(new UploadProperties(basePath.toString(),
+                Set.of("image/png"), 5_242_880L, List.of(), true), new LocalBlobStore(basePath.toString()),
+                BlobKeyLock.local());
+        imageBlobCollector = new ImageBlobCollector(imagePostRepository, fileStorageService, imageVariantService);
+        Files.createDirectories(basePath.resolve("image-posts/ab/cd"));
+        Files.writeString(basePath.resolve(STORED_PATH), "abc");
+    }
+
+    @Test
+    @DisplayName("onImageReleased - 다른 게시글이 참조 중이면 파일을 유지한다")
+    void onImageReleased_참조남음_유지() {
+        // given
+        given(imagePostRepository.existsByImageStoragePath(STORED_PATH)).willReturn(true);
+
+        // when
+        imageBlobCollector.onImageReleased(new ImageReleasedEvent(STORED_PATH));
+
+        // then
+        assertThat(basePath.resolve(STORED_PATH)).exists();
+        then(imageVariantService).should(never()).deleteVariants(STORED_PATH);
+    }
+
+    @Test
+    @DisplayName("onImageReleased - 참조가 없으면 원본과 축소본을 삭제한다")
+    void onImageReleased_참조없음_삭제() {
+        // given
+        given(imagePostRepository.existsByImageStoragePath(STORED_PATH)).willReturn(false);
+
+        // when
+        imageBlobCollector.onImageReleased(new ImageReleasedEvent(STORED_PATH));
+
+        // then
+        assertThat(basePath.resolve(STORED_PATH)).doesNotExist();
+        then(imageVariantService).should().deleteVariants(STORED_PATH);
+    }
+
+    @Test
+    @DisplayName("onImageStoreRolledBack - 저장 트랜잭션이 롤백되고 참조가 없으면 배치된 파일을 삭제한다")
+    void onImageStoreRolledBack_참조없음_삭제() {
+        // given
+        given(imagePostRepository.existsByImageStoragePath(STORED_PATH)).willReturn(false);
+
+        // when
+        imageBlobCollector.onImageStoreRolledBack(new ImageStoredEvent(STORED_PATH));
+
+        // then
+        assertThat(basePath.resolve(STORED_PATH)).doesNotExist();
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.sns.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.sns.config.UploadProperties;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.storage.LocalBlobStore;
+
+/**
+ * ImageVariantService 단위 테스트.
+ *
+ * 축소본 생성(원본보다 좁은 너비만)·생성 기록·선택·원본 fallback(생성 전에만 provisional)·ETag 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("ImageVariantService 단위 테스트")
+class ImageVariantServiceTest {
+
+    private static final String STORED_PATH = "image-posts/photo.png";
+    private static final String SHA256 = "0123456789abcdef".repeat(4);
+
+    @TempDir
+    Path basePath;
+
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UploadProperties props = new UploadProperties(basePath.toString(), Set.of("image/png"), 5_242_880L,
+                List.of(100, 300, 1000), true);
+        imageVariantService = new ImageVariantService(new LocalBlobStore(basePath.toString()), props);
+        Files.createDirectories(basePath.resolve("image-posts"));
+        ImageIO.write(new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB), "png",
+                basePath.resolve(STORED_PATH).toFile());
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantService.shutdown();
+    }
+
+    @Test
+    @DisplayName("generate - 원본보다 좁은 너비만 비율을 유지해 축소본을 만든다")
+    void generate_원본보다_좁은너비만_생성() throws Exception {
+        // when
+        imageVariantService.generate(STORED_PATH);
+
+        // then
+        BufferedImage small = ImageIO.read(basePath.resolve("image-posts/photo_w100.png").toFile());
+        assertThat(small.getWidth()).isEqualTo(100);
+        assertThat(small.getHeight()).isEqualTo(50);
+        assertThat(basePath.resolve("image-posts/photo_w300.png")).exists();
+        assertThat(basePath.resolve("image-posts/photo_w1000.png")).doesNotExist();
+        assertThat(basePath.resolve(STORED_PATH + ".variants")).hasContent("100,300");
+    }
+
+    @Test
+    @DisplayName("resolve - 요청 너비 이상인 가장 작은 축소본, 생성 전이면 원본을 provisional로 반환한다")
+    void resolve_요청너비이상_축소본_없으면_원본() {
+        // given: 생성 전
+        StoredImage image = new StoredImage(STORED_PATH, "image/png", SHA256);
+        ImageFile before = imageVariantService.resolve(image, 120);
+        assertThat(before.localPath()).isEqualTo(basePath.resolve(STORED_PATH));
+        assertThat(before.provisional()).isTrue();
+
+        // when
+        imageVariantService.generate(STORED_PATH);
+
+        // then
+        ImageFile variant = imageVariantService.resolve(image, 120);
+        assertThat(variant.key()).isEqualTo("image-posts/photo_w300.png");
+        assertThat(variant.localPath()).isEqualTo(basePath.resolve("image-posts/photo_w300.png"));
+        assertThat(variant.etag()).isEqualTo("\"" + SHA256 + "-w300\"");
+        assertThat(variant.provisional()).isFalse();
+        ImageFile original = imageVariantService.resolve(image, null);
+        assertThat(original.localPath()).isEqualTo(basePath.resolve(STORED_PATH));
+        assertThat(original.etag()).isEqualTo("\"" + SHA256 + "\"");
+        assertThat(original.contentType()).isEqualTo("image/png");
+        assertThat(imageVariantService.resolve(image, 500).provisional()).isFalse();
+    }
+
+    @Test
+    @DisplayName("resolve - 디코딩할 수 없는 이미지는 생성이 끝나면 원본을 provisional 없이 반환한다")
+    void resolve_디코딩실패_생성후_provisional아님() throws Exception {
+        // given
+        String corrupt = "image-posts/corrupt.png";
+        Files.write(basePath.resolve(corrupt), new byte[] {1, 2, 3, 4});
+        StoredImage image = new StoredImage(corrupt, "image/png", SHA256);
+
+        // when
+        imageVariantService.generate(corrupt);
+
+        // then
+        ImageFile file = imageVariantService.resolve(image, 120);
+        assertThat(file.key()).isEqualTo(corrupt);
+        assertThat(file.provisional()).isFalse();
+    }
+
+    @Test
+    @DisplayName("deleteVariants - 축소본과 생성 기록을 지워 이후 조회는 다시 생성 전으로 본다")
+    void deleteVariants_축소본_기록_삭제() {
+        // given
+        StoredImage image = new StoredImage(STORED_PATH, "image/png", SHA256);
+        imageVariantService.generate(STORED_PATH);
+
+        // when
+        imageVariantService.deleteVariants(STORED_PATH);
+
+        // then
+        assertThat(basePath.resolve("image-posts/photo_w100.png")).doesNotExist();
+        assertThat(basePath.resolve(STORED_PATH + ".variants")).doesNotExist();
+        assertThat(imageVariantService.resolve(image, 120).provisional()).isTrue();
+    }
+
+    @Test
+    @DisplayName("resolve - 해시·MIME 타입이 없는 이전 게시글은 약한 ETag와 확장자 기반 Content-Type")
+    void resolve_이전게시글_약한ETag_확장자ContentType() {
+        // when
+        ImageFile file = imageVariantService.resolve(new StoredImage(STORED_PATH, null, null), null);
+
+        // then
+        assertThat(file.etag()).startsWith("W/\"");
+        assertThat(file.contentType()).isEqualTo("image/png");
+        assertThat(file.version()).isNull();
+    }
+
+    @Test
+    @DisplayName("resolve - 원본 파일이 없으면 NOT_FOUND")
+    void resolve_원본없음_NOT_FOUND() {
+        // when & then
+        assertThatThrownBy(() -> imageVariantService.resolve(
+                new StoredImage("image-posts/missing.png", "image/png", SHA256), null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("parseOrientation - Exif IFD0의 Orientation 값을 읽는다")
+    void parseOrientation_ExifIFD0_Orientation() {
+        // given: "Exif\0\0" + TIFF(II, IFD0 offset 8, 항목 1개: 0x0112 SHORT 1 = 6)
+        byte[] exif = {'E', 'x', 'i', 'f', 0, 0,
+                'I', 'I', 0x2A, 0, 8, 0, 0, 0,
+                1, 0,
+                0x12, 0x01, 3, 0, 1, 0, 0, 0, 6, 0, 0, 0};
+
+        // when & then
+        assertThat(ImageVariantService.parseOrientation(exif)).isEqualTo(6);
+        assertThat(ImageVariantService.parseOrientation(new byte[] {1, 2, 3})).isEqualTo(1);
+    }
+}
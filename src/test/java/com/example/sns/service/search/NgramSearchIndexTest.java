@@ -0,0 +1,97 @@
+package com.example.sns.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.sns.config.SearchProperties;
+
+/**
+ * NgramSearchIndex 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("NgramSearchIndex 단위 테스트")
+class NgramSearchIndexTest {
+
+    private NgramSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new NgramSearchIndex(new SearchProperties(new SearchProperties.Index(true, 2, 100), null, 0));
+        searchIndex.beginLoad();
+        searchIndex.completeLoad();
+    }
+
+    @Test
+    @DisplayName("search - 조사가 붙은 한국어 단어도 n-gram으로 찾고 모든 단어를 포함한 글만 반환한다")
+    void search_한국어_조사_포함_단어_AND_매칭() {
+        // given
+        searchIndex.put(SearchLayer.POST, 1L, "서울 맛집 지도", "시청 근처 맛집을 지도에서 모았습니다");
+        searchIndex.put(SearchLayer.POST, 2L, "부산 여행", "해운대 맛집 후기");
+        searchIndex.put(SearchLayer.POST, 3L, "공지", "점검 안내");
+
+        // when
+        List<Long> both = searchIndex.search(SearchLayer.POST, NgramTokenizer.words("맛집 지도"), 10);
+        List<Long> one = searchIndex.search(SearchLayer.POST, NgramTokenizer.words("맛집"), 10);
+
+        // then
+        assertThat(both).containsExactly(1L);
+        assertThat(one).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("search - 제목에 포함된 글이 내용에만 포함된 글보다 앞선다")
+    void search_제목_가중치로_정렬() {
+        // given
+        searchIndex.put(SearchLayer.POST, 1L, "일상", "오늘은 카페에 갔다");
+        searchIndex.put(SearchLayer.POST, 2L, "카페 추천", "조용한 곳");
+
+        // when
+        List<Long> ids = searchIndex.search(SearchLayer.POST, NgramTokenizer.words("카페"), 10);
+
+        // then
+        assertThat(ids).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("onSearchDocumentEvent - 수정·삭제가 반영되고 다른 레이어와 섞이지 않는다")
+    void onSearchDocumentEvent_수정_삭제_반영() {
+        // given
+        searchIndex.put(SearchLayer.POST, 1L, "한강 공원", "자전거");
+        searchIndex.put(SearchLayer.IMAGE_POST, 1L, "한강 야경", "사진");
+
+        // when
+        searchIndex.onSearchDocumentEvent(SearchDocumentEvent.saved(SearchLayer.POST, 1L, "남산 타워", "야경"));
+        List<Long> afterUpdate = searchIndex.search(SearchLayer.POST, NgramTokenizer.words("한강"), 10);
+        searchIndex.onSearchDocumentEvent(SearchDocumentEvent.deleted(SearchLayer.IMAGE_POST, 1L));
+
+        // then
+        assertThat(afterUpdate).isEmpty();
+        assertThat(searchIndex.search(SearchLayer.POST, NgramTokenizer.words("남산"), 10)).containsExactly(1L);
+        assertThat(searchIndex.search(SearchLayer.IMAGE_POST, NgramTokenizer.words("한강"), 10)).isEmpty();
+        assertThat(searchIndex.size(SearchLayer.IMAGE_POST)).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 중 이벤트는 보류했다가 completeLoad에서 반영한다")
+    void beginLoad_적재중_이벤트_보류() {
+        // given
+        searchIndex.beginLoad();
+        searchIndex.onSearchDocumentEvent(SearchDocumentEvent.saved(SearchLayer.POST, 2L, "새 글", "Spring Boot"));
+        searchIndex.put(SearchLayer.POST, 1L, "기존 글", "spring data");
+
+        // when
+        boolean availableWhileLoading = searchIndex.isAvailable();
+        searchIndex.completeLoad();
+
+        // then
+        assertThat(availableWhileLoading).isFalse();
+        assertThat(searchIndex.search(SearchLayer.POST, NgramTokenizer.words("SPRING"), 10))
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+}
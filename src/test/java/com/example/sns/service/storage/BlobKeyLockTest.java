@@ -0,0 +1,124 @@
+package com.example.sns.service.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+
+/**
+ * BlobKeyLock 단위 테스트.
+ *
+ * 노드 간(Redis) 잠금 획득·재진입·대기 초과, Redis 장애 시 삭제는 실패·업로드는 노드 내 잠금 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlobKeyLock 단위 테스트")
+class BlobKeyLockTest {
+
+    private static final String KEY = "image-posts/ab/cd/abcd.png";
+    private static final String LOCK_KEY = "blob-lock:" + KEY;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    @Test
+    @DisplayName("acquire - Redis SET NX로 한 번만 잡고, 같은 스레드의 재진입은 마지막 해제 때 한 번만 푼다")
+    @SuppressWarnings("unchecked")
+    void acquire_Redis_재진입() {
+        // given
+        BlobKeyLock lock = new BlobKeyLock(redisTemplate, Duration.ofSeconds(60), 1_000);
+        given(redisTemplate.opsForValue()).willReturn(valueOps);
+        given(valueOps.setIfAbsent(eq(LOCK_KEY), anyString(), eq(Duration.ofSeconds(60)))).willReturn(true);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any())).willReturn(1L);
+
+        // when
+        BlobKeyLock.Lease outer = lock.acquireForWrite(KEY);
+        lock.withLock(KEY, () -> { });
+        then(redisTemplate).should(times(0)).execute(any(RedisScript.class), anyList(), any());
+        outer.close();
+
+        // then
+        then(valueOps).should(times(1)).setIfAbsent(eq(LOCK_KEY), anyString(), eq(Duration.ofSeconds(60)));
+        then(redisTemplate).should(times(1)).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("acquire - 다른 노드가 잡고 있으면 대기 시간 후 FILE_UPLOAD_FAILED")
+    void acquire_다른노드보유_대기초과() {
+        // given
+        BlobKeyLock lock = new BlobKeyLock(redisTemplate, Duration.ofSeconds(60), 100);
+        given(redisTemplate.opsForValue()).willReturn(valueOps);
+        given(valueOps.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> lock.acquireForWrite(KEY))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 삭제용 acquire는 실패하고, 업로드용 acquireForWrite는 노드 내 잠금으로 대신한다")
+    void Redis장애_삭제실패_쓰기는_노드내잠금() {
+        // given
+        BlobKeyLock lock = new BlobKeyLock(redisTemplate, Duration.ofSeconds(60), 100);
+        given(redisTemplate.opsForValue()).willReturn(valueOps);
+        given(valueOps.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // when & then
+        assertThatThrownBy(() -> lock.withLock(KEY, () -> ran.set(true)))
+                .isInstanceOf(BusinessException.class);
+        assertThat(ran).isFalse();
+        try (BlobKeyLock.Lease ignored = lock.acquireForWrite(KEY)) {
+            ran.set(true);
+        }
+        assertThat(ran).isTrue();
+    }
+
+    @Test
+    @DisplayName("노드 내 잠금 - 다른 스레드는 해제될 때까지 기다린다")
+    void local_다른스레드_대기() throws Exception {
+        // given
+        BlobKeyLock lock = BlobKeyLock.local();
+        BlobKeyLock.Lease lease = lock.acquireForWrite(KEY);
+
+        // when
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> lock.withLock(KEY, () -> { }));
+
+        // then
+        assertThat(other).isNotDone();
+        Thread.sleep(100);
+        assertThat(other).isNotDone();
+        lease.close();
+        other.get(5, TimeUnit.SECONDS);
+        assertThat(other).isCompleted();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.sns.service.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sns.config.UploadProperties;
+import com.example.sns.config.UploadSessionProperties;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.FileStorageService;
+import com.example.sns.service.image.StoredImage;
+import com.example.sns.service.storage.BlobKeyLock;
+import com.example.sns.service.storage.LocalBlobStore;
+
+/**
+ * ResumableUploadService 단위 테스트.
+ *
+ * 청크 이어 붙이기·위치 불일치·덜 받은 청크 재전송·소유자 검증·회원별 세션 수 제한·완료 롤백 시 세션 복구 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("ResumableUploadService 단위 테스트")
+class ResumableUploadServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @TempDir
+    Path basePath;
+
+    private InMemoryUploadSessionStore sessionStore;
+    private ResumableUploadService resumableUploadService;
+
+    @BeforeEach
+    void setUp() {
+        LocalBlobStore blobStore = new LocalBlobStore(basePath.toString());
+        FileStorageService fileStorageService = new FileStorageService(new UploadProperties(basePath.toString(),
+                Set.of("image/png"), 5_242_880L, List.of(), true), blobStore, BlobKeyLock.local());
+        sessionStore = new InMemoryUploadSessionStore(100, Duration.ofMinutes(10));
+        resumableUploadService = new ResumableUploadService(sessionStore, blobStore, fileStorageService,
+                new UploadSessionProperties(null, 4L, null, 2, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("append·finish - 청크를 순서대로 이어 저장하고 세션과 청크를 정리한다")
+    void append_finish_청크를_이어_저장한다() throws Exception {
+        // given
+        UploadSession session = resumableUploadService.create(USER_ID, 6, "image/png");
+
+        // when
+        resumableUploadService.append(session.id(), USER_ID, 0, 4, bytes("abcd"));
+        UploadSession completed = resumableUploadService.append(session.id(), USER_ID, 4, 2, bytes("ef"));
+        StoredImage stored = resumableUploadService.finish(session.id(), USER_ID, "image-posts");
+
+        // then
+        assertThat(completed.isComplete()).isTrue();
+        assertThat(Files.readString(basePath.resolve(stored.path()))).isEqualTo("abcdef");
+        assertThat(sessionStore.find(session.id())).isEmpty();
+        try (var parts = Files.list(basePath.resolve(".upload-sessions").resolve(session.id()))) {
+            assertThat(parts).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("append - Upload-Offset이 현재 위치와 다르면 UPLOAD_OFFSET_MISMATCH, 끝나지 않은 업로드는 완료할 수 없다")
+    void append_위치불일치_UPLOAD_OFFSET_MISMATCH() {
+        // given
+        UploadSession session = resumableUploadService.create(USER_ID, 6, "image/png");
+        resumableUploadService.append(session.id(), USER_ID, 0, 4, bytes("abcd"));
+
+        // when & then
+        assertThatThrownBy(() -> resumableUploadService.append(session.id(), USER_ID, 0, 4, bytes("abcd")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.UPLOAD_OFFSET_MISMATCH);
+        assertThatThrownBy(() -> resumableUploadService.finish(session.id(), USER_ID, "image-posts"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.UPLOAD_OFFSET_MISMATCH);
+    }
+
+    @Test
+    @DisplayName("append - 청크를 덜 받으면 반영하지 않고, 같은 위치부터 다시 보낼 수 있다")
+    void append_덜받은청크_반영안함_재전송() {
+        // given
+        UploadSession session = resumableUploadService.create(USER_ID, 6, "image/png");
+
+        // when: Content-Length 4인데 연결이 끊겨 2바이트만 도착
+        assertThatThrownBy(() -> resumableUploadService.append(session.id(), USER_ID, 0, 4, bytes("ab")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FILE_UPLOAD_FAILED);
+
+        // then
+        assertThat(resumableUploadService.get(session.id(), USER_ID).offset()).isZero();
+        assertThat(resumableUploadService.append(session.id(), USER_ID, 0, 4, bytes("abcd")).offset()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("get - 다른 회원의 업로드 세션이면 FORBIDDEN")
+    void get_다른회원_FORBIDDEN() {
+        // given
+        UploadSession session = resumableUploadService.create(USER_ID, 6, "image/png");
+
+        // when & then
+        assertThatThrownBy(() -> resumableUploadService.append(session.id(), 2L, 0, 4, bytes("abcd")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("create - 회원별 열린 세션이 제한에 닿으면 TOO_MANY_REQUESTS, 취소하면 다시 만들 수 있다")
+    void create_회원별세션제한_TOO_MANY_REQUESTS() {
+        // given: 제한 2
+        UploadSession first = resumableUploadService.create(USER_ID, 6, "image/png");
+        resumableUploadService.create(USER_ID, 6, "image/png");
+        resumableUploadService.create(2L, 6, "image/png");
+
+        // when & then
+        assertThatThrownBy(() -> resumableUploadService.create(USER_ID, 6, "image/png"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        resumableUploadService.cancel(first.id(), USER_ID);
+        assertThat(resumableUploadService.create(USER_ID, 6, "image/png").userId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    @DisplayName("finish - 트랜잭션이 롤백되면 세션을 되살려 다시 완료할 수 있다")
+    void finish_롤백시_세션복구() {
+        // given
+        UploadSession session = resumableUploadService.create(USER_ID, 2, "image/png");
+        resumableUploadService.append(session.id(), USER_ID, 0, 2, bytes("ab"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        resumableUploadService.finish(session.id(), USER_ID, "image-posts");
+        assertThat(sessionStore.find(session.id())).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // then
+        assertThat(sessionStore.find(session.id())).get()
+                .extracting(UploadSession::isComplete)
+                .isEqualTo(true);
+        StoredImage retried = resumableUploadService.finish(session.id(), USER_ID, "image-posts");
+        assertThat(basePath.resolve(retried.path())).hasContent("ab");
+    }
+
+    private static ByteArrayInputStream bytes(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII));
+    }
+}
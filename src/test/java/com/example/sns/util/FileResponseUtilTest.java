@@ -0,0 +1,176 @@
+package com.example.sns.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.sns.service.image.ImageFile;
+
+/**
+ * FileResponseUtil 단위 테스트.
+ *
+ * 조건부 요청(304), 단일 Range(206·416), If-Range, sendfile 위임, 원격 저장소 구간 스트리밍 검증.
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("FileResponseUtil 단위 테스트")
+class FileResponseUtilTest {
+
+    private static final String ETAG = "\"abc\"";
+    private static final String CACHE_CONTROL = "no-cache, public";
+    private static final FileResponseUtil.RangeOpener NOT_USED = (offset, length) -> {
+        throw new AssertionError("로컬 파일은 저장소에서 열지 않는다");
+    };
+
+    @TempDir
+    Path dir;
+
+    private ImageFile file;
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/image-posts/1/image");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path path = Files.writeString(dir.resolve("a.png"), "0123456789");
+        file = new ImageFile("a.png", path, "image/png", ETAG, "abc", 1_700_000_000_000L, 10, false);
+    }
+
+    @Test
+    @DisplayName("write - 조건 없으면 200, 전체 본문과 ETag·Cache-Control·Accept-Ranges")
+    void write_전체응답() throws Exception {
+        // when
+        FileResponseUtil.write(request, response, file, CACHE_CONTROL, NOT_USED);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo(CACHE_CONTROL);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("write - If-None-Match가 ETag와 같으면 본문 없이 304")
+    void write_IfNoneMatch일치_304() throws Exception {
+        // given
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        // when
+        FileResponseUtil.write(request, response, file, CACHE_CONTROL, NOT_USED);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo(CACHE_CONTROL);
+    }
+
+    @Test
+    @DisplayName("write - 단일 Range는 206과 Content-Range, 구간 본문")
+    void write_Range_206() throws Exception {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        // when
+        FileResponseUtil.write(request, response, file, CACHE_CONTROL, NOT_USED);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    @DisplayName("write - 접미 Range는 끝에서부터, 파일 길이를 넘는 시작은 416")
+    void write_접미Range_범위초과416() throws Exception {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        // when
+        FileResponseUtil.write(request, response, file, CACHE_CONTROL, NOT_USED);
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("789");
+
+        // given
+        MockHttpServletRequest outOfRange = new MockHttpServletRequest("GET", "/api/image-posts/1/image");
+        outOfRange.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        MockHttpServletResponse unsatisfiable = new MockHttpServletResponse();
+
+        // when
+        FileResponseUtil.write(outOfRange, unsatisfiable, file, CACHE_CONTROL, NOT_USED);
+
+        // then
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("write - If-Range가 현재 ETag와 다르면 Range를 무시하고 전체 200")
+    void write_IfRange불일치_전체응답() throws Exception {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"old\"");
+
+        // when
+        FileResponseUtil.write(request, response, file, CACHE_CONTROL, NOT_USED);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("write - 컨테이너가 sendfile을 지원하면 본문을 쓰지 않고 파일 구간을 넘긴다")
+    void write_sendfile위임() throws Exception {
+        // given
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+
+        // when
+        FileResponseUtil.write(request, response, file, CACHE_CONTROL, NOT_USED);
+
+        // then
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(6);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(file.localPath().toAbsolutePath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(4L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("write - 로컬 경로가 없으면(원격 저장소) 요청 구간만 열어 스트리밍한다")
+    void write_원격저장소_구간스트리밍() throws Exception {
+        // given
+        byte[] content = "0123456789".getBytes(StandardCharsets.US_ASCII);
+        ImageFile remote = new ImageFile("a.png", null, "image/png", ETAG, "abc", 1_700_000_000_000L, 10, false);
+        List<long[]> opened = new ArrayList<>();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        // when
+        FileResponseUtil.write(request, response, remote, CACHE_CONTROL, (offset, length) -> {
+            opened.add(new long[] {offset, length});
+            return new ByteArrayInputStream(content, (int) offset, (int) length);
+        });
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(opened).containsExactly(new long[] {2, 4});
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.sns.utils.haversine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BoundingBox 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("BoundingBox 단위 테스트")
+class BoundingBoxTest {
+
+    @Test
+    @DisplayName("around - 반경 경계의 좌표는 사각 범위 안에 포함된다")
+    void around_반경경계의_좌표는_사각범위안에_포함된다() {
+        // given: 서울시청, 반경 5km
+        double lat = 37.5665;
+        double lng = 126.9780;
+        double radiusKm = 5.0;
+
+        // when
+        BoundingBox box = BoundingBox.around(lat, lng, radiusKm);
+
+        // then: 정북·정동 방향 반경 지점(약 4.99km)이 범위 안
+        double north = lat + Math.toDegrees(4.99 / BoundingBox.EARTH_RADIUS_KM);
+        assertThat(HaversineUtil.distanceMeters(lat, lng, north, lng)).isLessThan(radiusKm * 1000);
+        assertThat(box.contains(north, lng)).isTrue();
+        assertThat(box.contains(lat, box.maxLng() - 1e-6)).isTrue();
+        assertThat(HaversineUtil.distanceMeters(lat, lng, lat, box.maxLng()))
+                .isGreaterThanOrEqualTo(radiusKm * 1000 - 1);
+    }
+
+    @Test
+    @DisplayName("around - 범위 밖 좌표는 포함하지 않는다")
+    void around_범위밖_좌표는_포함하지_않는다() {
+        // given
+        BoundingBox box = BoundingBox.around(37.5665, 126.9780, 1.0);
+
+        // when & then: 강남역(약 9km)
+        assertThat(box.contains(37.4979, 127.0276)).isFalse();
+    }
+
+    @Test
+    @DisplayName("around - 날짜변경선을 넘으면 경도 범위를 전체로 넓힌다")
+    void around_날짜변경선을_넘으면_경도범위를_전체로_넓힌다() {
+        // given
+        double lng = 179.99;
+
+        // when
+        BoundingBox box = BoundingBox.around(10.0, lng, 50.0);
+
+        // then
+        assertThat(box.minLng()).isEqualTo(-180.0);
+        assertThat(box.maxLng()).isEqualTo(180.0);
+    }
+
+    @Test
+    @DisplayName("around - 극점 근처에서는 위도를 ±90으로 자른다")
+    void around_극점근처에서는_위도를_잘라낸다() {
+        // given & when
+        BoundingBox box = BoundingBox.around(89.99, 0.0, 10.0);
+
+        // then
+        assertThat(box.maxLat()).isEqualTo(90.0);
+        assertThat(box.minLng()).isEqualTo(-180.0);
+    }
+}
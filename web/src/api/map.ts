@@ -1,8 +1,12 @@
 /**
- * 지도 API — 경로·거리 조회.
+ * 지도 API — 경로·거리 조회, viewport 통합 조회.
  * Kakao Mobility Directions API로 실제 도로 경로 및 이동 거리.
+ * GET /api/map/feed: Pin·게시글·이미지 게시글을 한 번의 요청으로 조회.
  */
 import { apiClient } from './client';
+import type { PinResponse } from '@/types/pin';
+import type { PostResponse } from '@/types/post';
+import type { ImagePostResponse } from '@/types/imagePost';
 
 export interface DirectionsParams {
   originLat: number;
@@ -17,6 +21,23 @@ export interface DirectionsResponse {
   isRoadRoute: boolean;
 }
 
+export interface MapFeedParams {
+  swLat: number;
+  swLng: number;
+  neLat: number;
+  neLng: number;
+  /** 레이어별 최대 건수 (기본 100, 상한 500) */
+  limit?: number;
+}
+
+export interface MapFeedResponse {
+  pins: PinResponse[];
+  posts: PostResponse[];
+  imagePosts: ImagePostResponse[];
+  /** limit 초과로 잘린 레이어가 있으면 true */
+  truncated: boolean;
+}
+
 export const mapApi = {
   /** 출발지→목적지 경로·거리 조회. 실제 도로 경로 또는 직선 거리 */
   directions: (params: DirectionsParams) =>
@@ -28,4 +49,7 @@ export const mapApi = {
         destLng: params.destLng,
       },
     }),
+  /** viewport 내 Pin·게시글·이미지 게시글 (viewport 중심 가까운 순) */
+  feed: (params: MapFeedParams) =>
+    apiClient.get<MapFeedResponse>('/api/map/feed', { params }),
 };
@@ -1,6 +1,6 @@
 /**
  * 홈 페이지 — 지도 + 최근 게시글 5건 + 최근 이미지 게시글 5건.
- * - 반경 500m 내 게시글/이미지 게시글 핀 표시, 클릭 시 해당 글로 이동
+ * - 반경 500m 내 게시글/이미지 게시글 핀 표시, 클릭 시 해당 글로 이동 (/api/map/feed 1회 요청)
  * - 거리 측정: 두 지점 추가 후 거리 표시
  * - 지도 드래그 ↔ 핀 추가 클릭 이벤트 분리
  */
@@ -11,7 +11,6 @@ import { MapMarker, Polyline } from 'react-kakao-maps-sdk';
 import { authApi } from '@/api/auth';
 import { postsApi } from '@/api/posts';
 import { imagePostsApi } from '@/api/imagePosts';
-import { pinsApi } from '@/api/pins';
 import { mapApi } from '@/api/map';
 import { useAuthStore } from '@/store/authStore';
 import { MapView } from '@/components/MapView';
@@ -25,6 +24,19 @@ import type { PostMarkerData } from '@/components/PostMarker';
 
 const PIN_RADIUS_KM = 10;
 const POST_RADIUS_KM = 0.5; // 500m
+const KM_PER_DEGREE = 111.32;
+
+/** 중심·반경(km)을 감싸는 viewport (남서·북동) */
+function viewportAround(center: { lat: number; lng: number }, radiusKm: number) {
+  const dLat = radiusKm / KM_PER_DEGREE;
+  const dLng = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos((center.lat * Math.PI) / 180), 0.01));
+  return {
+    swLat: center.lat - dLat,
+    swLng: center.lng - dLng,
+    neLat: center.lat + dLat,
+    neLng: center.lng + dLng,
+  };
+}
 
 export default function HomePage() {
   const user = useAuthStore((s) => s.user);
@@ -56,42 +68,11 @@ export default function HomePage() {
     setMeasurePoints([]);
   }, []);
 
-  const { data: pinsData } = useQuery({
-    queryKey: ['pins', 'nearby', mapCenter.lat, mapCenter.lng, PIN_RADIUS_KM],
-    queryFn: () =>
-      pinsApi.nearby({
-        lat: mapCenter.lat,
-        lng: mapCenter.lng,
-        radiusKm: PIN_RADIUS_KM,
-        page: 0,
-        size: 100,
-      }),
-    enabled: !geoLoading,
-  });
-
-  const { data: postsNearbyData } = useQuery({
-    queryKey: ['posts', 'nearby', mapCenter.lat, mapCenter.lng, POST_RADIUS_KM],
-    queryFn: () =>
-      postsApi.nearby({
-        lat: mapCenter.lat,
-        lng: mapCenter.lng,
-        radiusKm: POST_RADIUS_KM,
-        page: 0,
-        size: 50,
-      }),
-    enabled: !geoLoading,
-  });
-
-  const { data: imagePostsNearbyData } = useQuery({
-    queryKey: ['image-posts', 'nearby', mapCenter.lat, mapCenter.lng, POST_RADIUS_KM],
-    queryFn: () =>
-      imagePostsApi.nearby({
-        lat: mapCenter.lat,
-        lng: mapCenter.lng,
-        radiusKm: POST_RADIUS_KM,
-        page: 0,
-        size: 50,
-      }),
+  // Pin 반경(10km)을 감싸는 viewport 1회 요청으로 세 레이어 조회, 게시글은 500m 이내만 표시
+  // (서버가 레이어마다 중심 가까운 순으로 limit만큼 자르므로 가까운 글이 먼저 채워진다)
+  const { data: feedData } = useQuery({
+    queryKey: ['map', 'feed', mapCenter.lat, mapCenter.lng, PIN_RADIUS_KM],
+    queryFn: () => mapApi.feed({ ...viewportAround(mapCenter, PIN_RADIUS_KM), limit: 100 }),
     enabled: !geoLoading,
   });
 
@@ -118,9 +99,13 @@ export default function HomePage() {
     queryFn: () => imagePostsApi.list({ page: 0, size: 5 }),
   });
 
-  const pins = pinsData?.data?.content ?? [];
-  const postsNearby = postsNearbyData?.data?.content ?? [];
-  const imagePostsNearby = imagePostsNearbyData?.data?.content ?? [];
+  const withinPostRadius = (p: { latitude: number | null; longitude: number | null }) =>
+    p.latitude != null &&
+    p.longitude != null &&
+    haversineDistance(mapCenter, { lat: p.latitude, lng: p.longitude }) <= POST_RADIUS_KM;
+  const pins = feedData?.data?.pins ?? [];
+  const postsNearby = (feedData?.data?.posts ?? []).filter(withinPostRadius);
+  const imagePostsNearby = (feedData?.data?.imagePosts ?? []).filter(withinPostRadius);
   const recentPosts = postsData?.data?.content ?? [];
   const recentImagePosts = imagePostsData?.data?.content ?? [];
 